@@ -84,13 +84,69 @@ CREATE TABLE account (
 CREATE TABLE transaction (
     id BIGSERIAL PRIMARY KEY,
     fecha TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    transaction_type VARCHAR(20) NOT NULL CHECK (transaction_type IN ('DEPOSITO', 'RETIRO')),
+    transaction_type VARCHAR(20) NOT NULL CHECK (transaction_type IN ('DEPOSITO', 'RETIRO', 'TRANSFERENCIA')),
     valor DECIMAL(15,2) NOT NULL,
     saldo DECIMAL(15,2) NOT NULL,
     account_id BIGINT NOT NULL,
     CONSTRAINT fk_transaction_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE
 );
 
+-- La entidad Transaction reserva IDs en bloques de 50 (pooled) para permitir inserts por lotes
+ALTER SEQUENCE transaction_id_seq INCREMENT BY 50;
+
+-- Tabla: idempotency_key
+-- Respuestas de POST /api/transactions indexadas por la cabecera Idempotency-Key
+CREATE TABLE idempotency_key (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tabla: daily_withdrawal
+-- Total retirado por cuenta y día; se actualiza en la misma transacción que cada retiro
+-- para validar el cupo diario sin sumar los movimientos del día
+CREATE TABLE daily_withdrawal (
+    account_id BIGINT NOT NULL,
+    fecha DATE NOT NULL,
+    total_retirado DECIMAL(15,2) NOT NULL CHECK (total_retirado >= 0),
+    PRIMARY KEY (account_id, fecha),
+    CONSTRAINT fk_daily_withdrawal_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE
+);
+
+-- Tabla: account_balance_snapshot
+-- Saldo de cierre de cada cuenta por día con movimientos; se actualiza con cada posteo.
+-- El saldo a una fecha se resuelve desde el cierre anterior más cercano y solo los movimientos de ese día
+CREATE TABLE account_balance_snapshot (
+    account_id BIGINT NOT NULL,
+    fecha DATE NOT NULL,
+    saldo_cierre DECIMAL(15,2) NOT NULL,
+    PRIMARY KEY (account_id, fecha),
+    CONSTRAINT fk_balance_snapshot_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE
+);
+
+-- Tabla: transaction_daily_rollup
+-- Totales por cuenta y día (créditos, débitos, cantidad y saldo de cierre); se actualiza con cada
+-- posteo y eliminación. Los débitos se guardan con signo negativo, igual que transaction.valor
+CREATE TABLE transaction_daily_rollup (
+    account_id BIGINT NOT NULL,
+    fecha DATE NOT NULL,
+    total_creditos DECIMAL(15,2) NOT NULL DEFAULT 0,
+    total_debitos DECIMAL(15,2) NOT NULL DEFAULT 0,
+    cantidad INTEGER NOT NULL DEFAULT 0,
+    saldo_cierre DECIMAL(15,2) NOT NULL,
+    PRIMARY KEY (account_id, fecha),
+    CONSTRAINT fk_daily_rollup_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE
+);
+
+-- Tabla: ledger_checkpoint
+-- Última secuencia del journal de cada shard del ledger ya volcada a transaction
+CREATE TABLE ledger_checkpoint (
+    shard INTEGER PRIMARY KEY,
+    last_sequence BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 -- =====================================================
 -- ÍNDICES PARA OPTIMIZACIÓN
 -- =====================================================
@@ -104,6 +160,8 @@ CREATE INDEX idx_account_status ON account(status_id);
 CREATE INDEX idx_transaction_account ON transaction(account_id);
 CREATE INDEX idx_transaction_fecha ON transaction(fecha);
 CREATE INDEX idx_transaction_account_fecha ON transaction(account_id, fecha);
+CREATE INDEX idx_idempotency_key_created_at ON idempotency_key(created_at);
+CREATE INDEX idx_daily_withdrawal_fecha ON daily_withdrawal(fecha);
 
 -- =====================================================
 -- DATOS INICIALES - CATÁLOGOS
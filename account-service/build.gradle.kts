@@ -13,17 +13,30 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-webflux")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springdoc:springdoc-openapi-starter-webflux-ui:2.3.0")
     
+    // Cache en memoria
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    
+    // PDF del estado de cuenta
+    implementation("com.github.librepdf:openpdf:1.3.43")
+    
     // Kafka
     implementation("org.springframework.kafka:spring-kafka")
     
     // Database
     runtimeOnly("org.postgresql:postgresql:42.7.1")
     
+    // Persistencia reactiva opcional (account.r2dbc.enabled); sin el starter para no reemplazar el DataSource
+    implementation("org.springframework.data:spring-data-r2dbc")
+    implementation("io.r2dbc:r2dbc-pool")
+    runtimeOnly("org.postgresql:r2dbc-postgresql")
+    
     // Testing
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("io.projectreactor:reactor-test")
+    testImplementation(testFixtures(project(":shared-repositories")))
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.testcontainers:testcontainers:1.19.3")
     testImplementation("org.testcontainers:postgresql:1.19.3")
@@ -34,9 +47,28 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// Los benchmarks (@Tag("benchmark")) no corren con test/build: ./gradlew :account-service:benchmark
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Ejecuta los benchmarks de carga y memoria (@Tag(\"benchmark\"))"
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    shouldRunAfter(tasks.test)
+}
+
 pitest {
     targetClasses.set(listOf("com.nttdata.account.*"))
     junit5PluginVersion.set("1.2.1")
     outputFormats.set(listOf("HTML"))
     timestampedReports.set(false)
+    excludedGroups.set(listOf("benchmark"))
 }
@@ -2,17 +2,34 @@ package com.nttdata.account;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Aplicación principal del microservicio Account Service
+ * La configuración automática de R2DBC se excluye: un ConnectionFactory o un R2dbcTransactionManager
+ * expuestos como beans desplazarían al DataSource y al gestor de transacciones de JPA.
+ * El modo reactivo se configura aparte en R2dbcPersistenceConfig.
  */
-@SpringBootApplication(scanBasePackages = {
-    "com.nttdata.account",
-    "com.nttdata.common",
-    "com.nttdata.shared"
-})
+@SpringBootApplication(
+    scanBasePackages = {
+        "com.nttdata.account",
+        "com.nttdata.common",
+        "com.nttdata.shared"
+    },
+    exclude = {
+        R2dbcAutoConfiguration.class,
+        R2dbcDataAutoConfiguration.class,
+        R2dbcRepositoriesAutoConfiguration.class,
+        R2dbcTransactionManagerAutoConfiguration.class
+    }
+)
 @EnableKafka
+@EnableScheduling
 public class AccountServiceApplication {
     
     public static void main(String[] args) {
@@ -0,0 +1,28 @@
+package com.nttdata.account.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.nttdata.common.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para el saldo de una cuenta a una fecha
+ * Patrón: Builder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceDTO {
+    
+    private String accountNumber;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime at;
+    
+    private Money balance;
+}
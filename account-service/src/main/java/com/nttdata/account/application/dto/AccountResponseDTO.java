@@ -1,12 +1,12 @@
 package com.nttdata.account.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.nttdata.common.money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -25,9 +25,9 @@ public class AccountResponseDTO {
     
     private String accountType;
     
-    private BigDecimal initialBalance;
+    private Money initialBalance;
     
-    private BigDecimal currentBalance;
+    private Money currentBalance;
     
     private String status;
     
@@ -1,12 +1,12 @@
 package com.nttdata.account.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.nttdata.common.money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -38,8 +38,12 @@ public class AccountStatementReportDTO {
     public static class AccountReportDTO {
         private String accountNumber;
         private String accountType;
-        private BigDecimal initialBalance;
-        private BigDecimal currentBalance;
+        private Money initialBalance;
+        private Money currentBalance;
+        private Money openingBalance; // Saldo antes del primer instante del período
+        private Money closingBalance; // Saldo al final del período
+        private Money totalDeposits; // Suma de depósitos del período
+        private Money totalWithdrawals; // Suma de retiros del período (negativa)
         private String status;
         private List<TransactionReportDTO> transactions;
     }
@@ -52,7 +56,7 @@ public class AccountStatementReportDTO {
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
         private LocalDateTime date;
         private String transactionType;
-        private BigDecimal amount;
-        private BigDecimal balance;
+        private Money amount;
+        private Money balance;
     }
 }
@@ -0,0 +1,27 @@
+package com.nttdata.account.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para el posteo de movimientos por lote
+ * Patrón: Builder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransactionResponseDTO {
+    
+    private int total;
+    
+    private int succeeded;
+    
+    private int failed;
+    
+    private List<BatchTransactionResultDTO> results;
+}
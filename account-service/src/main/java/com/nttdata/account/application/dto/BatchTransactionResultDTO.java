@@ -0,0 +1,27 @@
+package com.nttdata.account.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de un movimiento dentro de un lote
+ * Patrón: Builder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransactionResultDTO {
+    
+    private int index; // Posición del movimiento en el lote recibido
+    
+    private String accountNumber;
+    
+    private boolean success;
+    
+    private TransactionResponseDTO transaction;
+    
+    private String error;
+}
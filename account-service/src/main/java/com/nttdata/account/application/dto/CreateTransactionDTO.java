@@ -22,9 +22,13 @@ public class CreateTransactionDTO {
     private String accountNumber;
     
     @NotBlank(message = "El tipo de movimiento es obligatorio")
-    private String transactionType; // DEPOSITO o RETIRO
+    private String transactionType; // DEPOSITO, RETIRO o TRANSFERENCIA
     
     @NotNull(message = "El valor es obligatorio")
     @DecimalMin(value = "0.01", message = "El valor debe ser mayor a 0")
+    @Digits(integer = 13, fraction = 2, message = "El valor admite hasta 13 enteros y 2 decimales")
     private BigDecimal amount;
+    
+    @Size(max = 20, message = "El número de cuenta destino no puede exceder 20 caracteres")
+    private String destinationAccountNumber; // Solo para TRANSFERENCIA
 }
@@ -0,0 +1,38 @@
+package com.nttdata.account.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de un listado paginado por cursor
+ * nextPageToken es null en la última página.
+ * Patrón: Builder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageDTO<T> {
+    
+    private List<T> items;
+    
+    private String nextPageToken;
+    
+    /**
+     * Arma la página a partir de una consulta que pidió size + 1 filas: la fila sobrante
+     * solo indica que hay más y no se entrega
+     * @param tokenOf token de continuación a partir de la última fila entregada
+     */
+    public static <E, T> PageDTO<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, String> tokenOf) {
+        boolean hasMore = rows.size() > size;
+        List<E> page = hasMore ? rows.subList(0, size) : rows;
+        return new PageDTO<>(
+            page.stream().map(mapper).toList(),
+            hasMore ? tokenOf.apply(page.get(size - 1)) : null);
+    }
+}
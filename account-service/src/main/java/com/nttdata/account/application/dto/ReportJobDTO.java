@@ -0,0 +1,52 @@
+package com.nttdata.account.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para el estado de un reporte generado en segundo plano
+ * Patrón: Builder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReportJobDTO {
+    
+    private String id;
+    private String clientId;
+    private String status;
+    private String priority;
+    private String format;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startDate;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime endDate;
+    
+    /** Movimientos escritos y total a escribir (el total se conoce al iniciar la generación) */
+    private Long processedRows;
+    private Long totalRows;
+    
+    /** Avance de 0 a 100 */
+    private Integer progress;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime finishedAt;
+    
+    private String error;
+    
+    /** Ruta de descarga, presente cuando el reporte está completo */
+    private String resultUrl;
+}
@@ -0,0 +1,59 @@
+package com.nttdata.account.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.nttdata.common.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * DTO para una fila del estado de cuenta exportado en streaming (NDJSON / CSV)
+ * Patrón: Builder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatementRowDTO {
+    
+    public static final String CSV_HEADER = "accountNumber,accountType,date,transactionType,amount,balance\n";
+    
+    private static final DateTimeFormatter CSV_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    
+    private String accountNumber;
+    private String accountType;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime date;
+    
+    private String transactionType;
+    private Money amount;
+    private Money balance;
+    
+    /**
+     * Línea CSV (RFC 4180) de la fila, terminada en salto de línea
+     */
+    public String toCsvLine() {
+        return String.join(",",
+            csv(accountNumber),
+            csv(accountType),
+            csv(date == null ? null : CSV_DATE.format(date)),
+            csv(transactionType),
+            csv(amount == null ? null : amount.toString()),
+            csv(balance == null ? null : balance.toString())) + "\n";
+    }
+    
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
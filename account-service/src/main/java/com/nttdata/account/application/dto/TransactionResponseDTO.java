@@ -1,12 +1,12 @@
 package com.nttdata.account.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.nttdata.common.money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -26,9 +26,9 @@ public class TransactionResponseDTO {
     
     private String transactionType;
     
-    private BigDecimal amount;
+    private Money amount;
     
-    private BigDecimal balance;
+    private Money balance;
     
     private String accountNumber;
 }
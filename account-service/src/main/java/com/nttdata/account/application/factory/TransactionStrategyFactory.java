@@ -2,7 +2,10 @@ package com.nttdata.account.application.factory;
 
 import com.nttdata.account.application.strategy.DepositStrategy;
 import com.nttdata.account.application.strategy.TransactionStrategy;
+import com.nttdata.account.application.strategy.TransferStrategy;
 import com.nttdata.account.application.strategy.WithdrawalStrategy;
+import com.nttdata.common.constants.ErrorConstants;
+import com.nttdata.common.exception.BusinessValidationException;
 import com.nttdata.shared.domain.model.Transaction;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -17,16 +20,18 @@ public class TransactionStrategyFactory {
     
     private final DepositStrategy depositStrategy;
     private final WithdrawalStrategy withdrawalStrategy;
+    private final TransferStrategy transferStrategy;
     
     /**
      * Obtiene la estrategia apropiada según el tipo de movimiento
-     * @param tipoTransaction tipo de movimiento (DEPOSITO o RETIRO)
+     * @param tipoTransaction tipo de movimiento (DEPOSITO, RETIRO o TRANSFERENCIA)
      * @return estrategia correspondiente
      */
     public TransactionStrategy getStrategy(Transaction.TransactionType tipoTransaction) {
         return switch (tipoTransaction) {
             case DEPOSITO -> depositStrategy;
             case RETIRO -> withdrawalStrategy;
+            case TRANSFERENCIA -> transferStrategy;
         };
     }
     
@@ -36,7 +41,14 @@ public class TransactionStrategyFactory {
      * @return estrategia correspondiente
      */
     public TransactionStrategy getStrategy(String tipoTransaction) {
-        Transaction.TransactionType tipo = Transaction.TransactionType.valueOf(tipoTransaction.toUpperCase());
-        return getStrategy(tipo);
+        if (tipoTransaction == null) {
+            throw new BusinessValidationException(ErrorConstants.TIPO_MOVIMIENTO_INVALIDO);
+        }
+        try {
+            Transaction.TransactionType tipo = Transaction.TransactionType.valueOf(tipoTransaction.toUpperCase());
+            return getStrategy(tipo);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessValidationException(ErrorConstants.TIPO_MOVIMIENTO_INVALIDO + ": " + tipoTransaction);
+        }
     }
 }
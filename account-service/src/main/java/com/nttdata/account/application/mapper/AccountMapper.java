@@ -2,6 +2,7 @@ package com.nttdata.account.application.mapper;
 
 import com.nttdata.account.application.dto.AccountResponseDTO;
 import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.projection.AccountView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -23,4 +24,21 @@ public class AccountMapper {
             .updatedAt(account.getUpdatedAt())
             .build();
     }
+    
+    /**
+     * Convierte la proyección de solo lectura usada por los listados
+     */
+    public AccountResponseDTO toResponseDTO(AccountView account) {
+        return AccountResponseDTO.builder()
+            .id(account.id())
+            .accountNumber(account.accountNumber())
+            .accountType(account.accountType())
+            .initialBalance(account.initialBalance())
+            .currentBalance(account.currentBalance())
+            .status(account.status())
+            .clientId(account.clientId())
+            .createdAt(account.createdAt())
+            .updatedAt(account.updatedAt())
+            .build();
+    }
 }
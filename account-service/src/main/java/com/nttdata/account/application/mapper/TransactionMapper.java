@@ -2,6 +2,7 @@ package com.nttdata.account.application.mapper;
 
 import com.nttdata.account.application.dto.TransactionResponseDTO;
 import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.projection.TransactionView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,4 +21,18 @@ public class TransactionMapper {
             .accountNumber(transaction.getAccount().getAccountNumber())
             .build();
     }
+    
+    /**
+     * Convierte la proyección de solo lectura usada por los listados e historiales
+     */
+    public TransactionResponseDTO toResponseDTO(TransactionView transaction) {
+        return TransactionResponseDTO.builder()
+            .id(transaction.id())
+            .date(transaction.date())
+            .transactionType(transaction.transactionType().name())
+            .amount(transaction.amount())
+            .balance(transaction.balance())
+            .accountNumber(transaction.accountNumber())
+            .build();
+    }
 }
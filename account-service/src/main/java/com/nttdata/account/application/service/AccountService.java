@@ -2,51 +2,99 @@ package com.nttdata.account.application.service;
 
 import com.nttdata.account.application.dto.AccountResponseDTO;
 import com.nttdata.account.application.dto.CreateAccountDTO;
+import com.nttdata.account.application.dto.PageDTO;
 import com.nttdata.account.application.mapper.AccountMapper;
+import com.nttdata.account.infrastructure.cache.AccountSnapshotCache;
+import com.nttdata.account.infrastructure.ledger.LedgerEngine;
+import com.nttdata.account.infrastructure.pagination.PageToken;
+import com.nttdata.account.infrastructure.pagination.PaginationProperties;
+import com.nttdata.account.infrastructure.r2dbc.ReactiveAccountStore;
+import com.nttdata.account.infrastructure.report.ReportCache;
+import com.nttdata.account.infrastructure.streaming.EntityStreamReader;
 import com.nttdata.common.constants.ErrorConstants;
 import com.nttdata.common.exception.BusinessValidationException;
 import com.nttdata.common.exception.ResourceNotFoundException;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.datasource.ReadYourWrites;
+import com.nttdata.shared.domain.catalog.CatalogRegistry;
 import com.nttdata.shared.domain.model.Account;
 import com.nttdata.shared.domain.model.AccountType;
 import com.nttdata.shared.domain.model.Status;
+import com.nttdata.shared.domain.projection.AccountView;
 import com.nttdata.shared.domain.repository.AccountRepository;
-import com.nttdata.shared.domain.repository.AccountTypeRepository;
-import com.nttdata.shared.domain.repository.StatusRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Servicio para gestión de accounts
  * Patrón: Repository
  * Adaptado a Spring WebFlux (Reactivo + JPA con Scheduler)
+ * Con account.r2dbc.enabled las operaciones se resuelven sin bloquear sobre ReactiveAccountStore.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AccountService {
     
+    private static final String PAGE_SCOPE = "accounts";
+    private static final String STREAM_ACCOUNTS = AccountRepository.VIEW_SELECT + " ORDER BY a.id";
+    
     private final AccountRepository accountRepository;
-    private final AccountTypeRepository accountTypeRepository;
-    private final StatusRepository statusRepository;
+    private final CatalogRegistry catalogRegistry;
     private final AccountMapper accountMapper;
+    private final Optional<LedgerEngine> ledgerEngine;
+    private final ReportCache reportCache;
+    private final PaginationProperties paginationProperties;
+    private final EntityStreamReader entityStreamReader;
+    private final Optional<ReactiveAccountStore> reactiveAccountStore;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final JdbcBulkhead jdbcBulkhead;
+    private final ReadYourWrites readYourWrites;
     
     /**
-     * Obtiene todas las accounts
+     * Obtiene una página de accounts en orden de id
+     * @param pageToken token de continuación de la página anterior (null para la primera)
+     * @param size tamaño de página (null para el tamaño por defecto)
      */
     @Transactional(readOnly = true)
-    public Flux<AccountResponseDTO> getAllAccounts() {
-        log.debug("Obteniendo todas las accounts");
-        return Mono.fromCallable(() -> accountRepository.findAll().stream()
-                .map(accountMapper::toResponseDTO)
-                .toList())
-            .subscribeOn(Schedulers.boundedElastic())
-            .flatMapMany(Flux::fromIterable);
+    public Mono<PageDTO<AccountResponseDTO>> getAllAccounts(String pageToken, Integer size) {
+        log.debug("Obteniendo página de accounts");
+        if (reactiveAccountStore.isPresent()) {
+            return Mono.defer(() -> {
+                int limit = paginationProperties.resolveSize(size);
+                long afterId = pageToken == null ? 0 : PageToken.idOf(PAGE_SCOPE, pageToken);
+                return reactiveAccountStore.get().findAccountPage(afterId, limit + 1).collectList()
+                    .map(rows -> PageDTO.of(rows, limit, accountMapper::toResponseDTO,
+                        account -> PageToken.ofId(PAGE_SCOPE, account.getId())));
+            });
+        }
+        return jdbcBulkhead.read(() -> {
+                int limit = paginationProperties.resolveSize(size);
+                long afterId = pageToken == null ? 0 : PageToken.idOf(PAGE_SCOPE, pageToken);
+                return PageDTO.of(accountRepository.findViewPageAfter(afterId, Limit.of(limit + 1)), limit,
+                    accountMapper::toResponseDTO, account -> PageToken.ofId(PAGE_SCOPE, account.id()));
+            });
+    }
+    
+    /**
+     * Recorre todas las accounts en orden de id, leyendo de a bloques a medida que el suscriptor pide
+     */
+    public Flux<AccountResponseDTO> streamAllAccounts() {
+        log.debug("Recorriendo todas las accounts en streaming");
+        if (reactiveAccountStore.isPresent()) {
+            return reactiveAccountStore.get().streamAccounts().map(accountMapper::toResponseDTO);
+        }
+        return entityStreamReader.stream(STREAM_ACCOUNTS, AccountView.class, Map.of(), accountMapper::toResponseDTO);
     }
     
     /**
@@ -55,12 +103,16 @@ public class AccountService {
     @Transactional(readOnly = true)
     public Mono<AccountResponseDTO> getAccountByNumero(String accountNumber) {
         log.debug("Obteniendo cuenta: {}", accountNumber);
-        return Mono.fromCallable(() -> {
-                Account account = accountRepository.findByAccountNumber(accountNumber)
+        if (reactiveAccountStore.isPresent()) {
+            return accountSnapshotCache.findReactive(accountNumber, reactiveAccountStore.get()::findAccount)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA)))
+                .map(accountMapper::toResponseDTO);
+        }
+        return jdbcBulkhead.read(readYourWrites.guard(accountNumber, () -> {
+                Account account = accountSnapshotCache.find(accountNumber, accountRepository::findByAccountNumber)
                     .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA));
                 return accountMapper.toResponseDTO(account);
-            })
-            .subscribeOn(Schedulers.boundedElastic());
+            }));
     }
     
     /**
@@ -69,10 +121,13 @@ public class AccountService {
     @Transactional(readOnly = true)
     public Flux<AccountResponseDTO> getAccountsByClient(String clientId) {
         log.debug("Obteniendo accounts del cliente: {}", clientId);
-        return Mono.fromCallable(() -> accountRepository.findByClientId(clientId).stream()
+        if (reactiveAccountStore.isPresent()) {
+            return reactiveAccountStore.get().findAccountsByClient(clientId).map(accountMapper::toResponseDTO);
+        }
+        return jdbcBulkhead.read(readYourWrites.guard(clientId, () -> accountRepository.findViewsByClientId(clientId)
+                .stream()
                 .map(accountMapper::toResponseDTO)
-                .toList())
-            .subscribeOn(Schedulers.boundedElastic())
+                .toList()))
             .flatMapMany(Flux::fromIterable);
     }
     
@@ -82,21 +137,24 @@ public class AccountService {
     @Transactional
     public Mono<AccountResponseDTO> createAccount(CreateAccountDTO dto) {
         log.debug("Creando nueva cuenta: {}", dto.getAccountNumber());
+        if (reactiveAccountStore.isPresent()) {
+            return createAccount(reactiveAccountStore.get(), dto);
+        }
         
-        return Mono.fromCallable(() -> {
+        return jdbcBulkhead.write(() -> {
             // Validar que no exista una cuenta con el mismo número
             if (accountRepository.existsByAccountNumber(dto.getAccountNumber())) {
                 throw new BusinessValidationException(ErrorConstants.CUENTA_YA_EXISTE);
             }
             
             // Buscar tipo de cuenta
-            AccountType accountType = accountTypeRepository.findByCodeAndActiveTrue(dto.getAccountType())
+            AccountType accountType = catalogRegistry.findActiveAccountType(dto.getAccountType())
                 .orElseThrow(() -> new ResourceNotFoundException(
                     ErrorConstants.TIPO_CUENTA_NO_ENCONTRADO + ": " + dto.getAccountType()
                 ));
             
             // Buscar estado
-            Status status = statusRepository.findByCodeAndActiveTrue(dto.getStatus())
+            Status status = catalogRegistry.findActiveStatus(dto.getStatus())
                 .orElseThrow(() -> new ResourceNotFoundException(
                     ErrorConstants.ESTADO_NO_ENCONTRADO + ": " + dto.getStatus()
                 ));
@@ -105,18 +163,20 @@ public class AccountService {
             Account account = Account.builder()
                 .accountNumber(dto.getAccountNumber())
                 .accountType(accountType)
-                .initialBalance(dto.getInitialBalance())
-                .currentBalance(dto.getInitialBalance())
+                .initialBalance(Money.of(dto.getInitialBalance()))
+                .currentBalance(Money.of(dto.getInitialBalance()))
                 .status(status)
                 .clientId(dto.getClientId())
                 .build();
             
             // Guardar cuenta
             Account savedAccount = accountRepository.save(account);
+            reportCache.invalidar(savedAccount.getClientId());
+            readYourWrites.recordWrite(savedAccount.getClientId(), savedAccount.getAccountNumber());
             log.info("Account creada exitosamente: {}", savedAccount.getAccountNumber());
             
             return accountMapper.toResponseDTO(savedAccount);
-        }).subscribeOn(Schedulers.boundedElastic());
+        });
     }
     
     /**
@@ -125,31 +185,41 @@ public class AccountService {
     @Transactional
     public Mono<AccountResponseDTO> updateAccount(String accountNumber, CreateAccountDTO dto) {
         log.debug("Actualizando cuenta: {}", accountNumber);
+        if (reactiveAccountStore.isPresent()) {
+            return updateAccount(reactiveAccountStore.get(), accountNumber, dto);
+        }
         
-        return Mono.fromCallable(() -> {
-            Account account = accountRepository.findByAccountNumber(accountNumber)
+        return jdbcBulkhead.write(() -> {
+            Account account = accountSnapshotCache.find(accountNumber, accountRepository::findByAccountNumber)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA));
             
             // Actualizar cuenta usando Builder si hay cambios
-            Account.AccountBuilder builder = account.toBuilder();
+            Account.AccountBuilder builder = account.toBuilder().updatedAt(LocalDateTime.now());
             
             if (dto.getAccountType() != null) {
-                AccountType accountType = accountTypeRepository.findByCodeAndActiveTrue(dto.getAccountType())
+                AccountType accountType = catalogRegistry.findActiveAccountType(dto.getAccountType())
                     .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.TIPO_CUENTA_NO_ENCONTRADO));
                 builder.accountType(accountType);
             }
             
             if (dto.getStatus() != null) {
-                Status status = statusRepository.findByCodeAndActiveTrue(dto.getStatus())
+                Status status = catalogRegistry.findActiveStatus(dto.getStatus())
                     .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.ESTADO_NO_ENCONTRADO));
                 builder.status(status);
             }
             
-            Account updatedAccount = accountRepository.save(builder.build());
+            // Solo tipo y estado: el saldo leído (posiblemente de la caché) no se escribe
+            Account updatedAccount = builder.build();
+            accountRepository.updateDetails(updatedAccount.getId(), updatedAccount.getAccountType(),
+                updatedAccount.getStatus(), updatedAccount.getUpdatedAt());
+            accountSnapshotCache.invalidar(accountNumber);
+            ledgerEngine.ifPresent(engine -> engine.actualizarEstado(accountNumber, updatedAccount.getStatus().getCode()));
+            reportCache.invalidar(updatedAccount.getClientId());
+            readYourWrites.recordWrite(updatedAccount.getClientId(), accountNumber);
             log.info("Account actualizada exitosamente: {}", accountNumber);
             
             return accountMapper.toResponseDTO(updatedAccount);
-        }).subscribeOn(Schedulers.boundedElastic());
+        });
     }
     
     /**
@@ -158,21 +228,102 @@ public class AccountService {
     @Transactional
     public Mono<Void> deleteAccount(String accountNumber) {
         log.debug("Eliminando cuenta: {}", accountNumber);
+        if (reactiveAccountStore.isPresent()) {
+            return deleteAccount(reactiveAccountStore.get(), accountNumber);
+        }
         
-        return Mono.fromRunnable(() -> {
-            Account account = accountRepository.findByAccountNumber(accountNumber)
+        return jdbcBulkhead.write(() -> {
+            Account account = accountSnapshotCache.find(accountNumber, accountRepository::findByAccountNumber)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA));
             
             // Soft delete: cambiar estado a INACTIVO
-            Status statusInactivo = statusRepository.findByCode("INACTIVO")
+            Status statusInactivo = catalogRegistry.findStatus("INACTIVO")
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.ESTADO_NO_ENCONTRADO));
             
-            Account updatedAccount = account.toBuilder()
-                .status(statusInactivo)
-                .build();
-            accountRepository.save(updatedAccount);
+            accountRepository.updateDetails(account.getId(), account.getAccountType(), statusInactivo,
+                LocalDateTime.now());
+            accountSnapshotCache.invalidar(accountNumber);
+            ledgerEngine.ifPresent(engine -> engine.actualizarEstado(accountNumber, statusInactivo.getCode()));
+            reportCache.invalidar(account.getClientId());
+            readYourWrites.recordWrite(account.getClientId(), accountNumber);
             
             log.info("Account eliminada (inactivada) exitosamente: {}", accountNumber);
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        });
+    }
+    
+    /**
+     * Alta de cuenta sobre el adaptador R2DBC, con las mismas validaciones que la versión JPA
+     */
+    private Mono<AccountResponseDTO> createAccount(ReactiveAccountStore store, CreateAccountDTO dto) {
+        return store.existsAccount(dto.getAccountNumber())
+            .flatMap(exists -> exists
+                ? Mono.<AccountType>error(new BusinessValidationException(ErrorConstants.CUENTA_YA_EXISTE))
+                : Mono.justOrEmpty(catalogRegistry.findActiveAccountType(dto.getAccountType()))
+                    .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        ErrorConstants.TIPO_CUENTA_NO_ENCONTRADO + ": " + dto.getAccountType()))))
+            .flatMap(accountType -> Mono.justOrEmpty(catalogRegistry.findActiveStatus(dto.getStatus()))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                    ErrorConstants.ESTADO_NO_ENCONTRADO + ": " + dto.getStatus())))
+                .map(status -> Account.builder()
+                    .accountNumber(dto.getAccountNumber())
+                    .accountType(accountType)
+                    .initialBalance(Money.of(dto.getInitialBalance()))
+                    .currentBalance(Money.of(dto.getInitialBalance()))
+                    .status(status)
+                    .clientId(dto.getClientId())
+                    .build()))
+            .flatMap(store::insertAccount)
+            .map(savedAccount -> {
+                reportCache.invalidar(savedAccount.getClientId());
+                log.info("Account creada exitosamente: {}", savedAccount.getAccountNumber());
+                return accountMapper.toResponseDTO(savedAccount);
+            });
+    }
+    
+    /**
+     * Cambio de tipo y estado sobre el adaptador R2DBC; el saldo no se reescribe
+     */
+    private Mono<AccountResponseDTO> updateAccount(ReactiveAccountStore store, String accountNumber,
+                                                   CreateAccountDTO dto) {
+        return accountSnapshotCache.findReactive(accountNumber, store::findAccount)
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA)))
+            .flatMap(account -> {
+                Mono<AccountType> accountType = dto.getAccountType() == null
+                    ? Mono.just(account.getAccountType())
+                    : Mono.justOrEmpty(catalogRegistry.findActiveAccountType(dto.getAccountType()))
+                        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.TIPO_CUENTA_NO_ENCONTRADO)));
+                Mono<Status> status = dto.getStatus() == null
+                    ? Mono.just(account.getStatus())
+                    : Mono.justOrEmpty(catalogRegistry.findActiveStatus(dto.getStatus()))
+                        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.ESTADO_NO_ENCONTRADO)));
+                return accountType.flatMap(type -> status.map(newStatus -> account.toBuilder()
+                    .accountType(type)
+                    .status(newStatus)
+                    .build()));
+            })
+            .flatMap(store::updateDetails)
+            .map(updatedAccount -> {
+                accountSnapshotCache.invalidar(accountNumber);
+                reportCache.invalidar(updatedAccount.getClientId());
+                log.info("Account actualizada exitosamente: {}", accountNumber);
+                return accountMapper.toResponseDTO(updatedAccount);
+            });
+    }
+    
+    /**
+     * Soft delete sobre el adaptador R2DBC
+     */
+    private Mono<Void> deleteAccount(ReactiveAccountStore store, String accountNumber) {
+        return accountSnapshotCache.findReactive(accountNumber, store::findAccount)
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA)))
+            .flatMap(account -> Mono.justOrEmpty(catalogRegistry.findStatus("INACTIVO"))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.ESTADO_NO_ENCONTRADO)))
+                .flatMap(statusInactivo -> store.updateDetails(account.toBuilder().status(statusInactivo).build())))
+            .doOnNext(account -> {
+                accountSnapshotCache.invalidar(accountNumber);
+                reportCache.invalidar(account.getClientId());
+                log.info("Account eliminada (inactivada) exitosamente: {}", accountNumber);
+            })
+            .then();
     }
 }
@@ -0,0 +1,107 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.AccountBalanceDTO;
+import com.nttdata.common.constants.ErrorConstants;
+import com.nttdata.common.exception.ResourceNotFoundException;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.datasource.ReadYourWrites;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.BalanceSnapshot;
+import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.repository.AccountRepository;
+import com.nttdata.shared.domain.repository.BalanceSnapshotRepository;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Servicio de historial de saldos
+ * Mantiene el saldo de cierre diario de cada cuenta (account_balance_snapshot) a medida que
+ * se postean movimientos y resuelve el saldo a cualquier fecha a partir del cierre anterior
+ * más cercano, sumando solo los movimientos del día consultado.
+ * Adaptado a Spring WebFlux (Reactivo + JPA con Scheduler)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceHistoryService {
+    
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final JdbcBulkhead jdbcBulkhead;
+    private final ReadYourWrites readYourWrites;
+    
+    /**
+     * Obtiene el saldo de una cuenta a una fecha; sin fecha devuelve el saldo actual
+     */
+    public Mono<AccountBalanceDTO> getBalanceAt(String accountNumber, LocalDateTime at) {
+        log.debug("Obteniendo saldo de la cuenta {} al {}", accountNumber, at);
+        return jdbcBulkhead.read(readYourWrites.guard(accountNumber, () -> {
+                Account account = accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA));
+                return AccountBalanceDTO.builder()
+                    .accountNumber(accountNumber)
+                    .at(at)
+                    .balance(at == null ? account.getCurrentBalance() : saldoAl(account, at))
+                    .build();
+            }));
+    }
+    
+    /**
+     * Saldo de la cuenta incluyendo los movimientos registrados hasta el instante indicado
+     * Si no hay cierre anterior (cuenta sin movimientos previos o datos anteriores a los snapshots)
+     * se parte del saldo inicial.
+     */
+    public Money saldoAl(Account account, LocalDateTime at) {
+        LocalDate dia = at.toLocalDate();
+        Optional<BalanceSnapshot> cierre = balanceSnapshotRepository.findLatestBefore(account.getId(), dia);
+        if (cierre.isEmpty()) {
+            return account.getInitialBalance()
+                .add(Money.of(transactionRepository.sumAmountUntil(account.getId(), at)));
+        }
+        
+        // Días sin movimientos no tienen fila: todo lo posterior al cierre es del día consultado
+        LocalDateTime desde = cierre.get().getId().getDate().plusDays(1).atStartOfDay();
+        return cierre.get().getClosingBalance()
+            .add(Money.of(transactionRepository.sumAmountBetween(account.getId(), desde, at)));
+    }
+    
+    /**
+     * Saldo a un instante de todas las cuentas del cliente, resuelto en una única consulta
+     * @return saldo por ID de cuenta
+     */
+    public Map<Long, Money> saldosAlPorCliente(String clientId, LocalDateTime at) {
+        Map<Long, Money> saldos = new HashMap<>();
+        balanceSnapshotRepository.findBalancesAtByClientId(clientId, at.toLocalDate(), at)
+            .forEach(view -> saldos.put(view.getAccountId(), Money.of(view.getBalance())));
+        return saldos;
+    }
+    
+    /**
+     * Actualiza el cierre del día con los saldos resultantes de los movimientos recién guardados.
+     * Debe ejecutarse en la transacción del posteo, con las cuentas bloqueadas.
+     */
+    public void registrarCierres(List<Transaction> transactions) {
+        // El último movimiento de cada cuenta y día determina el cierre
+        Map<BalanceSnapshot.BalanceSnapshotId, Money> cierres = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            cierres.put(new BalanceSnapshot.BalanceSnapshotId(
+                    transaction.getAccount().getId(), transaction.getDate().toLocalDate()),
+                transaction.getBalance());
+        }
+        cierres.forEach((id, saldo) ->
+            balanceSnapshotRepository.upsert(id.getAccountId(), id.getDate(), saldo.toBigDecimal()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.model.TransactionDailyRollup;
+import com.nttdata.shared.domain.repository.TransactionDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servicio de totales diarios de movimientos
+ * Mantiene transaction_daily_rollup a medida que se postean y eliminan movimientos y
+ * totaliza rangos de fechas sumando una fila por día completo más los movimientos
+ * de los días parciales de los extremos.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyRollupService {
+    
+    private final TransactionDailyRollupRepository rollupRepository;
+    
+    /**
+     * Acumula los movimientos recién guardados en los totales de su día.
+     * Debe ejecutarse en la transacción del posteo, con las cuentas bloqueadas.
+     */
+    public void registrar(List<Transaction> transactions) {
+        resumirPorDia(transactions).forEach(dia -> rollupRepository.accumulate(dia.accountId(), dia.date(),
+            dia.credits().toBigDecimal(), dia.debits().toBigDecimal(), dia.count(), dia.closingBalance().toBigDecimal()));
+    }
+    
+    /**
+     * Agrupa los movimientos recién guardados por cuenta y día, en el orden en que se postearon
+     */
+    public static List<DayRollup> resumirPorDia(List<Transaction> transactions) {
+        Map<TransactionDailyRollup.TransactionDailyRollupId, DayTotals> porDia = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            porDia.computeIfAbsent(new TransactionDailyRollup.TransactionDailyRollupId(
+                    transaction.getAccount().getId(), transaction.getDate().toLocalDate()), id -> new DayTotals())
+                .add(transaction);
+        }
+        List<DayRollup> dias = new ArrayList<>(porDia.size());
+        porDia.forEach((id, totals) -> dias.add(new DayRollup(id.getAccountId(), id.getDate(),
+            totals.credits, totals.debits, totals.count, totals.closingBalance)));
+        return dias;
+    }
+    
+    /**
+     * Descuenta un movimiento eliminado; debe ejecutarse en la misma transacción que el DELETE
+     */
+    public void descontar(Transaction transaction) {
+        rollupRepository.subtract(transaction.getAccount().getId(), transaction.getDate().toLocalDate(),
+            transaction.getAmount().toBigDecimal());
+    }
+    
+    /**
+     * Créditos y débitos del período de todas las cuentas del cliente, en una única consulta
+     * @param endDate fin del período, inclusive
+     * @return totales por ID de cuenta
+     */
+    public Map<Long, RangeTotals> totalesPorCliente(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+        RangeBounds limites = limites(startDate, endDate);
+        Map<Long, RangeTotals> totales = new HashMap<>();
+        rollupRepository.sumTotalsByClientId(clientId, startDate, limites.hasta(), limites.primerDia(),
+                limites.ultimoDia(), limites.inicioCompletos(), limites.finCompletos())
+            .forEach(view -> totales.put(view.getAccountId(),
+                new RangeTotals(Money.of(view.getCredits()), Money.of(view.getDebits()))));
+        return totales;
+    }
+    
+    /**
+     * Divide el período en los días completos que se leen del rollup y los tramos parciales de los extremos
+     * @param endDate fin del período, inclusive
+     */
+    public static RangeBounds limites(LocalDateTime startDate, LocalDateTime endDate) {
+        // La fecha se guarda con precisión de microsegundos: el fin inclusivo equivale a este límite exclusivo
+        LocalDateTime hasta = endDate.truncatedTo(ChronoUnit.MICROS).plus(1, ChronoUnit.MICROS);
+        LocalDate primerDia = startDate.toLocalTime().equals(LocalTime.MIDNIGHT)
+            ? startDate.toLocalDate() : startDate.toLocalDate().plusDays(1);
+        LocalDate ultimoDia = hasta.toLocalDate().minusDays(1);
+        
+        LocalDateTime inicioCompletos = hasta;
+        LocalDateTime finCompletos = hasta;
+        if (!primerDia.isAfter(ultimoDia)) {
+            inicioCompletos = primerDia.atStartOfDay();
+            finCompletos = ultimoDia.plusDays(1).atStartOfDay();
+        }
+        return new RangeBounds(hasta, primerDia, ultimoDia, inicioCompletos, finCompletos);
+    }
+    
+    /**
+     * Totales de una cuenta en un período; los débitos son negativos
+     */
+    public record RangeTotals(Money credits, Money debits) {
+        
+        public static final RangeTotals EMPTY = new RangeTotals(Money.ZERO, Money.ZERO);
+    }
+    
+    /**
+     * Totales de una cuenta en un día; el cierre es el saldo del último movimiento
+     */
+    public record DayRollup(Long accountId, LocalDate date, Money credits, Money debits, int count,
+                            Money closingBalance) {
+    }
+    
+    /**
+     * Límites de un período: [desde, hasta) completo, con los días [primerDia, ultimoDia] tomados del rollup
+     * y los tramos [desde, inicioCompletos) y [finCompletos, hasta) leídos de transaction
+     */
+    public record RangeBounds(LocalDateTime hasta, LocalDate primerDia, LocalDate ultimoDia,
+                              LocalDateTime inicioCompletos, LocalDateTime finCompletos) {
+    }
+    
+    /**
+     * Acumulador de los movimientos de una cuenta en un día
+     */
+    private static final class DayTotals {
+        private Money credits = Money.ZERO;
+        private Money debits = Money.ZERO;
+        private int count;
+        private Money closingBalance;
+        
+        void add(Transaction transaction) {
+            if (transaction.getAmount().isNegative()) {
+                debits = debits.add(transaction.getAmount());
+            } else {
+                credits = credits.add(transaction.getAmount());
+            }
+            count++;
+            // Los movimientos llegan en orden de posteo: el último determina el cierre
+            closingBalance = transaction.getBalance();
+        }
+    }
+}
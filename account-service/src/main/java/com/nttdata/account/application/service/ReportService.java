@@ -1,9 +1,21 @@
 package com.nttdata.account.application.service;
 
 import com.nttdata.account.application.dto.AccountStatementReportDTO;
+import com.nttdata.account.application.dto.ReportJobDTO;
+import com.nttdata.account.application.dto.StatementRowDTO;
+import com.nttdata.account.infrastructure.r2dbc.ReactiveAccountStore;
+import com.nttdata.account.infrastructure.report.ReportCache;
+import com.nttdata.account.infrastructure.report.ReportJob;
+import com.nttdata.account.infrastructure.report.ReportJobManager;
+import com.nttdata.account.infrastructure.report.StatementPdfRenderer;
+import com.nttdata.account.infrastructure.report.StatementRowCursor;
+import com.nttdata.common.constants.ApiConstants;
 import com.nttdata.common.constants.ErrorConstants;
 import com.nttdata.common.exception.BusinessValidationException;
 import com.nttdata.common.exception.ResourceNotFoundException;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.datasource.ReadYourWrites;
 import com.nttdata.shared.domain.model.Account;
 import com.nttdata.shared.domain.model.Transaction;
 import com.nttdata.shared.domain.repository.AccountRepository;
@@ -11,19 +23,29 @@ import com.nttdata.shared.domain.repository.ClientRepository;
 import com.nttdata.shared.domain.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Servicio para generación de reports
  * Funcionalidad F4: Report de Estado de Account
  * Adaptado a Spring WebFlux (Reactivo + JPA con Scheduler)
+ * Con account.r2dbc.enabled el reporte se arma sin bloquear sobre ReactiveAccountStore;
+ * exportación, PDF y reportes en segundo plano siguen leyendo con cursores JDBC.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,9 +55,19 @@ public class ReportService {
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final ClientRepository clientRepository;
+    private final BalanceHistoryService balanceHistoryService;
+    private final DailyRollupService dailyRollupService;
+    private final StatementRowCursor statementRowCursor;
+    private final ReportCache reportCache;
+    private final ReportJobManager reportJobManager;
+    private final StatementPdfRenderer statementPdfRenderer;
+    private final Optional<ReactiveAccountStore> reactiveAccountStore;
+    private final JdbcBulkhead jdbcBulkhead;
+    private final ReadYourWrites readYourWrites;
     
     /**
      * Genera reporte de estado de cuenta por cliente y rango de fechas
+     * Los reportes se sirven desde caché hasta que cambia alguna cuenta del cliente.
      * @param clientId ID del cliente
      * @param startDate fecha de inicio del reporte
      * @param endDate fecha de fin del reporte
@@ -43,61 +75,273 @@ public class ReportService {
      */
     @Transactional(readOnly = true)
     public Mono<AccountStatementReportDTO> generarReport(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+        return reportCache.get(clientId, startDate, endDate, () -> armarReport(clientId, startDate, endDate));
+    }
+    
+    /**
+     * Arma el reporte consultando la base
+     */
+    private Mono<AccountStatementReportDTO> armarReport(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
         log.debug("Generando reporte para cliente: {} desde {} hasta {}", clientId, startDate, endDate);
+        if (reactiveAccountStore.isPresent()) {
+            return armarReport(reactiveAccountStore.get(), clientId, startDate, endDate);
+        }
         
-        return Mono.fromCallable(() -> {
+        return jdbcBulkhead.read(readYourWrites.guard(clientId, () -> {
             // Validar rango de fechas
             if (startDate.isAfter(endDate)) {
                 throw new BusinessValidationException(ErrorConstants.RANGO_FECHAS_INVALIDO);
             }
             
-            // Verificar que el cliente existe
-            var cliente = clientRepository.findByClientId(clientId)
+            // Verificar que el cliente existe (proyección: solo se usa el nombre)
+            var cliente = clientRepository.findViewByClientId(clientId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CLIENTE_NO_ENCONTRADO));
             
-            // Obtener accounts del cliente
-            List<Account> accounts = accountRepository.findByClientId(clientId);
+            // Obtener accounts del cliente con tipo y estado en la misma consulta
+            List<Account> accounts = accountRepository.findByClientIdWithDetails(clientId);
             
             if (accounts.isEmpty()) {
                 log.warn("Client {} no tiene accounts asociadas", clientId);
             }
             
-            // Construir reporte
-            List<AccountStatementReportDTO.AccountReportDTO> accountsReport = accounts.stream()
-                .map(account -> buildAccountReport(account, startDate, endDate))
-                .collect(Collectors.toList());
+            // Una sola consulta para los movimientos del período de todas las cuentas, agrupados en una pasada
+            Map<Long, List<Transaction>> transactionsPorCuenta = new HashMap<>();
+            for (Transaction transaction : transactionRepository.findByClientIdAndFechaBetween(clientId, startDate, endDate)) {
+                transactionsPorCuenta.computeIfAbsent(transaction.getAccount().getId(), id -> new ArrayList<>())
+                    .add(transaction);
+            }
+            
+            // Saldos de apertura de todas las cuentas en una consulta (la fecha se guarda con precisión de microsegundos)
+            Map<Long, Money> openingBalances = accounts.isEmpty() ? Map.of()
+                : balanceHistoryService.saldosAlPorCliente(clientId, startDate.minus(1, ChronoUnit.MICROS));
+            
+            // Totales del período desde los totales diarios: una fila por día completo más los días parciales
+            Map<Long, DailyRollupService.RangeTotals> totales = accounts.isEmpty() ? Map.of()
+                : dailyRollupService.totalesPorCliente(clientId, startDate, endDate);
+            
+            return buildReport(cliente.name(), clientId, startDate, endDate, accounts,
+                transactionsPorCuenta, openingBalances, totales);
+        }));
+    }
+    
+    /**
+     * Arma el reporte sobre el adaptador R2DBC: las mismas consultas que la versión JPA, con movimientos,
+     * saldos de apertura y totales del período leídos en paralelo sin ocupar hilos
+     */
+    private Mono<AccountStatementReportDTO> armarReport(ReactiveAccountStore store, String clientId,
+                                                        LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate.isAfter(endDate)) {
+            return Mono.error(new BusinessValidationException(ErrorConstants.RANGO_FECHAS_INVALIDO));
+        }
+        
+        return store.findClientName(clientId)
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.CLIENTE_NO_ENCONTRADO)))
+            .flatMap(clientName -> store.findAccountsByClient(clientId).collectList()
+                .flatMap(accounts -> {
+                    if (accounts.isEmpty()) {
+                        log.warn("Client {} no tiene accounts asociadas", clientId);
+                        return Mono.just(buildReport(clientName, clientId, startDate, endDate, accounts,
+                            Map.of(), Map.of(), Map.of()));
+                    }
+                    Mono<Map<Long, List<Transaction>>> transactionsPorCuenta = store
+                        .findTransactionsByClient(clientId, startDate, endDate)
+                        .collect(HashMap::new, (porCuenta, transaction) -> porCuenta
+                            .computeIfAbsent(transaction.getAccount().getId(), id -> new ArrayList<>())
+                            .add(transaction));
+                    return Mono.zip(
+                            transactionsPorCuenta,
+                            store.saldosAlPorCliente(clientId, startDate.minus(1, ChronoUnit.MICROS)),
+                            store.totalesPorCliente(clientId, startDate, endDate))
+                        .map(tuple -> buildReport(clientName, clientId, startDate, endDate, accounts,
+                            tuple.getT1(), tuple.getT2(), tuple.getT3()));
+                }));
+    }
+    
+    /**
+     * Construye el reporte a partir de las cuentas del cliente y los datos del período agrupados por cuenta
+     */
+    private AccountStatementReportDTO buildReport(String clientName, String clientId,
+                                                  LocalDateTime startDate, LocalDateTime endDate,
+                                                  List<Account> accounts,
+                                                  Map<Long, List<Transaction>> transactionsPorCuenta,
+                                                  Map<Long, Money> openingBalances,
+                                                  Map<Long, DailyRollupService.RangeTotals> totales) {
+        List<AccountStatementReportDTO.AccountReportDTO> accountsReport = accounts.stream()
+            .map(account -> buildAccountReport(account,
+                transactionsPorCuenta.getOrDefault(account.getId(), List.of()),
+                openingBalances.getOrDefault(account.getId(), account.getInitialBalance()),
+                totales.getOrDefault(account.getId(), DailyRollupService.RangeTotals.EMPTY)))
+            .collect(Collectors.toList());
+        
+        return AccountStatementReportDTO.builder()
+            .startDate(startDate)
+            .endDate(endDate)
+            .client(clientName)
+            .clientId(clientId)
+            .accounts(accountsReport)
+            .build();
+    }
+    
+    /**
+     * Exporta los movimientos del cliente en el rango como un flujo de filas
+     * A diferencia de generarReport no arma el reporte en memoria: las filas se leen
+     * de un cursor JDBC a medida que el cliente HTTP las consume.
+     * Las validaciones se hacen antes de emitir la primera fila, para que un error
+     * todavía pueda responderse con su código HTTP.
+     */
+    public Flux<StatementRowDTO> exportarMovimientos(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+        log.debug("Exportando movimientos del cliente: {} desde {} hasta {}", clientId, startDate, endDate);
+        
+        return jdbcBulkhead.read(() -> {
+                if (startDate.isAfter(endDate)) {
+                    throw new BusinessValidationException(ErrorConstants.RANGO_FECHAS_INVALIDO);
+                }
+                return clientRepository.findByClientId(clientId)
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CLIENTE_NO_ENCONTRADO));
+            })
+            .flatMapMany(cliente -> statementRowCursor.stream(clientId, startDate, endDate));
+    }
+    
+    /**
+     * Genera el estado de cuenta en PDF como un flujo de bytes
+     * El documento se escribe página a página mientras se leen los movimientos del cursor,
+     * con backpressure: si el cliente HTTP no consume, la generación se detiene.
+     * @param base64 si es true, emite un objeto JSON con el PDF codificado en base64
+     */
+    public Flux<DataBuffer> generarPdf(String clientId, LocalDateTime startDate, LocalDateTime endDate, boolean base64) {
+        log.debug("Generando PDF para cliente: {} desde {} hasta {}", clientId, startDate, endDate);
+        
+        return jdbcBulkhead.read(() -> {
+                if (startDate.isAfter(endDate)) {
+                    throw new BusinessValidationException(ErrorConstants.RANGO_FECHAS_INVALIDO);
+                }
+                return clientRepository.findByClientId(clientId)
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CLIENTE_NO_ENCONTRADO));
+            })
+            .flatMapMany(cliente -> {
+                StatementPdfRenderer.Header header =
+                    new StatementPdfRenderer.Header(cliente.getName(), clientId, startDate, endDate);
+                StatementPdfRenderer.RowSource rows =
+                    action -> statementRowCursor.forEach(clientId, startDate, endDate, action);
+                // El render recorre el cursor JDBC: ocupa un permiso de streams mientras dura la descarga
+                return jdbcBulkhead.stream(DataBufferUtils.outputStreamPublisher(out -> {
+                    try {
+                        if (base64) {
+                            statementPdfRenderer.renderBase64Json(header, rows, out);
+                        } else {
+                            statementPdfRenderer.render(header, rows, out);
+                        }
+                    } catch (Exception ex) {
+                        throw new IllegalStateException("Error generando el estado de cuenta en PDF", ex);
+                    }
+                }, DefaultDataBufferFactory.sharedInstance, task -> jdbcBulkhead.streamScheduler().schedule(task)));
+            });
+    }
+    
+    /**
+     * Encola la generación del estado de cuenta en segundo plano
+     * Se valida antes de encolar, para que los errores del request se respondan de inmediato.
+     * @param formato ndjson o csv
+     * @param prioridad ALTA, NORMAL o BAJA
+     * @return estado inicial del reporte, con su ID para consultarlo
+     */
+    public Mono<ReportJobDTO> crearJob(String clientId, LocalDateTime startDate, LocalDateTime endDate,
+                                       String formato, String prioridad) {
+        log.debug("Encolando reporte para cliente: {} desde {} hasta {}", clientId, startDate, endDate);
+        
+        return jdbcBulkhead.read(() -> {
+            if (startDate.isAfter(endDate)) {
+                throw new BusinessValidationException(ErrorConstants.RANGO_FECHAS_INVALIDO);
+            }
+            ReportJob.Format format = parseEnum(ReportJob.Format.class, formato, "formato");
+            ReportJob.Priority priority = parseEnum(ReportJob.Priority.class, prioridad, "prioridad");
+            clientRepository.findByClientId(clientId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CLIENTE_NO_ENCONTRADO));
             
-            return AccountStatementReportDTO.builder()
-                .startDate(startDate)
-                .endDate(endDate)
-                .client(cliente.getName())
-                .clientId(clientId)
-                .accounts(accountsReport)
-                .build();
-        }).subscribeOn(Schedulers.boundedElastic());
+            return toJobDTO(reportJobManager.submit(clientId, startDate, endDate, format, priority));
+        });
+    }
+    
+    /**
+     * Estado y avance de un reporte en segundo plano
+     */
+    public Mono<ReportJobDTO> consultarJob(String id) {
+        return Mono.fromCallable(() -> toJobDTO(buscarJob(id)));
     }
     
     /**
-     * Construye el reporte de una cuenta específica
+     * Reporte terminado, listo para descargar
+     */
+    public Mono<ReportJob> resultadoJob(String id) {
+        return Mono.fromCallable(() -> {
+            ReportJob job = buscarJob(id);
+            if (job.getStatus() != ReportJob.Status.COMPLETADO) {
+                throw new BusinessValidationException(ErrorConstants.REPORTE_JOB_NO_FINALIZADO);
+            }
+            return job;
+        });
+    }
+    
+    private ReportJob buscarJob(String id) {
+        return reportJobManager.find(id)
+            .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.REPORTE_JOB_NO_ENCONTRADO));
+    }
+    
+    private static ReportJobDTO toJobDTO(ReportJob job) {
+        boolean completado = job.getStatus() == ReportJob.Status.COMPLETADO;
+        return ReportJobDTO.builder()
+            .id(job.getId())
+            .clientId(job.getClientId())
+            .status(job.getStatus().name())
+            .priority(job.getPriority().name())
+            .format(job.getFormat().getExtension())
+            .startDate(job.getStartDate())
+            .endDate(job.getEndDate())
+            .processedRows(job.getProcessedRows().get())
+            .totalRows(job.getTotalRows() < 0 ? null : job.getTotalRows())
+            .progress(job.progress())
+            .createdAt(job.getCreatedAt())
+            .finishedAt(job.getFinishedAt())
+            .error(job.getError())
+            .resultUrl(completado
+                ? ApiConstants.API_BASE_PATH + ApiConstants.REPORTES_PATH + "/jobs/" + job.getId() + "/result"
+                : null)
+            .build();
+    }
+    
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String campo) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessValidationException(String.format(ErrorConstants.FORMATO_INVALIDO, campo));
+        }
+    }
+    
+    /**
+     * Construye el reporte de una cuenta específica a partir de sus movimientos y totales del período
      */
     private AccountStatementReportDTO.AccountReportDTO buildAccountReport(
-            Account account, LocalDateTime startDate, LocalDateTime endDate) {
+            Account account, List<Transaction> transactions, Money openingBalance,
+            DailyRollupService.RangeTotals totales) {
         
-        // Obtener transactions en el rango de fechas
-        List<Transaction> transactions = transactionRepository.findByAccountIdAndFechaBetween(
-            account.getId(), startDate, endDate
-        );
+        List<AccountStatementReportDTO.TransactionReportDTO> transactionsDTO = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            transactionsDTO.add(buildTransactionReport(transaction));
+        }
         
-        // Convertir transactions a DTO
-        List<AccountStatementReportDTO.TransactionReportDTO> transactionsDTO = transactions.stream()
-            .map(this::buildTransactionReport)
-            .collect(Collectors.toList());
+        Money totalDeposits = totales.credits();
+        Money totalWithdrawals = totales.debits();
+        Money closingBalance = openingBalance.add(totalDeposits).add(totalWithdrawals);
         
         return AccountStatementReportDTO.AccountReportDTO.builder()
             .accountNumber(account.getAccountNumber())
             .accountType(account.getAccountType().getDescription())
             .initialBalance(account.getInitialBalance())
             .currentBalance(account.getCurrentBalance())
+            .openingBalance(openingBalance)
+            .closingBalance(closingBalance)
+            .totalDeposits(totalDeposits)
+            .totalWithdrawals(totalWithdrawals)
             .status(account.getStatus().getDescription())
             .transactions(transactionsDTO)
             .build();
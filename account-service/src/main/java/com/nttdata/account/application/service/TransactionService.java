@@ -1,52 +1,138 @@
 package com.nttdata.account.application.service;
 
+import com.nttdata.account.application.dto.BatchTransactionResponseDTO;
+import com.nttdata.account.application.dto.BatchTransactionResultDTO;
 import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.dto.PageDTO;
 import com.nttdata.account.application.dto.TransactionResponseDTO;
 import com.nttdata.account.application.factory.TransactionStrategyFactory;
 import com.nttdata.account.application.mapper.TransactionMapper;
+import com.nttdata.account.infrastructure.cache.AccountSnapshotCache;
 import com.nttdata.account.application.strategy.TransactionStrategy;
+import com.nttdata.account.application.strategy.TransferStrategy;
+import com.nttdata.account.infrastructure.groupcommit.GroupCommitExecutor;
+import com.nttdata.account.infrastructure.idempotency.IdempotencyStore;
+import com.nttdata.account.infrastructure.ledger.LedgerEngine;
+import com.nttdata.account.infrastructure.ledger.LedgerEntry;
+import com.nttdata.account.infrastructure.pagination.PageToken;
+import com.nttdata.account.infrastructure.pagination.PaginationProperties;
+import com.nttdata.account.infrastructure.r2dbc.ReactiveAccountStore;
+import com.nttdata.account.infrastructure.report.ReportCache;
+import com.nttdata.account.infrastructure.streaming.EntityStreamReader;
+import com.nttdata.account.infrastructure.withdrawal.DailyWithdrawalLimiter;
 import com.nttdata.common.constants.ErrorConstants;
 import com.nttdata.common.exception.BusinessValidationException;
+import com.nttdata.common.exception.CupoDiarioExcedidoException;
 import com.nttdata.common.exception.ResourceNotFoundException;
+import com.nttdata.common.exception.SaldoNoDisponibleException;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.datasource.ReadYourWrites;
 import com.nttdata.shared.domain.model.Account;
 import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.projection.TransactionView;
 import com.nttdata.shared.domain.repository.AccountRepository;
 import com.nttdata.shared.domain.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Servicio para gestión de transactions
  * Implementa patrones: Strategy, Factory, Repository
  * Adaptado a Spring WebFlux (Reactivo + JPA con Scheduler)
+ * Con account.r2dbc.enabled las lecturas y los posteos (con o sin Idempotency-Key) se resuelven sin
+ * bloquear sobre ReactiveAccountStore; lotes y eliminaciones siguen en JPA.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionService {
     
+    private static final String PAGE_SCOPE = "transactions";
+    private static final String HISTORY_PAGE_SCOPE = "account-history:";
+    private static final String STREAM_TRANSACTIONS = TransactionRepository.VIEW_SELECT + " ORDER BY t.id";
+    private static final String STREAM_ACCOUNT_HISTORY =
+        TransactionRepository.VIEW_SELECT + " WHERE a.id = :cuentaId ORDER BY t.date DESC, t.id DESC";
+    
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final TransactionStrategyFactory strategyFactory;
     private final TransactionMapper transactionMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Optional<LedgerEngine> ledgerEngine;
+    private final IdempotencyStore idempotencyStore;
+    private final Optional<GroupCommitExecutor> groupCommitExecutor;
+    private final DailyWithdrawalLimiter dailyWithdrawalLimiter;
+    private final BalanceHistoryService balanceHistoryService;
+    private final DailyRollupService dailyRollupService;
+    private final ReportCache reportCache;
+    private final PaginationProperties paginationProperties;
+    private final EntityStreamReader entityStreamReader;
+    private final Optional<ReactiveAccountStore> reactiveAccountStore;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final JdbcBulkhead jdbcBulkhead;
+    private final ReadYourWrites readYourWrites;
+    
+    @Value("${account.transactions.batch.max-size:1000}")
+    private int batchMaxSize;
     
     /**
-     * Obtiene todos los transactions
+     * Obtiene una página de transactions en orden de id
+     * @param pageToken token de continuación de la página anterior (null para la primera)
+     * @param size tamaño de página (null para el tamaño por defecto)
      */
     @Transactional(readOnly = true)
-    public Flux<TransactionResponseDTO> getAllTransactions() {
-        log.debug("Obteniendo todos los transactions");
-        return Mono.fromCallable(() -> transactionRepository.findAllWithAccount().stream()
-                .map(transactionMapper::toResponseDTO)
-                .toList())
-            .subscribeOn(Schedulers.boundedElastic())
-            .flatMapMany(Flux::fromIterable);
+    public Mono<PageDTO<TransactionResponseDTO>> getAllTransactions(String pageToken, Integer size) {
+        log.debug("Obteniendo página de transactions");
+        if (reactiveAccountStore.isPresent()) {
+            return Mono.defer(() -> {
+                int limit = paginationProperties.resolveSize(size);
+                long afterId = pageToken == null ? 0 : PageToken.idOf(PAGE_SCOPE, pageToken);
+                return reactiveAccountStore.get().findTransactionPage(afterId, limit + 1).collectList()
+                    .map(rows -> PageDTO.of(rows, limit, transactionMapper::toResponseDTO,
+                        transaction -> PageToken.ofId(PAGE_SCOPE, transaction.getId())));
+            });
+        }
+        return jdbcBulkhead.read(() -> {
+                int limit = paginationProperties.resolveSize(size);
+                long afterId = pageToken == null ? 0 : PageToken.idOf(PAGE_SCOPE, pageToken);
+                return PageDTO.of(transactionRepository.findViewPageAfter(afterId, Limit.of(limit + 1)), limit,
+                    transactionMapper::toResponseDTO, transaction -> PageToken.ofId(PAGE_SCOPE, transaction.id()));
+            });
+    }
+    
+    /**
+     * Recorre todos los transactions en orden de id, leyendo de a bloques a medida que el suscriptor pide
+     */
+    public Flux<TransactionResponseDTO> streamAllTransactions() {
+        log.debug("Recorriendo todos los transactions en streaming");
+        if (reactiveAccountStore.isPresent()) {
+            return reactiveAccountStore.get().streamTransactions().map(transactionMapper::toResponseDTO);
+        }
+        return entityStreamReader.stream(STREAM_TRANSACTIONS, TransactionView.class, Map.of(),
+            transactionMapper::toResponseDTO);
     }
     
     /**
@@ -55,12 +141,16 @@ public class TransactionService {
     @Transactional(readOnly = true)
     public Mono<TransactionResponseDTO> getTransactionById(Long id) {
         log.debug("Obteniendo movimiento con ID: {}", id);
-        return Mono.fromCallable(() -> {
-                Transaction transaction = transactionRepository.findById(id)
+        if (reactiveAccountStore.isPresent()) {
+            return reactiveAccountStore.get().findTransaction(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.MOVIMIENTO_NO_ENCONTRADO)))
+                .map(transactionMapper::toResponseDTO);
+        }
+        return jdbcBulkhead.read(() -> {
+                TransactionView transaction = transactionRepository.findViewById(id)
                     .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.MOVIMIENTO_NO_ENCONTRADO));
                 return transactionMapper.toResponseDTO(transaction);
-            })
-            .subscribeOn(Schedulers.boundedElastic());
+            });
     }
     
     /**
@@ -71,58 +161,591 @@ public class TransactionService {
     public Mono<TransactionResponseDTO> createTransaction(CreateTransactionDTO dto) {
         log.debug("Creando nuevo movimiento para cuenta: {}", dto.getAccountNumber());
         
-        return Mono.fromCallable(() -> {
-            // Buscar cuenta
-            Account account = accountRepository.findByAccountNumber(dto.getAccountNumber())
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA));
-            
-            // Validar que la cuenta esté activa
-            if (!"ACTIVO".equals(account.getStatus().getCode())) {
-                throw new BusinessValidationException(ErrorConstants.CUENTA_INACTIVA);
+        if (reactiveAccountStore.isPresent()) {
+            return postTransaction(reactiveAccountStore.get(), dto);
+        }
+        
+        if (ledgerEngine.isPresent()) {
+            return Mono.fromFuture(() -> submitToLedger(ledgerEngine.get(), dto))
+                .map(this::toResponseDTO);
+        }
+        
+        if (groupCommitExecutor.isPresent()) {
+            // Se confirma junto con los demás posteos de la misma ventana
+            return Mono.fromFuture(() -> groupCommitExecutor.get().submit(() -> postTransaction(dto)));
+        }
+        
+        return jdbcBulkhead.write(() -> transactionTemplate.execute(status -> postTransaction(dto)));
+    }
+    
+    /**
+     * Crea un nuevo movimiento de forma idempotente
+     * Un reintento con la misma Idempotency-Key devuelve la respuesta original sin volver a postear.
+     * En modo ledger la clave se rechaza: el journal confirma el posteo fuera de la transacción JDBC
+     * que reserva la clave, por lo que un reintento tras un fallo de esa transacción postearía dos veces.
+     */
+    public Mono<TransactionResponseDTO> createTransaction(CreateTransactionDTO dto, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createTransaction(dto);
+        }
+        if (ledgerEngine.isPresent()) {
+            return Mono.error(new BusinessValidationException(ErrorConstants.IDEMPOTENCY_KEY_NO_SOPORTADA));
+        }
+        log.debug("Creando movimiento idempotente para cuenta: {}, clave: {}", dto.getAccountNumber(), idempotencyKey);
+        
+        if (reactiveAccountStore.isPresent()) {
+            // El posteo se une a la transacción R2DBC que reserva la clave
+            ReactiveAccountStore store = reactiveAccountStore.get();
+            return idempotencyStore.execute(idempotencyKey, dto, store, postTransaction(store, dto));
+        }
+        
+        return idempotencyStore.execute(idempotencyKey, dto, () -> postTransaction(dto));
+    }
+    
+    /**
+     * Registra un movimiento aplicando la variación de saldo con un UPDATE condicional atómico.
+     * No hay lectura-modificación-escritura sobre current_balance, por lo que los posteos
+     * concurrentes sobre la misma cuenta no pierden actualizaciones.
+     * Debe ejecutarse dentro de una transacción JDBC.
+     */
+    private TransactionResponseDTO postTransaction(CreateTransactionDTO dto) {
+        // Obtener estrategia apropiada usando Factory pattern
+        TransactionStrategy strategy = strategyFactory.getStrategy(dto.getTransactionType());
+        if (strategy instanceof TransferStrategy transferStrategy) {
+            return postTransfer(dto, transferStrategy);
+        }
+        
+        // Buscar cuenta; el saldo guardado en caché no interviene en el control de sobregiro
+        Account account = accountSnapshotCache.find(dto.getAccountNumber(), accountRepository::findByAccountNumber)
+            .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA));
+        
+        validarMovimiento(account, dto);
+        
+        Money amount = montoDe(dto);
+        Money delta = strategy.calcularDelta(amount);
+        
+        // Cupo diario: el contador del día se actualiza en esta misma transacción
+        boolean consumeCupo = strategy.consumeCupoDiario();
+        if (consumeCupo) {
+            dailyWithdrawalLimiter.reservar(account, amount);
+        }
+        
+        // Aplicar el delta en una sola sentencia; el control de sobregiro se hace en SQL (F3)
+        Optional<Money> saldoActualizado = accountRepository.applyBalanceDelta(account.getId(), delta.toBigDecimal())
+            .map(Money::of);
+        if (saldoActualizado.isEmpty()) {
+            if (consumeCupo) {
+                // El rechazo no debe dejar escrituras: el group commit confirma el resto del grupo
+                dailyWithdrawalLimiter.liberar(account, amount);
             }
-            
-            // Validar valor del movimiento
-            if (dto.getAmount() == null || dto.getAmount().compareTo(java.math.BigDecimal.ZERO) <= 0) {
-                throw new BusinessValidationException(ErrorConstants.VALOR_MOVIMIENTO_INVALIDO);
+            throw new SaldoNoDisponibleException(ErrorConstants.SALDO_NO_DISPONIBLE);
+        }
+        Money nuevoSaldo = saldoActualizado.get();
+        
+        Transaction transaction = Transaction.builder()
+            .transactionType(strategy.getTransactionType())
+            .amount(delta)
+            .balance(nuevoSaldo)
+            .account(account)
+            .build();
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        registrarAgregados(List.of(savedTransaction));
+        
+        log.info("Transaction creado exitosamente. ID: {}, Tipo: {}, Valor: {}, Nuevo saldo: {}", 
+            savedTransaction.getId(), 
+            savedTransaction.getTransactionType(),
+            savedTransaction.getAmount(),
+            savedTransaction.getBalance());
+        
+        return transactionMapper.toResponseDTO(savedTransaction);
+    }
+    
+    /**
+     * Registra una transferencia: débito en la cuenta origen y crédito en la destino
+     * dentro de la misma transacción JDBC.
+     * Ambas filas se bloquean con una sola consulta FOR UPDATE ordenada por id, de modo que
+     * dos transferencias concurrentes en sentidos opuestos toman los bloqueos en el mismo
+     * orden y no pueden producir un deadlock.
+     */
+    private TransactionResponseDTO postTransfer(CreateTransactionDTO dto, TransferStrategy strategy) {
+        String origen = dto.getAccountNumber();
+        String destino = dto.getDestinationAccountNumber();
+        if (destino == null || destino.isBlank()) {
+            throw new BusinessValidationException(ErrorConstants.CUENTA_DESTINO_REQUERIDA);
+        }
+        if (destino.equals(origen)) {
+            throw new BusinessValidationException(ErrorConstants.TRANSFERENCIA_MISMA_CUENTA);
+        }
+        
+        Map<String, Account> accounts = accountRepository.findByAccountNumberInForUpdate(List.of(origen, destino)).stream()
+            .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+        Account cuentaOrigen = accounts.get(origen);
+        Account cuentaDestino = accounts.get(destino);
+        if (cuentaOrigen == null || cuentaDestino == null) {
+            throw new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA);
+        }
+        validarMovimiento(cuentaOrigen, dto);
+        validarMovimiento(cuentaDestino, dto);
+        
+        // Control de sobregiro sobre la cuenta origen (F3)
+        Money amount = montoDe(dto);
+        Money saldoOrigen = strategy.calcularSaldo(cuentaOrigen.getCurrentBalance(), amount);
+        Money saldoDestino = strategy.calcularSaldoDestino(cuentaDestino.getCurrentBalance(), amount);
+        cuentaOrigen.setCurrentBalance(saldoOrigen);
+        cuentaDestino.setCurrentBalance(saldoDestino);
+        
+        Transaction debito = Transaction.builder()
+            .transactionType(strategy.getTransactionType())
+            .amount(strategy.calcularDelta(amount))
+            .balance(saldoOrigen)
+            .account(cuentaOrigen)
+            .build();
+        Transaction credito = Transaction.builder()
+            .transactionType(strategy.getTransactionType())
+            .amount(amount)
+            .balance(saldoDestino)
+            .account(cuentaDestino)
+            .build();
+        registrarAgregados(transactionRepository.saveAll(List.of(debito, credito)));
+        
+        log.info("Transferencia registrada. Origen: {}, Destino: {}, Valor: {}", origen, destino, amount);
+        
+        return transactionMapper.toResponseDTO(debito);
+    }
+    
+    /**
+     * Registra un movimiento sobre el adaptador R2DBC
+     * Mismas sentencias y orden que la versión JPA (cupo diario, UPDATE condicional de saldo, INSERT
+     * y agregados diarios) dentro de una transacción reactiva; los reportes del cliente se invalidan
+     * una vez confirmada. Dentro de la transacción de IdempotencyStore se une a ella y, como en la
+     * versión JPA, las invalidaciones ocurren antes de que esa transacción se confirme.
+     */
+    private Mono<TransactionResponseDTO> postTransaction(ReactiveAccountStore store, CreateTransactionDTO dto) {
+        return Mono.defer(() -> {
+                TransactionStrategy strategy = strategyFactory.getStrategy(dto.getTransactionType());
+                Mono<List<Transaction>> posteo = strategy instanceof TransferStrategy transferStrategy
+                    ? postTransfer(store, dto, transferStrategy)
+                    : postSingle(store, dto, strategy);
+                return store.inTransaction(posteo.flatMap(saved -> store.registrarAgregados(saved).thenReturn(saved)));
+            })
+            .map(saved -> {
+                saved.forEach(transaction -> accountSnapshotCache.invalidar(transaction.getAccount().getAccountNumber()));
+                saved.stream()
+                    .map(transaction -> transaction.getAccount().getClientId())
+                    .distinct()
+                    .forEach(reportCache::invalidar);
+                Transaction transaction = saved.get(0);
+                log.info("Transaction creado exitosamente. ID: {}, Tipo: {}, Valor: {}, Nuevo saldo: {}",
+                    transaction.getId(), transaction.getTransactionType(), transaction.getAmount(), transaction.getBalance());
+                return transactionMapper.toResponseDTO(transaction);
+            });
+    }
+    
+    /**
+     * Depósito o retiro: el control de sobregiro se hace en el UPDATE condicional (F3)
+     */
+    private Mono<List<Transaction>> postSingle(ReactiveAccountStore store, CreateTransactionDTO dto,
+                                               TransactionStrategy strategy) {
+        return accountSnapshotCache.findReactive(dto.getAccountNumber(), store::findAccount)
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA)))
+            .flatMap(account -> {
+                validarMovimiento(account, dto);
+                Money amount = montoDe(dto);
+                Money delta = strategy.calcularDelta(amount);
+                
+                // Cupo diario: si luego falta saldo, el rollback de la transacción devuelve lo reservado
+                Mono<Money> cupo = Mono.empty();
+                if (strategy.consumeCupoDiario() && dailyWithdrawalLimiter.isEnabled()) {
+                    cupo = store.reservarCupo(account.getId(), LocalDate.now(), amount,
+                            dailyWithdrawalLimiter.limiteDiario(account.getAccountType()))
+                        .switchIfEmpty(Mono.error(() -> new CupoDiarioExcedidoException(ErrorConstants.CUPO_DIARIO_EXCEDIDO)));
+                }
+                
+                return cupo
+                    .then(store.applyBalanceDelta(account.getId(), delta))
+                    .switchIfEmpty(Mono.error(() -> new SaldoNoDisponibleException(ErrorConstants.SALDO_NO_DISPONIBLE)))
+                    .flatMapMany(nuevoSaldo -> store.saveTransactions(List.of(Transaction.builder()
+                        .date(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                        .transactionType(strategy.getTransactionType())
+                        .amount(delta)
+                        .balance(nuevoSaldo)
+                        .account(account)
+                        .build())))
+                    .collectList();
+            });
+    }
+    
+    /**
+     * Transferencia: ambas cuentas se bloquean con una sola consulta FOR UPDATE ordenada por id,
+     * igual que en la versión JPA, y los dos movimientos comparten la fecha de posteo
+     */
+    private Mono<List<Transaction>> postTransfer(ReactiveAccountStore store, CreateTransactionDTO dto,
+                                                 TransferStrategy strategy) {
+        String origen = dto.getAccountNumber();
+        String destino = dto.getDestinationAccountNumber();
+        if (destino == null || destino.isBlank()) {
+            return Mono.error(new BusinessValidationException(ErrorConstants.CUENTA_DESTINO_REQUERIDA));
+        }
+        if (destino.equals(origen)) {
+            return Mono.error(new BusinessValidationException(ErrorConstants.TRANSFERENCIA_MISMA_CUENTA));
+        }
+        
+        return store.lockAccounts(List.of(origen, destino))
+            .collectMap(Account::getAccountNumber)
+            .flatMap(accounts -> {
+                Account cuentaOrigen = accounts.get(origen);
+                Account cuentaDestino = accounts.get(destino);
+                if (cuentaOrigen == null || cuentaDestino == null) {
+                    return Mono.error(new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA));
+                }
+                validarMovimiento(cuentaOrigen, dto);
+                validarMovimiento(cuentaDestino, dto);
+                
+                Money amount = montoDe(dto);
+                Money saldoOrigen = strategy.calcularSaldo(cuentaOrigen.getCurrentBalance(), amount);
+                Money saldoDestino = strategy.calcularSaldoDestino(cuentaDestino.getCurrentBalance(), amount);
+                LocalDateTime fecha = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                
+                Transaction debito = Transaction.builder()
+                    .date(fecha)
+                    .transactionType(strategy.getTransactionType())
+                    .amount(strategy.calcularDelta(amount))
+                    .balance(saldoOrigen)
+                    .account(cuentaOrigen)
+                    .build();
+                Transaction credito = Transaction.builder()
+                    .date(fecha)
+                    .transactionType(strategy.getTransactionType())
+                    .amount(amount)
+                    .balance(saldoDestino)
+                    .account(cuentaDestino)
+                    .build();
+                return store.updateBalance(cuentaOrigen.getId(), saldoOrigen)
+                    .then(store.updateBalance(cuentaDestino.getId(), saldoDestino))
+                    .thenMany(store.saveTransactions(List.of(debito, credito)))
+                    .collectList();
+            });
+    }
+    
+    /**
+     * Registra un lote de movimientos (archivos de nómina / liquidación)
+     * Los movimientos se agrupan por cuenta y se aplican en el orden recibido.
+     * El fallo de un movimiento no afecta al resto: la respuesta informa el resultado de cada ítem.
+     */
+    @Transactional
+    public Mono<BatchTransactionResponseDTO> createTransactionsBatch(List<CreateTransactionDTO> dtos) {
+        log.debug("Procesando lote de {} movimientos", dtos == null ? 0 : dtos.size());
+        
+        return jdbcBulkhead.write(() -> {
+            if (dtos == null || dtos.isEmpty()) {
+                throw new BusinessValidationException(ErrorConstants.LOTE_VACIO);
             }
+            if (dtos.size() > batchMaxSize) {
+                throw new BusinessValidationException(String.format(ErrorConstants.LOTE_EXCEDE_MAXIMO, batchMaxSize));
+            }
+            if (ledgerEngine.isPresent()) {
+                return postBatchToLedger(ledgerEngine.get(), dtos);
+            }
+            return transactionTemplate.execute(status -> postBatch(dtos));
+        });
+    }
+    
+    /**
+     * Aplica el lote dentro de una única transacción JDBC.
+     * Las cuentas se bloquean (FOR UPDATE, en orden de id) para que el saldo calculado en memoria
+     * sea consistente frente a posteos concurrentes; los INSERT se envían en lotes JDBC.
+     */
+    private BatchTransactionResponseDTO postBatch(List<CreateTransactionDTO> dtos) {
+        // Agrupar posiciones por cuenta preservando el orden de llegada
+        Map<String, List<Integer>> indicesPorCuenta = new LinkedHashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            indicesPorCuenta.computeIfAbsent(dtos.get(i).getAccountNumber(), k -> new ArrayList<>()).add(i);
+        }
+        
+        List<String> accountNumbers = indicesPorCuenta.keySet().stream()
+            .filter(Objects::nonNull)
+            .toList();
+        Map<String, Account> accounts = accountRepository.findByAccountNumberInForUpdate(accountNumbers).stream()
+            .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+        
+        BatchTransactionResultDTO[] results = new BatchTransactionResultDTO[dtos.size()];
+        List<Transaction> pendingTransactions = new ArrayList<>();
+        List<Integer> pendingIndices = new ArrayList<>();
+        
+        indicesPorCuenta.forEach((accountNumber, indices) -> {
+            Account account = accounts.get(accountNumber);
+            // Saldo de trabajo: cada movimiento parte del saldo resultante del anterior
+            Money saldo = account == null ? null : account.getCurrentBalance();
             
-            // Obtener estrategia apropiada usando Factory pattern
-            TransactionStrategy strategy = strategyFactory.getStrategy(dto.getTransactionType());
-            
-            // Procesar movimiento usando Strategy pattern
-            // Esto lanzará SaldoNoDisponibleException si no hay saldo (F3)
-            Transaction transaction = strategy.procesarTransaction(account, dto.getAmount());
-            
-            // Guardar cuenta actualizada y movimiento
-            accountRepository.save(transaction.getAccount());
-            Transaction savedTransaction = transactionRepository.save(transaction);
-            
-            log.info("Transaction creado exitosamente. ID: {}, Tipo: {}, Valor: {}, Nuevo saldo: {}", 
-                savedTransaction.getId(), 
-                savedTransaction.getTransactionType(),
-                savedTransaction.getAmount(),
-                savedTransaction.getBalance());
+            for (int index : indices) {
+                CreateTransactionDTO dto = dtos.get(index);
+                try {
+                    if (account == null) {
+                        throw new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA);
+                    }
+                    validarMovimiento(account, dto);
+                    
+                    TransactionStrategy strategy = strategyFactory.getStrategy(dto.getTransactionType());
+                    if (strategy instanceof TransferStrategy) {
+                        // Involucra una segunda cuenta que no está en el conjunto bloqueado del lote
+                        throw new BusinessValidationException(ErrorConstants.TRANSFERENCIA_NO_SOPORTADA);
+                    }
+                    Money amount = montoDe(dto);
+                    Money nuevoSaldo = calcularSaldo(strategy, saldo, amount);
+                    if (strategy.consumeCupoDiario()) {
+                        dailyWithdrawalLimiter.reservar(account, amount);
+                    }
+                    saldo = nuevoSaldo;
+                    
+                    pendingTransactions.add(Transaction.builder()
+                        .transactionType(strategy.getTransactionType())
+                        .amount(strategy.calcularDelta(amount))
+                        .balance(saldo)
+                        .account(account)
+                        .build());
+                    pendingIndices.add(index);
+                } catch (ResourceNotFoundException | BusinessValidationException | SaldoNoDisponibleException ex) {
+                    results[index] = BatchTransactionResultDTO.builder()
+                        .index(index)
+                        .accountNumber(accountNumber)
+                        .success(false)
+                        .error(ex.getMessage())
+                        .build();
+                }
+            }
             
-            return transactionMapper.toResponseDTO(savedTransaction);
-        }).subscribeOn(Schedulers.boundedElastic());
+            if (account != null && !account.getCurrentBalance().equals(saldo)) {
+                // Un único UPDATE por cuenta con el saldo final del lote
+                account.setCurrentBalance(saldo);
+            }
+        });
+        
+        List<Transaction> savedTransactions = transactionRepository.saveAll(pendingTransactions);
+        registrarAgregados(savedTransactions);
+        for (int i = 0; i < savedTransactions.size(); i++) {
+            int index = pendingIndices.get(i);
+            Transaction saved = savedTransactions.get(i);
+            results[index] = BatchTransactionResultDTO.builder()
+                .index(index)
+                .accountNumber(saved.getAccount().getAccountNumber())
+                .success(true)
+                .transaction(transactionMapper.toResponseDTO(saved))
+                .build();
+        }
+        
+        log.info("Lote procesado. Total: {}, Exitosos: {}, Fallidos: {}",
+            dtos.size(), savedTransactions.size(), dtos.size() - savedTransactions.size());
+        
+        return BatchTransactionResponseDTO.builder()
+            .total(dtos.size())
+            .succeeded(savedTransactions.size())
+            .failed(dtos.size() - savedTransactions.size())
+            .results(Arrays.asList(results))
+            .build();
+    }
+    
+    /**
+     * Envía un movimiento al ledger en memoria.
+     * El estado de la cuenta y el saldo se validan en el shard dueño de la cuenta;
+     * aquí solo se validan los datos del request y se resuelve la estrategia.
+     */
+    private CompletableFuture<LedgerEntry> submitToLedger(LedgerEngine engine, CreateTransactionDTO dto) {
+        validarValor(dto);
+        TransactionStrategy strategy = strategyFactory.getStrategy(dto.getTransactionType());
+        if (strategy instanceof TransferStrategy) {
+            // Las cuentas origen y destino pueden pertenecer a shards distintos
+            throw new BusinessValidationException(ErrorConstants.TRANSFERENCIA_NO_SOPORTADA);
+        }
+        return engine.submit(dto.getAccountNumber(), strategy, montoDe(dto));
+    }
+    
+    /**
+     * Aplica el lote a través del ledger: los ítems se encolan en orden, por lo que
+     * los movimientos de una misma cuenta se aplican en el orden recibido.
+     */
+    private BatchTransactionResponseDTO postBatchToLedger(LedgerEngine engine, List<CreateTransactionDTO> dtos) {
+        List<CompletableFuture<LedgerEntry>> futures = new ArrayList<>(dtos.size());
+        for (CreateTransactionDTO dto : dtos) {
+            try {
+                futures.add(submitToLedger(engine, dto));
+            } catch (RuntimeException ex) {
+                futures.add(CompletableFuture.failedFuture(ex));
+            }
+        }
+        
+        List<BatchTransactionResultDTO> results = new ArrayList<>(dtos.size());
+        int succeeded = 0;
+        for (int i = 0; i < dtos.size(); i++) {
+            BatchTransactionResultDTO.BatchTransactionResultDTOBuilder result = BatchTransactionResultDTO.builder()
+                .index(i)
+                .accountNumber(dtos.get(i).getAccountNumber());
+            try {
+                LedgerEntry entry = futures.get(i).join();
+                results.add(result.success(true).transaction(toResponseDTO(entry)).build());
+                succeeded++;
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                if (!(cause instanceof ResourceNotFoundException || cause instanceof BusinessValidationException
+                        || cause instanceof SaldoNoDisponibleException)) {
+                    throw ex;
+                }
+                results.add(result.success(false).error(cause.getMessage()).build());
+            }
+        }
+        
+        return BatchTransactionResponseDTO.builder()
+            .total(dtos.size())
+            .succeeded(succeeded)
+            .failed(dtos.size() - succeeded)
+            .results(results)
+            .build();
+    }
+    
+    /**
+     * Respuesta de un posteo aceptado por el ledger; el ID se asigna al volcarlo a la base
+     */
+    private TransactionResponseDTO toResponseDTO(LedgerEntry entry) {
+        return TransactionResponseDTO.builder()
+            .date(entry.date())
+            .transactionType(entry.transactionType().name())
+            .amount(entry.amount())
+            .balance(entry.balance())
+            .accountNumber(entry.accountNumber())
+            .build();
+    }
+    
+    /**
+     * Actualiza los cierres de saldo y los totales diarios con los movimientos recién guardados
+     * e invalida las cuentas y los reportes en caché de los clientes afectados
+     */
+    private void registrarAgregados(List<Transaction> savedTransactions) {
+        balanceHistoryService.registrarCierres(savedTransactions);
+        dailyRollupService.registrar(savedTransactions);
+        savedTransactions.forEach(transaction -> accountSnapshotCache.invalidar(transaction.getAccount().getAccountNumber()));
+        savedTransactions.stream()
+            .map(transaction -> transaction.getAccount().getClientId())
+            .distinct()
+            .forEach(reportCache::invalidar);
+        savedTransactions.forEach(transaction -> readYourWrites.recordWrite(
+            transaction.getAccount().getClientId(), transaction.getAccount().getAccountNumber()));
+    }
+    
+    /**
+     * Valor del movimiento en Money; fuera de DECIMAL(15,2) se rechaza como validación del movimiento
+     */
+    private static Money montoDe(CreateTransactionDTO dto) {
+        try {
+            return Money.of(dto.getAmount());
+        } catch (ArithmeticException ex) {
+            throw new BusinessValidationException(ErrorConstants.VALOR_FUERA_DE_RANGO);
+        }
+    }
+    
+    /**
+     * Saldo resultante del movimiento; un desborde de DECIMAL(15,2) falla solo el ítem del lote
+     */
+    private static Money calcularSaldo(TransactionStrategy strategy, Money saldo, Money amount) {
+        try {
+            return strategy.calcularSaldo(saldo, amount);
+        } catch (ArithmeticException ex) {
+            throw new BusinessValidationException(ErrorConstants.VALOR_FUERA_DE_RANGO);
+        }
     }
     
     /**
-     * Obtiene transactions por cuenta
+     * Validaciones comunes de un movimiento sobre una cuenta
+     */
+    private void validarMovimiento(Account account, CreateTransactionDTO dto) {
+        // Validar que la cuenta esté activa
+        if (!"ACTIVO".equals(account.getStatus().getCode())) {
+            throw new BusinessValidationException(ErrorConstants.CUENTA_INACTIVA);
+        }
+        
+        validarValor(dto);
+    }
+    
+    /**
+     * El valor debe ser positivo una vez redondeado a centavos: 0.004 se postearía como 0.00
+     */
+    private static void validarValor(CreateTransactionDTO dto) {
+        if (dto.getAmount() == null || !montoDe(dto).isPositive()) {
+            throw new BusinessValidationException(ErrorConstants.VALOR_MOVIMIENTO_INVALIDO);
+        }
+    }
+    
+    /**
+     * Obtiene una página del historial de la cuenta, del movimiento más reciente al más antiguo
+     * @param pageToken token de continuación de la página anterior (null para la primera)
+     * @param size tamaño de página (null para el tamaño por defecto)
      */
     @Transactional(readOnly = true)
-    public Flux<TransactionResponseDTO> getTransactionsByAccount(String accountNumber) {
-        log.debug("Obteniendo transactions para cuenta: {}", accountNumber);
+    public Mono<PageDTO<TransactionResponseDTO>> getTransactionsByAccount(String accountNumber, String pageToken,
+                                                                         Integer size) {
+        log.debug("Obteniendo página de transactions para cuenta: {}", accountNumber);
+        if (reactiveAccountStore.isPresent()) {
+            return getTransactionsByAccount(reactiveAccountStore.get(), accountNumber, pageToken, size);
+        }
         
-        return Mono.fromCallable(() -> {
-            Account account = accountRepository.findByAccountNumber(accountNumber)
+        return jdbcBulkhead.read(readYourWrites.guard(accountNumber, () -> {
+            int limit = paginationProperties.resolveSize(size);
+            Account account = accountSnapshotCache.find(accountNumber, accountRepository::findByAccountNumber)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA));
-            return transactionRepository.findByAccountIdOrderByDateDesc(account.getId())
-                .stream()
-                .map(transactionMapper::toResponseDTO)
-                .toList();
-        }).subscribeOn(Schedulers.boundedElastic())
-          .flatMapMany(Flux::fromIterable);
+            // El token queda ligado a la cuenta: no sirve para continuar el historial de otra
+            String scope = HISTORY_PAGE_SCOPE + account.getId();
+            List<TransactionView> rows;
+            if (pageToken == null) {
+                rows = transactionRepository.findHistoryViewPage(account.getId(), Limit.of(limit + 1));
+            } else {
+                PageToken.Position after = PageToken.dateAndIdOf(scope, pageToken);
+                rows = transactionRepository.findHistoryViewPageBefore(
+                    account.getId(), after.date(), after.id(), Limit.of(limit + 1));
+            }
+            return PageDTO.of(rows, limit, transactionMapper::toResponseDTO,
+                transaction -> PageToken.ofDateAndId(scope, transaction.date(), transaction.id()));
+        }));
+    }
+    
+    /**
+     * Página del historial sobre el adaptador R2DBC, con el mismo token que la versión JPA
+     */
+    private Mono<PageDTO<TransactionResponseDTO>> getTransactionsByAccount(ReactiveAccountStore store,
+                                                                          String accountNumber, String pageToken,
+                                                                          Integer size) {
+        return Mono.defer(() -> {
+            int limit = paginationProperties.resolveSize(size);
+            return accountSnapshotCache.findReactive(accountNumber, store::findAccount)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA)))
+                .flatMap(account -> {
+                    String scope = HISTORY_PAGE_SCOPE + account.getId();
+                    Flux<Transaction> rows;
+                    if (pageToken == null) {
+                        rows = store.findHistoryPage(account.getId(), limit + 1);
+                    } else {
+                        PageToken.Position after = PageToken.dateAndIdOf(scope, pageToken);
+                        rows = store.findHistoryPageBefore(account.getId(), after.date(), after.id(), limit + 1);
+                    }
+                    return rows.collectList().map(page -> PageDTO.of(page, limit, transactionMapper::toResponseDTO,
+                        transaction -> PageToken.ofDateAndId(scope, transaction.getDate(), transaction.getId())));
+                });
+        });
+    }
+    
+    /**
+     * Recorre el historial completo de la cuenta, del movimiento más reciente al más antiguo
+     */
+    public Flux<TransactionResponseDTO> streamTransactionsByAccount(String accountNumber) {
+        log.debug("Recorriendo transactions de la cuenta {} en streaming", accountNumber);
+        if (reactiveAccountStore.isPresent()) {
+            ReactiveAccountStore store = reactiveAccountStore.get();
+            return accountSnapshotCache.findReactive(accountNumber, store::findAccount)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA)))
+                .flatMapMany(account -> store.streamHistory(account.getId()))
+                .map(transactionMapper::toResponseDTO);
+        }
+        return jdbcBulkhead.read(() -> accountSnapshotCache.find(accountNumber, accountRepository::findByAccountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA)))
+            .flatMapMany(account -> entityStreamReader.stream(STREAM_ACCOUNT_HISTORY, TransactionView.class,
+                Map.of("cuentaId", account.getId()), transactionMapper::toResponseDTO));
     }
     
     /**
@@ -132,12 +755,17 @@ public class TransactionService {
     public Mono<Void> deleteTransaction(Long id) {
         log.debug("Eliminando movimiento con ID: {}", id);
         
-        return Mono.fromRunnable(() -> {
-            Transaction transaction = transactionRepository.findById(id)
+        return jdbcBulkhead.write(() -> transactionTemplate.executeWithoutResult(status -> {
+            Transaction transaction = transactionRepository.findWithAccountById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.MOVIMIENTO_NO_ENCONTRADO));
             
             transactionRepository.delete(transaction);
+            // El total del día se descuenta en la misma transacción que el DELETE
+            dailyRollupService.descontar(transaction);
+            reportCache.invalidar(transaction.getAccount().getClientId());
+            readYourWrites.recordWrite(transaction.getAccount().getClientId(),
+                transaction.getAccount().getAccountNumber());
             log.info("Transaction eliminado exitosamente con ID: {}", id);
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        }));
     }
 }
@@ -1,11 +1,10 @@
 package com.nttdata.account.application.strategy;
 
+import com.nttdata.common.money.Money;
 import com.nttdata.shared.domain.model.Account;
 import com.nttdata.shared.domain.model.Transaction;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-
 /**
  * Estrategia para procesar depósitos
  * Patrón: Strategy (implementación concreta)
@@ -14,9 +13,9 @@ import java.math.BigDecimal;
 public class DepositStrategy implements TransactionStrategy {
     
     @Override
-    public Transaction procesarTransaction(Account account, BigDecimal amount) {
+    public Transaction procesarTransaction(Account account, Money amount) {
         // Calcular nuevo saldo
-        BigDecimal nuevoSaldo = account.getCurrentBalance().add(amount);
+        Money nuevoSaldo = calcularSaldo(account.getCurrentBalance(), amount);
         
         // Actualizar saldo de la cuenta usando Builder
         Account updatedAccount = account.toBuilder()
@@ -33,8 +32,23 @@ public class DepositStrategy implements TransactionStrategy {
     }
     
     @Override
-    public boolean validarTransaction(Account account, BigDecimal amount) {
+    public Money calcularSaldo(Money saldoActual, Money amount) {
+        return saldoActual.add(amount);
+    }
+    
+    @Override
+    public boolean validarTransaction(Account account, Money amount) {
         // Los depósitos siempre son válidos si el valor es positivo
-        return amount.compareTo(BigDecimal.ZERO) > 0;
+        return amount.isPositive();
+    }
+    
+    @Override
+    public Transaction.TransactionType getTransactionType() {
+        return Transaction.TransactionType.DEPOSITO;
+    }
+    
+    @Override
+    public Money calcularDelta(Money amount) {
+        return amount;
     }
 }
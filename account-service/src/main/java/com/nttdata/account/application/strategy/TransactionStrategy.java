@@ -1,10 +1,9 @@
 package com.nttdata.account.application.strategy;
 
+import com.nttdata.common.money.Money;
 import com.nttdata.shared.domain.model.Account;
 import com.nttdata.shared.domain.model.Transaction;
 
-import java.math.BigDecimal;
-
 /**
  * Interfaz para estrategias de procesamiento de transactions
  * Patrón: Strategy
@@ -18,7 +17,16 @@ public interface TransactionStrategy {
      * @return movimiento creado
      * @throws com.nttdata.common.exception.SaldoNoDisponibleException si no hay saldo suficiente
      */
-    Transaction procesarTransaction(Account account, BigDecimal amount);
+    Transaction procesarTransaction(Account account, Money amount);
+    
+    /**
+     * Calcula el saldo resultante del movimiento sin crear entidades (camino de alto volumen)
+     * @param saldoActual saldo de la cuenta antes del movimiento
+     * @param amount valor del movimiento
+     * @return saldo después del movimiento
+     * @throws com.nttdata.common.exception.SaldoNoDisponibleException si no hay saldo suficiente
+     */
+    Money calcularSaldo(Money saldoActual, Money amount);
     
     /**
      * Valida si el movimiento puede ser procesado
@@ -26,5 +34,26 @@ public interface TransactionStrategy {
      * @param valor valor del movimiento
      * @return true si el movimiento es válido
      */
-    boolean validarTransaction(Account account, BigDecimal amount);
+    boolean validarTransaction(Account account, Money amount);
+    
+    /**
+     * Tipo de movimiento que genera la estrategia
+     * @return tipo de movimiento
+     */
+    Transaction.TransactionType getTransactionType();
+    
+    /**
+     * Calcula la variación con signo que el movimiento aplica sobre el saldo
+     * @param amount valor del movimiento
+     * @return variación a sumar al saldo (negativa para retiros)
+     */
+    Money calcularDelta(Money amount);
+    
+    /**
+     * Indica si el movimiento descuenta del cupo diario de retiros de la cuenta
+     * @return true si el monto se suma al total retirado en el día
+     */
+    default boolean consumeCupoDiario() {
+        return false;
+    }
 }
@@ -0,0 +1,69 @@
+package com.nttdata.account.application.strategy;
+
+import com.nttdata.common.constants.ErrorConstants;
+import com.nttdata.common.exception.SaldoNoDisponibleException;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.Transaction;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estrategia para procesar transferencias entre cuentas
+ * Los métodos de TransactionStrategy describen el lado de origen (débito);
+ * el lado de destino (crédito) se calcula con calcularSaldoDestino.
+ * Patrón: Strategy (implementación concreta)
+ */
+@Component
+public class TransferStrategy implements TransactionStrategy {
+    
+    @Override
+    public Transaction procesarTransaction(Account account, Money amount) {
+        // Validar saldo y calcular nuevo saldo de la cuenta origen
+        Money nuevoSaldo = calcularSaldo(account.getCurrentBalance(), amount);
+        
+        // Actualizar saldo de la cuenta usando Builder
+        Account updatedAccount = account.toBuilder()
+            .currentBalance(nuevoSaldo)
+            .build();
+        
+        // Movimiento de débito con valor negativo
+        return Transaction.builder()
+            .transactionType(Transaction.TransactionType.TRANSFERENCIA)
+            .amount(amount.negate())
+            .balance(nuevoSaldo)
+            .account(updatedAccount)
+            .build();
+    }
+    
+    @Override
+    public Money calcularSaldo(Money saldoActual, Money amount) {
+        // La cuenta origen debe tener saldo suficiente
+        if (!amount.isPositive() || saldoActual.isLessThan(amount)) {
+            throw new SaldoNoDisponibleException(ErrorConstants.SALDO_NO_DISPONIBLE);
+        }
+        return saldoActual.subtract(amount);
+    }
+    
+    /**
+     * Calcula el saldo de la cuenta destino después de acreditar la transferencia
+     */
+    public Money calcularSaldoDestino(Money saldoActual, Money amount) {
+        return saldoActual.add(amount);
+    }
+    
+    @Override
+    public boolean validarTransaction(Account account, Money amount) {
+        return amount.isPositive() && !account.getCurrentBalance().isLessThan(amount);
+    }
+    
+    @Override
+    public Transaction.TransactionType getTransactionType() {
+        return Transaction.TransactionType.TRANSFERENCIA;
+    }
+    
+    @Override
+    public Money calcularDelta(Money amount) {
+        // Variación sobre la cuenta origen
+        return amount.negate();
+    }
+}
@@ -2,12 +2,11 @@ package com.nttdata.account.application.strategy;
 
 import com.nttdata.common.constants.ErrorConstants;
 import com.nttdata.common.exception.SaldoNoDisponibleException;
+import com.nttdata.common.money.Money;
 import com.nttdata.shared.domain.model.Account;
 import com.nttdata.shared.domain.model.Transaction;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-
 /**
  * Estrategia para procesar retiros
  * Patrón: Strategy (implementación concreta)
@@ -16,14 +15,9 @@ import java.math.BigDecimal;
 public class WithdrawalStrategy implements TransactionStrategy {
     
     @Override
-    public Transaction procesarTransaction(Account account, BigDecimal amount) {
-        // Validar que hay saldo suficiente
-        if (!validarTransaction(account, amount)) {
-            throw new SaldoNoDisponibleException(ErrorConstants.SALDO_NO_DISPONIBLE);
-        }
-        
-        // Calcular nuevo saldo (restar el amount)
-        BigDecimal nuevoSaldo = account.getCurrentBalance().subtract(amount);
+    public Transaction procesarTransaction(Account account, Money amount) {
+        // Validar saldo y calcular nuevo saldo (restar el amount)
+        Money nuevoSaldo = calcularSaldo(account.getCurrentBalance(), amount);
         
         // Actualizar saldo de la cuenta usando Builder
         Account updatedAccount = account.toBuilder()
@@ -40,9 +34,34 @@ public class WithdrawalStrategy implements TransactionStrategy {
     }
     
     @Override
-    public boolean validarTransaction(Account account, BigDecimal amount) {
+    public Money calcularSaldo(Money saldoActual, Money amount) {
+        // Validar que el valor sea positivo y que haya saldo suficiente
+        if (!amount.isPositive() || saldoActual.isLessThan(amount)) {
+            throw new SaldoNoDisponibleException(ErrorConstants.SALDO_NO_DISPONIBLE);
+        }
+        return saldoActual.subtract(amount);
+    }
+    
+    @Override
+    public boolean validarTransaction(Account account, Money amount) {
         // Validar que el valor sea positivo y que haya saldo suficiente
-        return amount.compareTo(BigDecimal.ZERO) > 0 && 
-               account.getCurrentBalance().compareTo(amount) >= 0;
+        return amount.isPositive() && !account.getCurrentBalance().isLessThan(amount);
+    }
+    
+    @Override
+    public Transaction.TransactionType getTransactionType() {
+        return Transaction.TransactionType.RETIRO;
+    }
+    
+    @Override
+    public Money calcularDelta(Money amount) {
+        // Valor negativo para retiros
+        return amount.negate();
+    }
+    
+    @Override
+    public boolean consumeCupoDiario() {
+        // Los retiros están sujetos al cupo diario del tipo de cuenta
+        return true;
     }
 }
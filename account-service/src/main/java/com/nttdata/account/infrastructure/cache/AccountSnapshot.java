@@ -0,0 +1,65 @@
+package com.nttdata.account.infrastructure.cache;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.AccountType;
+import com.nttdata.shared.domain.model.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * Copia inmutable de una cuenta con su tipo y estado, tal como se leyó de la base
+ */
+record AccountSnapshot(
+    Long id,
+    String accountNumber,
+    Long accountTypeId,
+    String accountTypeCode,
+    String accountTypeDescription,
+    Money initialBalance,
+    Money currentBalance,
+    Long statusId,
+    String statusCode,
+    String statusDescription,
+    String clientId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    
+    static AccountSnapshot of(Account account) {
+        AccountType accountType = account.getAccountType();
+        Status status = account.getStatus();
+        return new AccountSnapshot(
+            account.getId(),
+            account.getAccountNumber(),
+            accountType.getId(),
+            accountType.getCode(),
+            accountType.getDescription(),
+            account.getInitialBalance(),
+            account.getCurrentBalance(),
+            status.getId(),
+            status.getCode(),
+            status.getDescription(),
+            account.getClientId(),
+            account.getCreatedAt(),
+            account.getUpdatedAt()
+        );
+    }
+    
+    /**
+     * Entidad desacoplada del contexto de persistencia; cada llamada devuelve una instancia nueva
+     */
+    Account toAccount() {
+        return Account.builder()
+            .id(id)
+            .accountNumber(accountNumber)
+            .accountType(new AccountType(accountTypeId, accountTypeCode, accountTypeDescription, true))
+            .initialBalance(initialBalance)
+            .currentBalance(currentBalance)
+            .status(new Status(statusId, statusCode, statusDescription, true))
+            .clientId(clientId)
+            .createdAt(createdAt)
+            .updatedAt(updatedAt)
+            .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.nttdata.account.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nttdata.shared.domain.model.Account;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Caché de lectura de cuentas por número, con tipo y estado resueltos
+ * Guarda copias inmutables acotadas por cantidad y por vigencia; cada lectura devuelve una entidad
+ * nueva y desacoplada. Las cuentas inexistentes no se guardan.
+ * Los servicios la usan para resolver la cuenta (id, cliente, tipo y estado) y mostrarla;
+ * el control de saldo nunca la consulta: los retiros validan el saldo en el UPDATE condicional
+ * y las transferencias lo leen con FOR UPDATE.
+ * Cada escritura que modifica una cuenta la invalida al ejecutarse y otra vez al confirmarse la
+ * transacción. Una carga en curso durante la invalidación se descarta: las lecturas que ya la
+ * esperaban reciben ese valor, pero no queda guardado.
+ */
+@Component
+public class AccountSnapshotCache {
+
+    private final AccountSnapshotCacheProperties properties;
+    private final AsyncCache<String, AccountSnapshot> snapshots;
+
+    public AccountSnapshotCache(AccountSnapshotCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.snapshots = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .buildAsync();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots.synchronous(), "accounts");
+    }
+
+    /**
+     * Cuenta guardada o leída con el loader (bloqueante, JPA); las lecturas concurrentes de la misma
+     * cuenta comparten una sola consulta
+     */
+    public Optional<Account> find(String accountNumber, Function<String, Optional<Account>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(accountNumber);
+        }
+        // La consulta corre fuera del compute del mapa: dentro de su lock (synchronized) fijaría el hilo
+        // virtual a su carrier y bloquearía las demás claves del mismo bucket mientras dure la consulta
+        CompletableFuture<AccountSnapshot> loading = new CompletableFuture<>();
+        CompletableFuture<AccountSnapshot> snapshot = snapshots.get(accountNumber, (key, executor) -> loading);
+        if (snapshot == loading) {
+            try {
+                loading.complete(loader.apply(accountNumber).map(AccountSnapshot::of).orElse(null));
+            } catch (RuntimeException ex) {
+                loading.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        return Optional.ofNullable(snapshot.join()).map(AccountSnapshot::toAccount);
+    }
+
+    /**
+     * Cuenta guardada o leída con el loader reactivo (R2DBC)
+     */
+    public Mono<Account> findReactive(String accountNumber, Function<String, Mono<Account>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(accountNumber);
+        }
+        // La carga no depende del suscriptor: si uno cancela, los demás siguen esperándola
+        return Mono.fromFuture(() -> snapshots.get(accountNumber, (key, executor) ->
+                loader.apply(key).map(AccountSnapshot::of).toFuture()), true)
+            .map(AccountSnapshot::toAccount);
+    }
+
+    /**
+     * Descarta la cuenta ahora y, si hay una transacción en curso, también al confirmarse
+     */
+    public void invalidar(String accountNumber) {
+        if (!properties.isEnabled() || accountNumber == null) {
+            return;
+        }
+        snapshots.synchronous().invalidate(accountNumber);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.synchronous().invalidate(accountNumber);
+                }
+            });
+        }
+    }
+
+    public void invalidar(Collection<String> accountNumbers) {
+        accountNumbers.forEach(this::invalidar);
+    }
+}
@@ -0,0 +1,25 @@
+package com.nttdata.account.infrastructure.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la caché de cuentas por número (account.snapshot-cache.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.snapshot-cache")
+public class AccountSnapshotCacheProperties {
+    
+    /** Activa la caché de cuentas */
+    private boolean enabled = true;
+    
+    /** Máximo de cuentas retenidas en memoria */
+    private long maximumSize = 50_000;
+    
+    /** Vigencia máxima de una cuenta; acota cambios que no pasan por esta instancia (otras réplicas) */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -1,18 +1,26 @@
 package com.nttdata.account.infrastructure.controller;
 
+import com.nttdata.account.application.dto.AccountBalanceDTO;
 import com.nttdata.account.application.dto.AccountResponseDTO;
 import com.nttdata.account.application.dto.CreateAccountDTO;
 import com.nttdata.account.application.service.AccountService;
+import com.nttdata.account.application.service.BalanceHistoryService;
+import com.nttdata.account.infrastructure.pagination.PageResponses;
 import com.nttdata.common.constants.ApiConstants;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Controlador REST para gestión de accounts
  * Endpoints: /api/accounts
@@ -25,15 +33,30 @@ import reactor.core.publisher.Mono;
 public class AccountController {
     
     private final AccountService accountService;
+    private final BalanceHistoryService balanceHistoryService;
+    
+    /**
+     * GET /api/accounts?pageToken=...&size=50
+     * Obtiene una página de accounts; la cabecera X-Next-Page-Token trae el token de la siguiente
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<AccountResponseDTO>>> getAllAccounts(
+            @RequestParam(name = ApiConstants.PAGE_TOKEN_PARAM, required = false) String pageToken,
+            @RequestParam(name = ApiConstants.PAGE_SIZE_PARAM, required = false) Integer size) {
+        log.info("GET /accounts - Obteniendo página de accounts");
+        return accountService.getAllAccounts(pageToken, size)
+            .map(PageResponses::toResponseEntity);
+    }
     
     /**
      * GET /api/accounts
-     * Obtiene todas las accounts
+     * Accept: application/x-ndjson
+     * Recorre todas las accounts en streaming, un objeto JSON por línea
      */
-    @GetMapping
-    public Flux<AccountResponseDTO> getAllAccounts() {
-        log.info("GET /accounts - Obteniendo todas las accounts");
-        return accountService.getAllAccounts();
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AccountResponseDTO> streamAllAccounts() {
+        log.info("GET /accounts - Exportando todas las accounts en NDJSON");
+        return accountService.streamAllAccounts();
     }
     
     /**
@@ -46,6 +69,19 @@ public class AccountController {
         return accountService.getAccountByNumero(accountNumber);
     }
     
+    /**
+     * GET /api/accounts/{accountNumber}/balance?at=2024-01-15T10:30:00
+     * Obtiene el saldo de la cuenta a una fecha (sin fecha, el saldo actual)
+     */
+    @GetMapping("/{accountNumber}/balance")
+    public Mono<AccountBalanceDTO> getBalanceAt(
+            @PathVariable String accountNumber,
+            @RequestParam(name = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        log.info("GET /accounts/{}/balance - Obteniendo saldo al {}", accountNumber, at);
+        return balanceHistoryService.getBalanceAt(accountNumber, at);
+    }
+    
     /**
      * GET /api/accounts/cliente/{clientId}
      * Obtiene accounts por cliente
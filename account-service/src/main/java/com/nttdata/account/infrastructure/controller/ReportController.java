@@ -1,11 +1,23 @@
 package com.nttdata.account.infrastructure.controller;
 
 import com.nttdata.account.application.dto.AccountStatementReportDTO;
+import com.nttdata.account.application.dto.ReportJobDTO;
+import com.nttdata.account.application.dto.StatementRowDTO;
 import com.nttdata.account.application.service.ReportService;
 import com.nttdata.common.constants.ApiConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -22,6 +34,8 @@ import java.time.LocalDateTime;
 @Slf4j
 public class ReportController {
     
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    
     private final ReportService reporteService;
     
     /**
@@ -35,7 +49,133 @@ public class ReportController {
         
         log.info("GET /reports - Generando reporte para cliente: {} con rango: {}", clientId, dateRange);
         
-        // Parsear rango de fechas (formato: "2022-02-08,2022-02-10")
+        LocalDateTime[] rango = parsearRango(dateRange);
+        return reporteService.generarReport(clientId, rango[0], rango[1]);
+    }
+    
+    /**
+     * GET /api/reports/export?fecha=2022-02-08,2022-02-10&cliente={clientId}
+     * Accept: application/x-ndjson
+     * Exporta los movimientos en streaming, un objeto JSON por línea
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<StatementRowDTO> exportarNdjson(
+            @RequestParam(name = "fecha") String dateRange,
+            @RequestParam(name = "cliente") String clientId) {
+        
+        log.info("GET /reports/export - Exportando NDJSON para cliente: {} con rango: {}", clientId, dateRange);
+        
+        LocalDateTime[] rango = parsearRango(dateRange);
+        return reporteService.exportarMovimientos(clientId, rango[0], rango[1]);
+    }
+    
+    /**
+     * GET /api/reports/export?fecha=2022-02-08,2022-02-10&cliente={clientId}
+     * Accept: text/csv
+     * Exporta los movimientos en streaming como CSV con encabezado
+     */
+    @GetMapping(value = "/export", produces = TEXT_CSV_VALUE)
+    public Flux<String> exportarCsv(
+            @RequestParam(name = "fecha") String dateRange,
+            @RequestParam(name = "cliente") String clientId) {
+        
+        log.info("GET /reports/export - Exportando CSV para cliente: {} con rango: {}", clientId, dateRange);
+        
+        LocalDateTime[] rango = parsearRango(dateRange);
+        return reporteService.exportarMovimientos(clientId, rango[0], rango[1])
+            .map(StatementRowDTO::toCsvLine)
+            // El encabezado se escribe recién con la primera señal: un error de validación no deja la respuesta a medias
+            .switchOnFirst((first, lines) -> first.isOnError() ? lines : lines.startWith(StatementRowDTO.CSV_HEADER));
+    }
+    
+    /**
+     * GET /api/reports/pdf?fecha=2022-02-08,2022-02-10&cliente={clientId}
+     * Accept: application/pdf
+     * Estado de cuenta en PDF, generado en streaming
+     */
+    @GetMapping(value = "/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> generarPdf(
+            @RequestParam(name = "fecha") String dateRange,
+            @RequestParam(name = "cliente") String clientId) {
+        
+        log.info("GET /reports/pdf - Generando PDF para cliente: {} con rango: {}", clientId, dateRange);
+        
+        LocalDateTime[] rango = parsearRango(dateRange);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline().filename("estado-cuenta.pdf").build().toString())
+            .body(reporteService.generarPdf(clientId, rango[0], rango[1], false));
+    }
+    
+    /**
+     * GET /api/reports/pdf?fecha=2022-02-08,2022-02-10&cliente={clientId}
+     * Accept: application/json
+     * Estado de cuenta en PDF codificado en base64 dentro de un objeto JSON
+     */
+    @GetMapping(value = "/pdf", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<DataBuffer> generarPdfBase64(
+            @RequestParam(name = "fecha") String dateRange,
+            @RequestParam(name = "cliente") String clientId) {
+        
+        log.info("GET /reports/pdf - Generando PDF base64 para cliente: {} con rango: {}", clientId, dateRange);
+        
+        LocalDateTime[] rango = parsearRango(dateRange);
+        return reporteService.generarPdf(clientId, rango[0], rango[1], true);
+    }
+    
+    /**
+     * POST /api/reports/jobs?fecha=2022-02-08,2022-02-10&cliente={clientId}&formato=csv&prioridad=ALTA
+     * Encola el estado de cuenta para generarlo en segundo plano y responde de inmediato con el ID
+     */
+    @PostMapping("/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<ReportJobDTO> crearJob(
+            @RequestParam(name = "fecha") String dateRange,
+            @RequestParam(name = "cliente") String clientId,
+            @RequestParam(name = "formato", defaultValue = "ndjson") String formato,
+            @RequestParam(name = "prioridad", defaultValue = "NORMAL") String prioridad) {
+        
+        log.info("POST /reports/jobs - Encolando reporte para cliente: {} con rango: {}", clientId, dateRange);
+        
+        LocalDateTime[] rango = parsearRango(dateRange);
+        return reporteService.crearJob(clientId, rango[0], rango[1], formato, prioridad);
+    }
+    
+    /**
+     * GET /api/reports/jobs/{id}
+     * Estado y avance del reporte; al completarse incluye la ruta de descarga
+     */
+    @GetMapping("/jobs/{id}")
+    public Mono<ReportJobDTO> consultarJob(@PathVariable String id) {
+        log.debug("GET /reports/jobs/{} - Consultando reporte", id);
+        return reporteService.consultarJob(id);
+    }
+    
+    /**
+     * GET /api/reports/jobs/{id}/result
+     * Descarga el archivo generado; el servidor lo envía directamente desde el disco (zero-copy)
+     */
+    @GetMapping("/jobs/{id}/result")
+    public Mono<Void> descargarJob(@PathVariable String id, ServerHttpResponse response) {
+        log.info("GET /reports/jobs/{}/result - Descargando reporte", id);
+        
+        return reporteService.resultadoJob(id).flatMap(job -> {
+            long size = job.getFile().toFile().length();
+            response.getHeaders().setContentType(MediaType.parseMediaType(job.getFormat().getMediaType()));
+            response.getHeaders().setContentLength(size);
+            response.getHeaders().setContentDisposition(ContentDisposition.attachment()
+                .filename("estado-cuenta-" + job.getId() + "." + job.getFormat().getExtension())
+                .build());
+            if (response instanceof ZeroCopyHttpOutputMessage zeroCopy) {
+                return zeroCopy.writeWith(job.getFile(), 0, size);
+            }
+            return response.writeWith(DataBufferUtils.read(job.getFile(), response.bufferFactory(), 64 * 1024));
+        });
+    }
+    
+    /**
+     * Parsea el rango de fechas (formato: "2022-02-08,2022-02-10") a inicio y fin de día
+     */
+    private static LocalDateTime[] parsearRango(String dateRange) {
         String[] fechas = dateRange.split(",");
         if (fechas.length != 2) {
             throw new IllegalArgumentException("El formato de fecha debe ser: YYYY-MM-DD,YYYY-MM-DD");
@@ -43,7 +183,6 @@ public class ReportController {
         
         LocalDateTime startDate = LocalDateTime.parse(fechas[0] + "T00:00:00");
         LocalDateTime endDate = LocalDateTime.parse(fechas[1] + "T23:59:59");
-        
-        return reporteService.generarReport(clientId, startDate, endDate);
+        return new LocalDateTime[] {startDate, endDate};
     }
 }
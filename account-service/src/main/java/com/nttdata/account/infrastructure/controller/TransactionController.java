@@ -1,18 +1,24 @@
 package com.nttdata.account.infrastructure.controller;
 
+import com.nttdata.account.application.dto.BatchTransactionResponseDTO;
 import com.nttdata.account.application.dto.CreateTransactionDTO;
 import com.nttdata.account.application.dto.TransactionResponseDTO;
 import com.nttdata.account.application.service.TransactionService;
+import com.nttdata.account.infrastructure.pagination.PageResponses;
 import com.nttdata.common.constants.ApiConstants;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Controlador REST para gestión de transactions
  * Endpoints: /api/transactions
@@ -20,20 +26,35 @@ import reactor.core.publisher.Mono;
  */
 @RestController
 @RequestMapping(ApiConstants.MOVIMIENTOS_PATH)
+@Validated
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionController {
     
     private final TransactionService transactionService;
     
+    /**
+     * GET /api/transactions?pageToken=...&size=50
+     * Obtiene una página de transactions; la cabecera X-Next-Page-Token trae el token de la siguiente
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<TransactionResponseDTO>>> getAllTransactions(
+            @RequestParam(name = ApiConstants.PAGE_TOKEN_PARAM, required = false) String pageToken,
+            @RequestParam(name = ApiConstants.PAGE_SIZE_PARAM, required = false) Integer size) {
+        log.info("GET /transactions - Obteniendo página de transactions");
+        return transactionService.getAllTransactions(pageToken, size)
+            .map(PageResponses::toResponseEntity);
+    }
+    
     /**
      * GET /api/transactions
-     * Obtiene todos los transactions
+     * Accept: application/x-ndjson
+     * Recorre todos los transactions en streaming, un objeto JSON por línea
      */
-    @GetMapping
-    public Flux<TransactionResponseDTO> getAllTransactions() {
-        log.info("GET /transactions - Obteniendo todos los transactions");
-        return transactionService.getAllTransactions();
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TransactionResponseDTO> streamAllTransactions() {
+        log.info("GET /transactions - Exportando todos los transactions en NDJSON");
+        return transactionService.streamAllTransactions();
     }
     
     /**
@@ -47,24 +68,53 @@ public class TransactionController {
     }
     
     /**
-     * GET /api/transactions/cuenta/{accountNumber}
-     * Obtiene transactions por cuenta
+     * GET /api/transactions/cuenta/{accountNumber}?pageToken=...&size=50
+     * Obtiene una página del historial de la cuenta, del más reciente al más antiguo
      */
-    @GetMapping("/cuenta/{accountNumber}")
-    public Flux<TransactionResponseDTO> getTransactionsByAccount(@PathVariable String accountNumber) {
+    @GetMapping(value = "/cuenta/{accountNumber}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<TransactionResponseDTO>>> getTransactionsByAccount(
+            @PathVariable String accountNumber,
+            @RequestParam(name = ApiConstants.PAGE_TOKEN_PARAM, required = false) String pageToken,
+            @RequestParam(name = ApiConstants.PAGE_SIZE_PARAM, required = false) Integer size) {
         log.info("GET /transactions/cuenta/{} - Obteniendo transactions de la cuenta", accountNumber);
-        return transactionService.getTransactionsByAccount(accountNumber);
+        return transactionService.getTransactionsByAccount(accountNumber, pageToken, size)
+            .map(PageResponses::toResponseEntity);
+    }
+    
+    /**
+     * GET /api/transactions/cuenta/{accountNumber}
+     * Accept: application/x-ndjson
+     * Recorre el historial completo de la cuenta en streaming, del más reciente al más antiguo
+     */
+    @GetMapping(value = "/cuenta/{accountNumber}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TransactionResponseDTO> streamTransactionsByAccount(@PathVariable String accountNumber) {
+        log.info("GET /transactions/cuenta/{} - Exportando historial de la cuenta en NDJSON", accountNumber);
+        return transactionService.streamTransactionsByAccount(accountNumber);
     }
     
     /**
      * POST /api/transactions
-     * Crea un nuevo movimiento
+     * Crea un nuevo movimiento; con la cabecera Idempotency-Key los reintentos no duplican el posteo
      */
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Mono<TransactionResponseDTO> createTransaction(@Valid @RequestBody CreateTransactionDTO dto) {
+    public Mono<TransactionResponseDTO> createTransaction(
+            @Valid @RequestBody CreateTransactionDTO dto,
+            @RequestHeader(value = ApiConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         log.info("POST /transactions - Creando nuevo movimiento");
-        return transactionService.createTransaction(dto);
+        return transactionService.createTransaction(dto, idempotencyKey);
+    }
+    
+    /**
+     * POST /api/transactions/batch
+     * Registra un lote de movimientos y reporta el resultado de cada ítem
+     * Cada ítem se valida como el body de POST /transactions; un ítem inválido rechaza el lote con 400
+     */
+    @PostMapping("/batch")
+    public Mono<BatchTransactionResponseDTO> createTransactionsBatch(
+            @RequestBody List<@Valid CreateTransactionDTO> dtos) {
+        log.info("POST /transactions/batch - Procesando lote de {} movimientos", dtos.size());
+        return transactionService.createTransactionsBatch(dtos);
     }
     
     /**
@@ -4,8 +4,10 @@ import com.nttdata.common.constants.ApiConstants;
 import com.nttdata.common.constants.ErrorConstants;
 import com.nttdata.common.dto.ErrorResponseDTO;
 import com.nttdata.common.exception.BusinessValidationException;
+import com.nttdata.common.exception.CupoDiarioExcedidoException;
 import com.nttdata.common.exception.ResourceNotFoundException;
 import com.nttdata.common.exception.SaldoNoDisponibleException;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +22,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Manejador global de excepciones adaptado para Spring WebFlux
@@ -72,6 +75,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
     
+    /**
+     * Maneja excepciones de cupo diario de retiro excedido
+     */
+    @ExceptionHandler(CupoDiarioExcedidoException.class)
+    public ResponseEntity<ErrorResponseDTO> handleCupoDiarioExcedidoException(
+            CupoDiarioExcedidoException ex,
+            ServerHttpRequest request) {
+        
+        log.error("Cupo diario excedido: {}", ex.getMessage());
+        
+        ErrorResponseDTO error = ErrorResponseDTO.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.BAD_REQUEST.value())
+            .error("Daily Limit Exceeded")
+            .message(ex.getMessage())
+            .path(request.getPath().value())
+            .correlationId(getCorrelationId(request))
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+    
     /**
      * Maneja excepciones de validación de negocio
      */
@@ -94,6 +119,50 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
     
+    /**
+     * Maneja valores o saldos fuera del rango DECIMAL(15,2) de Money
+     */
+    @ExceptionHandler(ArithmeticException.class)
+    public ResponseEntity<ErrorResponseDTO> handleArithmeticException(
+            ArithmeticException ex,
+            ServerHttpRequest request) {
+        
+        log.error("Valor fuera de rango: {}", ex.getMessage());
+        
+        ErrorResponseDTO error = ErrorResponseDTO.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.BAD_REQUEST.value())
+            .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+            .message(ErrorConstants.VALOR_FUERA_DE_RANGO)
+            .path(request.getPath().value())
+            .correlationId(getCorrelationId(request))
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+    
+    /**
+     * Maneja rechazos por capacidad agotada (colas llenas): el cliente puede reintentar más tarde
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRejectedExecutionException(
+            RejectedExecutionException ex,
+            ServerHttpRequest request) {
+        
+        log.warn("Solicitud rechazada por capacidad: {}", ex.getMessage());
+        
+        ErrorResponseDTO error = ErrorResponseDTO.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+            .message(ex.getMessage())
+            .path(request.getPath().value())
+            .correlationId(getCorrelationId(request))
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+    
     /**
      * Maneja excepciones de validación de campos para WebFlux
      */
@@ -123,6 +192,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Maneja validaciones de parámetros de método, como los ítems de un lote
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleConstraintViolationException(
+            ConstraintViolationException ex,
+            ServerHttpRequest request) {
+        
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation ->
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        
+        log.error("Errores de validación de parámetros: {}", errors);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+        response.put("error", HttpStatus.BAD_REQUEST.getReasonPhrase());
+        response.put("message", ErrorConstants.ERROR_VALIDACION);
+        response.put("errors", errors);
+        response.put("path", request.getPath().value());
+        response.put("correlationId", getCorrelationId(request));
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     /**
      * Maneja excepciones de validación de campos (legacy support)
      */
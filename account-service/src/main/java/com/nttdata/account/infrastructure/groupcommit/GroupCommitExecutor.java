@@ -0,0 +1,231 @@
+package com.nttdata.account.infrastructure.groupcommit;
+
+import com.nttdata.common.exception.BusinessValidationException;
+import com.nttdata.common.exception.ResourceNotFoundException;
+import com.nttdata.common.exception.SaldoNoDisponibleException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Group commit de posteos: agrupa los posteos que llegan dentro de una ventana corta
+ * (o hasta completar N) y los confirma en una única transacción JDBC, de modo que el costo
+ * del fsync del WAL de PostgreSQL se reparte entre todo el grupo.
+ * Los rechazos de negocio de un posteo no afectan al resto: se lanzan antes de escribir
+ * y solo completan el futuro de ese llamador. Si la transacción del grupo falla por un error
+ * de base de datos, cada posteo se reintenta en su propia transacción.
+ * Se activa con account.group-commit.enabled=true.
+ * Patrón: Single Writer
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.group-commit", name = "enabled", havingValue = "true")
+@Slf4j
+public class GroupCommitExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final GroupCommitProperties properties;
+    private final BlockingQueue<Request<?>> queue;
+    private final Thread worker;
+    private final DistributionSummary groupSize;
+    private final Timer commitDuration;
+    private final Timer postLatency;
+
+    private volatile boolean running = true;
+
+    public GroupCommitExecutor(TransactionTemplate transactionTemplate,
+                               EntityManager entityManager,
+                               GroupCommitProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueSize());
+        this.worker = new Thread(this::run, "group-commit");
+        this.groupSize = DistributionSummary.builder("transactions.group_commit.size")
+            .description("Posteos confirmados por transacción")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.commitDuration = Timer.builder("transactions.group_commit.duration")
+            .description("Duración de la transacción de cada grupo, incluido el commit")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.postLatency = Timer.builder("transactions.group_commit.latency")
+            .description("Latencia de cada posteo desde que se encola hasta que se confirma")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+        log.info("Group commit iniciado: hasta {} posteos o {} ms por transacción",
+            properties.getMaxBatchSize(), properties.getMaxWait().toMillis());
+    }
+
+    /**
+     * Encola un posteo para el próximo grupo
+     * @param work posteo a ejecutar; corre dentro de la transacción del grupo
+     * @return futuro que se completa cuando la transacción del grupo se confirmó
+     * @throws RejectedExecutionException si la cola está llena o el executor detenido
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        Request<T> request = new Request<>(work);
+        if (!running || !queue.offer(request)) {
+            throw new RejectedExecutionException("Group commit saturado o detenido");
+        }
+        return request.result;
+    }
+
+    /**
+     * Detiene el executor después de confirmar los posteos ya encolados
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+        log.info("Group commit detenido");
+    }
+
+    private void run() {
+        List<Request<?>> group = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Request<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                collect(group);
+                commit(group);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                group.forEach(request -> request.result.completeExceptionally(ex));
+                break;
+            } catch (RuntimeException ex) {
+                log.error("Group commit: error inesperado", ex);
+                group.forEach(request -> request.result.completeExceptionally(ex));
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    /**
+     * Completa el grupo hasta maxBatchSize o hasta que vence la ventana del primer posteo
+     */
+    private void collect(List<Request<?>> group) throws InterruptedException {
+        int maxBatchSize = properties.getMaxBatchSize();
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+        while (group.size() < maxBatchSize) {
+            queue.drainTo(group, maxBatchSize - group.size());
+            long remaining = deadline - System.nanoTime();
+            if (group.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            Request<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            group.add(next);
+        }
+    }
+
+    private void commit(List<Request<?>> group) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> group.forEach(this::apply));
+        } catch (RuntimeException ex) {
+            // Error de base de datos (deadlock, constraint...): la transacción del grupo se revirtió
+            log.warn("Group commit de {} posteos revertido; se reintentan individualmente", group.size(), ex);
+            group.forEach(this::commitAlone);
+            return;
+        }
+        commitDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        groupSize.record(group.size());
+        group.forEach(this::complete);
+    }
+
+    /**
+     * Ejecuta un posteo dentro de la transacción del grupo.
+     * El contexto de persistencia se vacía después de cada posteo para que el siguiente lea
+     * las cuentas desde la base y no un estado anterior a los UPDATE ya emitidos.
+     */
+    private void apply(Request<?> request) {
+        try {
+            request.execute();
+            entityManager.flush();
+        } catch (ResourceNotFoundException | BusinessValidationException | SaldoNoDisponibleException ex) {
+            request.reject(ex);
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private void commitAlone(Request<?> request) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> request.execute());
+            commitDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            groupSize.record(1);
+        } catch (RuntimeException ex) {
+            request.reject(ex);
+        }
+        complete(request);
+    }
+
+    private void complete(Request<?> request) {
+        postLatency.record(System.nanoTime() - request.enqueuedAt, TimeUnit.NANOSECONDS);
+        request.complete();
+    }
+
+    /**
+     * Posteo encolado con el resultado pendiente de confirmar
+     */
+    private static final class Request<T> {
+
+        private final Supplier<T> work;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+        private T value;
+        private RuntimeException failure;
+
+        private Request(Supplier<T> work) {
+            this.work = work;
+        }
+
+        void execute() {
+            failure = null;
+            value = work.get();
+        }
+
+        void reject(RuntimeException ex) {
+            value = null;
+            failure = ex;
+        }
+
+        void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.nttdata.account.infrastructure.groupcommit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del group commit de posteos (account.group-commit.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.group-commit")
+public class GroupCommitProperties {
+    
+    /** Activa el group commit; si es false cada posteo confirma su propia transacción */
+    private boolean enabled = false;
+    
+    /** Máximo de posteos confirmados en una misma transacción */
+    private int maxBatchSize = 64;
+    
+    /** Ventana máxima que el primer posteo del grupo espera a que lleguen otros */
+    private Duration maxWait = Duration.ofMillis(5);
+    
+    /** Capacidad de la cola de posteos pendientes */
+    private int queueSize = 10_000;
+}
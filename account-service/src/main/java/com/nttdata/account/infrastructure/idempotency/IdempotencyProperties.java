@@ -0,0 +1,28 @@
+package com.nttdata.account.infrastructure.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la deduplicación por Idempotency-Key (account.idempotency.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.idempotency")
+public class IdempotencyProperties {
+    
+    /** Máximo de respuestas retenidas en memoria */
+    private long cacheMaxSize = 100_000;
+    
+    /** Tiempo de vida de una respuesta en memoria */
+    private Duration cacheTtl = Duration.ofMinutes(30);
+    
+    /** Tiempo que se conserva una clave en la tabla idempotency_key */
+    private Duration retention = Duration.ofHours(24);
+    
+    /** Intervalo de la limpieza de claves vencidas en la tabla */
+    private Duration sweepInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,230 @@
+package com.nttdata.account.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.dto.TransactionResponseDTO;
+import com.nttdata.account.infrastructure.r2dbc.ReactiveAccountStore;
+import com.nttdata.common.constants.ErrorConstants;
+import com.nttdata.common.exception.BusinessValidationException;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.shared.domain.model.IdempotencyKey;
+import com.nttdata.shared.domain.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicación de POST /api/transactions por cabecera Idempotency-Key
+ * Tres niveles: respuestas recientes en memoria (acotadas por tamaño y TTL), ejecuciones
+ * en curso en esta instancia (los duplicados concurrentes esperan a la primera) y la tabla
+ * idempotency_key, cuya reserva se confirma en la misma transacción que el posteo,
+ * lo que mantiene la garantía entre reinicios y réplicas.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final JdbcBulkhead jdbcBulkhead;
+    private final Cache<String, StoredResponse> responses;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter databaseReplays;
+    private final Counter coalesced;
+
+    public IdempotencyStore(IdempotencyKeyRepository idempotencyKeyRepository,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            IdempotencyProperties properties,
+                            JdbcBulkhead jdbcBulkhead,
+                            MeterRegistry meterRegistry) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.jdbcBulkhead = jdbcBulkhead;
+        this.responses = Caffeine.newBuilder()
+            .maximumSize(properties.getCacheMaxSize())
+            .expireAfterWrite(properties.getCacheTtl())
+            .recordStats()
+            .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "idempotency");
+        this.databaseReplays = Counter.builder("idempotency.replays")
+            .description("Reintentos resueltos desde la tabla idempotency_key")
+            .tag("source", "database")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("idempotency.replays")
+            .description("Duplicados concurrentes resueltos por la ejecución en curso")
+            .tag("source", "in-flight")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta la operación una sola vez por clave
+     * @param operation posteo a ejecutar; corre dentro de la transacción que reserva la clave
+     * @return la respuesta original si la clave ya fue procesada
+     */
+    public Mono<TransactionResponseDTO> execute(String key, CreateTransactionDTO dto,
+                                                Supplier<TransactionResponseDTO> operation) {
+        // Corre en el compartimento de escritura del bulkhead; si está saturado el rechazo llega como 503
+        return execute(key, dto, requestHash -> jdbcBulkhead.write(() -> executeOnce(key, requestHash, operation)));
+    }
+
+    /**
+     * Variante de account.r2dbc.enabled: la reserva de la clave, el posteo y la respuesta se
+     * confirman en la misma transacción R2DBC
+     * @param operation posteo a ejecutar; se suscribe dentro de la transacción que reserva la clave
+     * @return la respuesta original si la clave ya fue procesada
+     */
+    public Mono<TransactionResponseDTO> execute(String key, CreateTransactionDTO dto, ReactiveAccountStore store,
+                                                Mono<TransactionResponseDTO> operation) {
+        return execute(key, dto, requestHash -> executeOnce(key, requestHash, store, operation));
+    }
+
+    private Mono<TransactionResponseDTO> execute(String key, CreateTransactionDTO dto,
+                                                 Function<String, Mono<StoredResponse>> once) {
+        if (key.isBlank() || key.length() > 100) {
+            return Mono.error(new BusinessValidationException(ErrorConstants.IDEMPOTENCY_KEY_INVALIDA));
+        }
+        String requestHash = fingerprint(dto);
+
+        return Mono.defer(() -> {
+            StoredResponse cached = responses.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            CompletableFuture<StoredResponse> created = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, created);
+            if (running != null) {
+                coalesced.increment();
+                return Mono.fromFuture(running, true);
+            }
+
+            // La ejecución no depende del suscriptor: si el cliente cancela, el resultado queda registrado
+            once.apply(requestHash)
+                .doFinally(signal -> inFlight.remove(key, created))
+                .subscribe(created::complete, created::completeExceptionally);
+            return Mono.fromFuture(created, true);
+        }).map(stored -> stored.responseFor(requestHash));
+    }
+
+    /**
+     * Limpia las claves que superaron el período de retención
+     */
+    @Scheduled(fixedDelayString = "#{@idempotencyProperties.sweepInterval.toMillis()}")
+    public void purgeExpiredKeys() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getRetention());
+        Integer deleted = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteByCreatedAtBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Idempotency keys vencidas eliminadas: {}", deleted);
+        }
+    }
+
+    private StoredResponse executeOnce(String key, String requestHash, Supplier<TransactionResponseDTO> operation) {
+        StoredResponse stored = transactionTemplate.execute(status -> {
+            if (idempotencyKeyRepository.claim(key, requestHash) == 0) {
+                // Ya procesada (por esta u otra réplica): devolver la respuesta registrada
+                return replay(idempotencyKeyRepository.findById(key)
+                    .filter(k -> k.getResponseBody() != null)
+                    .orElseThrow(() -> new BusinessValidationException(ErrorConstants.IDEMPOTENCY_KEY_EN_PROCESO)));
+            }
+
+            // Si el posteo falla, el rollback libera la clave y el reintento vuelve a ejecutarse
+            TransactionResponseDTO response = operation.get();
+            idempotencyKeyRepository.storeResponse(key, write(response));
+            return new StoredResponse(requestHash, response);
+        });
+        responses.put(key, stored);
+        return stored;
+    }
+
+    private Mono<StoredResponse> executeOnce(String key, String requestHash, ReactiveAccountStore store,
+                                             Mono<TransactionResponseDTO> operation) {
+        Mono<StoredResponse> once = store.claimIdempotencyKey(key, requestHash)
+            .flatMap(claimed -> claimed
+                // Si el posteo falla, el rollback libera la clave y el reintento vuelve a ejecutarse
+                ? operation.flatMap(response -> store.storeIdempotentResponse(key, write(response))
+                    .thenReturn(new StoredResponse(requestHash, response)))
+                : store.findIdempotencyKey(key)
+                    .filter(k -> k.getResponseBody() != null)
+                    .switchIfEmpty(Mono.error(() ->
+                        new BusinessValidationException(ErrorConstants.IDEMPOTENCY_KEY_EN_PROCESO)))
+                    .map(this::replay));
+        return store.inTransaction(once)
+            .doOnNext(stored -> responses.put(key, stored));
+    }
+
+    /**
+     * Respuesta de una clave ya procesada (por esta u otra réplica)
+     */
+    private StoredResponse replay(IdempotencyKey existing) {
+        databaseReplays.increment();
+        return new StoredResponse(existing.getRequestHash(), read(existing.getResponseBody()));
+    }
+
+    private static String fingerprint(CreateTransactionDTO dto) {
+        String canonical = String.join("|",
+            String.valueOf(dto.getAccountNumber()),
+            String.valueOf(dto.getTransactionType()),
+            dto.getAmount() == null ? "null" : dto.getAmount().stripTrailingZeros().toPlainString(),
+            String.valueOf(dto.getDestinationAccountNumber()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String write(TransactionResponseDTO response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", ex);
+        }
+    }
+
+    private TransactionResponseDTO read(String json) {
+        try {
+            return objectMapper.readValue(json, TransactionResponseDTO.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo leer la respuesta registrada", ex);
+        }
+    }
+
+    /**
+     * Respuesta registrada junto con la huella del request que la produjo
+     */
+    private record StoredResponse(String requestHash, TransactionResponseDTO response) {
+
+        TransactionResponseDTO responseFor(String hash) {
+            if (!requestHash.equals(hash)) {
+                throw new BusinessValidationException(ErrorConstants.IDEMPOTENCY_KEY_REUTILIZADA);
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.nttdata.account.infrastructure.ledger;
+
+import com.nttdata.account.application.strategy.TransactionStrategy;
+import com.nttdata.account.infrastructure.cache.AccountSnapshotCache;
+import com.nttdata.account.infrastructure.report.ReportCache;
+import com.nttdata.account.infrastructure.withdrawal.DailyWithdrawalLimiter;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.datasource.ReadYourWrites;
+import com.nttdata.shared.domain.repository.AccountRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Motor de ledger en memoria para cuentas de alto volumen
+ * Particiona las cuentas por número de cuenta entre shards de un único hilo escritor;
+ * cada posteo se confirma al quedar persistido en el journal local y se vuelca
+ * a la tabla transaction de forma asíncrona y agrupada.
+ * Se activa con account.ledger.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.ledger", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerEngine {
+
+    private static final Pattern JOURNAL_FILE = Pattern.compile("shard-(\\d+)\\.journal(\\.\\d+)?");
+
+    private final LedgerProperties properties;
+    private final AccountRepository accountRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyWithdrawalLimiter withdrawalLimiter;
+    private final ReportCache reportCache;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final ReadYourWrites readYourWrites;
+
+    private LedgerShard[] shards;
+    private LedgerFlusher flusher;
+
+    /**
+     * Recuperación y arranque: todo lo que el journal tiene por encima del checkpoint
+     * se vuelca a la base antes de aceptar nuevos posteos
+     */
+    @PostConstruct
+    public void start() {
+        flusher = new LedgerFlusher(jdbcTemplate, transactionTemplate, properties,
+            (shard, sequence) -> {
+                // Durante la recuperación el shard todavía no existe; se crea con la secuencia ya volcada
+                LedgerShard target = shard < shards.length ? shards[shard] : null;
+                if (target != null) {
+                    target.markFlushed(sequence);
+                }
+            },
+            // Las cuentas y los reportes leen de la base: se invalidan cuando los posteos llegan a ella
+            entries -> {
+                entries.forEach(entry -> {
+                    accountSnapshotCache.invalidar(entry.accountNumber());
+                    readYourWrites.recordWrite(entry.accountNumber());
+                });
+                reportCache.invalidarCuentas(entries.stream().map(LedgerEntry::accountId).collect(Collectors.toSet()));
+            });
+        Map<Integer, Long> checkpoints = flusher.loadCheckpoints();
+
+        // Incluye journals de shards que ya no existen si se redujo account.ledger.shards
+        TreeSet<Integer> indices = existingJournals();
+        for (int i = 0; i < properties.getShards(); i++) {
+            indices.add(i);
+        }
+
+        shards = new LedgerShard[properties.getShards()];
+        for (int index : indices) {
+            LedgerJournal journal = new LedgerJournal(journalPath(index));
+            long checkpoint = checkpoints.getOrDefault(index, 0L);
+            long lastSequence = recover(index, journal, checkpoint);
+
+            if (index < shards.length) {
+                shards[index] = new LedgerShard(index, journal, lastSequence, flusher,
+                    accountRepository::findByAccountNumber, withdrawalLimiter, properties);
+            } else {
+                closeQuietly(journal);
+            }
+        }
+
+        for (LedgerShard shard : shards) {
+            shard.start();
+        }
+        flusher.start();
+        log.info("Ledger iniciado con {} shards en {}", shards.length, properties.getJournalDir());
+    }
+
+    /**
+     * Encola un posteo en el shard dueño de la cuenta
+     * @return futuro que se completa cuando el posteo quedó persistido en el journal
+     * @throws java.util.concurrent.RejectedExecutionException si el ring buffer del shard está lleno
+     */
+    public CompletableFuture<LedgerEntry> submit(String accountNumber, TransactionStrategy strategy, Money amount) {
+        return shardFor(accountNumber).post(accountNumber, strategy, amount);
+    }
+
+    /**
+     * Propaga un cambio de estado de la cuenta al estado en memoria del shard
+     */
+    public void actualizarEstado(String accountNumber, String statusCode) {
+        shardFor(accountNumber).updateStatus(accountNumber, statusCode);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (LedgerShard shard : shards) {
+            shard.stop();
+        }
+        flusher.stop();
+        log.info("Ledger detenido");
+    }
+
+    private LedgerShard shardFor(String accountNumber) {
+        return shards[Math.floorMod(accountNumber.hashCode(), shards.length)];
+    }
+
+    /**
+     * Reaplica en la base los registros del journal (segmentos sellados incluidos) posteriores al
+     * checkpoint, vacía el journal y elimina los segmentos
+     * @return última secuencia conocida del shard
+     */
+    private long recover(int index, LedgerJournal journal, long checkpoint) {
+        List<Path> segments = LedgerJournal.segments(journal.path());
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (Path segment : segments) {
+            LedgerJournal segmentJournal = new LedgerJournal(segment);
+            try {
+                entries.addAll(segmentJournal.readAll());
+            } finally {
+                closeQuietly(segmentJournal);
+            }
+        }
+        entries.addAll(journal.readAll());
+        List<LedgerEntry> pendientes = entries.stream()
+            .filter(entry -> entry.sequence() > checkpoint)
+            .toList();
+
+        if (!pendientes.isEmpty()) {
+            log.warn("Shard {}: reaplicando {} posteos del journal posteriores al checkpoint {}",
+                index, pendientes.size(), checkpoint);
+            for (int from = 0; from < pendientes.size(); from += properties.getFlushBatchSize()) {
+                flusher.write(pendientes.subList(from, Math.min(from + properties.getFlushBatchSize(), pendientes.size())));
+            }
+        }
+
+        long lastSequence = entries.isEmpty() ? checkpoint
+            : Math.max(checkpoint, entries.get(entries.size() - 1).sequence());
+        journal.reset();
+        for (Path segment : segments) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("No se pudo eliminar el segmento " + segment, ex);
+            }
+        }
+        return lastSequence;
+    }
+
+    private TreeSet<Integer> existingJournals() {
+        TreeSet<Integer> indices = new TreeSet<>();
+        Path dir = Path.of(properties.getJournalDir());
+        if (!Files.isDirectory(dir)) {
+            return indices;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> {
+                Matcher matcher = JOURNAL_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    indices.add(Integer.parseInt(matcher.group(1)));
+                }
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo listar " + dir, ex);
+        }
+        return indices;
+    }
+
+    private Path journalPath(int index) {
+        return Path.of(properties.getJournalDir(), "shard-" + index + ".journal");
+    }
+
+    private static void closeQuietly(LedgerJournal journal) {
+        try {
+            journal.close();
+        } catch (IOException ex) {
+            log.warn("Error cerrando journal", ex);
+        }
+    }
+}
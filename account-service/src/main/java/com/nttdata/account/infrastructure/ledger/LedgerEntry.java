@@ -0,0 +1,22 @@
+package com.nttdata.account.infrastructure.ledger;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro inmutable de un posteo aceptado por el ledger
+ * Es la unidad que se escribe en el journal y se vuelca a la tabla transaction
+ */
+public record LedgerEntry(
+    long sequence,
+    int shard,
+    long accountId,
+    String accountNumber,
+    Transaction.TransactionType transactionType,
+    Money amount,
+    Money balance,
+    LocalDateTime date
+) {
+}
@@ -0,0 +1,260 @@
+package com.nttdata.account.infrastructure.ledger;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Transaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Volcado asíncrono de los posteos del ledger hacia la base de datos
+ * Cada ciclo inserta las filas de transaction, actualiza el saldo final de cada cuenta,
+ * los cierres diarios de saldo, los totales diarios y los contadores de cupo diario, y avanza el checkpoint
+ * por shard en una única transacción: tras una caída, la recuperación reaplica solo
+ * lo que el journal tiene por encima del checkpoint.
+ * Patrón: Group Commit
+ */
+@Slf4j
+class LedgerFlusher {
+
+    /** Debe coincidir con el INCREMENT BY de transaction_id_seq (pooled) */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String INSERT_TRANSACTION =
+        "INSERT INTO transaction (id, fecha, transaction_type, valor, saldo, account_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_BALANCE =
+        "UPDATE account SET current_balance = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private static final String UPSERT_CHECKPOINT =
+        "INSERT INTO ledger_checkpoint (shard, last_sequence, updated_at) VALUES (?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (shard) DO UPDATE SET last_sequence = GREATEST(ledger_checkpoint.last_sequence, EXCLUDED.last_sequence), " +
+        "updated_at = EXCLUDED.updated_at";
+
+    private static final String UPSERT_DAILY_WITHDRAWAL =
+        "INSERT INTO daily_withdrawal (account_id, fecha, total_retirado) VALUES (?, ?, ?) " +
+        "ON CONFLICT (account_id, fecha) DO UPDATE SET total_retirado = daily_withdrawal.total_retirado + EXCLUDED.total_retirado";
+
+    private static final String UPSERT_BALANCE_SNAPSHOT =
+        "INSERT INTO account_balance_snapshot (account_id, fecha, saldo_cierre) VALUES (?, ?, ?) " +
+        "ON CONFLICT (account_id, fecha) DO UPDATE SET saldo_cierre = EXCLUDED.saldo_cierre";
+
+    private static final String UPSERT_DAILY_ROLLUP =
+        "INSERT INTO transaction_daily_rollup (account_id, fecha, total_creditos, total_debitos, cantidad, saldo_cierre) " +
+        "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (account_id, fecha) DO UPDATE SET " +
+        "total_creditos = transaction_daily_rollup.total_creditos + EXCLUDED.total_creditos, " +
+        "total_debitos = transaction_daily_rollup.total_debitos + EXCLUDED.total_debitos, " +
+        "cantidad = transaction_daily_rollup.cantidad + EXCLUDED.cantidad, saldo_cierre = EXCLUDED.saldo_cierre";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<LedgerEntry> pending;
+    private final List<LedgerEntry> inFlight = new ArrayList<>();
+    private final int batchSize;
+    private final long intervalMillis;
+    private final BiConsumer<Integer, Long> onFlushed;
+    private final Consumer<List<LedgerEntry>> onAccountsChanged;
+    private final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "ledger-flusher"));
+
+    LedgerFlusher(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                  LedgerProperties properties, BiConsumer<Integer, Long> onFlushed,
+                  Consumer<List<LedgerEntry>> onAccountsChanged) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.pending = new ArrayBlockingQueue<>(properties.getFlushQueueSize());
+        this.batchSize = properties.getFlushBatchSize();
+        this.intervalMillis = properties.getFlushInterval().toMillis();
+        this.onFlushed = onFlushed;
+        this.onAccountsChanged = onAccountsChanged;
+    }
+
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Encola filas ya persistidas en el journal; bloquea si la base no da abasto (backpressure)
+     */
+    void enqueue(List<LedgerEntry> entries) throws InterruptedException {
+        for (LedgerEntry entry : entries) {
+            pending.put(entry);
+        }
+    }
+
+    /**
+     * Vuelca lo pendiente; ante un error las filas se conservan y se reintentan en el siguiente ciclo
+     */
+    synchronized void flush() {
+        try {
+            do {
+                if (inFlight.isEmpty()) {
+                    pending.drainTo(inFlight, batchSize);
+                }
+                if (inFlight.isEmpty()) {
+                    return;
+                }
+                write(inFlight);
+                inFlight.clear();
+            } while (!pending.isEmpty());
+        } catch (RuntimeException ex) {
+            log.error("Error volcando {} posteos del ledger; se reintentará", inFlight.size(), ex);
+        }
+    }
+
+    /**
+     * Detiene el ciclo periódico y vuelca todo lo pendiente
+     */
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        if (!inFlight.isEmpty() || !pending.isEmpty()) {
+            log.warn("Quedaron posteos sin volcar; se recuperarán desde el journal al reiniciar");
+        }
+    }
+
+    /**
+     * Escribe un grupo de posteos y sus checkpoints en una única transacción
+     */
+    void write(List<LedgerEntry> entries) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> ids = allocateIds(entries.size());
+            List<Object[]> rows = new ArrayList<>(entries.size());
+            Map<Long, Money> finalBalances = new LinkedHashMap<>();
+            Map<Integer, Long> checkpoints = new HashMap<>();
+            Map<AccountDay, Money> withdrawals = new LinkedHashMap<>();
+            Map<AccountDay, Money> closingBalances = new LinkedHashMap<>();
+            Map<AccountDay, DayTotals> dayTotals = new LinkedHashMap<>();
+
+            for (int i = 0; i < entries.size(); i++) {
+                LedgerEntry entry = entries.get(i);
+                rows.add(new Object[] {
+                    ids.get(i),
+                    Timestamp.valueOf(entry.date()),
+                    entry.transactionType().name(),
+                    entry.amount().toBigDecimal(),
+                    entry.balance().toBigDecimal(),
+                    entry.accountId()
+                });
+                finalBalances.put(entry.accountId(), entry.balance());
+                checkpoints.merge(entry.shard(), entry.sequence(), Math::max);
+                AccountDay day = new AccountDay(entry.accountId(), entry.date().toLocalDate());
+                closingBalances.put(day, entry.balance());
+                dayTotals.computeIfAbsent(day, d -> new DayTotals()).add(entry.amount());
+                if (entry.transactionType() == Transaction.TransactionType.RETIRO) {
+                    // Contador del cupo diario: se confirma junto con los movimientos que lo componen
+                    withdrawals.merge(day, entry.amount().negate(), Money::add);
+                }
+            }
+
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION, rows);
+            jdbcTemplate.batchUpdate(UPDATE_BALANCE, finalBalances.entrySet().stream()
+                .map(e -> new Object[] {e.getValue().toBigDecimal(), e.getKey()})
+                .toList());
+            jdbcTemplate.batchUpdate(UPSERT_BALANCE_SNAPSHOT, closingBalances.entrySet().stream()
+                .map(e -> new Object[] {e.getKey().accountId(), Date.valueOf(e.getKey().date()), e.getValue().toBigDecimal()})
+                .toList());
+            jdbcTemplate.batchUpdate(UPSERT_DAILY_ROLLUP, dayTotals.entrySet().stream()
+                .map(e -> new Object[] {
+                    e.getKey().accountId(),
+                    Date.valueOf(e.getKey().date()),
+                    e.getValue().credits.toBigDecimal(),
+                    e.getValue().debits.toBigDecimal(),
+                    e.getValue().count,
+                    closingBalances.get(e.getKey()).toBigDecimal()
+                })
+                .toList());
+            if (!withdrawals.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_DAILY_WITHDRAWAL, withdrawals.entrySet().stream()
+                    .map(e -> new Object[] {e.getKey().accountId(), Date.valueOf(e.getKey().date()), e.getValue().toBigDecimal()})
+                    .toList());
+            }
+            jdbcTemplate.batchUpdate(UPSERT_CHECKPOINT, checkpoints.entrySet().stream()
+                .map(e -> new Object[] {e.getKey(), e.getValue()})
+                .toList());
+
+            log.debug("Ledger: {} posteos volcados en {} cuentas", entries.size(), finalBalances.size());
+        });
+
+        Map<Integer, Long> flushed = new HashMap<>();
+        entries.forEach(entry -> flushed.merge(entry.shard(), entry.sequence(), Math::max));
+        flushed.forEach(onFlushed);
+
+        try {
+            onAccountsChanged.accept(entries);
+        } catch (RuntimeException ex) {
+            // Ya confirmado: un error aquí no debe provocar que el grupo se vuelva a escribir
+            log.warn("Error notificando las cuentas volcadas por el ledger", ex);
+        }
+    }
+
+    /**
+     * Último checkpoint confirmado por shard
+     */
+    Map<Integer, Long> loadCheckpoints() {
+        Map<Integer, Long> checkpoints = new HashMap<>();
+        jdbcTemplate.query("SELECT shard, last_sequence FROM ledger_checkpoint",
+            rs -> {
+                checkpoints.put(rs.getInt("shard"), rs.getLong("last_sequence"));
+            });
+        return checkpoints;
+    }
+
+    /**
+     * Reserva IDs con la misma semántica pooled que usa Hibernate:
+     * cada nextval V entrega el rango (V - 50, V]
+     */
+    private List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+            List<Long> highs = jdbcTemplate.queryForList(
+                "SELECT nextval('transaction_id_seq') FROM generate_series(1, ?)", Long.class, blocks);
+            for (Long high : highs) {
+                // El primer valor de una secuencia recién creada no tiene rango completo por debajo
+                for (long id = Math.max(1, high - ID_ALLOCATION_SIZE + 1); id <= high && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private record AccountDay(long accountId, LocalDate date) {
+    }
+
+    /**
+     * Créditos, débitos y cantidad de movimientos de una cuenta en un día dentro del grupo
+     */
+    private static final class DayTotals {
+        private Money credits = Money.ZERO;
+        private Money debits = Money.ZERO;
+        private int count;
+
+        void add(Money amount) {
+            if (amount.isNegative()) {
+                debits = debits.add(amount);
+            } else {
+                credits = credits.add(amount);
+            }
+            count++;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.nttdata.account.infrastructure.ledger;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Transaction;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Journal append-only (write-ahead) de un shard del ledger
+ * Formato de cada registro: [int longitud][payload][long crc32 del payload].
+ * Un registro incompleto o corrupto al final del archivo (caída a mitad de escritura)
+ * se descarta en la recuperación truncando el archivo.
+ * Al rotar, el archivo se sella como segmento (mismo nombre con la última secuencia como sufijo)
+ * y la escritura sigue en un archivo nuevo; el segmento se borra cuando todo su contenido se volcó.
+ * No es thread-safe: lo escribe únicamente el hilo del shard propietario.
+ */
+@Slf4j
+public class LedgerJournal implements Closeable {
+
+    private static final int HEADER_BYTES = Integer.BYTES;
+    private static final int TRAILER_BYTES = Long.BYTES;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+    private final CRC32 crc = new CRC32();
+
+    public LedgerJournal(Path path) {
+        this.path = path;
+        try {
+            Files.createDirectories(path.getParent());
+            this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.channel.position(channel.size());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo abrir el journal " + path, ex);
+        }
+    }
+
+    /**
+     * Escribe un grupo de registros y fuerza su persistencia con un único fsync
+     */
+    public void append(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            buffer.reset();
+            DataOutputStream out = new DataOutputStream(buffer);
+            for (LedgerEntry entry : entries) {
+                byte[] payload = serialize(entry);
+                crc.reset();
+                crc.update(payload);
+                out.writeInt(payload.length);
+                out.write(payload);
+                out.writeLong(crc.getValue());
+            }
+            out.flush();
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Error escribiendo el journal " + path, ex);
+        }
+    }
+
+    /**
+     * Lee los registros válidos del journal y trunca una cola incompleta o corrupta
+     * @return registros en orden de escritura
+     */
+    public List<LedgerEntry> readAll() {
+        List<LedgerEntry> entries = new ArrayList<>();
+        try {
+            long size = channel.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (position + HEADER_BYTES <= size) {
+                header.clear();
+                channel.read(header, position);
+                int length = header.flip().getInt();
+                if (length <= 0 || position + HEADER_BYTES + length + TRAILER_BYTES > size) {
+                    break;
+                }
+                ByteBuffer record = ByteBuffer.allocate(length + TRAILER_BYTES);
+                channel.read(record, position + HEADER_BYTES);
+                record.flip();
+                byte[] payload = new byte[length];
+                record.get(payload);
+                crc.reset();
+                crc.update(payload);
+                if (crc.getValue() != record.getLong()) {
+                    break;
+                }
+                entries.add(deserialize(payload));
+                position += HEADER_BYTES + length + TRAILER_BYTES;
+            }
+            if (position < size) {
+                log.warn("Journal {}: descartando {} bytes de registro incompleto", path, size - position);
+                channel.truncate(position);
+                channel.force(true);
+            }
+            channel.position(position);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Error leyendo el journal " + path, ex);
+        }
+        return entries;
+    }
+
+    /**
+     * Sella el contenido actual como segmento y continúa en un journal vacío con la misma ruta
+     * Este journal queda cerrado; se debe seguir escribiendo en el devuelto.
+     * @param lastSequence última secuencia escrita, sufijo del segmento
+     * @return journal nuevo
+     */
+    public LedgerJournal rotate(long lastSequence) {
+        Path segment = segmentPath(path, lastSequence);
+        try {
+            Files.move(path, segment, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo sellar el journal " + path, ex);
+        }
+        LedgerJournal next;
+        try {
+            next = new LedgerJournal(path);
+        } catch (RuntimeException ex) {
+            // Se sigue escribiendo en el archivo actual
+            try {
+                Files.move(segment, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException restoreEx) {
+                ex.addSuppressed(restoreEx);
+            }
+            throw ex;
+        }
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            log.warn("Journal {}: error cerrando el segmento sellado", segment, ex);
+        }
+        return next;
+    }
+
+    /**
+     * Segmentos sellados de un journal, del más antiguo al más reciente
+     */
+    static List<Path> segments(Path path) {
+        Pattern pattern = Pattern.compile(Pattern.quote(path.getFileName().toString()) + "\\.(\\d+)");
+        if (!Files.isDirectory(path.getParent())) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(path.getParent())) {
+            return files
+                .filter(file -> pattern.matcher(file.getFileName().toString()).matches())
+                .sorted(Comparator.comparingLong(file -> {
+                    Matcher matcher = pattern.matcher(file.getFileName().toString());
+                    matcher.matches();
+                    return Long.parseLong(matcher.group(1));
+                }))
+                .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo listar " + path.getParent(), ex);
+        }
+    }
+
+    /**
+     * Ruta del segmento sellado que termina en la secuencia indicada
+     */
+    static Path segmentPath(Path path, long lastSequence) {
+        return path.resolveSibling(path.getFileName() + "." + lastSequence);
+    }
+
+    /**
+     * Vacía el journal; solo debe llamarse cuando todo su contenido ya fue volcado a la base
+     */
+    public void reset() {
+        try {
+            channel.truncate(0);
+            channel.position(0);
+            channel.force(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Error truncando el journal " + path, ex);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long size() {
+        try {
+            return channel.size();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static byte[] serialize(LedgerEntry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(entry.sequence());
+        out.writeInt(entry.shard());
+        out.writeLong(entry.accountId());
+        out.writeUTF(entry.accountNumber());
+        out.writeUTF(entry.transactionType().name());
+        out.writeLong(entry.amount().getUnits());
+        out.writeLong(entry.balance().getUnits());
+        out.writeLong(entry.date().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(entry.date().getNano());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static LedgerEntry deserialize(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            return new LedgerEntry(
+                in.readLong(),
+                in.readInt(),
+                in.readLong(),
+                in.readUTF(),
+                Transaction.TransactionType.valueOf(in.readUTF()),
+                Money.ofUnits(in.readLong()),
+                Money.ofUnits(in.readLong()),
+                LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)
+            );
+        } catch (EOFException ex) {
+            throw new IOException("Registro de journal truncado", ex);
+        }
+    }
+}
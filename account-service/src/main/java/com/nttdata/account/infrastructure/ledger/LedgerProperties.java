@@ -0,0 +1,43 @@
+package com.nttdata.account.infrastructure.ledger;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del motor de ledger en memoria (account.ledger.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.ledger")
+public class LedgerProperties {
+    
+    /** Activa el motor; si es false los posteos van directo a la base de datos */
+    private boolean enabled = false;
+    
+    /** Número de shards (un hilo escritor por shard) */
+    private int shards = 4;
+    
+    /** Capacidad del ring buffer de cada shard */
+    private int ringBufferSize = 8192;
+    
+    /** Máximo de posteos agrupados en una misma escritura + fsync del journal */
+    private int journalBatchSize = 256;
+    
+    /** Directorio de los archivos de journal */
+    private String journalDir = "data/ledger";
+    
+    /** Tamaño a partir del cual el journal se trunca (ya volcado) o se sella en un segmento y sigue en uno nuevo */
+    private long journalRotateBytes = 64L * 1024 * 1024;
+    
+    /** Intervalo del volcado asíncrono hacia la tabla transaction */
+    private Duration flushInterval = Duration.ofMillis(50);
+    
+    /** Máximo de filas por transacción de volcado */
+    private int flushBatchSize = 2000;
+    
+    /** Capacidad de la cola de filas pendientes de volcado */
+    private int flushQueueSize = 100_000;
+}
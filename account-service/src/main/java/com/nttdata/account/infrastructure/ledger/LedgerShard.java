@@ -0,0 +1,325 @@
+package com.nttdata.account.infrastructure.ledger;
+
+import com.nttdata.account.application.strategy.TransactionStrategy;
+import com.nttdata.account.infrastructure.withdrawal.DailyWithdrawalLimiter;
+import com.nttdata.common.constants.ErrorConstants;
+import com.nttdata.common.exception.BusinessValidationException;
+import com.nttdata.common.exception.CupoDiarioExcedidoException;
+import com.nttdata.common.exception.ResourceNotFoundException;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Shard del ledger: un único hilo escritor dueño de un subconjunto de cuentas
+ * Los posteos llegan por un ring buffer acotado; el hilo los agrupa, aplica la estrategia
+ * sobre el saldo en memoria, los persiste en el journal con un único fsync y recién
+ * entonces confirma a los llamadores y entrega las filas al volcado asíncrono.
+ * Patrón: Single Writer
+ */
+@Slf4j
+class LedgerShard {
+
+    private static final String ESTADO_ACTIVO = "ACTIVO";
+
+    private final int index;
+    private LedgerJournal journal;
+    private final LedgerFlusher flusher;
+    private final Function<String, Optional<Account>> accountLoader;
+    private final DailyWithdrawalLimiter withdrawalLimiter;
+    private final BlockingQueue<Command> ring;
+    private final int batchSize;
+    private final long rotateBytes;
+    private final Thread worker;
+
+    /** Estado en memoria de las cuentas del shard; solo lo accede el hilo del shard */
+    private final Map<String, AccountState> accounts = new HashMap<>();
+
+    /** Segmentos sellados del journal con entradas aún sin volcar; solo los accede el hilo del shard */
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    /** Última secuencia volcada a la base (la actualiza el flusher) */
+    private final AtomicLong flushedSequence;
+
+    private long sequence;
+    private volatile boolean running = true;
+
+    LedgerShard(int index, LedgerJournal journal, long lastSequence, LedgerFlusher flusher,
+                Function<String, Optional<Account>> accountLoader, DailyWithdrawalLimiter withdrawalLimiter,
+                LedgerProperties properties) {
+        this.index = index;
+        this.journal = journal;
+        this.sequence = lastSequence;
+        this.flushedSequence = new AtomicLong(lastSequence);
+        this.flusher = flusher;
+        this.accountLoader = accountLoader;
+        this.withdrawalLimiter = withdrawalLimiter;
+        this.ring = new ArrayBlockingQueue<>(properties.getRingBufferSize());
+        this.batchSize = properties.getJournalBatchSize();
+        this.rotateBytes = properties.getJournalRotateBytes();
+        this.worker = new Thread(this::run, "ledger-shard-" + index);
+    }
+
+    void start() {
+        worker.start();
+    }
+
+    CompletableFuture<LedgerEntry> post(String accountNumber, TransactionStrategy strategy, Money amount) {
+        CompletableFuture<LedgerEntry> ack = new CompletableFuture<>();
+        enqueue(new Post(accountNumber, strategy, amount, ack));
+        return ack;
+    }
+
+    void updateStatus(String accountNumber, String statusCode) {
+        enqueue(new UpdateStatus(accountNumber, statusCode));
+    }
+
+    void markFlushed(long flushed) {
+        flushedSequence.accumulateAndGet(flushed, Math::max);
+    }
+
+    /**
+     * Detiene el shard después de procesar los comandos ya encolados
+     */
+    void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+        try {
+            journal.close();
+        } catch (IOException ex) {
+            log.warn("Shard {}: error cerrando el journal", index, ex);
+        }
+    }
+
+    private void enqueue(Command command) {
+        if (!running || !ring.offer(command)) {
+            throw new RejectedExecutionException("Ledger shard " + index + " saturado o detenido");
+        }
+    }
+
+    private void run() {
+        List<Command> drained = new ArrayList<>(batchSize);
+        List<LedgerEntry> accepted = new ArrayList<>(batchSize);
+        List<CompletableFuture<LedgerEntry>> acks = new ArrayList<>(batchSize);
+        Map<AccountState, AccountState.Snapshot> undo = new IdentityHashMap<>();
+
+        while (running || !ring.isEmpty()) {
+            try {
+                Command first = ring.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    rotateJournalIfFlushed();
+                    continue;
+                }
+                drained.add(first);
+                ring.drainTo(drained, batchSize - 1);
+
+                long sequenceBefore = sequence;
+                for (Command command : drained) {
+                    if (command instanceof Post post) {
+                        apply(post, accepted, acks, undo);
+                    } else if (command instanceof UpdateStatus update) {
+                        AccountState state = accounts.get(update.accountNumber());
+                        if (state != null) {
+                            state.statusCode = update.statusCode();
+                        }
+                    }
+                }
+
+                if (!accepted.isEmpty()) {
+                    try {
+                        // Group commit del journal: un solo fsync para todo el grupo
+                        journal.append(accepted);
+                    } catch (RuntimeException ex) {
+                        // Sin persistencia no hay confirmación: revertir el estado en memoria
+                        undo.forEach(AccountState::restore);
+                        sequence = sequenceBefore;
+                        acks.forEach(ack -> ack.completeExceptionally(ex));
+                        log.error("Shard {}: fallo al escribir el journal", index, ex);
+                        continue;
+                    }
+                    for (int i = 0; i < acks.size(); i++) {
+                        acks.get(i).complete(accepted.get(i));
+                    }
+                    flusher.enqueue(accepted);
+                }
+                // Con tráfico sostenido el ring nunca queda vacío: la rotación se revisa en cada grupo
+                rotateJournalIfFlushed();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException ex) {
+                log.error("Shard {}: error inesperado", index, ex);
+            } finally {
+                drained.clear();
+                accepted.clear();
+                acks.clear();
+                undo.clear();
+            }
+        }
+        log.info("Shard {} detenido en la secuencia {}", index, sequence);
+    }
+
+    private void apply(Post post, List<LedgerEntry> accepted,
+                       List<CompletableFuture<LedgerEntry>> acks, Map<AccountState, AccountState.Snapshot> undo) {
+        try {
+            AccountState state = accounts.get(post.accountNumber());
+            if (state == null) {
+                Account account = accountLoader.apply(post.accountNumber())
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CUENTA_NO_ENCONTRADA));
+                state = new AccountState(account.getId(), account.getStatus().getCode(), account.getCurrentBalance(),
+                    withdrawalLimiter.limiteDiario(account.getAccountType()));
+                accounts.put(post.accountNumber(), state);
+            }
+            if (!ESTADO_ACTIVO.equals(state.statusCode)) {
+                throw new BusinessValidationException(ErrorConstants.CUENTA_INACTIVA);
+            }
+
+            // Misma semántica que el camino JPA: la estrategia valida y calcula el nuevo saldo
+            TransactionStrategy strategy = post.strategy();
+            Money nuevoSaldo = strategy.calcularSaldo(state.balance, post.amount());
+            LocalDateTime date = LocalDateTime.now();
+
+            // Cupo diario sobre el total del día en memoria; el flusher lo vuelca a daily_withdrawal
+            Money retiradoHoy = null;
+            if (strategy.consumeCupoDiario() && withdrawalLimiter.isEnabled()) {
+                retiradoHoy = state.retiradoEn(date.toLocalDate(), withdrawalLimiter).add(post.amount());
+                if (state.limiteDiario.isLessThan(retiradoHoy)) {
+                    throw new CupoDiarioExcedidoException(ErrorConstants.CUPO_DIARIO_EXCEDIDO);
+                }
+            }
+
+            undo.putIfAbsent(state, state.snapshot());
+            state.balance = nuevoSaldo;
+            if (retiradoHoy != null) {
+                state.retiradoHoy = retiradoHoy;
+            }
+            accepted.add(new LedgerEntry(
+                ++sequence,
+                index,
+                state.id,
+                post.accountNumber(),
+                strategy.getTransactionType(),
+                strategy.calcularDelta(post.amount()),
+                nuevoSaldo,
+                date
+            ));
+            acks.add(post.ack());
+        } catch (ArithmeticException ex) {
+            // Saldo fuera de DECIMAL(15,2): se rechaza solo este posteo, como una validación
+            post.ack().completeExceptionally(new BusinessValidationException(ErrorConstants.VALOR_FUERA_DE_RANGO));
+        } catch (RuntimeException ex) {
+            post.ack().completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Borra los segmentos sellados ya volcados y, si el journal superó journal-rotate-bytes, lo trunca
+     * (todo volcado) o lo sella y continúa en uno nuevo (el volcado va detrás de la última secuencia)
+     */
+    private void rotateJournalIfFlushed() {
+        long flushed = flushedSequence.get();
+        while (!segments.isEmpty() && segments.peekFirst().lastSequence() <= flushed) {
+            deleteSegment(segments.pollFirst());
+        }
+        if (journal.size() <= rotateBytes) {
+            return;
+        }
+        if (flushed >= sequence) {
+            journal.reset();
+            log.debug("Shard {}: journal truncado en la secuencia {}", index, sequence);
+        } else {
+            journal = journal.rotate(sequence);
+            segments.addLast(new Segment(LedgerJournal.segmentPath(journal.path(), sequence), sequence));
+            log.debug("Shard {}: journal sellado en la secuencia {}", index, sequence);
+        }
+    }
+
+    private void deleteSegment(Segment segment) {
+        try {
+            Files.deleteIfExists(segment.path());
+            log.debug("Shard {}: segmento {} volcado y eliminado", index, segment.path().getFileName());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo eliminar el segmento " + segment.path(), ex);
+        }
+    }
+
+    private static final class AccountState {
+        private final long id;
+        private final Money limiteDiario;
+        private String statusCode;
+        private Money balance;
+        /** Día al que corresponde retiradoHoy; null hasta el primer retiro procesado */
+        private LocalDate cupoFecha;
+        private Money retiradoHoy = Money.ZERO;
+
+        private AccountState(long id, String statusCode, Money balance, Money limiteDiario) {
+            this.id = id;
+            this.statusCode = statusCode;
+            this.balance = balance;
+            this.limiteDiario = limiteDiario;
+        }
+
+        /**
+         * Total retirado en la fecha; al cambiar de día se lee el contador persistido,
+         * que ya incluye todo lo recuperado del journal al arrancar
+         */
+        private Money retiradoEn(LocalDate date, DailyWithdrawalLimiter limiter) {
+            if (!date.equals(cupoFecha)) {
+                cupoFecha = date;
+                retiradoHoy = limiter.retirado(id, date);
+            }
+            return retiradoHoy;
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(balance, cupoFecha, retiradoHoy);
+        }
+
+        private void restore(Snapshot snapshot) {
+            balance = snapshot.balance();
+            cupoFecha = snapshot.cupoFecha();
+            retiradoHoy = snapshot.retiradoHoy();
+        }
+
+        private record Snapshot(Money balance, LocalDate cupoFecha, Money retiradoHoy) {
+        }
+    }
+
+    /**
+     * Segmento sellado del journal y la última secuencia que contiene
+     */
+    private record Segment(Path path, long lastSequence) {
+    }
+
+    private sealed interface Command permits Post, UpdateStatus {
+    }
+
+    private record Post(String accountNumber, TransactionStrategy strategy, Money amount,
+                        CompletableFuture<LedgerEntry> ack) implements Command {
+    }
+
+    private record UpdateStatus(String accountNumber, String statusCode) implements Command {
+    }
+}
@@ -0,0 +1,27 @@
+package com.nttdata.account.infrastructure.pagination;
+
+import com.nttdata.account.application.dto.PageDTO;
+import com.nttdata.common.constants.ApiConstants;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Respuesta HTTP de un listado paginado
+ * El cuerpo sigue siendo el arreglo de elementos; el token de la página siguiente viaja
+ * en la cabecera X-Next-Page-Token, ausente en la última página.
+ */
+public final class PageResponses {
+    
+    private PageResponses() {
+        throw new UnsupportedOperationException("Esta es una clase utilitaria");
+    }
+    
+    public static <T> ResponseEntity<List<T>> toResponseEntity(PageDTO<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextPageToken() != null) {
+            response.header(ApiConstants.NEXT_PAGE_TOKEN_HEADER, page.getNextPageToken());
+        }
+        return response.body(page.getItems());
+    }
+}
@@ -0,0 +1,96 @@
+package com.nttdata.account.infrastructure.pagination;
+
+import com.nttdata.common.constants.ErrorConstants;
+import com.nttdata.common.exception.BusinessValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Token opaco de continuación para la paginación por keyset
+ * Codifica la posición de la última fila entregada junto con el listado al que pertenece,
+ * de modo que un token no pueda reutilizarse en otro listado (ni en el historial de otra cuenta).
+ */
+public final class PageToken {
+    
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    
+    private PageToken() {
+        throw new UnsupportedOperationException("Esta es una clase utilitaria");
+    }
+    
+    /**
+     * Posición de la última fila entregada; date es null en los listados ordenados solo por id
+     */
+    public record Position(LocalDateTime date, long id) {
+    }
+    
+    /**
+     * Token para un listado ordenado por id
+     */
+    public static String ofId(String scope, long id) {
+        return encode(VERSION + SEPARATOR + scope + SEPARATOR + id);
+    }
+    
+    /**
+     * Token para un listado ordenado por (fecha, id)
+     */
+    public static String ofDateAndId(String scope, LocalDateTime date, long id) {
+        return encode(VERSION + SEPARATOR + scope + SEPARATOR + date + SEPARATOR + id);
+    }
+    
+    /**
+     * Lee un token emitido por {@link #ofId}
+     * @throws BusinessValidationException si el token está mal formado o es de otro listado
+     */
+    public static long idOf(String scope, String token) {
+        String[] parts = decode(scope, token, 3);
+        return parseId(parts[2]);
+    }
+    
+    /**
+     * Lee un token emitido por {@link #ofDateAndId}
+     * @throws BusinessValidationException si el token está mal formado o es de otro listado
+     */
+    public static Position dateAndIdOf(String scope, String token) {
+        String[] parts = decode(scope, token, 4);
+        try {
+            return new Position(LocalDateTime.parse(parts[2]), parseId(parts[3]));
+        } catch (DateTimeParseException ex) {
+            throw invalid();
+        }
+    }
+    
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static String[] decode(String scope, String token, int expectedParts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw invalid();
+        }
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        if (parts.length != expectedParts || !VERSION.equals(parts[0]) || !scope.equals(parts[1])) {
+            throw invalid();
+        }
+        return parts;
+    }
+    
+    private static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw invalid();
+        }
+    }
+    
+    private static BusinessValidationException invalid() {
+        return new BusinessValidationException(ErrorConstants.TOKEN_PAGINA_INVALIDO);
+    }
+}
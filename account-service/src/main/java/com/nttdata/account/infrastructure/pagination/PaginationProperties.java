@@ -0,0 +1,36 @@
+package com.nttdata.account.infrastructure.pagination;
+
+import com.nttdata.common.constants.ErrorConstants;
+import com.nttdata.common.exception.BusinessValidationException;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración de la paginación por cursor de los listados (account.pagination.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.pagination")
+public class PaginationProperties {
+    
+    /** Tamaño de página cuando el cliente no indica uno */
+    private int defaultSize = 50;
+    
+    /** Tamaño de página máximo aceptado */
+    private int maxSize = 500;
+    
+    /**
+     * Tamaño de página efectivo para el valor solicitado
+     * @throws BusinessValidationException si está fuera de [1, maxSize]
+     */
+    public int resolveSize(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        if (requested < 1 || requested > maxSize) {
+            throw new BusinessValidationException(String.format(ErrorConstants.TAMANIO_PAGINA_INVALIDO, maxSize));
+        }
+        return requested;
+    }
+}
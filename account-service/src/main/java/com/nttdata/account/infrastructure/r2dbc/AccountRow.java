@@ -0,0 +1,69 @@
+package com.nttdata.account.infrastructure.r2dbc;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Fila de account para el adaptador R2DBC
+ * Las asociaciones se guardan como IDs; el código y la descripción de tipo y estado
+ * solo se leen, desde las consultas con JOIN de AccountRowRepository.
+ */
+@Table("account")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class AccountRow {
+    
+    @Id
+    private Long id;
+    
+    @Column("account_number")
+    private String accountNumber;
+    
+    @Column("account_type_id")
+    private Long accountTypeId;
+    
+    @Column("initial_balance")
+    private BigDecimal initialBalance;
+    
+    @Column("current_balance")
+    private BigDecimal currentBalance;
+    
+    @Column("status_id")
+    private Long statusId;
+    
+    @Column("client_id")
+    private String clientId;
+    
+    @Column("created_at")
+    private LocalDateTime createdAt;
+    
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+    
+    @ReadOnlyProperty
+    @Column("account_type_code")
+    private String accountTypeCode;
+    
+    @ReadOnlyProperty
+    @Column("account_type_description")
+    private String accountTypeDescription;
+    
+    @ReadOnlyProperty
+    @Column("status_code")
+    private String statusCode;
+    
+    @ReadOnlyProperty
+    @Column("status_description")
+    private String statusDescription;
+}
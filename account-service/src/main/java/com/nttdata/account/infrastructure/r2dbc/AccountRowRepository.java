@@ -0,0 +1,77 @@
+package com.nttdata.account.infrastructure.r2dbc;
+
+import com.nttdata.shared.domain.repository.AccountRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Repositorio reactivo de account
+ * Las lecturas traen tipo y estado en la misma consulta, como los JOIN FETCH de AccountRepository.
+ */
+public interface AccountRowRepository extends R2dbcRepository<AccountRow, Long> {
+    
+    String SELECT_WITH_DETAILS = """
+        SELECT a.*,
+               t.codigo AS account_type_code, t.descripcion AS account_type_description,
+               s.codigo AS status_code, s.descripcion AS status_description
+        FROM account a
+        JOIN account_type t ON t.id = a.account_type_id
+        JOIN status s ON s.id = a.status_id
+        """;
+    
+    @Query(SELECT_WITH_DETAILS + "WHERE a.account_number = :accountNumber")
+    Mono<AccountRow> findByAccountNumber(@Param("accountNumber") String accountNumber);
+    
+    @Query(SELECT_WITH_DETAILS + "WHERE a.client_id = :clientId ORDER BY a.id")
+    Flux<AccountRow> findByClientId(@Param("clientId") String clientId);
+    
+    /**
+     * Página de cuentas con id mayor al indicado, en orden de id (keyset sobre la clave primaria)
+     */
+    @Query(SELECT_WITH_DETAILS + "WHERE a.id > :afterId ORDER BY a.id LIMIT :limit")
+    Flux<AccountRow> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+    
+    @Query(SELECT_WITH_DETAILS + "ORDER BY a.id")
+    Flux<AccountRow> streamAll();
+    
+    Mono<Boolean> existsByAccountNumber(String accountNumber);
+    
+    /**
+     * Obtiene y bloquea las cuentas indicadas, en orden canónico por id para evitar deadlocks
+     */
+    @Query(SELECT_WITH_DETAILS + "WHERE a.account_number IN (:accountNumbers) ORDER BY a.id FOR UPDATE OF a")
+    Flux<AccountRow> findByAccountNumberInForUpdate(@Param("accountNumbers") Collection<String> accountNumbers);
+    
+    /**
+     * Misma sentencia que AccountRepository#applyBalanceDelta
+     * @return nuevo saldo de la cuenta, o vacío si no hay saldo suficiente
+     */
+    @Query(AccountRepository.APPLY_BALANCE_DELTA_SQL)
+    Mono<BigDecimal> applyBalanceDelta(@Param("accountId") Long accountId, @Param("delta") BigDecimal delta);
+    
+    /**
+     * Cambia tipo y estado sin tocar el saldo, que pueden estar modificando posteos concurrentes
+     */
+    @Modifying
+    @Query("UPDATE account SET account_type_id = :accountTypeId, status_id = :statusId, updated_at = :updatedAt " +
+           "WHERE id = :accountId")
+    Mono<Integer> updateDetails(@Param("accountId") Long accountId,
+                                @Param("accountTypeId") Long accountTypeId,
+                                @Param("statusId") Long statusId,
+                                @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Fija el saldo de una cuenta ya bloqueada en la transacción en curso
+     */
+    @Modifying
+    @Query("UPDATE account SET current_balance = :balance, updated_at = CURRENT_TIMESTAMP WHERE id = :accountId")
+    Mono<Integer> updateBalance(@Param("accountId") Long accountId, @Param("balance") BigDecimal balance);
+}
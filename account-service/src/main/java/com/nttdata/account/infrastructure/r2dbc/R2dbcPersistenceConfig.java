@@ -0,0 +1,72 @@
+package com.nttdata.account.infrastructure.r2dbc;
+
+import com.nttdata.account.infrastructure.groupcommit.GroupCommitProperties;
+import com.nttdata.account.infrastructure.ledger.LedgerProperties;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Persistencia reactiva de cuentas y movimientos sobre R2DBC (perfil r2dbc)
+ * El pool de conexiones y el gestor de transacciones reactivo no se exponen como beans:
+ * conviven con el DataSource y el JpaTransactionManager, que siguen atendiendo las
+ * operaciones que no tienen variante reactiva (lotes, exportaciones, jobs).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "account.r2dbc", name = "enabled", havingValue = "true")
+@EnableR2dbcRepositories(basePackages = "com.nttdata.account.infrastructure.r2dbc",
+                         entityOperationsRef = "r2dbcEntityTemplate")
+@Slf4j
+public class R2dbcPersistenceConfig implements DisposableBean {
+    
+    private final ConnectionPool connectionPool;
+    
+    public R2dbcPersistenceConfig(ReactivePersistenceProperties properties,
+                                  LedgerProperties ledgerProperties,
+                                  GroupCommitProperties groupCommitProperties) {
+        // Ledger y group commit confirman los posteos por JDBC: combinarlos con este modo dejaría dos caminos de escritura
+        if (ledgerProperties.isEnabled() || groupCommitProperties.isEnabled()) {
+            throw new IllegalStateException(
+                "account.r2dbc.enabled no puede combinarse con account.ledger.enabled ni account.group-commit.enabled");
+        }
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+            .option(ConnectionFactoryOptions.USER, properties.getUsername())
+            .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+            .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .initialSize(properties.getInitialSize())
+            .maxSize(properties.getMaxSize())
+            .maxIdleTime(properties.getMaxIdleTime())
+            .build());
+        log.info("Persistencia R2DBC activa: {} (pool máximo {})", properties.getUrl(), properties.getMaxSize());
+    }
+    
+    @Bean
+    public R2dbcEntityTemplate r2dbcEntityTemplate() {
+        // El dialecto se resuelve a partir de los metadatos del driver
+        return new R2dbcEntityTemplate(connectionPool);
+    }
+    
+    /**
+     * Demarcación de transacciones reactivas sobre el mismo pool que usan los repositorios
+     */
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+    
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
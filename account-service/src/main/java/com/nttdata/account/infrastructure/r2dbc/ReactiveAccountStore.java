@@ -0,0 +1,354 @@
+package com.nttdata.account.infrastructure.r2dbc;
+
+import com.nttdata.account.application.service.DailyRollupService;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.AccountType;
+import com.nttdata.shared.domain.model.IdempotencyKey;
+import com.nttdata.shared.domain.model.Status;
+import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.repository.BalanceSnapshotRepository;
+import com.nttdata.shared.domain.repository.DailyWithdrawalRepository;
+import com.nttdata.shared.domain.repository.IdempotencyKeyRepository;
+import com.nttdata.shared.domain.repository.TransactionDailyRollupRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptador de persistencia no bloqueante para cuentas y movimientos (account.r2dbc.enabled)
+ * Traduce las filas R2DBC a las entidades del dominio para que los servicios reutilicen
+ * mappers, estrategias y validaciones sin cambios. Las sentencias de saldos, cupo diario,
+ * cierres y totales diarios son las mismas que usan los repositorios JPA.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.r2dbc", name = "enabled", havingValue = "true")
+public class ReactiveAccountStore {
+
+    private static final String CLIENT_NAME_SQL = """
+        SELECT p.nombre FROM client c
+        JOIN person p ON p.id = c.person_id
+        WHERE c.client_id = :clientId
+        """;
+
+    private static final String FIND_IDEMPOTENCY_KEY_SQL =
+        "SELECT request_hash, response_body FROM idempotency_key WHERE idempotency_key = :key";
+
+    private static final String STORE_IDEMPOTENT_RESPONSE_SQL =
+        "UPDATE idempotency_key SET response_body = :responseBody WHERE idempotency_key = :key";
+
+    private final AccountRowRepository accountRows;
+    private final TransactionRowRepository transactionRows;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveAccountStore(AccountRowRepository accountRows,
+                                TransactionRowRepository transactionRows,
+                                R2dbcEntityTemplate r2dbcEntityTemplate,
+                                TransactionalOperator reactiveTransactionalOperator) {
+        this.accountRows = accountRows;
+        this.transactionRows = transactionRows;
+        this.databaseClient = r2dbcEntityTemplate.getDatabaseClient();
+        this.transactionalOperator = reactiveTransactionalOperator;
+    }
+
+    /**
+     * Ejecuta el flujo dentro de una transacción R2DBC; se confirma al completar y se revierte ante un error
+     */
+    public <T> Mono<T> inTransaction(Mono<T> work) {
+        return transactionalOperator.transactional(work);
+    }
+
+    // ----- Cuentas -----
+
+    public Mono<Account> findAccount(String accountNumber) {
+        return accountRows.findByAccountNumber(accountNumber).map(ReactiveAccountStore::toAccount);
+    }
+
+    public Flux<Account> findAccountsByClient(String clientId) {
+        return accountRows.findByClientId(clientId).map(ReactiveAccountStore::toAccount);
+    }
+
+    public Flux<Account> findAccountPage(long afterId, int limit) {
+        return accountRows.findPageAfter(afterId, limit).map(ReactiveAccountStore::toAccount);
+    }
+
+    public Flux<Account> streamAccounts() {
+        return accountRows.streamAll().map(ReactiveAccountStore::toAccount);
+    }
+
+    public Mono<Boolean> existsAccount(String accountNumber) {
+        return accountRows.existsByAccountNumber(accountNumber);
+    }
+
+    /**
+     * Inserta una cuenta nueva; el tipo y el estado se toman de los objetos ya resueltos
+     */
+    public Mono<Account> insertAccount(Account account) {
+        return accountRows.save(toRow(account))
+            .map(row -> account.toBuilder()
+                .id(row.getId())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build());
+    }
+
+    /**
+     * Guarda el tipo y el estado de la cuenta; el saldo no se escribe
+     */
+    public Mono<Account> updateDetails(Account account) {
+        LocalDateTime now = LocalDateTime.now();
+        return accountRows.updateDetails(account.getId(), account.getAccountType().getId(),
+                account.getStatus().getId(), now)
+            .thenReturn(account.toBuilder().updatedAt(now).build());
+    }
+
+    /**
+     * Obtiene y bloquea las cuentas indicadas hasta el fin de la transacción en curso
+     */
+    public Flux<Account> lockAccounts(Collection<String> accountNumbers) {
+        return accountRows.findByAccountNumberInForUpdate(accountNumbers).map(ReactiveAccountStore::toAccount);
+    }
+
+    /**
+     * Aplica una variación de saldo con el control de sobregiro en la misma sentencia
+     * @return nuevo saldo, o vacío si no hay saldo suficiente
+     */
+    public Mono<Money> applyBalanceDelta(Long accountId, Money delta) {
+        return accountRows.applyBalanceDelta(accountId, delta.toBigDecimal()).map(Money::of);
+    }
+
+    public Mono<Void> updateBalance(Long accountId, Money balance) {
+        return accountRows.updateBalance(accountId, balance.toBigDecimal()).then();
+    }
+
+    // ----- Movimientos -----
+
+    /**
+     * Inserta los movimientos en orden y les asigna el id generado
+     */
+    public Flux<Transaction> saveTransactions(List<Transaction> transactions) {
+        return transactionRows.saveAll(transactions.stream().map(ReactiveAccountStore::toRow).toList())
+            .zipWithIterable(transactions, (row, transaction) -> {
+                transaction.setId(row.getId());
+                return transaction;
+            });
+    }
+
+    public Mono<Transaction> findTransaction(Long id) {
+        return transactionRows.findWithAccountById(id).map(ReactiveAccountStore::toTransaction);
+    }
+
+    public Flux<Transaction> findTransactionPage(long afterId, int limit) {
+        return transactionRows.findPageAfter(afterId, limit).map(ReactiveAccountStore::toTransaction);
+    }
+
+    public Flux<Transaction> findHistoryPage(Long accountId, int limit) {
+        return transactionRows.findHistoryPage(accountId, limit).map(ReactiveAccountStore::toTransaction);
+    }
+
+    public Flux<Transaction> findHistoryPageBefore(Long accountId, LocalDateTime fecha, long id, int limit) {
+        return transactionRows.findHistoryPageBefore(accountId, fecha, id, limit).map(ReactiveAccountStore::toTransaction);
+    }
+
+    public Flux<Transaction> streamTransactions() {
+        return transactionRows.streamAll().map(ReactiveAccountStore::toTransaction);
+    }
+
+    public Flux<Transaction> streamHistory(Long accountId) {
+        return transactionRows.streamHistory(accountId).map(ReactiveAccountStore::toTransaction);
+    }
+
+    public Flux<Transaction> findTransactionsByClient(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+        return transactionRows.findByClientIdAndFechaBetween(clientId, startDate, endDate)
+            .map(ReactiveAccountStore::toTransaction);
+    }
+
+    // ----- Cupo diario, cierres y totales diarios -----
+
+    /**
+     * Suma el retiro al total del día si no supera el límite (misma sentencia que DailyWithdrawalRepository)
+     * @return el nuevo total del día, o vacío si se superaría el límite
+     */
+    public Mono<Money> reservarCupo(Long accountId, LocalDate fecha, Money amount, Money limit) {
+        return databaseClient.sql(DailyWithdrawalRepository.ADD_IF_WITHIN_LIMIT_SQL)
+            .bind("accountId", accountId)
+            .bind("fecha", fecha)
+            .bind("amount", amount.toBigDecimal())
+            .bind("limit", limit.toBigDecimal())
+            .map(row -> row.get(0, BigDecimal.class))
+            .one()
+            .map(Money::of);
+    }
+
+    /**
+     * Actualiza cierres de saldo y totales diarios con los movimientos recién guardados.
+     * Debe ejecutarse en la transacción del posteo, con las cuentas bloqueadas.
+     */
+    public Mono<Void> registrarAgregados(List<Transaction> transactions) {
+        return Flux.fromIterable(DailyRollupService.resumirPorDia(transactions))
+            .concatMap(dia -> databaseClient.sql(BalanceSnapshotRepository.UPSERT_SQL)
+                .bind("accountId", dia.accountId())
+                .bind("fecha", dia.date())
+                .bind("saldo", dia.closingBalance().toBigDecimal())
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql(TransactionDailyRollupRepository.ACCUMULATE_SQL)
+                    .bind("accountId", dia.accountId())
+                    .bind("fecha", dia.date())
+                    .bind("creditos", dia.credits().toBigDecimal())
+                    .bind("debitos", dia.debits().toBigDecimal())
+                    .bind("cantidad", dia.count())
+                    .bind("saldo", dia.closingBalance().toBigDecimal())
+                    .fetch()
+                    .rowsUpdated()))
+            .then();
+    }
+
+    /**
+     * Saldo a un instante de todas las cuentas del cliente (misma consulta que BalanceHistoryService)
+     */
+    public Mono<Map<Long, Money>> saldosAlPorCliente(String clientId, LocalDateTime at) {
+        return databaseClient.sql(BalanceSnapshotRepository.BALANCES_AT_BY_CLIENT_SQL)
+            .bind("clientId", clientId)
+            .bind("fecha", at.toLocalDate())
+            .bind("hasta", at)
+            .map(row -> Map.entry(row.get("accountId", Long.class), Money.of(row.get("balance", BigDecimal.class))))
+            .all()
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * Créditos y débitos del período por cuenta del cliente (misma consulta que DailyRollupService)
+     * @param endDate fin del período, inclusive
+     */
+    public Mono<Map<Long, DailyRollupService.RangeTotals>> totalesPorCliente(String clientId, LocalDateTime startDate,
+                                                                           LocalDateTime endDate) {
+        DailyRollupService.RangeBounds limites = DailyRollupService.limites(startDate, endDate);
+        return databaseClient.sql(TransactionDailyRollupRepository.SUM_TOTALS_BY_CLIENT_SQL)
+            .bind("clientId", clientId)
+            .bind("desde", startDate)
+            .bind("hasta", limites.hasta())
+            .bind("primerDia", limites.primerDia())
+            .bind("ultimoDia", limites.ultimoDia())
+            .bind("inicioCompletos", limites.inicioCompletos())
+            .bind("finCompletos", limites.finCompletos())
+            .map(row -> Map.entry(row.get("accountId", Long.class), new DailyRollupService.RangeTotals(
+                Money.of(row.get("credits", BigDecimal.class)), Money.of(row.get("debits", BigDecimal.class)))))
+            .all()
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    // ----- Idempotencia -----
+
+    /**
+     * Reserva la clave (misma sentencia que IdempotencyKeyRepository.claim)
+     * @return true si la clave quedó reservada por la transacción actual
+     */
+    public Mono<Boolean> claimIdempotencyKey(String key, String requestHash) {
+        return databaseClient.sql(IdempotencyKeyRepository.CLAIM_SQL)
+            .bind("key", key)
+            .bind("requestHash", requestHash)
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows > 0);
+    }
+
+    public Mono<IdempotencyKey> findIdempotencyKey(String key) {
+        return databaseClient.sql(FIND_IDEMPOTENCY_KEY_SQL)
+            .bind("key", key)
+            .map(row -> IdempotencyKey.builder()
+                .key(key)
+                .requestHash(row.get("request_hash", String.class))
+                .responseBody(row.get("response_body", String.class))
+                .build())
+            .one();
+    }
+
+    public Mono<Void> storeIdempotentResponse(String key, String responseBody) {
+        return databaseClient.sql(STORE_IDEMPOTENT_RESPONSE_SQL)
+            .bind("key", key)
+            .bind("responseBody", responseBody)
+            .fetch()
+            .rowsUpdated()
+            .then();
+    }
+
+    // ----- Clientes -----
+
+    public Mono<String> findClientName(String clientId) {
+        return databaseClient.sql(CLIENT_NAME_SQL)
+            .bind("clientId", clientId)
+            .map(row -> row.get("nombre", String.class))
+            .one();
+    }
+
+    // ----- Conversión entre filas y entidades -----
+
+    private static Account toAccount(AccountRow row) {
+        return Account.builder()
+            .id(row.getId())
+            .accountNumber(row.getAccountNumber())
+            .accountType(new AccountType(row.getAccountTypeId(), row.getAccountTypeCode(),
+                row.getAccountTypeDescription(), true))
+            .initialBalance(Money.of(row.getInitialBalance()))
+            .currentBalance(Money.of(row.getCurrentBalance()))
+            .status(new Status(row.getStatusId(), row.getStatusCode(), row.getStatusDescription(), true))
+            .clientId(row.getClientId())
+            .createdAt(row.getCreatedAt())
+            .updatedAt(row.getUpdatedAt())
+            .build();
+    }
+
+    private static AccountRow toRow(Account account) {
+        LocalDateTime now = LocalDateTime.now();
+        Money currentBalance = account.getCurrentBalance() != null
+            ? account.getCurrentBalance() : account.getInitialBalance();
+        return AccountRow.builder()
+            .accountNumber(account.getAccountNumber())
+            .accountTypeId(account.getAccountType().getId())
+            .initialBalance(account.getInitialBalance().toBigDecimal())
+            .currentBalance(currentBalance.toBigDecimal())
+            .statusId(account.getStatus().getId())
+            .clientId(account.getClientId())
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+
+    private static Transaction toTransaction(TransactionRow row) {
+        return Transaction.builder()
+            .id(row.getId())
+            .date(row.getDate())
+            .transactionType(Transaction.TransactionType.valueOf(row.getTransactionType()))
+            .amount(Money.of(row.getAmount()))
+            .balance(Money.of(row.getBalance()))
+            .account(Account.builder()
+                .id(row.getAccountId())
+                .accountNumber(row.getAccountNumber())
+                .clientId(row.getClientId())
+                .build())
+            .build();
+    }
+
+    private static TransactionRow toRow(Transaction transaction) {
+        return TransactionRow.builder()
+            .date(transaction.getDate())
+            .transactionType(transaction.getTransactionType().name())
+            .amount(transaction.getAmount().toBigDecimal())
+            .balance(transaction.getBalance().toBigDecimal())
+            .accountId(transaction.getAccount().getId())
+            .build();
+    }
+}
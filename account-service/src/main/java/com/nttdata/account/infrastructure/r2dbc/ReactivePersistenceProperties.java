@@ -0,0 +1,35 @@
+package com.nttdata.account.infrastructure.r2dbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la persistencia reactiva (account.r2dbc.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.r2dbc")
+public class ReactivePersistenceProperties {
+    
+    /** Activa el adaptador R2DBC; si es false todos los servicios usan JPA */
+    private boolean enabled = false;
+    
+    /** URL R2DBC de la misma base que spring.datasource (r2dbc:postgresql://...) */
+    private String url = "r2dbc:postgresql://localhost:5432/nttdata_bank";
+    
+    private String username = "postgres";
+    
+    private String password = "postgres";
+    
+    /** Conexiones abiertas al iniciar el pool */
+    private int initialSize = 5;
+    
+    /** Máximo de conexiones del pool reactivo, adicionales a las de Hikari */
+    private int maxSize = 10;
+    
+    /** Tiempo que una conexión ociosa se conserva en el pool */
+    private Duration maxIdleTime = Duration.ofMinutes(30);
+}
@@ -0,0 +1,53 @@
+package com.nttdata.account.infrastructure.r2dbc;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Fila de transaction para el adaptador R2DBC
+ * El id lo asigna el DEFAULT de la columna (nextval de transaction_id_seq). El optimizador pooled
+ * de Hibernate solo usa el bloque de 50 que termina en cada valor que él mismo obtuvo de la secuencia,
+ * así que un valor tomado por este adaptador nunca cae dentro de un bloque de JPA.
+ */
+@Table("transaction")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TransactionRow {
+    
+    @Id
+    private Long id;
+    
+    @Column("fecha")
+    private LocalDateTime date;
+    
+    @Column("transaction_type")
+    private String transactionType;
+    
+    @Column("valor")
+    private BigDecimal amount;
+    
+    @Column("saldo")
+    private BigDecimal balance;
+    
+    @Column("account_id")
+    private Long accountId;
+    
+    @ReadOnlyProperty
+    @Column("account_number")
+    private String accountNumber;
+    
+    @ReadOnlyProperty
+    @Column("client_id")
+    private String clientId;
+}
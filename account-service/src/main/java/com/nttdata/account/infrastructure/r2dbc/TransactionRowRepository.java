@@ -0,0 +1,65 @@
+package com.nttdata.account.infrastructure.r2dbc;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositorio reactivo de transaction
+ * Las lecturas traen el número de cuenta y el cliente en la misma consulta.
+ */
+public interface TransactionRowRepository extends R2dbcRepository<TransactionRow, Long> {
+    
+    String SELECT_WITH_ACCOUNT = """
+        SELECT t.*, a.account_number, a.client_id
+        FROM transaction t
+        JOIN account a ON a.id = t.account_id
+        """;
+    
+    @Query(SELECT_WITH_ACCOUNT + "WHERE t.id = :id")
+    Mono<TransactionRow> findWithAccountById(@Param("id") Long id);
+    
+    /**
+     * Página de movimientos con id mayor al indicado, en orden de id (keyset sobre la clave primaria)
+     */
+    @Query(SELECT_WITH_ACCOUNT + "WHERE t.id > :afterId ORDER BY t.id LIMIT :limit")
+    Flux<TransactionRow> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+    
+    /**
+     * Primera página del historial de la cuenta, del más reciente al más antiguo
+     */
+    @Query(SELECT_WITH_ACCOUNT + "WHERE t.account_id = :cuentaId ORDER BY t.fecha DESC, t.id DESC LIMIT :limit")
+    Flux<TransactionRow> findHistoryPage(@Param("cuentaId") Long cuentaId, @Param("limit") int limit);
+    
+    /**
+     * Página siguiente del historial: mismo criterio que TransactionRepository#findHistoryPageBefore
+     */
+    @Query(SELECT_WITH_ACCOUNT + """
+        WHERE t.account_id = :cuentaId
+          AND t.fecha <= :fecha AND (t.fecha < :fecha OR t.id < :id)
+        ORDER BY t.fecha DESC, t.id DESC
+        LIMIT :limit
+        """)
+    Flux<TransactionRow> findHistoryPageBefore(@Param("cuentaId") Long cuentaId,
+                                               @Param("fecha") LocalDateTime fecha,
+                                               @Param("id") long id,
+                                               @Param("limit") int limit);
+    
+    @Query(SELECT_WITH_ACCOUNT + "ORDER BY t.id")
+    Flux<TransactionRow> streamAll();
+    
+    @Query(SELECT_WITH_ACCOUNT + "WHERE t.account_id = :cuentaId ORDER BY t.fecha DESC, t.id DESC")
+    Flux<TransactionRow> streamHistory(@Param("cuentaId") Long cuentaId);
+    
+    @Query(SELECT_WITH_ACCOUNT + """
+        WHERE a.client_id = :clientId AND t.fecha BETWEEN :startDate AND :endDate
+        ORDER BY t.fecha DESC
+        """)
+    Flux<TransactionRow> findByClientIdAndFechaBetween(@Param("clientId") String clientId,
+                                                       @Param("startDate") LocalDateTime startDate,
+                                                       @Param("endDate") LocalDateTime endDate);
+}
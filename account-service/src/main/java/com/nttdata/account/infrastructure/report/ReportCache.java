@@ -0,0 +1,140 @@
+package com.nttdata.account.infrastructure.report;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nttdata.account.application.dto.AccountStatementReportDTO;
+import com.nttdata.shared.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caché de reportes de estado de cuenta por cliente y rango de fechas
+ * Acotada por peso (cuentas más movimientos de cada reporte) con la política de desalojo
+ * W-TinyLFU de Caffeine. Las solicitudes idénticas concurrentes comparten una misma carga.
+ * La invalidación es por cliente: cada cliente tiene una versión que forma parte de la clave
+ * y se incrementa al confirmarse un cambio sobre sus cuentas, de modo que ni los reportes
+ * guardados ni los que estaban calculándose durante el cambio vuelven a servirse;
+ * las entradas de versiones anteriores quedan sin accesos y las desaloja la política.
+ * Las versiones vencen al doble del TTL de los reportes: para entonces ya venció todo reporte
+ * guardado con la versión anterior (también uno cuya carga terminó durante el cambio),
+ * así que volver a la versión 0 no sirve datos viejos.
+ */
+@Component
+@Slf4j
+public class ReportCache {
+    
+    private final AccountRepository accountRepository;
+    private final ReportCacheProperties properties;
+    private final AsyncCache<ReportKey, AccountStatementReportDTO> reports;
+    /** Solo contiene clientes con algún cambio en los últimos dos TTL; los demás están en la versión 0 */
+    private final Cache<String, Long> versions;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Timer loadTimer;
+    
+    public ReportCache(AccountRepository accountRepository,
+                       ReportCacheProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.properties = properties;
+        this.reports = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaximumWeight())
+            .weigher((ReportKey key, AccountStatementReportDTO report) -> weight(report))
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .buildAsync();
+        // Sin tope de tamaño: desalojar una versión antes de tiempo volvería a servir reportes viejos
+        this.versions = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getTtl().multipliedBy(2))
+            .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size; la tasa de aciertos sale de cache.gets
+        CaffeineCacheMetrics.monitor(meterRegistry, reports.synchronous(), "reports");
+        this.loadTimer = Timer.builder("reports.cache.load")
+            .description("Tiempo de armado de un reporte no encontrado en caché")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Devuelve el reporte guardado o lo calcula una sola vez para todas las solicitudes concurrentes
+     * @param loader cálculo del reporte; un error no se guarda y la siguiente solicitud reintenta
+     */
+    public Mono<AccountStatementReportDTO> get(String clientId, LocalDateTime startDate, LocalDateTime endDate,
+                                               Supplier<Mono<AccountStatementReportDTO>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        return Mono.defer(() -> {
+            Long version = versions.getIfPresent(clientId);
+            ReportKey key = new ReportKey(clientId, version == null ? 0L : version, startDate, endDate);
+            // La carga no depende del suscriptor: si uno cancela, los demás siguen esperándola
+            return Mono.fromFuture(reports.get(key, (k, executor) -> loader.get()
+                .transform(this::timed)
+                .toFuture()), true);
+        });
+    }
+    
+    /**
+     * Invalida los reportes del cliente cuando se confirme la transacción en curso (o de inmediato si no hay una)
+     */
+    public void invalidar(String clientId) {
+        if (!properties.isEnabled() || clientId == null) {
+            return;
+        }
+        afterCommit(() -> versions.put(clientId, versionSequence.incrementAndGet()));
+    }
+    
+    /**
+     * Invalida los reportes de los clientes dueños de las cuentas indicadas
+     */
+    public void invalidarCuentas(Collection<Long> accountIds) {
+        if (!properties.isEnabled() || accountIds.isEmpty()) {
+            return;
+        }
+        accountRepository.findClientIdsByIdIn(accountIds).forEach(this::invalidar);
+    }
+    
+    private Mono<AccountStatementReportDTO> timed(Mono<AccountStatementReportDTO> load) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return load.doFinally(signal -> sample.stop(loadTimer));
+        });
+    }
+    
+    private static int weight(AccountStatementReportDTO report) {
+        int weight = 1;
+        if (report.getAccounts() != null) {
+            for (AccountStatementReportDTO.AccountReportDTO account : report.getAccounts()) {
+                weight += 1 + (account.getTransactions() == null ? 0 : account.getTransactions().size());
+            }
+        }
+        return weight;
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private record ReportKey(String clientId, long version, LocalDateTime startDate, LocalDateTime endDate) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.nttdata.account.infrastructure.report;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la caché de reportes de estado de cuenta (account.reports.cache.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.reports.cache")
+public class ReportCacheProperties {
+    
+    /** Activa la caché de reportes */
+    private boolean enabled = true;
+    
+    /** Peso máximo total de la caché, medido en cuentas más movimientos de los reportes guardados */
+    private long maximumWeight = 200_000;
+    
+    /** Vigencia máxima de un reporte; acota cambios que no pasan por este servicio (p. ej. el nombre del cliente) */
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,106 @@
+package com.nttdata.account.infrastructure.report;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reporte de estado de cuenta generado en segundo plano hacia un archivo local
+ * El estado lo escribe solo el hilo que lo genera; las consultas lo leen sin bloquear.
+ */
+@Getter
+public class ReportJob {
+    
+    /**
+     * Estado del reporte
+     */
+    public enum Status {
+        PENDIENTE, EN_PROCESO, COMPLETADO, FALLIDO
+    }
+    
+    /**
+     * Prioridad en la cola: a igual prioridad se atiende por orden de llegada
+     */
+    public enum Priority {
+        ALTA, NORMAL, BAJA
+    }
+    
+    /**
+     * Formato del archivo generado
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+        
+        private final String mediaType;
+        private final String extension;
+        
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+        
+        public String getMediaType() {
+            return mediaType;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+    }
+    
+    private final String id;
+    private final String clientId;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Format format;
+    private final Priority priority;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong processedRows = new AtomicLong();
+    
+    private volatile Status status = Status.PENDIENTE;
+    private volatile long totalRows = -1;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile Path file;
+    
+    ReportJob(String id, String clientId, LocalDateTime startDate, LocalDateTime endDate,
+              Format format, Priority priority) {
+        this.id = id;
+        this.clientId = clientId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.format = format;
+        this.priority = priority;
+    }
+    
+    /**
+     * Avance de 0 a 100; desconocido (0) hasta que se cuentan los movimientos
+     */
+    public int progress() {
+        if (status == Status.COMPLETADO) {
+            return 100;
+        }
+        long total = totalRows;
+        return total <= 0 ? 0 : (int) Math.min(99, processedRows.get() * 100 / total);
+    }
+    
+    void started(long total) {
+        this.totalRows = total;
+        this.status = Status.EN_PROCESO;
+    }
+    
+    void completed(Path result) {
+        this.file = result;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETADO;
+    }
+    
+    void failed(String message) {
+        this.error = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FALLIDO;
+    }
+}
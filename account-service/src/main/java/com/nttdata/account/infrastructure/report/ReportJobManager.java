@@ -0,0 +1,229 @@
+package com.nttdata.account.infrastructure.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.account.application.dto.StatementRowDTO;
+import com.nttdata.common.constants.ErrorConstants;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Ejecución de reportes de estado de cuenta en segundo plano
+ * Los reportes se atienden en un executor propio, con un máximo de reportes simultáneos
+ * (y por lo tanto de conexiones ocupadas) independiente del tráfico interactivo, y una cola
+ * acotada ordenada por prioridad. El resultado se escribe en un archivo local que luego
+ * se descarga sin pasar por la memoria del servicio; los reportes vencidos y sus archivos
+ * se eliminan periódicamente.
+ */
+@Component
+@Slf4j
+public class ReportJobManager {
+    
+    private static final String PART_SUFFIX = ".part";
+    
+    private final StatementRowCursor statementRowCursor;
+    private final ObjectMapper objectMapper;
+    private final ReportJobProperties properties;
+    private final Path spoolDir;
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong submissionSequence = new AtomicLong();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer duration;
+    
+    public ReportJobManager(StatementRowCursor statementRowCursor,
+                            ObjectMapper objectMapper,
+                            ReportJobProperties properties,
+                            MeterRegistry meterRegistry) throws IOException {
+        this.statementRowCursor = statementRowCursor;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.spoolDir = Files.createDirectories(Paths.get(properties.getSpoolDir()));
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Con una PriorityBlockingQueue el pool nunca crece por encima del core: concurrency es el tope real
+        this.executor = new ThreadPoolExecutor(properties.getConcurrency(), properties.getConcurrency(),
+            0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+            r -> new Thread(r, "report-job-" + threadNumber.incrementAndGet()));
+        
+        Gauge.builder("reports.jobs.queued", queued, AtomicInteger::get)
+            .description("Reportes en espera de un hilo")
+            .register(meterRegistry);
+        Gauge.builder("reports.jobs.running", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Reportes generándose")
+            .register(meterRegistry);
+        this.duration = Timer.builder("reports.jobs.duration")
+            .description("Tiempo de generación de un reporte en segundo plano")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Encola un reporte
+     * @throws RejectedExecutionException si la cola está llena
+     */
+    public ReportJob submit(String clientId, LocalDateTime startDate, LocalDateTime endDate,
+                            ReportJob.Format format, ReportJob.Priority priority) {
+        if (queued.incrementAndGet() > properties.getMaxQueued()) {
+            queued.decrementAndGet();
+            throw new RejectedExecutionException(ErrorConstants.COLA_REPORTES_LLENA);
+        }
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), clientId, startDate, endDate, format, priority);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(new PrioritizedTask(job, submissionSequence.incrementAndGet()));
+        } catch (RejectedExecutionException ex) {
+            queued.decrementAndGet();
+            jobs.remove(job.getId());
+            throw ex;
+        }
+        log.info("Reporte {} encolado para cliente {} con prioridad {}", job.getId(), clientId, priority);
+        return job;
+    }
+    
+    public Optional<ReportJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+    
+    /**
+     * Elimina los reportes terminados que superaron la retención y los archivos huérfanos
+     * (por ejemplo, de una ejecución anterior del servicio)
+     */
+    @Scheduled(fixedDelayString = "#{@reportJobProperties.sweepInterval.toMillis()}")
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> {
+            boolean expired = job.getFinishedAt() != null && job.getFinishedAt().isBefore(before);
+            if (expired && job.getFile() != null) {
+                deleteQuietly(job.getFile());
+            }
+            return expired;
+        });
+        
+        Instant orphanBefore = Instant.now().minus(properties.getRetention());
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            files.filter(file -> isOrphan(file, orphanBefore)).forEach(ReportJobManager::deleteQuietly);
+        } catch (IOException ex) {
+            log.warn("No se pudo recorrer el directorio de reportes {}", spoolDir, ex);
+        }
+    }
+    
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+    
+    private void run(ReportJob job) {
+        queued.decrementAndGet();
+        Timer.Sample sample = Timer.start();
+        Path part = spoolDir.resolve(job.getId() + "." + job.getFormat().getExtension() + PART_SUFFIX);
+        try {
+            job.started(statementRowCursor.count(job.getClientId(), job.getStartDate(), job.getEndDate()));
+            try (BufferedWriter writer = Files.newBufferedWriter(part, StandardCharsets.UTF_8)) {
+                if (job.getFormat() == ReportJob.Format.CSV) {
+                    writer.write(StatementRowDTO.CSV_HEADER);
+                }
+                statementRowCursor.forEach(job.getClientId(), job.getStartDate(), job.getEndDate(), row -> {
+                    write(writer, job.getFormat(), row);
+                    job.getProcessedRows().incrementAndGet();
+                });
+            }
+            // El archivo solo aparece con su nombre final cuando está completo
+            Path result = Files.move(part, spoolDir.resolve(job.getId() + "." + job.getFormat().getExtension()),
+                StandardCopyOption.ATOMIC_MOVE);
+            job.completed(result);
+            log.info("Reporte {} completado: {} movimientos", job.getId(), job.getProcessedRows().get());
+        } catch (Exception ex) {
+            deleteQuietly(part);
+            job.failed(ErrorConstants.ERROR_INTERNO);
+            log.error("Error generando el reporte {}", job.getId(), ex);
+        } finally {
+            sample.stop(duration);
+        }
+    }
+    
+    private void write(BufferedWriter writer, ReportJob.Format format, StatementRowDTO row) {
+        try {
+            if (format == ReportJob.Format.CSV) {
+                writer.write(row.toCsvLine());
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+    
+    private boolean isOrphan(Path file, Instant before) {
+        String name = file.getFileName().toString();
+        int dot = name.indexOf('.');
+        if (dot > 0 && jobs.containsKey(name.substring(0, dot))) {
+            return false;
+        }
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(before);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+    
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("No se pudo eliminar el archivo de reporte {}", file, ex);
+        }
+    }
+    
+    /**
+     * Tarea ordenada por prioridad y, a igual prioridad, por orden de llegada
+     */
+    private final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+        
+        private final ReportJob job;
+        private final long sequence;
+        
+        private PrioritizedTask(ReportJob job, long sequence) {
+            this.job = job;
+            this.sequence = sequence;
+        }
+        
+        @Override
+        public void run() {
+            ReportJobManager.this.run(job);
+        }
+        
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            int byPriority = job.getPriority().compareTo(other.job.getPriority());
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
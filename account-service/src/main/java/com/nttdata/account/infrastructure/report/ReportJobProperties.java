@@ -0,0 +1,31 @@
+package com.nttdata.account.infrastructure.report;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración de los reportes en segundo plano (account.reports.jobs.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.reports.jobs")
+public class ReportJobProperties {
+    
+    /** Directorio donde se escriben los resultados */
+    private String spoolDir = "data/report-jobs";
+    
+    /** Reportes generados a la vez; cada uno ocupa una conexión del pool mientras corre */
+    private int concurrency = 2;
+    
+    /** Máximo de reportes en espera; por encima se rechazan con 503 */
+    private int maxQueued = 100;
+    
+    /** Tiempo que se conservan un reporte terminado y su archivo */
+    private Duration retention = Duration.ofHours(1);
+    
+    /** Frecuencia de la limpieza de reportes vencidos */
+    private Duration sweepInterval = Duration.ofMinutes(5);
+}
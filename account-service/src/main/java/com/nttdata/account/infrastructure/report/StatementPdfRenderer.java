@@ -0,0 +1,188 @@
+package com.nttdata.account.infrastructure.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import com.nttdata.account.application.dto.StatementRowDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.function.Consumer;
+
+/**
+ * Generación del estado de cuenta en PDF escribiendo directamente sobre el stream de salida
+ * Las filas se agregan a una tabla incompleta (LargeElement) que se vuelca al documento cada
+ * pocas filas: OpenPDF escribe cada página al cerrarla, así que en memoria solo queda la página
+ * en curso y la tabla de referencias del archivo, sin importar la cantidad de movimientos.
+ * Las fuentes, celdas de encabezado y formatos se crean una sola vez y se reutilizan.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatementPdfRenderer {
+    
+    /** Filas agregadas a la tabla antes de volcarla al documento */
+    private static final int FLUSH_EVERY_ROWS = 50;
+    
+    private static final float[] COLUMN_WIDTHS = {2.2f, 1.4f, 1.8f, 1.6f, 1.3f, 1.3f};
+    private static final String[] COLUMNS = {"Fecha", "Cuenta", "Tipo", "Movimiento", "Valor", "Saldo"};
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    
+    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14);
+    private static final Font TEXT_FONT = FontFactory.getFont(FontFactory.HELVETICA, 9);
+    private static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8, Color.WHITE);
+    private static final Font CELL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 8);
+    private static final Color HEADER_BACKGROUND = new Color(0, 51, 102);
+    
+    /** Celdas del encabezado de la tabla; PdfPTable copia cada celda al agregarla */
+    private static final PdfPCell[] HEADER_CELLS = headerCells();
+    
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Origen de las filas del estado de cuenta, recorrido una sola vez en orden
+     */
+    @FunctionalInterface
+    public interface RowSource {
+        void forEach(Consumer<StatementRowDTO> action) throws Exception;
+    }
+    
+    /**
+     * Datos de cabecera del estado de cuenta
+     */
+    public record Header(String client, String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+    }
+    
+    /**
+     * Escribe el PDF en el stream; el stream no se cierra
+     */
+    public void render(Header header, RowSource rows, OutputStream out) throws Exception {
+        Document document = new Document(PageSize.A4, 36, 36, 36, 36);
+        PdfWriter.getInstance(document, new NonClosingOutputStream(out));
+        document.open();
+        try {
+            document.add(new Paragraph("Estado de Cuenta", TITLE_FONT));
+            document.add(new Paragraph("Cliente: " + header.client() + " (" + header.clientId() + ")", TEXT_FONT));
+            document.add(new Paragraph("Período: " + DAY.format(header.startDate()) + " a " + DAY.format(header.endDate()),
+                TEXT_FONT));
+            document.add(new Paragraph(" ", TEXT_FONT));
+            
+            PdfPTable table = newTable();
+            int[] pending = {0};
+            rows.forEach(row -> {
+                addRow(table, row);
+                if (++pending[0] == FLUSH_EVERY_ROWS) {
+                    addToDocument(document, table);
+                    pending[0] = 0;
+                }
+            });
+            table.setComplete(true);
+            document.add(table);
+        } finally {
+            document.close();
+        }
+    }
+    
+    /**
+     * Escribe un objeto JSON con la cabecera y el PDF en base64, codificado a medida que se genera
+     * {"cliente":..., "clientId":..., "fechaInicio":..., "fechaFin":..., "pdf":"JVBERi0..."}
+     */
+    public void renderBase64Json(Header header, RowSource rows, OutputStream out) throws Exception {
+        writeUtf8(out, "{\"cliente\":" + objectMapper.writeValueAsString(header.client())
+            + ",\"clientId\":" + objectMapper.writeValueAsString(header.clientId())
+            + ",\"fechaInicio\":\"" + DAY.format(header.startDate())
+            + "\",\"fechaFin\":\"" + DAY.format(header.endDate())
+            + "\",\"pdf\":\"");
+        // close() del codificador escribe el relleno final sin cerrar el stream de la respuesta
+        try (OutputStream base64 = Base64.getEncoder().wrap(new NonClosingOutputStream(out))) {
+            render(header, rows, base64);
+        }
+        writeUtf8(out, "\"}");
+    }
+    
+    private static PdfPTable newTable() {
+        PdfPTable table = new PdfPTable(COLUMN_WIDTHS);
+        table.setWidthPercentage(100);
+        table.setHeaderRows(1);
+        // Tabla incompleta: cada document.add() escribe las filas acumuladas y las libera
+        table.setComplete(false);
+        for (PdfPCell cell : HEADER_CELLS) {
+            table.addCell(cell);
+        }
+        return table;
+    }
+    
+    private static void addRow(PdfPTable table, StatementRowDTO row) {
+        table.addCell(new Phrase(row.getDate() == null ? "" : DATE.format(row.getDate()), CELL_FONT));
+        table.addCell(new Phrase(row.getAccountNumber(), CELL_FONT));
+        table.addCell(new Phrase(row.getAccountType(), CELL_FONT));
+        table.addCell(new Phrase(row.getTransactionType(), CELL_FONT));
+        table.addCell(amountCell(row.getAmount() == null ? "" : row.getAmount().toString()));
+        table.addCell(amountCell(row.getBalance() == null ? "" : row.getBalance().toString()));
+    }
+    
+    private static PdfPCell amountCell(String value) {
+        PdfPCell cell = new PdfPCell(new Phrase(value, CELL_FONT));
+        cell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+        return cell;
+    }
+    
+    private static void addToDocument(Document document, PdfPTable table) {
+        try {
+            document.add(table);
+        } catch (DocumentException ex) {
+            throw new IllegalStateException("Error escribiendo el estado de cuenta en PDF", ex);
+        }
+    }
+    
+    private static PdfPCell[] headerCells() {
+        PdfPCell[] cells = new PdfPCell[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            cells[i] = new PdfPCell(new Phrase(COLUMNS[i], HEADER_FONT));
+            cells[i].setBackgroundColor(HEADER_BACKGROUND);
+            cells[i].setHorizontalAlignment(Element.ALIGN_CENTER);
+        }
+        return cells;
+    }
+    
+    private static void writeUtf8(OutputStream out, String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Evita que cerrar el documento o el codificador cierre el stream de la respuesta
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.nttdata.account.infrastructure.report;
+
+import com.nttdata.account.application.dto.StatementRowDTO;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Transaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Lectura en streaming de los movimientos de un cliente para la exportación del estado de cuenta
+ * Usa un cursor JDBC de solo avance con fetch size acotado: PostgreSQL entrega las filas por bloques
+ * y cada fila se emite solo cuando el suscriptor la solicita, por lo que la memoria no depende
+ * del tamaño del rango. La conexión queda tomada mientras dure la descarga y se libera al
+ * completar, fallar o cancelar.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatementRowCursor {
+
+    private static final String SELECT_ROWS = """
+        SELECT a.account_number, tc.descripcion AS account_type, t.fecha, t.transaction_type, t.valor, t.saldo
+        FROM transaction t
+        JOIN account a ON a.id = t.account_id
+        JOIN account_type tc ON tc.id = a.account_type_id
+        WHERE a.client_id = ? AND t.fecha BETWEEN ? AND ?
+        ORDER BY a.account_number, t.fecha, t.id
+        """;
+
+    private static final String COUNT_ROWS = """
+        SELECT COUNT(*)
+        FROM transaction t
+        JOIN account a ON a.id = t.account_id
+        WHERE a.client_id = ? AND t.fecha BETWEEN ? AND ?
+        """;
+
+    private final DataSource dataSource;
+    private final JdbcBulkhead jdbcBulkhead;
+
+    @Value("${account.reports.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Movimientos del cliente en el rango, ordenados por cuenta y fecha
+     */
+    public Flux<StatementRowDTO> stream(String clientId, LocalDateTime startDate, LocalDateTime endDate) {
+        // La lectura JDBC es bloqueante: se atiende fuera del event loop y cuenta en el compartimento de streams
+        return jdbcBulkhead.stream(Flux.<StatementRowDTO, Cursor>generate(
+                () -> open(clientId, startDate, endDate),
+                (cursor, sink) -> {
+                    try {
+                        if (cursor.resultSet().next()) {
+                            sink.next(map(cursor.resultSet()));
+                        } else {
+                            sink.complete();
+                        }
+                    } catch (SQLException ex) {
+                        sink.error(new IllegalStateException("Error leyendo los movimientos a exportar", ex));
+                    }
+                    return cursor;
+                },
+                Cursor::close));
+    }
+
+    /**
+     * Recorre los movimientos en el hilo actual, con el mismo cursor que stream()
+     * Pensado para procesos en segundo plano que ya corren en su propio executor.
+     */
+    public void forEach(String clientId, LocalDateTime startDate, LocalDateTime endDate,
+                        Consumer<StatementRowDTO> action) throws SQLException {
+        Cursor cursor = open(clientId, startDate, endDate);
+        try {
+            while (cursor.resultSet().next()) {
+                action.accept(map(cursor.resultSet()));
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Cantidad de movimientos del cliente en el rango
+     */
+    public long count(String clientId, LocalDateTime startDate, LocalDateTime endDate) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(COUNT_ROWS)) {
+            statement.setString(1, clientId);
+            statement.setTimestamp(2, Timestamp.valueOf(startDate));
+            statement.setTimestamp(3, Timestamp.valueOf(endDate));
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private Cursor open(String clientId, LocalDateTime startDate, LocalDateTime endDate) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try {
+            // El driver de PostgreSQL solo respeta el fetch size dentro de una transacción
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            PreparedStatement statement = connection.prepareStatement(
+                SELECT_ROWS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setString(1, clientId);
+            statement.setTimestamp(2, Timestamp.valueOf(startDate));
+            statement.setTimestamp(3, Timestamp.valueOf(endDate));
+            return new Cursor(connection, statement, statement.executeQuery());
+        } catch (SQLException | RuntimeException ex) {
+            connection.close();
+            throw ex;
+        }
+    }
+
+    private static StatementRowDTO map(ResultSet rs) throws SQLException {
+        return StatementRowDTO.builder()
+            .accountNumber(rs.getString("account_number"))
+            .accountType(rs.getString("account_type"))
+            .date(rs.getTimestamp("fecha").toLocalDateTime())
+            .transactionType(Transaction.TransactionType.valueOf(rs.getString("transaction_type")).getDescription())
+            .amount(Money.of(rs.getBigDecimal("valor")))
+            .balance(Money.of(rs.getBigDecimal("saldo")))
+            .build();
+    }
+
+    /**
+     * Recursos abiertos de una exportación en curso
+     */
+    private record Cursor(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+
+        void close() {
+            try (connection; statement; resultSet) {
+                connection.rollback();
+            } catch (SQLException ex) {
+                log.warn("Error cerrando el cursor de exportación", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.nttdata.account.infrastructure.rollup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración de la reconstrucción de totales diarios (account.daily-rollup.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.daily-rollup")
+public class DailyRollupProperties {
+    
+    /** Reconstruye transaction_daily_rollup desde el historial al iniciar el servicio */
+    private boolean rebuildOnStartup = false;
+    
+    /** Cantidad de IDs de cuenta por tramo; cada tramo se reconstruye en su propia transacción */
+    private int chunkSize = 500;
+    
+    /** Tramos reconstruidos en paralelo (cada uno ocupa una conexión del pool) */
+    private int parallelism = 4;
+}
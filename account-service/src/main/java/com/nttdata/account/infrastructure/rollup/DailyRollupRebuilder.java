@@ -0,0 +1,102 @@
+package com.nttdata.account.infrastructure.rollup;
+
+import com.nttdata.shared.domain.repository.TransactionDailyRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reconstrucción de transaction_daily_rollup desde el historial de movimientos
+ * El rango de IDs de cuenta se reparte en tramos que se procesan en paralelo, cada uno en
+ * su propia transacción: bloquea las cuentas del tramo (en orden de id, igual que los posteos),
+ * borra sus totales y los recalcula con un único INSERT ... SELECT. Mientras dura el tramo
+ * los posteos de esas cuentas esperan, así que ningún movimiento queda fuera ni se cuenta dos veces.
+ */
+@Component
+@Slf4j
+public class DailyRollupRebuilder {
+    
+    private final TransactionDailyRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyRollupProperties properties;
+    
+    public DailyRollupRebuilder(TransactionDailyRollupRepository rollupRepository,
+                                TransactionTemplate transactionTemplate,
+                                DailyRollupProperties properties) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.isRebuildOnStartup()) {
+            // Fuera del hilo de arranque: el servicio atiende mientras se reconstruye
+            new Thread(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException ex) {
+                    log.error("No se pudieron reconstruir los totales diarios", ex);
+                }
+            }, "daily-rollup-rebuild").start();
+        }
+    }
+    
+    /**
+     * Reconstruye los totales diarios de todas las cuentas
+     * @return filas de rollup generadas
+     */
+    public int rebuild() {
+        TransactionDailyRollupRepository.AccountIdRangeView range = rollupRepository.findAccountIdRange();
+        if (range == null || range.getMinId() == null) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        long chunkSize = Math.max(1, properties.getChunkSize());
+        AtomicInteger rows = new AtomicInteger();
+        
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()),
+            r -> new Thread(r, "daily-rollup-rebuild-worker"));
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long desde = range.getMinId(); desde <= range.getMaxId(); desde += chunkSize) {
+                long desdeId = desde;
+                long hastaId = Math.min(desde + chunkSize - 1, range.getMaxId());
+                chunks.add(pool.submit(() -> rows.addAndGet(rebuildChunk(desdeId, hastaId))));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reconstrucción de totales diarios interrumpida", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Error reconstruyendo totales diarios", ex.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        
+        log.info("Totales diarios reconstruidos: {} filas, cuentas {}..{}, {} ms",
+            rows.get(), range.getMinId(), range.getMaxId(), (System.nanoTime() - start) / 1_000_000);
+        return rows.get();
+    }
+    
+    private int rebuildChunk(long desdeId, long hastaId) {
+        Integer rows = transactionTemplate.execute(status -> {
+            rollupRepository.lockAccountsBetween(desdeId, hastaId);
+            rollupRepository.deleteByAccountIdBetween(desdeId, hastaId);
+            return rollupRepository.rebuildByAccountIdBetween(desdeId, hastaId);
+        });
+        return rows == null ? 0 : rows;
+    }
+}
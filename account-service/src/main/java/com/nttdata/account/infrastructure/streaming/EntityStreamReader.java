@@ -0,0 +1,131 @@
+package com.nttdata.account.infrastructure.streaming;
+
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Lectura en streaming de entidades JPA o proyecciones JPQL hacia un Flux, para los listados completos en NDJSON
+ * La consulta se recorre con un cursor de solo avance (Query#getResultStream con fetch size acotado)
+ * y cada fila se lee recién cuando el suscriptor la solicita. El contexto de persistencia se limpia
+ * cada clear-interval filas para que las entidades ya emitidas no se acumulen.
+ * Se usa un EntityManager propio, no ligado al hilo: las solicitudes del suscriptor pueden atenderse
+ * en distintos momentos sin retener una transacción de Spring en un hilo compartido. La conexión se
+ * libera al completar, fallar o cancelar.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityStreamReader {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcBulkhead jdbcBulkhead;
+
+    @Value("${account.streaming.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${account.streaming.clear-interval:1000}")
+    private int clearInterval;
+
+    /**
+     * Recorre el resultado de la consulta JPQL emitiendo cada fila ya convertida
+     * @param type entidad o clase de la expresión SELECT new (en ese caso no se carga nada en el contexto)
+     * @param mapper conversión de la entidad; se aplica antes de limpiar el contexto de persistencia,
+     *               por lo que puede navegar las asociaciones traídas con JOIN FETCH
+     */
+    public <E, T> Flux<T> stream(String jpql, Class<E> type, Map<String, ?> parameters, Function<E, T> mapper) {
+        // La lectura JDBC es bloqueante: se atiende fuera del event loop y cuenta en el compartimento de streams
+        return jdbcBulkhead.stream(Flux.<T, Cursor<E>>generate(
+                () -> open(jpql, type, parameters),
+                (cursor, sink) -> {
+                    try {
+                        if (cursor.hasNext()) {
+                            sink.next(mapper.apply(cursor.next()));
+                        } else {
+                            sink.complete();
+                        }
+                    } catch (RuntimeException ex) {
+                        sink.error(ex);
+                    }
+                    return cursor;
+                },
+                Cursor::close));
+    }
+
+    private <E> Cursor<E> open(String jpql, Class<E> type, Map<String, ?> parameters) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            // El driver de PostgreSQL solo respeta el fetch size dentro de una transacción
+            EntityTransaction transaction = entityManager.getTransaction();
+            transaction.begin();
+            TypedQuery<E> query = entityManager.createQuery(jpql, type)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+            parameters.forEach(query::setParameter);
+            Stream<E> rows = query.getResultStream();
+            return new Cursor<>(entityManager, rows, rows.iterator(), clearInterval);
+        } catch (RuntimeException ex) {
+            entityManager.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Recursos abiertos de una lectura en curso
+     */
+    private static final class Cursor<E> {
+
+        private final EntityManager entityManager;
+        private final Stream<E> rows;
+        private final Iterator<E> iterator;
+        private final int clearInterval;
+        private long read;
+
+        Cursor(EntityManager entityManager, Stream<E> rows, Iterator<E> iterator, int clearInterval) {
+            this.entityManager = entityManager;
+            this.rows = rows;
+            this.iterator = iterator;
+            this.clearInterval = clearInterval;
+        }
+
+        boolean hasNext() {
+            // hasNext() avanza el cursor y carga la fila siguiente; las anteriores ya fueron convertidas,
+            // así que el contexto se puede soltar justo antes
+            if (read > 0 && read % clearInterval == 0) {
+                entityManager.clear();
+            }
+            return iterator.hasNext();
+        }
+
+        E next() {
+            read++;
+            return iterator.next();
+        }
+
+        void close() {
+            try {
+                rows.close();
+                if (entityManager.getTransaction().isActive()) {
+                    entityManager.getTransaction().rollback();
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Error cerrando la lectura en streaming", ex);
+            } finally {
+                entityManager.close();
+            }
+        }
+    }
+}
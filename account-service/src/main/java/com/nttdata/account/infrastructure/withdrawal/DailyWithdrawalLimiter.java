@@ -0,0 +1,141 @@
+package com.nttdata.account.infrastructure.withdrawal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nttdata.common.constants.ErrorConstants;
+import com.nttdata.common.exception.CupoDiarioExcedidoException;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.AccountType;
+import com.nttdata.shared.domain.repository.DailyWithdrawalRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Control del cupo diario de retiros por cuenta
+ * El total retirado en el día se mantiene de forma incremental en la tabla daily_withdrawal,
+ * actualizada con un upsert condicional dentro de la transacción del retiro, de modo que
+ * validar el cupo no requiere sumar los movimientos del día.
+ * En memoria se conserva el último total confirmado de cada cuenta: como el total del día
+ * solo crece, permite rechazar sin ir a la base los retiros que ya no caben.
+ * El día forma parte de la clave, así que al cambiar de fecha el contador arranca en cero.
+ */
+@Component
+@Slf4j
+public class DailyWithdrawalLimiter {
+
+    private final DailyWithdrawalRepository dailyWithdrawalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyWithdrawalProperties properties;
+    private final Cache<CounterKey, Money> confirmed;
+
+    public DailyWithdrawalLimiter(DailyWithdrawalRepository dailyWithdrawalRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  DailyWithdrawalProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.dailyWithdrawalRepository = dailyWithdrawalRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.confirmed = Caffeine.newBuilder()
+            .maximumSize(properties.getCacheMaxSize())
+            .expireAfterWrite(Duration.ofDays(1))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, confirmed, "daily-withdrawal");
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Cupo diario configurado para el tipo de cuenta
+     */
+    public Money limiteDiario(AccountType accountType) {
+        BigDecimal limit = properties.getLimits().get(accountType.getCode());
+        return Money.of(limit != null ? limit : properties.getDefaultLimit());
+    }
+
+    /**
+     * Suma el retiro al total del día de la cuenta; debe ejecutarse dentro de la transacción del retiro
+     * @throws CupoDiarioExcedidoException si el retiro supera el cupo restante (no se escribe nada)
+     */
+    public void reservar(Account account, Money amount) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Money limite = limiteDiario(account.getAccountType());
+        CounterKey key = new CounterKey(account.getId(), LocalDate.now());
+        Money conocido = confirmed.getIfPresent(key);
+        if (limite.isLessThan(amount) || (conocido != null && limite.isLessThan(conocido.add(amount)))) {
+            throw new CupoDiarioExcedidoException(ErrorConstants.CUPO_DIARIO_EXCEDIDO);
+        }
+
+        Money total = dailyWithdrawalRepository
+            .addIfWithinLimit(key.accountId(), key.date(), amount.toBigDecimal(), limite.toBigDecimal())
+            .map(Money::of)
+            .orElseThrow(() -> new CupoDiarioExcedidoException(ErrorConstants.CUPO_DIARIO_EXCEDIDO));
+
+        // Solo un total confirmado es una cota válida para rechazar sin consultar la base
+        afterCommit(() -> confirmed.asMap().merge(key, total, (a, b) -> a.compareTo(b) >= 0 ? a : b));
+    }
+
+    /**
+     * Devuelve al cupo un monto reservado en la misma transacción cuyo retiro fue rechazado
+     */
+    public void liberar(Account account, Money amount) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        CounterKey key = new CounterKey(account.getId(), LocalDate.now());
+        dailyWithdrawalRepository.subtract(key.accountId(), key.date(), amount.toBigDecimal());
+        afterCommit(() -> confirmed.invalidate(key));
+    }
+
+    /**
+     * Total ya retirado por la cuenta en la fecha indicada
+     */
+    public Money retirado(Long accountId, LocalDate date) {
+        return dailyWithdrawalRepository.findTotal(accountId, date)
+            .map(Money::of)
+            .orElse(Money.ZERO);
+    }
+
+    /**
+     * Elimina los contadores de días que superaron el período de retención
+     */
+    @Scheduled(fixedDelayString = "#{@dailyWithdrawalProperties.sweepInterval.toMillis()}")
+    public void purgeExpiredCounters() {
+        LocalDate before = LocalDate.now().minusDays(properties.getRetention().toDays());
+        Integer deleted = transactionTemplate.execute(status -> dailyWithdrawalRepository.deleteByDateBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Contadores de cupo diario vencidos eliminados: {}", deleted);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record CounterKey(Long accountId, LocalDate date) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.nttdata.account.infrastructure.withdrawal;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuración del cupo diario de retiros (account.daily-withdrawal.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.daily-withdrawal")
+public class DailyWithdrawalProperties {
+    
+    /** Activa la validación del cupo diario */
+    private boolean enabled = true;
+    
+    /** Cupo por código de tipo de cuenta (AHORRO, CORRIENTE) */
+    private Map<String, BigDecimal> limits = new HashMap<>();
+    
+    /** Cupo para los tipos de cuenta sin valor en limits */
+    private BigDecimal defaultLimit = new BigDecimal("1000.00");
+    
+    /** Máximo de contadores del día mantenidos en memoria */
+    private int cacheMaxSize = 100_000;
+    
+    /** Antigüedad a partir de la cual se eliminan los contadores de días anteriores */
+    private Duration retention = Duration.ofDays(7);
+    
+    /** Frecuencia de la limpieza de contadores vencidos */
+    private Duration sweepInterval = Duration.ofHours(1);
+}
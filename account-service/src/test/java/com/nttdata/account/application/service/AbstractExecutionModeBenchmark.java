@@ -0,0 +1,122 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.shared.domain.model.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de latencia y memoria entre modos de ejecución de JdbcBulkhead: N lecturas de cuenta
+ * lanzadas a la vez (1k y 10k) y esperando su turno en el compartimento de lecturas.
+ * Registra p50/p99/máximo, pico de heap y pico de hilos de plataforma con el mismo formato en cada subclase.
+ * La caché de cuentas se desactiva y la cola del bulkhead admite toda la carga sin max-wait: se mide la
+ * espera, no los rechazos.
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = {
+    "account.snapshot-cache.enabled=false",
+    "jdbc.bulkhead.read.max-queued=10000",
+    "jdbc.bulkhead.read.max-wait=0"
+})
+abstract class AbstractExecutionModeBenchmark extends AbstractPostgresIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractExecutionModeBenchmark.class);
+
+    private static final int ACCOUNTS = 8;
+    private static final int WARMUP = 1_000;
+
+    @Autowired
+    protected AccountService accountService;
+
+    private final List<Account> accounts = new ArrayList<>();
+
+    /**
+     * Nombre del modo en el registro de resultados
+     */
+    protected abstract String mode();
+
+    @BeforeEach
+    void crearCuentas() {
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(crearCuenta("execution-mode-bench-client", new BigDecimal("100.00")));
+        }
+        run(WARMUP);
+    }
+
+    @Test
+    void thousandConcurrentReads_ShouldAllComplete() {
+        measure(1_000);
+    }
+
+    @Test
+    void tenThousandConcurrentReads_ShouldAllComplete() {
+        measure(10_000);
+    }
+
+    private void measure(int concurrency) {
+        // Arrange
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        threads.resetPeakThreadCount();
+
+        // Act
+        long[] latencies = run(concurrency);
+
+        // Assert
+        assertEquals(concurrency, Arrays.stream(latencies).filter(latency -> latency > 0).count());
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        Arrays.sort(latencies);
+        log.info("[{}] {} lecturas simultáneas: p50 {} ms, p99 {} ms, máx {} ms; pico de heap {} MB, "
+                + "pico de hilos de plataforma {}",
+            mode(), concurrency, millis(percentile(latencies, 50)), millis(percentile(latencies, 99)),
+            millis(latencies[latencies.length - 1]), peakHeap / (1024 * 1024), threads.getPeakThreadCount());
+    }
+
+    /**
+     * Lanza todas las lecturas a la vez y devuelve la latencia de cada una en nanosegundos
+     */
+    private long[] run(int concurrency) {
+        long[] latencies = new long[concurrency];
+        Flux.range(0, concurrency)
+            .flatMap(i -> Mono.defer(() -> {
+                long start = System.nanoTime();
+                return accountService.getAccountByNumero(accounts.get(i % ACCOUNTS).getAccountNumber())
+                    .doOnNext(account -> latencies[i] = System.nanoTime() - start);
+            }), concurrency)
+            .then()
+            .block();
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,125 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.AccountStatementReportDTO;
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de carga comparable entre modos de persistencia: lecturas de cuentas, depósitos y
+ * reportes de estado de cuenta lanzados con la misma concurrencia. Cada subclase fija el modo y
+ * registra el throughput con el mismo formato para compararlos lado a lado.
+ * El caché de reportes se desactiva para que cada reporte consulte la base.
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = "account.reports.cache.enabled=false")
+abstract class AbstractPersistenceModeBenchmark extends AbstractPostgresIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractPersistenceModeBenchmark.class);
+
+    /** Cliente de BaseDatos.sql (Juan Osorio) */
+    protected static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440003";
+
+    private static final int ACCOUNTS = 8;
+    private static final int CONCURRENCY = 64;
+    private static final int READS = 4_000;
+    private static final int POSTS = 1_000;
+    private static final int REPORTS = 200;
+    private static final BigDecimal SALDO_INICIAL = new BigDecimal("1000.00");
+    private static final BigDecimal MONTO = new BigDecimal("1.00");
+
+    @Autowired
+    protected AccountService accountService;
+
+    @Autowired
+    protected TransactionService transactionService;
+
+    @Autowired
+    protected ReportService reportService;
+
+    /**
+     * Nombre del modo en el registro de resultados
+     */
+    protected abstract String mode();
+
+    @Test
+    void concurrentLoad_ShouldKeepBalancesAndReportsConsistent() {
+        // Arrange
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(crearCuenta(CLIENT_ID, SALDO_INICIAL));
+        }
+        LocalDateTime startDate = LocalDate.now().atStartOfDay();
+        LocalDateTime endDate = LocalDate.now().atTime(23, 59, 59);
+
+        // Act
+        long readNanos = elapsedNanos(() -> Flux.range(0, READS)
+            .flatMap(i -> accountService.getAccountByNumero(accounts.get(i % ACCOUNTS).getAccountNumber()), CONCURRENCY)
+            .then()
+            .block());
+        long postNanos = elapsedNanos(() -> Flux.range(0, POSTS)
+            .flatMap(i -> transactionService.createTransaction(deposito(accounts.get(i % ACCOUNTS))), CONCURRENCY)
+            .then()
+            .block());
+        long reportNanos = elapsedNanos(() -> Flux.range(0, REPORTS)
+            .flatMap(i -> reportService.generarReport(CLIENT_ID, startDate, endDate), CONCURRENCY)
+            .then()
+            .block());
+
+        // Assert: cada cuenta recibió la misma cantidad de depósitos y el reporte la refleja
+        Money depositado = Money.of(MONTO.multiply(BigDecimal.valueOf(POSTS / ACCOUNTS)));
+        Map<String, AccountStatementReportDTO.AccountReportDTO> report = reportService
+            .generarReport(CLIENT_ID, startDate, endDate).block()
+            .getAccounts().stream()
+            .collect(Collectors.toMap(AccountStatementReportDTO.AccountReportDTO::getAccountNumber, Function.identity()));
+        for (Account account : accounts) {
+            Money esperado = Money.of(SALDO_INICIAL).add(depositado);
+            assertEquals(esperado, accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance());
+            AccountStatementReportDTO.AccountReportDTO fila = report.get(account.getAccountNumber());
+            assertEquals(depositado, fila.getTotalDeposits());
+            assertEquals(esperado, fila.getClosingBalance());
+        }
+
+        log.info("[{}] lecturas: {}/s, depósitos: {}/s, reportes: {}/s (concurrencia {})",
+            mode(), perSecond(READS, readNanos), perSecond(POSTS, postNanos), perSecond(REPORTS, reportNanos),
+            CONCURRENCY);
+    }
+
+    protected static CreateTransactionDTO deposito(Account account) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(account.getAccountNumber())
+            .transactionType("DEPOSITO")
+            .amount(MONTO)
+            .build();
+    }
+
+    private static long elapsedNanos(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return System.nanoTime() - start;
+    }
+
+    private static long perSecond(int operations, long nanos) {
+        return operations * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+    }
+}
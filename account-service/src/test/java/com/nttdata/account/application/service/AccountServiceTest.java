@@ -2,17 +2,37 @@ package com.nttdata.account.application.service;
 
 import com.nttdata.account.application.dto.AccountResponseDTO;
 import com.nttdata.account.application.mapper.AccountMapper;
-import com.nttdata.shared.domain.model.Account;
+import com.nttdata.account.infrastructure.cache.AccountSnapshotCache;
+import com.nttdata.account.infrastructure.ledger.LedgerEngine;
+import com.nttdata.account.infrastructure.pagination.PaginationProperties;
+import com.nttdata.account.infrastructure.r2dbc.ReactiveAccountStore;
+import com.nttdata.account.infrastructure.report.ReportCache;
+import com.nttdata.account.infrastructure.streaming.EntityStreamReader;
+import com.nttdata.common.exception.BusinessValidationException;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.shared.datasource.ReadYourWrites;
+import com.nttdata.shared.domain.catalog.CatalogRegistry;
+import com.nttdata.shared.domain.projection.AccountView;
 import com.nttdata.shared.domain.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,33 +41,83 @@ class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private CatalogRegistry catalogRegistry;
+
     @Mock
     private AccountMapper accountMapper;
 
-    @InjectMocks
+    @Mock
+    private ReportCache reportCache;
+
+    @Mock
+    private EntityStreamReader entityStreamReader;
+
+    @Mock
+    private AccountSnapshotCache accountSnapshotCache;
+
+    @Mock
+    private JdbcBulkhead jdbcBulkhead;
+
+    @Mock
+    private ReadYourWrites readYourWrites;
+
+    private final Optional<LedgerEngine> sinLedger = Optional.empty();
+
+    private final Optional<ReactiveAccountStore> sinR2dbc = Optional.empty();
+
+    private final PaginationProperties paginationProperties = new PaginationProperties();
+
     private AccountService accountService;
 
+    @BeforeEach
+    void modoJpa() {
+        // Modo JPA sin ledger ni adaptador R2DBC; el bulkhead ejecuta la llamada en el hilo del suscriptor
+        when(jdbcBulkhead.read(any()))
+            .thenAnswer(invocation -> Mono.fromCallable(invocation.<Callable<?>>getArgument(0)));
+        accountService = new AccountService(accountRepository, catalogRegistry, accountMapper, sinLedger, reportCache,
+            paginationProperties, entityStreamReader, sinR2dbc, accountSnapshotCache, jdbcBulkhead, readYourWrites);
+    }
+
     @Test
-    void getAllAccounts_ShouldReturnFluxOfAccounts() {
+    void getAllAccounts_ShouldReturnPageAndContinueFromToken() {
         // Arrange
-        Account account1 = new Account();
-        account1.setAccountNumber("123");
-        Account account2 = new Account();
-        account2.setAccountNumber("456");
+        AccountView account1 = cuenta(1L, "123");
+        AccountView account2 = cuenta(2L, "456");
 
         AccountResponseDTO dto1 = new AccountResponseDTO();
         dto1.setAccountNumber("123");
         AccountResponseDTO dto2 = new AccountResponseDTO();
         dto2.setAccountNumber("456");
 
-        when(accountRepository.findAll()).thenReturn(Arrays.asList(account1, account2));
+        when(accountRepository.findViewPageAfter(eq(0L), any(Limit.class))).thenReturn(Arrays.asList(account1, account2));
+        when(accountRepository.findViewPageAfter(eq(1L), any(Limit.class))).thenReturn(List.of(account2));
         when(accountMapper.toResponseDTO(account1)).thenReturn(dto1);
         when(accountMapper.toResponseDTO(account2)).thenReturn(dto2);
 
-        // Act & Assert
-        StepVerifier.create(accountService.getAllAccounts())
-            .expectNext(dto1)
-            .expectNext(dto2)
+        // Act & Assert: la fila sobrante solo indica que hay más páginas
+        StepVerifier.create(accountService.getAllAccounts(null, 1)
+                .zipWhen(first -> accountService.getAllAccounts(first.getNextPageToken(), 1)))
+            .assertNext(pages -> {
+                assertEquals(List.of(dto1), pages.getT1().getItems());
+                assertNotNull(pages.getT1().getNextPageToken());
+                assertEquals(List.of(dto2), pages.getT2().getItems());
+                assertNull(pages.getT2().getNextPageToken());
+            })
             .verifyComplete();
     }
+
+    @Test
+    void getAllAccounts_WithInvalidTokenOrSize_ShouldFail() {
+        StepVerifier.create(accountService.getAllAccounts("no-es-un-token", null))
+            .expectError(BusinessValidationException.class)
+            .verify();
+        StepVerifier.create(accountService.getAllAccounts(null, paginationProperties.getMaxSize() + 1))
+            .expectError(BusinessValidationException.class)
+            .verify();
+    }
+
+    private static AccountView cuenta(Long id, String accountNumber) {
+        return new AccountView(id, accountNumber, null, null, null, null, null, null, null);
+    }
 }
@@ -0,0 +1,116 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.BalanceSnapshot;
+import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.repository.BalanceSnapshotRepository;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifica el saldo a una fecha resuelto desde los cierres diarios (account_balance_snapshot)
+ */
+class BalanceHistoryServiceIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceHistoryService balanceHistoryService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void posting_ShouldMaintainTodaysClosingBalance() {
+        // Arrange
+        Account account = crearCuenta("history-client", new BigDecimal("100.00"));
+
+        // Act
+        transactionService.createTransaction(movimiento(account.getAccountNumber(), "DEPOSITO", "50.00")).block();
+        transactionService.createTransaction(movimiento(account.getAccountNumber(), "RETIRO", "20.00")).block();
+
+        // Assert
+        BalanceSnapshot cierre = balanceSnapshotRepository
+            .findById(new BalanceSnapshot.BalanceSnapshotId(account.getId(), LocalDate.now()))
+            .orElseThrow();
+        assertEquals(Money.of("130.00"), cierre.getClosingBalance());
+        assertEquals(Money.of("130.00"),
+            balanceHistoryService.getBalanceAt(account.getAccountNumber(), LocalDateTime.now()).block().getBalance());
+    }
+
+    @Test
+    void saldoAl_ShouldMatchFullReplayAtAnyInstant() {
+        // Arrange: historial de tres días con un día intermedio sin movimientos
+        Account account = crearCuenta("history-client", new BigDecimal("100.00"));
+        LocalDate dia1 = LocalDate.of(2024, 1, 10);
+        LocalDate dia3 = dia1.plusDays(2);
+        List<Transaction> historial = List.of(
+            movimiento(account, dia1.atTime(9, 0), "50.00", "150.00"),
+            movimiento(account, dia1.atTime(18, 30), "-30.00", "120.00"),
+            movimiento(account, dia3.atTime(8, 15), "200.00", "320.00"),
+            movimiento(account, dia3.atTime(23, 59, 59), "-20.00", "300.00")
+        );
+        transactionTemplate.executeWithoutResult(status ->
+            balanceHistoryService.registrarCierres(transactionRepository.saveAll(historial)));
+
+        List<LocalDateTime> instantes = new ArrayList<>();
+        instantes.add(dia1.atStartOfDay().minusSeconds(1));
+        historial.forEach(t -> {
+            instantes.add(t.getDate().minusSeconds(1));
+            instantes.add(t.getDate());
+        });
+        instantes.add(dia1.plusDays(1).atTime(12, 0));
+        instantes.add(dia3.plusDays(5).atStartOfDay());
+
+        // Act & Assert
+        Account reloaded = accountRepository.findById(account.getId()).orElseThrow();
+        for (LocalDateTime at : instantes) {
+            Money esperado = Money.of("100.00");
+            for (Transaction transaction : historial) {
+                if (!transaction.getDate().isAfter(at)) {
+                    esperado = esperado.add(transaction.getAmount());
+                }
+            }
+            assertEquals(esperado, balanceHistoryService.saldoAl(reloaded, at), "Saldo al " + at);
+        }
+    }
+
+    private static Transaction movimiento(Account account, LocalDateTime date, String amount, String balance) {
+        Money value = Money.of(amount);
+        return Transaction.builder()
+            .date(date)
+            .transactionType(value.isNegative() ? Transaction.TransactionType.RETIRO : Transaction.TransactionType.DEPOSITO)
+            .amount(value)
+            .balance(Money.of(balance))
+            .account(account)
+            .build();
+    }
+
+    private static CreateTransactionDTO movimiento(String accountNumber, String type, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType(type)
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
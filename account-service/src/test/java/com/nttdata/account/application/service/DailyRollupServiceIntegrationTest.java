@@ -0,0 +1,133 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.dto.TransactionResponseDTO;
+import com.nttdata.account.infrastructure.rollup.DailyRollupRebuilder;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.model.TransactionDailyRollup;
+import com.nttdata.shared.domain.repository.TransactionDailyRollupRepository;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifica el mantenimiento incremental de transaction_daily_rollup y su reconstrucción por tramos
+ */
+@TestPropertySource(properties = {"account.daily-rollup.chunk-size=2", "account.daily-rollup.parallelism=3"})
+class DailyRollupServiceIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private DailyRollupService dailyRollupService;
+
+    @Autowired
+    private DailyRollupRebuilder dailyRollupRebuilder;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionDailyRollupRepository rollupRepository;
+
+    @Test
+    void postingAndDeleting_ShouldMaintainTodaysRollup() {
+        // Arrange
+        Account account = crearCuenta("rollup-client", new BigDecimal("100.00"));
+        transactionService.createTransaction(movimiento(account.getAccountNumber(), "DEPOSITO", "50.00")).block();
+        TransactionResponseDTO retiro = transactionService
+            .createTransaction(movimiento(account.getAccountNumber(), "RETIRO", "20.00")).block();
+        transactionService.createTransaction(movimiento(account.getAccountNumber(), "RETIRO", "5.00")).block();
+
+        // Act
+        transactionService.deleteTransaction(retiro.getId()).block();
+
+        // Assert
+        TransactionDailyRollup rollup = rollupRepository
+            .findById(new TransactionDailyRollup.TransactionDailyRollupId(account.getId(), LocalDate.now()))
+            .orElseThrow();
+        assertEquals(Money.of("50.00"), rollup.getTotalCredits());
+        assertEquals(Money.of("-5.00"), rollup.getTotalDebits());
+        assertEquals(2, rollup.getCount());
+        assertEquals(Money.of("125.00"), rollup.getClosingBalance());
+    }
+
+    @Test
+    void rebuild_ShouldBackfillHistoryAndMatchFullScanOverPartialDays() {
+        // Arrange: historial insertado sin pasar por el posteo, repartido en varias cuentas y tramos
+        String clientId = "rollup-history-" + System.nanoTime();
+        LocalDate dia1 = LocalDate.of(2024, 3, 1);
+        List<Transaction> historial = new ArrayList<>();
+        for (int c = 0; c < 5; c++) {
+            Account account = crearCuenta(clientId, new BigDecimal("0.00"));
+            Money saldo = Money.ZERO;
+            for (int d = 0; d < 10; d++) {
+                for (int h : new int[] {8, 13, 21}) {
+                    Money valor = Money.of(BigDecimal.valueOf((c + 1) * 100 + d * 10 + h, 2));
+                    if (h == 13) {
+                        valor = valor.negate();
+                    }
+                    saldo = saldo.add(valor);
+                    historial.add(Transaction.builder()
+                        .date(dia1.plusDays(d).atTime(h, 30))
+                        .transactionType(valor.isNegative() ? Transaction.TransactionType.RETIRO : Transaction.TransactionType.DEPOSITO)
+                        .amount(valor)
+                        .balance(saldo)
+                        .account(account)
+                        .build());
+                }
+            }
+        }
+        transactionRepository.saveAll(historial);
+
+        // Act
+        dailyRollupRebuilder.rebuild();
+
+        // Assert: rangos con extremos a mitad de día, alineados a días completos y dentro de un solo día
+        List<LocalDateTime[]> rangos = List.of(
+            new LocalDateTime[] {dia1.plusDays(1).atTime(12, 0), dia1.plusDays(7).atTime(23, 59, 59)},
+            new LocalDateTime[] {dia1.atStartOfDay(), dia1.plusDays(9).atTime(23, 59, 59, 999_999_000)},
+            new LocalDateTime[] {dia1.plusDays(4).atTime(9, 0), dia1.plusDays(4).atTime(21, 30)}
+        );
+        for (LocalDateTime[] rango : rangos) {
+            var totales = dailyRollupService.totalesPorCliente(clientId, rango[0], rango[1]);
+            for (Long accountId : historial.stream().map(t -> t.getAccount().getId()).distinct().toList()) {
+                Money creditos = Money.ZERO;
+                Money debitos = Money.ZERO;
+                for (Transaction t : historial) {
+                    if (t.getAccount().getId().equals(accountId)
+                            && !t.getDate().isBefore(rango[0]) && !t.getDate().isAfter(rango[1])) {
+                        if (t.getAmount().isNegative()) {
+                            debitos = debitos.add(t.getAmount());
+                        } else {
+                            creditos = creditos.add(t.getAmount());
+                        }
+                    }
+                }
+                assertEquals(creditos, totales.get(accountId).credits(), "Créditos " + rango[0] + ".." + rango[1]);
+                assertEquals(debitos, totales.get(accountId).debits(), "Débitos " + rango[0] + ".." + rango[1]);
+            }
+        }
+    }
+
+    private static CreateTransactionDTO movimiento(String accountNumber, String type, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType(type)
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.nttdata.account.application.service;
+
+/**
+ * Benchmark de carga en el modo por defecto: JPA bloqueante sobre Schedulers.boundedElastic()
+ */
+class JpaPersistenceBenchmarkTest extends AbstractPersistenceModeBenchmark {
+
+    @Override
+    protected String mode() {
+        return "JPA";
+    }
+}
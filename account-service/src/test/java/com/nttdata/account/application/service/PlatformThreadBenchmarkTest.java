@@ -0,0 +1,12 @@
+package com.nttdata.account.application.service;
+
+/**
+ * Benchmark de ejecución en el modo por defecto: compartimentos con pool de hilos de plataforma
+ */
+class PlatformThreadBenchmarkTest extends AbstractExecutionModeBenchmark {
+
+    @Override
+    protected String mode() {
+        return "hilos de plataforma";
+    }
+}
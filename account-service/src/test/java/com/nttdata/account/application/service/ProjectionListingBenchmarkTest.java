@@ -0,0 +1,156 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.mapper.AccountMapper;
+import com.nttdata.account.application.mapper.TransactionMapper;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de los listados de solo lectura: entidades gestionadas + mapper frente a proyecciones
+ * armadas en la consulta (SELECT new). Mide filas por segundo y bytes asignados por fila en el hilo
+ * que ejecuta la consulta y la conversión a DTO.
+ * El lado de entidades usa JPQL en línea con los mismos JOIN FETCH, filtro y orden que las proyecciones.
+ */
+@Tag("benchmark")
+class ProjectionListingBenchmarkTest extends AbstractPostgresIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionListingBenchmarkTest.class);
+
+    private static final int ACCOUNTS = 1_000;
+    private static final int MOVIMIENTOS = 5_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String ACCOUNT_ENTITIES = "SELECT a FROM Account a JOIN FETCH a.accountType " +
+        "JOIN FETCH a.status WHERE a.id > :afterId ORDER BY a.id";
+    private static final String HISTORY_ENTITIES = "SELECT t FROM Transaction t JOIN FETCH t.account " +
+        "WHERE t.account.id = :cuentaId ORDER BY t.date DESC, t.id DESC";
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private AccountMapper accountMapper;
+
+    @Autowired
+    private TransactionMapper transactionMapper;
+
+    @Test
+    void accountListing_ProjectionShouldAllocateLessPerRowThanEntities() {
+        // Arrange
+        for (int i = 0; i < ACCOUNTS; i++) {
+            crearCuenta("projection-bench-client", new BigDecimal("100.00"));
+        }
+        int total = (int) accountRepository.count();
+
+        // Act
+        Result entidades = measure(() -> entities(ACCOUNT_ENTITIES, Account.class, "afterId", 0L, total).stream()
+            .map(accountMapper::toResponseDTO)
+            .toList());
+        Result proyecciones = measure(() -> accountRepository.findViewPageAfter(0, Limit.of(total)).stream()
+            .map(accountMapper::toResponseDTO)
+            .toList());
+
+        // Assert
+        assertEquals(entidades.rows(), proyecciones.rows());
+        log.info("Listado de {} cuentas. Entidades: {} filas/s, {} B/fila. Proyección: {} filas/s, {} B/fila",
+            total, entidades.rowsPerSecond(), entidades.bytesPerRow(),
+            proyecciones.rowsPerSecond(), proyecciones.bytesPerRow());
+        assertTrue(proyecciones.bytesPerRow() < entidades.bytesPerRow());
+    }
+
+    @Test
+    void accountHistory_ProjectionShouldAllocateLessPerRowThanEntities() {
+        // Arrange
+        Account account = crearCuenta("projection-bench-client", new BigDecimal("0.00"));
+        List<Transaction> historial = new ArrayList<>();
+        LocalDateTime inicio = LocalDateTime.now().minusDays(30);
+        for (int i = 1; i <= MOVIMIENTOS; i++) {
+            historial.add(Transaction.builder()
+                .date(inicio.plusMinutes(i))
+                .transactionType(Transaction.TransactionType.DEPOSITO)
+                .amount(Money.of("1.00"))
+                .balance(Money.of(BigDecimal.valueOf(i)))
+                .account(account)
+                .build());
+        }
+        transactionRepository.saveAll(historial);
+
+        // Act
+        Result entidades = measure(() -> entities(HISTORY_ENTITIES, Transaction.class, "cuentaId", account.getId(),
+                MOVIMIENTOS).stream()
+            .map(transactionMapper::toResponseDTO)
+            .toList());
+        Result proyecciones = measure(() -> transactionRepository
+            .findHistoryViewPage(account.getId(), Limit.of(MOVIMIENTOS)).stream()
+            .map(transactionMapper::toResponseDTO)
+            .toList());
+
+        // Assert
+        assertEquals((long) MOVIMIENTOS * ITERATIONS, entidades.rows());
+        assertEquals(entidades.rows(), proyecciones.rows());
+        log.info("Historial de {} movimientos. Entidades: {} filas/s, {} B/fila. Proyección: {} filas/s, {} B/fila",
+            MOVIMIENTOS, entidades.rowsPerSecond(), entidades.bytesPerRow(),
+            proyecciones.rowsPerSecond(), proyecciones.bytesPerRow());
+        assertTrue(proyecciones.bytesPerRow() < entidades.bytesPerRow());
+    }
+
+    /**
+     * Entidades gestionadas leídas en su propia transacción, como las devolvía el repositorio
+     */
+    private <T> List<T> entities(String jpql, Class<T> type, String parameter, Object value, int limit) {
+        return transactionTemplate.execute(status -> entityManager.createQuery(jpql, type)
+            .setParameter(parameter, value)
+            .setMaxResults(limit)
+            .getResultList());
+    }
+
+    private static <T> Result measure(Supplier<List<T>> listing) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            listing.get();
+        }
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long rows = 0;
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows += listing.get().size();
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        return new Result(rows, rows * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1), bytes / Math.max(rows, 1));
+    }
+
+    private record Result(long rows, long rowsPerSecond, long bytesPerRow) {
+    }
+}
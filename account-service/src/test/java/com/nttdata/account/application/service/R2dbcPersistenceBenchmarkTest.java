@@ -0,0 +1,29 @@
+package com.nttdata.account.application.service;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Benchmark de carga con el adaptador R2DBC, con el mismo tamaño de pool que Hikari en las pruebas
+ */
+@TestPropertySource(properties = {
+    "account.r2dbc.enabled=true",
+    "account.r2dbc.max-size=20"
+})
+class R2dbcPersistenceBenchmarkTest extends AbstractPersistenceModeBenchmark {
+
+    @DynamicPropertySource
+    static void r2dbcProperties(DynamicPropertyRegistry registry) {
+        registry.add("account.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(POSTGRES.getHost(),
+            POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), POSTGRES.getDatabaseName()));
+        registry.add("account.r2dbc.username", POSTGRES::getUsername);
+        registry.add("account.r2dbc.password", POSTGRES::getPassword);
+    }
+
+    @Override
+    protected String mode() {
+        return "R2DBC";
+    }
+}
@@ -0,0 +1,160 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.dto.TransactionResponseDTO;
+import com.nttdata.account.infrastructure.r2dbc.ReactiveAccountStore;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.exception.BusinessValidationException;
+import com.nttdata.common.exception.SaldoNoDisponibleException;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.repository.IdempotencyKeyRepository;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Posteos con account.r2dbc.enabled: transferencias en una transacción reactiva y posteos idempotentes
+ * que reservan la clave en esa misma transacción
+ */
+@TestPropertySource(properties = "account.r2dbc.enabled=true")
+class R2dbcTransactionServiceIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    /** Cliente de BaseDatos.sql (Juan Osorio) */
+    private static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440003";
+
+    @DynamicPropertySource
+    static void r2dbcProperties(DynamicPropertyRegistry registry) {
+        registry.add("account.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(POSTGRES.getHost(),
+            POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), POSTGRES.getDatabaseName()));
+        registry.add("account.r2dbc.username", POSTGRES::getUsername);
+        registry.add("account.r2dbc.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private Optional<ReactiveAccountStore> reactiveAccountStore;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Test
+    void concurrentRetries_ShouldPostOnceAndReturnOriginalResponse() {
+        // Arrange
+        assertTrue(reactiveAccountStore.isPresent());
+        Account account = crearCuenta(CLIENT_ID, new BigDecimal("0.00"));
+        CreateTransactionDTO dto = deposito(account.getAccountNumber(), "25.00");
+        String key = UUID.randomUUID().toString();
+
+        // Act: duplicados concurrentes y un reintento posterior
+        List<TransactionResponseDTO> responses = Flux.range(0, 16)
+            .flatMap(i -> transactionService.createTransaction(dto, key))
+            .collectList()
+            .block();
+        TransactionResponseDTO replay = transactionService.createTransaction(dto, key).block();
+
+        // Assert
+        Long originalId = responses.get(0).getId();
+        responses.forEach(response -> assertEquals(originalId, response.getId()));
+        assertEquals(originalId, replay.getId());
+        assertEquals(1, transactionRepository.findByAccountId(account.getId()).size());
+        assertEquals(Money.of("25.00"), accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance());
+        assertTrue(idempotencyKeyRepository.findById(key).orElseThrow().getResponseBody() != null);
+    }
+
+    @Test
+    void reusedKeyWithDifferentPayload_ShouldBeRejected() {
+        // Arrange
+        Account account = crearCuenta(CLIENT_ID, new BigDecimal("0.00"));
+        String key = UUID.randomUUID().toString();
+        transactionService.createTransaction(deposito(account.getAccountNumber(), "10.00"), key).block();
+
+        // Act & Assert
+        assertThrows(BusinessValidationException.class, () -> transactionService
+            .createTransaction(deposito(account.getAccountNumber(), "99.00"), key)
+            .block());
+        assertEquals(1, transactionRepository.findByAccountId(account.getId()).size());
+    }
+
+    @Test
+    void failedPost_ShouldReleaseTheKey() {
+        // Arrange: el retiro falla por saldo y el rollback libera la clave
+        Account account = crearCuenta(CLIENT_ID, new BigDecimal("0.00"));
+        String key = UUID.randomUUID().toString();
+        CreateTransactionDTO retiro = CreateTransactionDTO.builder()
+            .accountNumber(account.getAccountNumber())
+            .transactionType("RETIRO")
+            .amount(new BigDecimal("5.00"))
+            .build();
+
+        // Act & Assert
+        assertThrows(SaldoNoDisponibleException.class, () -> transactionService.createTransaction(retiro, key).block());
+        assertTrue(idempotencyKeyRepository.findById(key).isEmpty());
+    }
+
+    @Test
+    void transfer_ShouldMoveBalanceAndWriteBothMovements() {
+        // Arrange
+        Account origen = crearCuenta(CLIENT_ID, new BigDecimal("100.00"));
+        Account destino = crearCuenta(CLIENT_ID, new BigDecimal("0.00"));
+
+        // Act
+        TransactionResponseDTO debito = transactionService.createTransaction(transferencia(origen, destino, "60.00")).block();
+
+        // Assert
+        assertEquals(Money.of("-60.00"), debito.getAmount());
+        assertEquals(Money.of("40.00"), accountRepository.findById(origen.getId()).orElseThrow().getCurrentBalance());
+        assertEquals(Money.of("60.00"), accountRepository.findById(destino.getId()).orElseThrow().getCurrentBalance());
+        assertEquals(1, transactionRepository.findByAccountId(origen.getId()).size());
+        assertEquals(1, transactionRepository.findByAccountId(destino.getId()).size());
+    }
+
+    @Test
+    void transferWithoutBalance_ShouldRollBackWithoutWrites() {
+        // Arrange
+        Account origen = crearCuenta(CLIENT_ID, new BigDecimal("10.00"));
+        Account destino = crearCuenta(CLIENT_ID, new BigDecimal("0.00"));
+
+        // Act & Assert
+        assertThrows(SaldoNoDisponibleException.class,
+            () -> transactionService.createTransaction(transferencia(origen, destino, "60.00")).block());
+        assertEquals(Money.of("10.00"), accountRepository.findById(origen.getId()).orElseThrow().getCurrentBalance());
+        assertTrue(transactionRepository.findByAccountId(destino.getId()).isEmpty());
+    }
+
+    private static CreateTransactionDTO deposito(String accountNumber, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType("DEPOSITO")
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+
+    private static CreateTransactionDTO transferencia(Account origen, Account destino, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(origen.getAccountNumber())
+            .destinationAccountNumber(destino.getAccountNumber())
+            .transactionType("TRANSFERENCIA")
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.AccountStatementReportDTO;
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.shared.domain.model.Account;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Fija el número de sentencias SQL del reporte de estado de cuenta:
+ * no debe crecer con la cantidad de cuentas ni de movimientos del cliente
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReportServiceQueryCountTest extends AbstractPostgresIntegrationTest {
+
+    /** Cliente de BaseDatos.sql (Juan Osorio) */
+    private static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440003";
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void generarReport_ShouldRunConstantNumberOfStatements() {
+        // Arrange
+        LocalDateTime startDate = LocalDate.now().atStartOfDay();
+        LocalDateTime endDate = LocalDate.now().atTime(23, 59, 59);
+        long conPocasCuentas = countStatements(startDate, endDate);
+
+        for (int i = 0; i < 5; i++) {
+            Account account = crearCuenta(CLIENT_ID, new BigDecimal("100.00"));
+            for (int j = 0; j < 3; j++) {
+                transactionService.createTransaction(CreateTransactionDTO.builder()
+                    .accountNumber(account.getAccountNumber())
+                    .transactionType("DEPOSITO")
+                    .amount(new BigDecimal("10.00"))
+                    .build()).block();
+            }
+        }
+
+        // Act
+        long conMasCuentas = countStatements(startDate, endDate);
+
+        // Assert
+        assertEquals(conPocasCuentas, conMasCuentas);
+    }
+
+    private long countStatements(LocalDateTime startDate, LocalDateTime endDate) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        AccountStatementReportDTO report = reportService.generarReport(CLIENT_ID, startDate, endDate).block();
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals(CLIENT_ID, report.getClientId());
+        return statements;
+    }
+}
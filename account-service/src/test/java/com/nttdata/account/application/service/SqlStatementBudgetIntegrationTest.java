@@ -0,0 +1,124 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.dto.TransactionResponseDTO;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.jdbc.SqlRecorder;
+import com.nttdata.shared.datasource.MaxSqlStatements;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Presupuesto de sentencias SQL por llamada a los servicios (@MaxSqlStatements): una carga lazy o una
+ * consulta por cuenta que se cuele en estos caminos hace fallar la prueba
+ */
+class SqlStatementBudgetIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    /** Cliente de BaseDatos.sql (Juan Osorio) */
+    private static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440003";
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Account account;
+    private TransactionResponseDTO deposito;
+
+    @BeforeEach
+    void crearMovimiento() {
+        account = crearCuenta(CLIENT_ID, new BigDecimal("100.00"));
+        deposito = transactionService.createTransaction(CreateTransactionDTO.builder()
+            .accountNumber(account.getAccountNumber())
+            .transactionType("DEPOSITO")
+            .amount(new BigDecimal("25.00"))
+            .build()).block();
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void getTransactionById_ShouldRunOneStatement() {
+        assertEquals(account.getAccountNumber(),
+            transactionService.getTransactionById(deposito.getId()).block().getAccountNumber());
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void getAccountByNumero_ShouldLoadTypeAndStatusWithTheAccount() {
+        assertEquals(account.getAccountNumber(),
+            accountService.getAccountByNumero(account.getAccountNumber()).block().getAccountNumber());
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void getAccountsByClient_ShouldRunOneStatement() {
+        assertTrue(accountService.getAccountsByClient(CLIENT_ID).collectList().block().size() >= 1);
+    }
+
+    @Test
+    @MaxSqlStatements(2)
+    void getTransactionsByAccount_ShouldRunTheAccountLookupAndThePage() {
+        assertEquals(1, transactionService.getTransactionsByAccount(account.getAccountNumber(), null, 10)
+            .block().getItems().size());
+    }
+
+    @Test
+    @MaxSqlStatements(5)
+    void generarReport_ShouldNotQueryPerAccount() {
+        // Cliente, cuentas, movimientos, saldos de apertura y totales del período
+        assertEquals(CLIENT_ID, reportService.generarReport(CLIENT_ID, LocalDate.now().atStartOfDay(),
+            LocalDate.now().atTime(23, 59, 59)).block().getClientId());
+    }
+
+    @Test
+    @MaxSqlStatements(3)
+    void deleteTransaction_ShouldLoadTheAccountWithTheTransaction() {
+        // SELECT del movimiento con su cuenta, DELETE y descuento del total diario
+        transactionService.deleteTransaction(deposito.getId()).block();
+    }
+
+    @Test
+    void lazyLoad_ShouldBeRecordedOutsideTheRepositoryMethod() {
+        // Arrange
+        SqlRecorder recorder = SqlRecorder.detailed();
+
+        // Act: la cuenta del movimiento se carga recién al leer su número
+        try (SqlRecorder.Scope scope = SqlRecorder.open(recorder)) {
+            transactionTemplate.executeWithoutResult(status -> transactionRepository.findById(deposito.getId())
+                .orElseThrow().getAccount().getAccountNumber());
+        }
+
+        // Assert
+        Map<String, Long> porMetodo = recorder.statementsByLabel();
+        assertEquals(1L, porMetodo.get("TransactionRepository.findById"));
+        assertTrue(porMetodo.get(SqlRecorder.UNATTRIBUTED) >= 1);
+        assertTrue(meterRegistry.get("jdbc.repository.statements").tag("method", "TransactionRepository.findById")
+            .summary().count() >= 1);
+        assertTrue(meterRegistry.get("jdbc.sql.unattributed").counter().count() >= 1);
+    }
+}
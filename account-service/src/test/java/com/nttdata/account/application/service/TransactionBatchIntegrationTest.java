@@ -0,0 +1,84 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.BatchTransactionResponseDTO;
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.constants.ErrorConstants;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Posteo por lote: el fallo de un ítem se informa en su resultado sin afectar al resto del lote
+ */
+class TransactionBatchIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    /** Cliente de BaseDatos.sql (Juan Osorio) */
+    private static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440003";
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void overflowingDeposit_ShouldFailOnlyThatItem() {
+        // Arrange: el segundo depósito lleva el saldo por encima de DECIMAL(15,2)
+        Account llena = crearCuenta(CLIENT_ID, new BigDecimal("9999999999999.00"));
+        Account otra = crearCuenta(CLIENT_ID, new BigDecimal("0.00"));
+        List<CreateTransactionDTO> lote = List.of(
+            deposito(otra.getAccountNumber(), "10.00"),
+            deposito(llena.getAccountNumber(), "1.00")
+        );
+
+        // Act
+        BatchTransactionResponseDTO response = transactionService.createTransactionsBatch(lote).block();
+
+        // Assert
+        assertEquals(1, response.getSucceeded());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertEquals(ErrorConstants.VALOR_FUERA_DE_RANGO, response.getResults().get(1).getError());
+        assertEquals(Money.of("10.00"), accountRepository.findById(otra.getId()).orElseThrow().getCurrentBalance());
+        assertEquals(Money.of("9999999999999.00"),
+            accountRepository.findById(llena.getId()).orElseThrow().getCurrentBalance());
+        assertTrue(transactionRepository.findByAccountId(llena.getId()).isEmpty());
+    }
+
+    @Test
+    void amountRoundingToZero_ShouldFailOnlyThatItem() {
+        // Arrange: 0.004 pasa la comparación contra cero pero se redondea a 0.00
+        Account account = crearCuenta(CLIENT_ID, new BigDecimal("0.00"));
+        List<CreateTransactionDTO> lote = List.of(
+            deposito(account.getAccountNumber(), "0.004"),
+            deposito(account.getAccountNumber(), "5.00")
+        );
+
+        // Act
+        BatchTransactionResponseDTO response = transactionService.createTransactionsBatch(lote).block();
+
+        // Assert
+        assertEquals(1, response.getSucceeded());
+        assertEquals(ErrorConstants.VALOR_MOVIMIENTO_INVALIDO, response.getResults().get(0).getError());
+        assertEquals(1, transactionRepository.findByAccountId(account.getId()).size());
+        assertEquals(Money.of("5.00"), accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance());
+    }
+
+    private static CreateTransactionDTO deposito(String accountNumber, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType("DEPOSITO")
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.dto.PageDTO;
+import com.nttdata.account.application.dto.TransactionResponseDTO;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.exception.BusinessValidationException;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifica el recorrido por keyset (fecha, id) del historial de una cuenta
+ */
+class TransactionHistoryPaginationIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int MOVIMIENTOS = 7;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void getTransactionsByAccount_ShouldVisitEveryMovementOnceInDateOrder() {
+        // Arrange: movimientos con la misma fecha para ejercitar el desempate por id
+        Account account = crearCuenta("pagination-client", new BigDecimal("0.00"));
+        for (int i = 0; i < MOVIMIENTOS; i++) {
+            transactionService.createTransaction(CreateTransactionDTO.builder()
+                .accountNumber(account.getAccountNumber())
+                .transactionType("DEPOSITO")
+                .amount(new BigDecimal("10.00"))
+                .build()).block();
+        }
+        List<Transaction> stored = transactionRepository.findByAccountId(account.getId());
+        LocalDateTime sameDate = stored.get(0).getDate();
+        stored.subList(0, 4).forEach(t -> t.setDate(sameDate));
+        transactionRepository.saveAll(stored.subList(0, 4));
+
+        // Act
+        List<Long> visited = new ArrayList<>();
+        int pages = 0;
+        String token = null;
+        do {
+            PageDTO<TransactionResponseDTO> page = transactionService
+                .getTransactionsByAccount(account.getAccountNumber(), token, 3)
+                .block();
+            page.getItems().forEach(item -> visited.add(item.getId()));
+            token = page.getNextPageToken();
+            pages++;
+        } while (token != null);
+
+        // Assert
+        List<Long> expected = transactionRepository.findByAccountId(account.getId()).stream()
+            .sorted(Comparator.comparing(Transaction::getDate).thenComparing(Transaction::getId).reversed())
+            .map(Transaction::getId)
+            .toList();
+        assertEquals(expected, visited);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void getTransactionsByAccount_WithTokenFromAnotherAccount_ShouldBeRejected() {
+        // Arrange
+        Account origen = crearCuenta("pagination-client", new BigDecimal("0.00"));
+        Account otra = crearCuenta("pagination-client", new BigDecimal("0.00"));
+        for (int i = 0; i < 2; i++) {
+            transactionService.createTransaction(CreateTransactionDTO.builder()
+                .accountNumber(origen.getAccountNumber())
+                .transactionType("DEPOSITO")
+                .amount(new BigDecimal("5.00"))
+                .build()).block();
+        }
+        String token = transactionService.getTransactionsByAccount(origen.getAccountNumber(), null, 1)
+            .block()
+            .getNextPageToken();
+
+        // Act & Assert
+        assertThrows(BusinessValidationException.class, () -> transactionService
+            .getTransactionsByAccount(otra.getAccountNumber(), token, 1)
+            .block());
+    }
+}
@@ -0,0 +1,173 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.strategy.DepositStrategy;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.exception.SaldoNoDisponibleException;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de estrés multi-hilo del posteo de movimientos.
+ * Verifica que el UPDATE condicional atómico no pierde actualizaciones ni permite sobregiros,
+ * y compara su throughput contra el camino lectura-modificación-escritura original.
+ */
+class TransactionServiceConcurrencyTest extends AbstractPostgresIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionServiceConcurrencyTest.class);
+
+    private static final int THREADS = 16;
+    private static final int POSTS_PER_THREAD = 50;
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private DepositStrategy depositStrategy;
+
+    @Test
+    void concurrentDeposits_ShouldNotLoseUpdates() throws Exception {
+        // Arrange
+        Account account = crearCuenta("stress-client", new BigDecimal("0.00"));
+
+        // Act
+        long elapsedNanos = runConcurrently(() -> transactionService
+            .createTransaction(deposito(account.getAccountNumber()))
+            .block());
+
+        // Assert
+        int expectedPosts = THREADS * POSTS_PER_THREAD;
+        Account reloaded = accountRepository.findById(account.getId()).orElseThrow();
+        assertEquals(Money.of(AMOUNT.multiply(BigDecimal.valueOf(expectedPosts))), reloaded.getCurrentBalance());
+        assertEquals(expectedPosts, transactionRepository.findByAccountId(account.getId()).size());
+        log.info("UPDATE atómico: {} posteos en {} ms ({} posteos/s)",
+            expectedPosts, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput(expectedPosts, elapsedNanos));
+    }
+
+    @Test
+    void concurrentWithdrawals_ShouldNeverOverdraw() throws Exception {
+        // Arrange: saldo para exactamente 50 retiros
+        Account account = crearCuenta("stress-client", new BigDecimal("500.00"));
+        AtomicInteger rechazados = new AtomicInteger();
+
+        // Act
+        runConcurrently(() -> {
+            try {
+                transactionService.createTransaction(retiro(account.getAccountNumber())).block();
+            } catch (SaldoNoDisponibleException ex) {
+                rechazados.incrementAndGet();
+            }
+        });
+
+        // Assert
+        int totalPosts = THREADS * POSTS_PER_THREAD;
+        Account reloaded = accountRepository.findById(account.getId()).orElseThrow();
+        assertEquals(Money.ZERO, reloaded.getCurrentBalance());
+        assertEquals(totalPosts - 50, rechazados.get());
+        assertEquals(50, transactionRepository.findByAccountId(account.getId()).size());
+    }
+
+    @Test
+    void atomicPath_ShouldOutperformReadModifyWriteWithoutLosingUpdates() throws Exception {
+        int expectedPosts = THREADS * POSTS_PER_THREAD;
+
+        // Camino original: leer cuenta, calcular saldo en memoria y guardar la entidad completa
+        Account legacyAccount = crearCuenta("stress-client", new BigDecimal("0.00"));
+        long legacyNanos = runConcurrently(() -> {
+            Account current = accountRepository.findByAccountNumber(legacyAccount.getAccountNumber()).orElseThrow();
+            Transaction transaction = depositStrategy.procesarTransaction(current, Money.of(AMOUNT));
+            accountRepository.save(transaction.getAccount());
+            transactionRepository.save(transaction);
+        });
+        Money legacyBalance = accountRepository.findById(legacyAccount.getId()).orElseThrow().getCurrentBalance();
+        long legacyLost = expectedPosts - legacyBalance.getUnits() / Money.of(AMOUNT).getUnits();
+
+        // Camino atómico
+        Account atomicAccount = crearCuenta("stress-client", new BigDecimal("0.00"));
+        long atomicNanos = runConcurrently(() -> transactionService
+            .createTransaction(deposito(atomicAccount.getAccountNumber()))
+            .block());
+        Money atomicBalance = accountRepository.findById(atomicAccount.getId()).orElseThrow().getCurrentBalance();
+        long atomicLost = expectedPosts - atomicBalance.getUnits() / Money.of(AMOUNT).getUnits();
+
+        log.info("Lectura-modificación-escritura: {} posteos/s, actualizaciones perdidas: {}",
+            throughput(expectedPosts, legacyNanos), legacyLost);
+        log.info("UPDATE atómico: {} posteos/s, actualizaciones perdidas: {}",
+            throughput(expectedPosts, atomicNanos), atomicLost);
+
+        assertEquals(0, atomicLost);
+        assertTrue(legacyLost >= 0);
+    }
+
+    /**
+     * Ejecuta la acción THREADS x POSTS_PER_THREAD veces con arranque simultáneo
+     * @return tiempo transcurrido en nanosegundos
+     */
+    private long runConcurrently(Runnable action) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < POSTS_PER_THREAD; i++) {
+                        action.run();
+                    }
+                    return null;
+                }));
+            }
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+            return System.nanoTime() - startNanos;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static long throughput(int posts, long nanos) {
+        return posts * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+    }
+
+    private static CreateTransactionDTO deposito(String accountNumber) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType("DEPOSITO")
+            .amount(AMOUNT)
+            .build();
+    }
+
+    private static CreateTransactionDTO retiro(String accountNumber) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType("RETIRO")
+            .amount(AMOUNT)
+            .build();
+    }
+}
@@ -1,18 +1,42 @@
 package com.nttdata.account.application.service;
 
 import com.nttdata.account.application.dto.TransactionResponseDTO;
+import com.nttdata.account.application.factory.TransactionStrategyFactory;
 import com.nttdata.account.application.mapper.TransactionMapper;
-import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.account.infrastructure.cache.AccountSnapshotCache;
+import com.nttdata.account.infrastructure.groupcommit.GroupCommitExecutor;
+import com.nttdata.account.infrastructure.idempotency.IdempotencyStore;
+import com.nttdata.account.infrastructure.ledger.LedgerEngine;
+import com.nttdata.account.infrastructure.pagination.PaginationProperties;
+import com.nttdata.account.infrastructure.r2dbc.ReactiveAccountStore;
+import com.nttdata.account.infrastructure.report.ReportCache;
+import com.nttdata.account.infrastructure.streaming.EntityStreamReader;
+import com.nttdata.account.infrastructure.withdrawal.DailyWithdrawalLimiter;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.shared.datasource.ReadYourWrites;
+import com.nttdata.shared.domain.projection.TransactionView;
+import com.nttdata.shared.domain.repository.AccountRepository;
 import com.nttdata.shared.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,33 +45,96 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionStrategyFactory strategyFactory;
+
     @Mock
     private TransactionMapper transactionMapper;
 
-    @InjectMocks
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private DailyWithdrawalLimiter dailyWithdrawalLimiter;
+
+    @Mock
+    private BalanceHistoryService balanceHistoryService;
+
+    @Mock
+    private DailyRollupService dailyRollupService;
+
+    @Mock
+    private ReportCache reportCache;
+
+    @Mock
+    private EntityStreamReader entityStreamReader;
+
+    @Mock
+    private AccountSnapshotCache accountSnapshotCache;
+
+    @Mock
+    private JdbcBulkhead jdbcBulkhead;
+
+    @Mock
+    private ReadYourWrites readYourWrites;
+
+    private final Optional<LedgerEngine> sinLedger = Optional.empty();
+
+    private final Optional<GroupCommitExecutor> sinGroupCommit = Optional.empty();
+
+    private final Optional<ReactiveAccountStore> sinR2dbc = Optional.empty();
+
+    private final PaginationProperties paginationProperties = new PaginationProperties();
+
     private TransactionService transactionService;
 
+    @BeforeEach
+    void modoJpa() {
+        // Modo JPA sin ledger, group commit ni adaptador R2DBC; el bulkhead ejecuta la llamada en el hilo
+        // del suscriptor
+        when(jdbcBulkhead.read(any()))
+            .thenAnswer(invocation -> Mono.fromCallable(invocation.<Callable<?>>getArgument(0)));
+        transactionService = new TransactionService(transactionRepository, accountRepository, strategyFactory,
+            transactionMapper, transactionTemplate, sinLedger, idempotencyStore, sinGroupCommit,
+            dailyWithdrawalLimiter, balanceHistoryService, dailyRollupService, reportCache, paginationProperties,
+            entityStreamReader, sinR2dbc, accountSnapshotCache, jdbcBulkhead, readYourWrites);
+    }
+
     @Test
-    void getAllTransactions_ShouldReturnFluxOfTransactions() {
+    void getAllTransactions_ShouldReturnPageAndContinueFromToken() {
         // Arrange
-        Transaction t1 = new Transaction();
-        t1.setId(1L);
-        Transaction t2 = new Transaction();
-        t2.setId(2L);
+        TransactionView t1 = movimiento(1L);
+        TransactionView t2 = movimiento(2L);
 
         TransactionResponseDTO dto1 = new TransactionResponseDTO();
         dto1.setId(1L);
         TransactionResponseDTO dto2 = new TransactionResponseDTO();
         dto2.setId(2L);
 
-        when(transactionRepository.findAll()).thenReturn(Arrays.asList(t1, t2));
+        when(transactionRepository.findViewPageAfter(eq(0L), any(Limit.class))).thenReturn(Arrays.asList(t1, t2));
+        when(transactionRepository.findViewPageAfter(eq(1L), any(Limit.class))).thenReturn(List.of(t2));
         when(transactionMapper.toResponseDTO(t1)).thenReturn(dto1);
         when(transactionMapper.toResponseDTO(t2)).thenReturn(dto2);
 
         // Act & Assert
-        StepVerifier.create(transactionService.getAllTransactions())
-            .expectNext(dto1)
-            .expectNext(dto2)
+        StepVerifier.create(transactionService.getAllTransactions(null, 1)
+                .zipWhen(first -> transactionService.getAllTransactions(first.getNextPageToken(), 1)))
+            .assertNext(pages -> {
+                assertEquals(List.of(dto1), pages.getT1().getItems());
+                assertNotNull(pages.getT1().getNextPageToken());
+                assertEquals(List.of(dto2), pages.getT2().getItems());
+                assertNull(pages.getT2().getNextPageToken());
+            })
             .verifyComplete();
     }
+
+    private static TransactionView movimiento(Long id) {
+        return new TransactionView(id, null, null, null, null, null);
+    }
 }
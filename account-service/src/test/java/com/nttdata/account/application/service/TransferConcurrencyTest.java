@@ -0,0 +1,119 @@
+package com.nttdata.account.application.service;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.exception.SaldoNoDisponibleException;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Benchmark concurrente de transferencias: N hilos transfieren montos aleatorios entre M cuentas.
+ * Verifica que no haya deadlocks (cualquier error distinto de saldo insuficiente hace fallar
+ * la prueba), que el saldo total se conserve y que cada transferencia deje dos movimientos.
+ */
+class TransferConcurrencyTest extends AbstractPostgresIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferConcurrencyTest.class);
+
+    private static final int THREADS = 16;
+    private static final int TRANSFERS_PER_THREAD = 100;
+    private static final int ACCOUNTS = 8;
+    private static final BigDecimal SALDO_INICIAL = new BigDecimal("1000.00");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void randomConcurrentTransfers_ShouldConserveTotalBalanceWithoutDeadlocks() throws Exception {
+        // Arrange: pocas cuentas para forzar transferencias cruzadas en ambos sentidos
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(crearCuenta("transfer-client", SALDO_INICIAL));
+        }
+        AtomicInteger exitosas = new AtomicInteger();
+        AtomicInteger rechazadas = new AtomicInteger();
+
+        // Act
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        long elapsedNanos;
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                        int origen = random.nextInt(ACCOUNTS);
+                        int destino = (origen + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                        CreateTransactionDTO dto = CreateTransactionDTO.builder()
+                            .accountNumber(accounts.get(origen).getAccountNumber())
+                            .destinationAccountNumber(accounts.get(destino).getAccountNumber())
+                            .transactionType("TRANSFERENCIA")
+                            .amount(BigDecimal.valueOf(random.nextLong(1, 30_000), 2))
+                            .build();
+                        try {
+                            transactionService.createTransaction(dto).block();
+                            exitosas.incrementAndGet();
+                        } catch (SaldoNoDisponibleException ex) {
+                            rechazadas.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Assert
+        Money total = Money.ZERO;
+        int movimientos = 0;
+        for (Account account : accounts) {
+            Account reloaded = accountRepository.findById(account.getId()).orElseThrow();
+            assertFalse(reloaded.getCurrentBalance().isNegative());
+            total = total.add(reloaded.getCurrentBalance());
+
+            List<Transaction> transactions = transactionRepository.findByAccountId(account.getId());
+            movimientos += transactions.size();
+            Money neto = transactions.stream().map(Transaction::getAmount).reduce(Money.ZERO, Money::add);
+            assertEquals(Money.of(SALDO_INICIAL).add(neto), reloaded.getCurrentBalance());
+        }
+        assertEquals(Money.of(SALDO_INICIAL.multiply(BigDecimal.valueOf(ACCOUNTS))), total);
+        assertEquals(exitosas.get() * 2, movimientos);
+        assertEquals(THREADS * TRANSFERS_PER_THREAD, exitosas.get() + rechazadas.get());
+
+        log.info("Transferencias: {} exitosas, {} rechazadas por saldo, {} transferencias/s",
+            exitosas.get(), rechazadas.get(),
+            exitosas.get() * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1));
+    }
+}
@@ -0,0 +1,15 @@
+package com.nttdata.account.application.service;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Benchmark de ejecución con jdbc.bulkhead.virtual-threads: un hilo virtual por operación
+ */
+@TestPropertySource(properties = "jdbc.bulkhead.virtual-threads=true")
+class VirtualThreadBenchmarkTest extends AbstractExecutionModeBenchmark {
+
+    @Override
+    protected String mode() {
+        return "hilos virtuales";
+    }
+}
@@ -0,0 +1,113 @@
+package com.nttdata.account.infrastructure.cache;
+
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.constants.ApiConstants;
+import com.nttdata.shared.domain.model.Account;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de GET /api/accounts/{accountNumber} con la caché de cuentas activada y desactivada
+ * Misma carga en ambos casos: N hilos consultan de forma repetida un conjunto pequeño de cuentas.
+ */
+@Tag("benchmark")
+class AccountSnapshotCacheBenchmarkTest extends AbstractPostgresIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountSnapshotCacheBenchmarkTest.class);
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 250;
+    private static final int ACCOUNTS = 8;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private AccountSnapshotCacheProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getAccount_WithAndWithoutCache_ShouldReportRequestsPerSecond() throws Exception {
+        // Arrange
+        WebTestClient client = WebTestClient.bindToApplicationContext(applicationContext).build();
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(crearCuenta("snapshot-bench-client", new BigDecimal("100.00")));
+        }
+
+        // Act: primero sin caché para que ninguna corrida parta con las cuentas ya cargadas
+        long sinCache;
+        try {
+            properties.setEnabled(false);
+            sinCache = run(client, accounts);
+        } finally {
+            properties.setEnabled(true);
+        }
+        double hitsBefore = hits();
+        long conCache = run(client, accounts);
+
+        // Assert: con caché solo la primera lectura de cada cuenta llega a la base
+        int requests = THREADS * REQUESTS_PER_THREAD;
+        assertTrue(hits() - hitsBefore >= requests - ACCOUNTS);
+        log.info("GET /api/accounts/{n} sin caché: {} req/s, con caché: {} req/s",
+            perSecond(requests, sinCache), perSecond(requests, conCache));
+    }
+
+    private static long run(WebTestClient client, List<Account> accounts) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        String accountNumber = accounts.get((offset + i) % ACCOUNTS).getAccountNumber();
+                        client.get()
+                            .uri(ApiConstants.CUENTAS_PATH + "/{accountNumber}", accountNumber)
+                            .exchange()
+                            .expectStatus().isOk();
+                    }
+                    return null;
+                }));
+            }
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+            return System.nanoTime() - startNanos;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "accounts").tag("result", "hit")
+            .functionCounter().count();
+    }
+
+    private static long perSecond(int operations, long nanos) {
+        return operations * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+    }
+}
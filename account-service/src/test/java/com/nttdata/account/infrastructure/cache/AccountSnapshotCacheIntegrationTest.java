@@ -0,0 +1,102 @@
+package com.nttdata.account.infrastructure.cache;
+
+import com.nttdata.account.application.dto.CreateAccountDTO;
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.service.AccountService;
+import com.nttdata.account.application.service.TransactionService;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.exception.SaldoNoDisponibleException;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifica la caché de cuentas: aciertos, invalidación en cada escritura y que el control
+ * de saldo de los retiros no dependa del saldo guardado en memoria
+ */
+class AccountSnapshotCacheIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getAccount_ShouldServeFromCacheUntilAPostChangesTheBalance() {
+        // Arrange
+        Account account = crearCuenta("snapshot-client", new BigDecimal("100.00"));
+        double hitsBefore = hits();
+
+        // Act
+        accountService.getAccountByNumero(account.getAccountNumber()).block();
+        Money cached = accountService.getAccountByNumero(account.getAccountNumber()).block().getCurrentBalance();
+        transactionService.createTransaction(movimiento(account, "DEPOSITO", "25.00")).block();
+        Money afterPost = accountService.getAccountByNumero(account.getAccountNumber()).block().getCurrentBalance();
+
+        // Assert
+        assertEquals(1, hits() - hitsBefore);
+        assertEquals(Money.of("100.00"), cached);
+        assertEquals(Money.of("125.00"), afterPost);
+    }
+
+    @Test
+    void withdrawal_ShouldCheckTheDatabaseBalanceNotTheCachedOne() {
+        // Arrange: la cuenta queda en caché con 100.00 y otra réplica deja el saldo en 10.00
+        Account account = crearCuenta("snapshot-client", new BigDecimal("100.00"));
+        accountService.getAccountByNumero(account.getAccountNumber()).block();
+        accountRepository.applyBalanceDelta(account.getId(), new BigDecimal("-90.00"));
+
+        // Act & Assert
+        assertThrows(SaldoNoDisponibleException.class, () -> transactionService
+            .createTransaction(movimiento(account, "RETIRO", "50.00"))
+            .block());
+        Money saldo = transactionService.createTransaction(movimiento(account, "RETIRO", "5.00")).block().getBalance();
+        assertEquals(Money.of("5.00"), saldo);
+        assertEquals(Money.of("5.00"),
+            accountService.getAccountByNumero(account.getAccountNumber()).block().getCurrentBalance());
+    }
+
+    @Test
+    void updateAccount_ShouldInvalidateAndKeepTheCurrentBalance() {
+        // Arrange: saldo en caché desactualizado respecto de la base
+        Account account = crearCuenta("snapshot-client", new BigDecimal("100.00"));
+        accountService.getAccountByNumero(account.getAccountNumber()).block();
+        accountRepository.applyBalanceDelta(account.getId(), new BigDecimal("40.00"));
+
+        // Act
+        accountService.updateAccount(account.getAccountNumber(), CreateAccountDTO.builder()
+            .accountType("CORRIENTE")
+            .build()).block();
+
+        // Assert: la actualización no reescribe el saldo leído de la caché
+        Account reloaded = accountRepository.findById(account.getId()).orElseThrow();
+        assertEquals(Money.of("140.00"), reloaded.getCurrentBalance());
+        assertEquals("CORRIENTE", reloaded.getAccountType().getCode());
+        assertEquals(Money.of("140.00"),
+            accountService.getAccountByNumero(account.getAccountNumber()).block().getCurrentBalance());
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "accounts").tag("result", "hit")
+            .functionCounter().count();
+    }
+
+    private static CreateTransactionDTO movimiento(Account account, String type, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(account.getAccountNumber())
+            .transactionType(type)
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
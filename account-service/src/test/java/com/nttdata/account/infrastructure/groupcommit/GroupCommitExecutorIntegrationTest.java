@@ -0,0 +1,106 @@
+package com.nttdata.account.infrastructure.groupcommit;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.service.TransactionService;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.exception.SaldoNoDisponibleException;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que el group commit confirme varios posteos por transacción sin que
+ * el rechazo de uno afecte a los demás del grupo
+ */
+@TestPropertySource(properties = {
+    "account.group-commit.enabled=true",
+    "account.group-commit.max-wait=20ms"
+})
+class GroupCommitExecutorIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int POSTS_PER_THREAD = 20;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void mixedPosts_ShouldRejectOnlyFailingRequestsOfEachGroup() throws Exception {
+        // Arrange: la cuenta "sin saldo" rechaza todos sus retiros
+        Account conSaldo = crearCuenta("group-client", new BigDecimal("0.00"));
+        Account sinSaldo = crearCuenta("group-client", new BigDecimal("0.00"));
+        AtomicInteger rechazados = new AtomicInteger();
+
+        // Act: depósitos y retiros fallidos intercalados en los mismos grupos
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < POSTS_PER_THREAD; i++) {
+                        transactionService.createTransaction(
+                            movimiento(conSaldo.getAccountNumber(), "DEPOSITO", "10.00")).block();
+                        try {
+                            transactionService.createTransaction(
+                                movimiento(sinSaldo.getAccountNumber(), "RETIRO", "5.00")).block();
+                        } catch (SaldoNoDisponibleException ex) {
+                            rechazados.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Assert
+        int expectedPosts = THREADS * POSTS_PER_THREAD;
+        assertEquals(expectedPosts, rechazados.get());
+        assertEquals(Money.of(new BigDecimal("10.00").multiply(BigDecimal.valueOf(expectedPosts))),
+            accountRepository.findById(conSaldo.getId()).orElseThrow().getCurrentBalance());
+        assertEquals(expectedPosts, transactionRepository.findByAccountId(conSaldo.getId()).size());
+        assertTrue(transactionRepository.findByAccountId(sinSaldo.getId()).isEmpty());
+
+        DistributionSummary groupSize = meterRegistry.get("transactions.group_commit.size").summary();
+        assertTrue(groupSize.max() > 1, "Se esperaba al menos un grupo con más de un posteo");
+    }
+
+    private static CreateTransactionDTO movimiento(String accountNumber, String type, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType(type)
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
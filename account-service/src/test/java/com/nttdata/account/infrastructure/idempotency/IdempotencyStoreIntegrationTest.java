@@ -0,0 +1,156 @@
+package com.nttdata.account.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.dto.TransactionResponseDTO;
+import com.nttdata.account.application.service.TransactionService;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.exception.BusinessValidationException;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.common.jdbc.JdbcBulkheadProperties;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.repository.IdempotencyKeyRepository;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que los reintentos con la misma Idempotency-Key no dupliquen movimientos
+ */
+class IdempotencyStoreIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void concurrentRetries_ShouldPostOnceAndReturnOriginalResponse() throws Exception {
+        // Arrange
+        Account account = crearCuenta("idempotency-client", new BigDecimal("0.00"));
+        CreateTransactionDTO dto = deposito(account.getAccountNumber(), "25.00");
+        String key = UUID.randomUUID().toString();
+
+        // Act: duplicados concurrentes
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TransactionResponseDTO>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return transactionService.createTransaction(dto, key).block();
+                }));
+            }
+            start.countDown();
+            List<TransactionResponseDTO> responses = new ArrayList<>();
+            for (Future<TransactionResponseDTO> future : futures) {
+                responses.add(future.get(1, TimeUnit.MINUTES));
+            }
+
+            // ...y un reintento posterior
+            TransactionResponseDTO replay = transactionService.createTransaction(dto, key).block();
+
+            // Assert
+            Long originalId = responses.get(0).getId();
+            responses.forEach(response -> assertEquals(originalId, response.getId()));
+            assertEquals(originalId, replay.getId());
+            assertEquals(1, transactionRepository.findByAccountId(account.getId()).size());
+            assertEquals(Money.of("25.00"),
+                accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance());
+            assertTrue(idempotencyKeyRepository.findById(key).orElseThrow().getResponseBody() != null);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void reusedKeyWithDifferentPayload_ShouldBeRejected() {
+        // Arrange
+        Account account = crearCuenta("idempotency-client", new BigDecimal("0.00"));
+        String key = UUID.randomUUID().toString();
+        transactionService.createTransaction(deposito(account.getAccountNumber(), "10.00"), key).block();
+
+        // Act & Assert
+        assertThrows(BusinessValidationException.class, () -> transactionService
+            .createTransaction(deposito(account.getAccountNumber(), "99.00"), key)
+            .block());
+        assertEquals(1, transactionRepository.findByAccountId(account.getId()).size());
+    }
+
+    @Test
+    void saturatedWriteBulkhead_ShouldRejectWithoutReservingTheKey() {
+        // Arrange: un hilo de escritura ocupado y una operación en cola
+        JdbcBulkheadProperties bulkheadProperties = new JdbcBulkheadProperties();
+        bulkheadProperties.getWrite().setMaxConcurrent(1);
+        bulkheadProperties.getWrite().setMaxQueued(1);
+        bulkheadProperties.getWrite().setMaxWait(Duration.ZERO);
+        JdbcBulkhead bulkhead = new JdbcBulkhead(bulkheadProperties, new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        IdempotencyStore store = new IdempotencyStore(idempotencyKeyRepository, transactionTemplate, objectMapper,
+            new IdempotencyProperties(), bulkhead, new SimpleMeterRegistry());
+        CreateTransactionDTO dto = deposito("478758", "10.00");
+        String key = UUID.randomUUID().toString();
+        AtomicBoolean ran = new AtomicBoolean();
+        try {
+            bulkhead.write(() -> release.await(10, TimeUnit.SECONDS)).subscribe();
+            bulkhead.write(() -> release.await(10, TimeUnit.SECONDS)).subscribe();
+
+            // Act & Assert: el rechazo llega al llamador (503) y la clave queda libre para el reintento
+            assertThrows(RejectedExecutionException.class, () -> store.execute(key, dto, () -> {
+                ran.set(true);
+                return TransactionResponseDTO.builder().id(1L).build();
+            }).block());
+            assertFalse(ran.get());
+            assertTrue(idempotencyKeyRepository.findById(key).isEmpty());
+
+            release.countDown();
+            assertEquals(2L, store.execute(key, dto, () -> TransactionResponseDTO.builder().id(2L).build())
+                .block().getId());
+        } finally {
+            release.countDown();
+            bulkhead.destroy();
+        }
+    }
+
+    private static CreateTransactionDTO deposito(String accountNumber, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType("DEPOSITO")
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
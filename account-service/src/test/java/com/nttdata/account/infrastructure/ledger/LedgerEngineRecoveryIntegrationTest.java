@@ -0,0 +1,140 @@
+package com.nttdata.account.infrastructure.ledger;
+
+import com.nttdata.account.infrastructure.cache.AccountSnapshotCache;
+import com.nttdata.account.infrastructure.report.ReportCache;
+import com.nttdata.account.infrastructure.withdrawal.DailyWithdrawalLimiter;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.datasource.ReadYourWrites;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Reinicio del ledger tras una caída: el journal con posteos sin volcar se reaplica en la base
+ * al arrancar el motor
+ */
+class LedgerEngineRecoveryIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    /** Cliente de BaseDatos.sql (Juan Osorio) */
+    private static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440003";
+
+    @TempDir
+    Path journalDir;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DailyWithdrawalLimiter withdrawalLimiter;
+
+    @Autowired
+    private ReportCache reportCache;
+
+    @Autowired
+    private AccountSnapshotCache accountSnapshotCache;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @Test
+    void start_ShouldReplayJournalEntriesAboveTheCheckpoint() throws Exception {
+        // Arrange: el journal del shard 0 quedó con un posteo ya volcado y dos pendientes
+        Account account = crearCuenta(CLIENT_ID, new BigDecimal("100.00"));
+        long checkpoint = checkpoint(0) + 10;
+        jdbcTemplate.update("INSERT INTO ledger_checkpoint (shard, last_sequence) VALUES (0, ?) " +
+            "ON CONFLICT (shard) DO UPDATE SET last_sequence = EXCLUDED.last_sequence", checkpoint);
+        try (LedgerJournal journal = new LedgerJournal(journalDir.resolve("shard-0.journal"))) {
+            journal.append(List.of(
+                entry(checkpoint, account, "100.00", "100.00"),
+                entry(checkpoint + 1, account, "50.00", "150.00"),
+                entry(checkpoint + 2, account, "-30.00", "120.00")
+            ));
+        }
+        LedgerEngine engine = engine();
+
+        // Act
+        engine.start();
+        engine.stop();
+
+        // Assert
+        Account recovered = accountRepository.findById(account.getId()).orElseThrow();
+        assertEquals(Money.of("120.00"), recovered.getCurrentBalance());
+        assertEquals(2, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM transaction WHERE account_id = ?", Integer.class, account.getId()));
+        assertEquals(checkpoint + 2, checkpoint(0));
+        try (LedgerJournal journal = new LedgerJournal(journalDir.resolve("shard-0.journal"))) {
+            assertEquals(0, journal.size());
+        }
+    }
+
+    @Test
+    void start_ShouldReplaySealedSegmentsBeforeTheJournalAndDeleteThem() throws Exception {
+        // Arrange: el shard 0 selló un segmento que el flusher no llegó a volcar antes de la caída
+        Account account = crearCuenta(CLIENT_ID, new BigDecimal("100.00"));
+        long checkpoint = checkpoint(0) + 10;
+        jdbcTemplate.update("INSERT INTO ledger_checkpoint (shard, last_sequence) VALUES (0, ?) " +
+            "ON CONFLICT (shard) DO UPDATE SET last_sequence = EXCLUDED.last_sequence", checkpoint);
+        Path segment = journalDir.resolve("shard-0.journal." + (checkpoint + 1));
+        try (LedgerJournal journal = new LedgerJournal(segment)) {
+            journal.append(List.of(entry(checkpoint + 1, account, "50.00", "150.00")));
+        }
+        try (LedgerJournal journal = new LedgerJournal(journalDir.resolve("shard-0.journal"))) {
+            journal.append(List.of(entry(checkpoint + 2, account, "-30.00", "120.00")));
+        }
+        LedgerEngine engine = engine();
+
+        // Act
+        engine.start();
+        engine.stop();
+
+        // Assert
+        assertEquals(Money.of("120.00"), accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance());
+        assertEquals(checkpoint + 2, checkpoint(0));
+        assertFalse(Files.exists(segment));
+    }
+
+    private LedgerEngine engine() {
+        LedgerProperties properties = new LedgerProperties();
+        properties.setEnabled(true);
+        properties.setShards(2);
+        properties.setJournalDir(journalDir.toString());
+        return new LedgerEngine(properties, accountRepository, jdbcTemplate, transactionTemplate,
+            withdrawalLimiter, reportCache, accountSnapshotCache, readYourWrites);
+    }
+
+    private long checkpoint(int shard) {
+        return jdbcTemplate.queryForList("SELECT last_sequence FROM ledger_checkpoint WHERE shard = ?", Long.class, shard)
+            .stream().findFirst().orElse(0L);
+    }
+
+    private static LedgerEntry entry(long sequence, Account account, String amount, String balance) {
+        Money value = Money.of(amount);
+        return new LedgerEntry(
+            sequence,
+            0,
+            account.getId(),
+            account.getAccountNumber(),
+            value.isNegative() ? Transaction.TransactionType.RETIRO : Transaction.TransactionType.DEPOSITO,
+            value,
+            Money.of(balance),
+            LocalDateTime.now()
+        );
+    }
+}
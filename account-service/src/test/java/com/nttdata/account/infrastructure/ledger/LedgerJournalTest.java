@@ -0,0 +1,122 @@
+package com.nttdata.account.infrastructure.ledger;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LedgerJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readAll_ShouldReplayAppendedEntriesInOrder() throws Exception {
+        // Arrange
+        Path file = dir.resolve("shard-0.journal");
+        List<LedgerEntry> entries = List.of(entry(1, "100.00", "100.00"), entry(2, "-40.50", "59.50"));
+        try (LedgerJournal journal = new LedgerJournal(file)) {
+            journal.append(entries);
+        }
+
+        // Act
+        List<LedgerEntry> replayed;
+        try (LedgerJournal journal = new LedgerJournal(file)) {
+            replayed = journal.readAll();
+        }
+
+        // Assert
+        assertEquals(entries, replayed);
+    }
+
+    @Test
+    void readAll_ShouldDiscardTornTail() throws Exception {
+        // Arrange: simular una caída a mitad de la escritura del segundo grupo
+        Path file = dir.resolve("shard-0.journal");
+        try (LedgerJournal journal = new LedgerJournal(file)) {
+            journal.append(List.of(entry(1, "100.00", "100.00")));
+        }
+        long validSize = Files.size(file);
+        try (LedgerJournal journal = new LedgerJournal(file)) {
+            journal.append(List.of(entry(2, "50.00", "150.00")));
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+
+        // Act
+        List<LedgerEntry> replayed;
+        try (LedgerJournal journal = new LedgerJournal(file)) {
+            replayed = journal.readAll();
+            journal.append(List.of(entry(3, "10.00", "110.00")));
+        }
+
+        // Assert: el registro incompleto se descarta y las escrituras siguientes quedan legibles
+        assertEquals(1, replayed.size());
+        assertEquals(1, replayed.get(0).sequence());
+        try (LedgerJournal journal = new LedgerJournal(file)) {
+            List<LedgerEntry> afterRecovery = journal.readAll();
+            assertEquals(List.of(1L, 3L), afterRecovery.stream().map(LedgerEntry::sequence).toList());
+        }
+        assertTrue(Files.size(file) > validSize);
+    }
+
+    @Test
+    void reset_ShouldEmptyJournal() throws Exception {
+        // Arrange
+        Path file = dir.resolve("shard-0.journal");
+        try (LedgerJournal journal = new LedgerJournal(file)) {
+            journal.append(List.of(entry(1, "100.00", "100.00")));
+
+            // Act
+            journal.reset();
+
+            // Assert
+            assertEquals(0, journal.size());
+            assertTrue(journal.readAll().isEmpty());
+        }
+    }
+
+    @Test
+    void rotate_ShouldSealTheSegmentAndContinueInAnEmptyJournal() throws Exception {
+        // Arrange
+        Path file = dir.resolve("shard-0.journal");
+        LedgerJournal journal = new LedgerJournal(file);
+        journal.append(List.of(entry(1, "100.00", "100.00"), entry(2, "50.00", "150.00")));
+
+        // Act
+        try (LedgerJournal next = journal.rotate(2)) {
+            next.append(List.of(entry(3, "10.00", "160.00")));
+
+            // Assert
+            assertEquals(List.of(dir.resolve("shard-0.journal.2")), LedgerJournal.segments(file));
+            assertEquals(List.of(3L), next.readAll().stream().map(LedgerEntry::sequence).toList());
+        }
+        try (LedgerJournal segment = new LedgerJournal(dir.resolve("shard-0.journal.2"))) {
+            assertEquals(List.of(1L, 2L), segment.readAll().stream().map(LedgerEntry::sequence).toList());
+        }
+    }
+
+    private static LedgerEntry entry(long sequence, String amount, String balance) {
+        Money value = Money.of(amount);
+        return new LedgerEntry(
+            sequence,
+            0,
+            42L,
+            "478758",
+            value.isNegative() ? Transaction.TransactionType.RETIRO : Transaction.TransactionType.DEPOSITO,
+            value,
+            Money.of(balance),
+            LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_456_789)
+        );
+    }
+}
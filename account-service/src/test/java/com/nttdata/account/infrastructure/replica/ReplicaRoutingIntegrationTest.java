@@ -0,0 +1,150 @@
+package com.nttdata.account.infrastructure.replica;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.service.AccountService;
+import com.nttdata.account.application.service.TransactionService;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.common.jdbc.ReadRouting;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.datasource.ReadYourWrites;
+import com.nttdata.shared.datasource.ReplicaRoutingDataSource;
+import com.nttdata.shared.datasource.ReplicaRoutingProperties;
+import com.nttdata.shared.domain.model.Account;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Ruteo de lecturas a réplicas con el mismo PostgreSQL como stand-in de réplica
+ * replica-0 apunta al contenedor de pruebas (sus conexiones se reconocen por application_name)
+ * y replica-1 a un puerto sin servidor, que debe quedar fuera de la rotación.
+ */
+class ReplicaRoutingIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final String APPLICATION_NAME_SQL = "SELECT current_setting('application_name')";
+    private static final String UNREACHABLE_URL = "jdbc:postgresql://localhost:1/nttdata_bank";
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replicas.enabled", () -> true);
+        registry.add("datasource.replicas.nodes[0].url", POSTGRES::getJdbcUrl);
+        registry.add("datasource.replicas.nodes[1].url", () -> UNREACHABLE_URL);
+        registry.add("datasource.replicas.read-your-writes-window", () -> "30s");
+    }
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private JdbcBulkhead jdbcBulkhead;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void revisarReplicas() {
+        routingDataSource.checkHealth();
+    }
+
+    @Test
+    void reads_ShouldGoToTheHealthyReplicaAndEverythingElseToThePrimary() {
+        // Act
+        String lectura = jdbcBulkhead.read(this::applicationName).block();
+        String escritura = jdbcBulkhead.write(this::applicationName).block();
+        String fueraDelBulkhead = applicationName();
+
+        // Assert
+        assertEquals("replica-0", lectura);
+        assertNotEquals("replica-0", escritura);
+        assertNotEquals("replica-0", fueraDelBulkhead);
+        assertEquals(1, healthy("replica-0"));
+        assertEquals(0, healthy("replica-1"));
+    }
+
+    @Test
+    void readAfterAPosting_ShouldUseThePrimaryForThatAccountOnly() {
+        // Arrange
+        Account account = crearCuenta("replica-client", new BigDecimal("100.00"));
+        Account otra = crearCuenta("replica-client", new BigDecimal("100.00"));
+
+        // Act
+        transactionService.createTransaction(CreateTransactionDTO.builder()
+            .accountNumber(account.getAccountNumber())
+            .transactionType("DEPOSITO")
+            .amount(new BigDecimal("25.00"))
+            .build()).block();
+        String cuentaEscrita = jdbcBulkhead.read(readYourWrites.guard(account.getAccountNumber(),
+            this::applicationName)).block();
+        String otraCuenta = jdbcBulkhead.read(readYourWrites.guard(otra.getAccountNumber(),
+            this::applicationName)).block();
+
+        // Assert
+        assertNotEquals("replica-0", cuentaEscrita);
+        assertEquals("replica-0", otraCuenta);
+        assertEquals(Money.of("125.00"),
+            accountService.getAccountByNumero(account.getAccountNumber()).block().getCurrentBalance());
+    }
+
+    @Test
+    void withoutHealthyReplicas_ReadsShouldFallBackToThePrimary() throws Exception {
+        // Arrange: solo una réplica sin servidor
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setHealthCheckInterval(Duration.ofMinutes(1));
+        HikariDataSource caida = new HikariDataSource();
+        caida.setJdbcUrl(UNREACHABLE_URL);
+        caida.setConnectionTimeout(250);
+        caida.setInitializationFailTimeout(-1);
+        caida.addDataSourceProperty("ApplicationName", "caida");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, Map.of("caida", caida),
+            properties, new SimpleMeterRegistry());
+        try {
+            routing.checkHealth();
+
+            // Act
+            String applicationName = ReadRouting.call(ReadRouting.Route.REPLICA,
+                () -> new JdbcTemplate(routing).queryForObject(APPLICATION_NAME_SQL, String.class));
+
+            // Assert
+            assertNotEquals("caida", applicationName);
+        } finally {
+            routing.destroy();
+        }
+    }
+
+    private String applicationName() {
+        return jdbcTemplate.queryForObject(APPLICATION_NAME_SQL, String.class);
+    }
+
+    private double healthy(String replica) {
+        return meterRegistry.get("jdbc.replica.healthy").tag("replica", replica).gauge().value();
+    }
+}
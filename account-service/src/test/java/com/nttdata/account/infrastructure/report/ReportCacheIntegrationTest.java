@@ -0,0 +1,90 @@
+package com.nttdata.account.infrastructure.report;
+
+import com.nttdata.account.application.dto.AccountStatementReportDTO;
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.service.ReportService;
+import com.nttdata.account.application.service.TransactionService;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.shared.domain.model.Account;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Verifica la caché de reportes: aciertos, invalidación al postear y carga única para solicitudes concurrentes
+ */
+class ReportCacheIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    /** Cliente de BaseDatos.sql (Marianela Montalvo) */
+    private static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440002";
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ReportCache reportCache;
+
+    @Test
+    void generarReport_ShouldServeFromCacheUntilAnAccountOfTheClientChanges() {
+        // Arrange
+        Account account = crearCuenta(CLIENT_ID, new BigDecimal("100.00"));
+        LocalDateTime startDate = LocalDate.now().atStartOfDay();
+        LocalDateTime endDate = LocalDate.now().atTime(23, 59, 59);
+
+        // Act
+        AccountStatementReportDTO first = reportService.generarReport(CLIENT_ID, startDate, endDate).block();
+        AccountStatementReportDTO cached = reportService.generarReport(CLIENT_ID, startDate, endDate).block();
+        transactionService.createTransaction(CreateTransactionDTO.builder()
+            .accountNumber(account.getAccountNumber())
+            .transactionType("DEPOSITO")
+            .amount(new BigDecimal("15.00"))
+            .build()).block();
+        AccountStatementReportDTO afterPost = reportService.generarReport(CLIENT_ID, startDate, endDate).block();
+
+        // Assert
+        assertSame(first, cached);
+        assertNotSame(first, afterPost);
+        assertEquals(1, afterPost.getAccounts().stream()
+            .filter(a -> a.getAccountNumber().equals(account.getAccountNumber()))
+            .mapToInt(a -> a.getTransactions().size())
+            .sum());
+    }
+
+    @Test
+    void concurrentIdenticalRequests_ShouldShareOneLoad() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        LocalDateTime startDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2024, 1, 31, 23, 59, 59);
+        AccountStatementReportDTO report = AccountStatementReportDTO.builder().clientId("coalesce-client").accounts(List.of()).build();
+
+        // Act
+        List<AccountStatementReportDTO> results = Flux.range(0, 16)
+            .flatMap(i -> reportCache.get("coalesce-client", startDate, endDate, () -> {
+                loads.incrementAndGet();
+                return Mono.just(report).delayElement(Duration.ofMillis(200));
+            }))
+            .collectList()
+            .block();
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(16, results.size());
+        results.forEach(result -> assertSame(report, result));
+    }
+}
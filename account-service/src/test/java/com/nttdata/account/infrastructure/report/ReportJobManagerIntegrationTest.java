@@ -0,0 +1,90 @@
+package com.nttdata.account.infrastructure.report;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.dto.ReportJobDTO;
+import com.nttdata.account.application.service.ReportService;
+import com.nttdata.account.application.service.TransactionService;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.shared.domain.model.Account;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica la generación de reportes en segundo plano, su avance y la limpieza de archivos vencidos
+ */
+@TestPropertySource(properties = {
+    "account.reports.jobs.spool-dir=build/report-jobs-test",
+    "account.reports.jobs.retention=0s"
+})
+class ReportJobManagerIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    /** Cliente de BaseDatos.sql (Jose Lema) */
+    private static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440001";
+    private static final int POSTS = 25;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ReportJobManager reportJobManager;
+
+    @Test
+    void job_ShouldSpoolEveryRowThenBePurgedAfterRetention() throws Exception {
+        // Arrange
+        Account account = crearCuenta(CLIENT_ID, new BigDecimal("0.00"));
+        for (int i = 0; i < POSTS; i++) {
+            transactionService.createTransaction(CreateTransactionDTO.builder()
+                .accountNumber(account.getAccountNumber())
+                .transactionType("DEPOSITO")
+                .amount(new BigDecimal("1.00"))
+                .build()).block();
+        }
+        LocalDateTime startDate = LocalDate.now().atStartOfDay();
+        LocalDateTime endDate = LocalDate.now().atTime(23, 59, 59);
+
+        // Act
+        ReportJobDTO created = reportService.crearJob(CLIENT_ID, startDate, endDate, "csv", "alta").block();
+        ReportJobDTO status = awaitFinished(created.getId());
+
+        // Assert
+        assertEquals("COMPLETADO", status.getStatus());
+        assertEquals(100, status.getProgress());
+        assertEquals(status.getTotalRows(), status.getProcessedRows());
+        Path file = reportJobManager.find(created.getId()).orElseThrow().getFile();
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(status.getTotalRows() + 1, lines.size());
+        assertEquals(POSTS, lines.stream().filter(line -> line.startsWith(account.getAccountNumber() + ",")).count());
+
+        // Act: con retención cero el reporte vence apenas termina
+        reportJobManager.purgeExpired();
+
+        // Assert
+        assertFalse(Files.exists(file));
+        assertTrue(reportJobManager.find(created.getId()).isEmpty());
+    }
+
+    private ReportJobDTO awaitFinished(String id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        ReportJobDTO status = reportService.consultarJob(id).block();
+        while (status.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = reportService.consultarJob(id).block();
+        }
+        return status;
+    }
+}
@@ -0,0 +1,126 @@
+package com.nttdata.account.infrastructure.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttdata.account.application.dto.StatementRowDTO;
+import com.nttdata.common.money.Money;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de memoria del PDF del estado de cuenta: con 100k movimientos el heap en uso
+ * tras la primera decena de miles de filas no debe seguir creciendo con el documento.
+ */
+class StatementPdfRendererBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementPdfRendererBenchmarkTest.class);
+
+    private static final int ROWS = 100_000;
+    private static final int WARMUP_ROWS = 10_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    private final StatementPdfRenderer renderer = new StatementPdfRenderer(new ObjectMapper());
+
+    @Test
+    @Tag("benchmark")
+    void render_100kRows_ShouldKeepHeapFlat() throws Exception {
+        // Arrange
+        CountingOutputStream out = new CountingOutputStream();
+        long[] heapAt = new long[2];
+
+        // Act
+        long start = System.nanoTime();
+        renderer.render(header(), action -> {
+            for (int i = 1; i <= ROWS; i++) {
+                action.accept(row(i));
+                if (i == WARMUP_ROWS) {
+                    heapAt[0] = usedHeapAfterGc();
+                } else if (i == ROWS) {
+                    heapAt[1] = usedHeapAfterGc();
+                }
+            }
+        }, out);
+        long elapsedNanos = System.nanoTime() - start;
+
+        // Assert
+        long growth = heapAt[1] - heapAt[0];
+        log.info("PDF de {} movimientos: {} KB en {} ms; heap tras {} filas: {} KB, tras {} filas: {} KB",
+            ROWS, out.count / 1024, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            WARMUP_ROWS, heapAt[0] / 1024, ROWS, heapAt[1] / 1024);
+        assertTrue(out.count > 0);
+        assertTrue(growth < MAX_HEAP_GROWTH_BYTES, "El heap creció " + growth / 1024 + " KB");
+    }
+
+    @Test
+    void renderBase64Json_ShouldEmbedDecodablePdf() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        renderer.renderBase64Json(header(), action -> {
+            for (int i = 1; i <= 500; i++) {
+                action.accept(row(i));
+            }
+        }, out);
+
+        // Assert
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals("Jose \"Pepe\" Lema", json.get("cliente").asText());
+        byte[] pdf = Base64.getDecoder().decode(json.get("pdf").asText());
+        assertEquals("%PDF", new String(pdf, 0, 4, StandardCharsets.US_ASCII));
+        assertTrue(new String(pdf, pdf.length - 6, 6, StandardCharsets.US_ASCII).contains("%%EOF"));
+    }
+
+    private static StatementPdfRenderer.Header header() {
+        return new StatementPdfRenderer.Header("Jose \"Pepe\" Lema", "550e8400-e29b-41d4-a716-446655440001",
+            LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59));
+    }
+
+    private static StatementRowDTO row(int i) {
+        return StatementRowDTO.builder()
+            .accountNumber(String.valueOf(478758 + i % 3))
+            .accountType("Cuenta de Ahorro")
+            .date(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i * 5L))
+            .transactionType(i % 2 == 0 ? "Depósito" : "Retiro")
+            .amount(Money.of(i % 2 == 0 ? "125.50" : "-40.25"))
+            .balance(Money.of("10000.00"))
+            .build();
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Descarta los bytes y solo cuenta cuántos se escribieron
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
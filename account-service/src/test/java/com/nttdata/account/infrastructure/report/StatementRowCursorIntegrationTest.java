@@ -0,0 +1,106 @@
+package com.nttdata.account.infrastructure.report;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.dto.StatementRowDTO;
+import com.nttdata.account.application.service.TransactionService;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import reactor.test.StepVerifier;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica la lectura en streaming de movimientos con cursor JDBC y fetch size acotado
+ */
+@TestPropertySource(properties = "account.reports.export.fetch-size=4")
+class StatementRowCursorIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int ACCOUNTS = 3;
+    private static final int POSTS_PER_ACCOUNT = 10;
+
+    @Autowired
+    private StatementRowCursor statementRowCursor;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void stream_ShouldEmitEveryRowOrderedByAccountAndDate() {
+        // Arrange: más filas que el fetch size para forzar varios viajes al servidor
+        String clientId = "export-client-" + System.nanoTime();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = crearCuenta(clientId, new BigDecimal("0.00"));
+            for (int j = 1; j <= POSTS_PER_ACCOUNT; j++) {
+                transactionService.createTransaction(deposito(account.getAccountNumber(), j + ".00")).block();
+            }
+        }
+
+        // Act
+        List<StatementRowDTO> rows = statementRowCursor.stream(clientId, hoy(), finDeHoy()).collectList().block();
+
+        // Assert
+        assertEquals(ACCOUNTS * POSTS_PER_ACCOUNT, rows.size());
+        for (int i = 1; i < rows.size(); i++) {
+            StatementRowDTO previous = rows.get(i - 1);
+            StatementRowDTO current = rows.get(i);
+            int byAccount = previous.getAccountNumber().compareTo(current.getAccountNumber());
+            assertTrue(byAccount < 0 || (byAccount == 0 && !current.getDate().isBefore(previous.getDate())));
+        }
+        assertEquals(Money.of("55.00"), rows.get(POSTS_PER_ACCOUNT - 1).getBalance());
+    }
+
+    @Test
+    void cancel_ShouldReleaseConnection() throws Exception {
+        // Arrange
+        String clientId = "export-client-" + System.nanoTime();
+        Account account = crearCuenta(clientId, new BigDecimal("0.00"));
+        for (int j = 0; j < POSTS_PER_ACCOUNT; j++) {
+            transactionService.createTransaction(deposito(account.getAccountNumber(), "1.00")).block();
+        }
+
+        // Act: el suscriptor pide una sola fila y cancela
+        StepVerifier.create(statementRowCursor.stream(clientId, hoy(), finDeHoy()), 1)
+            .expectNextCount(1)
+            .thenCancel()
+            .verify();
+
+        // Assert
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (hikari.getHikariPoolMXBean().getActiveConnections() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, hikari.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    private static LocalDateTime hoy() {
+        return LocalDate.now().atStartOfDay();
+    }
+
+    private static LocalDateTime finDeHoy() {
+        return LocalDate.now().plusDays(1).atStartOfDay();
+    }
+
+    private static CreateTransactionDTO deposito(String accountNumber, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType("DEPOSITO")
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
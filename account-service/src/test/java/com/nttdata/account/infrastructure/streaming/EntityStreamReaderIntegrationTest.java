@@ -0,0 +1,78 @@
+package com.nttdata.account.infrastructure.streaming;
+
+import com.nttdata.account.application.dto.AccountResponseDTO;
+import com.nttdata.account.application.service.AccountService;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica el recorrido en streaming de los listados completos: todas las filas una sola vez,
+ * con limpiezas del contexto de persistencia a mitad del recorrido, y la conexión devuelta al
+ * pool cuando el suscriptor cancela
+ */
+@TestPropertySource(properties = {
+    "account.streaming.fetch-size=2",
+    "account.streaming.clear-interval=3"
+})
+class EntityStreamReaderIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void streamAllAccounts_ShouldEmitEveryAccountInIdOrder() {
+        // Arrange
+        for (int i = 0; i < 7; i++) {
+            crearCuenta("streaming-client", new BigDecimal("1.00"));
+        }
+
+        // Act
+        List<AccountResponseDTO> streamed = accountService.streamAllAccounts().collectList().block();
+
+        // Assert: tipo y estado siguen disponibles después de cada limpieza del contexto
+        assertEquals(accountRepository.count(), streamed.size());
+        for (int i = 1; i < streamed.size(); i++) {
+            assertTrue(streamed.get(i - 1).getId() < streamed.get(i).getId());
+        }
+        streamed.forEach(account -> {
+            assertNotNull(account.getAccountType());
+            assertNotNull(account.getStatus());
+        });
+    }
+
+    @Test
+    void streamAllAccounts_WhenCancelled_ShouldReleaseConnection() throws Exception {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            crearCuenta("streaming-client", new BigDecimal("1.00"));
+        }
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        int activeBefore = pool.getHikariPoolMXBean().getActiveConnections();
+
+        // Act
+        List<AccountResponseDTO> firstTwo = accountService.streamAllAccounts().take(2).collectList().block();
+
+        // Assert
+        assertEquals(2, firstTwo.size());
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (pool.getHikariPoolMXBean().getActiveConnections() > activeBefore
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(activeBefore, pool.getHikariPoolMXBean().getActiveConnections());
+    }
+}
@@ -0,0 +1,125 @@
+package com.nttdata.account.infrastructure.withdrawal;
+
+import com.nttdata.account.application.dto.CreateTransactionDTO;
+import com.nttdata.account.application.service.TransactionService;
+import com.nttdata.account.support.AbstractPostgresIntegrationTest;
+import com.nttdata.common.exception.CupoDiarioExcedidoException;
+import com.nttdata.common.exception.SaldoNoDisponibleException;
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifica el cupo diario de retiros mantenido con el contador incremental daily_withdrawal
+ */
+@TestPropertySource(properties = "account.daily-withdrawal.limits.AHORRO=300.00")
+class DailyWithdrawalLimiterIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int POSTS_PER_THREAD = 10;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private DailyWithdrawalLimiter dailyWithdrawalLimiter;
+
+    @Test
+    void withdrawalsBeyondDailyLimit_ShouldBeRejected() {
+        // Arrange
+        Account account = crearCuenta("cupo-client", new BigDecimal("1000.00"));
+        transactionService.createTransaction(retiro(account.getAccountNumber(), "200.00")).block();
+        transactionService.createTransaction(retiro(account.getAccountNumber(), "100.00")).block();
+
+        // Act & Assert
+        assertThrows(CupoDiarioExcedidoException.class, () -> transactionService
+            .createTransaction(retiro(account.getAccountNumber(), "0.01"))
+            .block());
+        assertEquals(Money.of("300.00"), dailyWithdrawalLimiter.retirado(account.getId(), LocalDate.now()));
+        assertEquals(Money.of("700.00"),
+            accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance());
+    }
+
+    @Test
+    void withdrawalRejectedForBalance_ShouldNotConsumeDailyLimit() {
+        // Arrange
+        Account account = crearCuenta("cupo-client", new BigDecimal("50.00"));
+
+        // Act
+        assertThrows(SaldoNoDisponibleException.class, () -> transactionService
+            .createTransaction(retiro(account.getAccountNumber(), "80.00"))
+            .block());
+        transactionService.createTransaction(retiro(account.getAccountNumber(), "50.00")).block();
+
+        // Assert
+        assertEquals(Money.of("50.00"), dailyWithdrawalLimiter.retirado(account.getId(), LocalDate.now()));
+    }
+
+    @Test
+    void concurrentWithdrawals_ShouldNeverExceedDailyLimit() throws Exception {
+        // Arrange: saldo de sobra, el cupo alcanza para exactamente 30 retiros
+        Account account = crearCuenta("cupo-client", new BigDecimal("5000.00"));
+        AtomicInteger rechazados = new AtomicInteger();
+
+        // Act
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < POSTS_PER_THREAD; i++) {
+                        try {
+                            transactionService.createTransaction(retiro(account.getAccountNumber(), "10.00")).block();
+                        } catch (CupoDiarioExcedidoException ex) {
+                            rechazados.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(THREADS * POSTS_PER_THREAD - 30, rechazados.get());
+        assertEquals(30, transactionRepository.findByAccountId(account.getId()).size());
+        assertEquals(Money.of("300.00"), dailyWithdrawalLimiter.retirado(account.getId(), LocalDate.now()));
+        assertEquals(Money.of("4700.00"),
+            accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance());
+    }
+
+    private static CreateTransactionDTO retiro(String accountNumber, String amount) {
+        return CreateTransactionDTO.builder()
+            .accountNumber(accountNumber)
+            .transactionType("RETIRO")
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.nttdata.account.support;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.repository.AccountRepository;
+import com.nttdata.shared.domain.repository.AccountTypeRepository;
+import com.nttdata.shared.domain.repository.StatusRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base para pruebas de integración contra PostgreSQL real (Testcontainers)
+ * El esquema se inicializa con el mismo BaseDatos.sql usado por docker-compose.
+ * Las pruebas se omiten automáticamente si no hay Docker disponible.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.nttdata=INFO"
+    }
+)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class AbstractPostgresIntegrationTest {
+    
+    @Container
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("nttdata_bank")
+        .withCopyFileToContainer(
+            MountableFile.forHostPath("../BaseDatos.sql"),
+            "/docker-entrypoint-initdb.d/init.sql"
+        );
+    
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> 20);
+    }
+    
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(900_000);
+    
+    @Autowired
+    protected AccountRepository accountRepository;
+    
+    @Autowired
+    protected AccountTypeRepository accountTypeRepository;
+    
+    @Autowired
+    protected StatusRepository statusRepository;
+    
+    /**
+     * Crea una cuenta ACTIVO de tipo AHORRO con un número único para la prueba
+     */
+    protected Account crearCuenta(String clientId, BigDecimal saldoInicial) {
+        Account account = Account.builder()
+            .accountNumber(String.valueOf(ACCOUNT_SEQUENCE.incrementAndGet()))
+            .accountType(accountTypeRepository.findByCode("AHORRO").orElseThrow())
+            .initialBalance(Money.of(saldoInicial))
+            .currentBalance(Money.of(saldoInicial))
+            .status(statusRepository.findByCode("ACTIVO").orElseThrow())
+            .clientId(clientId)
+            .build();
+        return accountRepository.save(account);
+    }
+}
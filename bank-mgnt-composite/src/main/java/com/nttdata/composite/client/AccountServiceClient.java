@@ -4,13 +4,18 @@ import com.nttdata.composite.dto.Dtos.AccountDTO;
 import com.nttdata.composite.dto.Dtos.TransactionDTO;
 import com.nttdata.composite.dto.Dtos.CreateAccountDTO;
 import com.nttdata.composite.dto.Dtos.CreateTransactionDTO;
+import com.nttdata.common.constants.ApiConstants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
 public class AccountServiceClient {
@@ -28,12 +33,29 @@ public class AccountServiceClient {
             .bodyToFlux(AccountDTO.class);
     }
 
+    /**
+     * Historial completo de la cuenta, recorriendo las páginas con el token de continuación
+     */
     public Flux<TransactionDTO> getTransactionsByAccount(String accountNumber) {
+        return getTransactionsPage(accountNumber, null)
+            .expand(page -> page.nextPageToken() == null
+                ? Mono.empty()
+                : getTransactionsPage(accountNumber, page.nextPageToken()))
+            .concatMapIterable(TransactionPage::items);
+    }
+
+    private Mono<TransactionPage> getTransactionsPage(String accountNumber, String pageToken) {
+        String uri = accountServiceUrl + "/api/transactions/cuenta/{accountNumber}"
+            + (pageToken == null ? "" : "?" + ApiConstants.PAGE_TOKEN_PARAM + "={pageToken}");
         return webClientBuilder.build()
             .get()
-            .uri(accountServiceUrl + "/api/transactions/cuenta/" + accountNumber)
+            .uri(uri, accountNumber, pageToken)
+            .accept(MediaType.APPLICATION_JSON)
             .retrieve()
-            .bodyToFlux(TransactionDTO.class);
+            .toEntityList(TransactionDTO.class)
+            .map(entity -> new TransactionPage(
+                entity.getBody() == null ? List.of() : entity.getBody(),
+                entity.getHeaders().getFirst(ApiConstants.NEXT_PAGE_TOKEN_HEADER)));
     }
 
     public Mono<AccountDTO> createAccount(CreateAccountDTO accountInput) {
@@ -46,11 +68,17 @@ public class AccountServiceClient {
     }
 
     public Mono<TransactionDTO> createTransaction(CreateTransactionDTO transactionInput) {
+        // Una clave por operación lógica: los reintentos de este Mono reutilizan la misma clave
+        String idempotencyKey = UUID.randomUUID().toString();
         return webClientBuilder.build()
             .post()
             .uri(accountServiceUrl + "/api/transactions")
+            .header(ApiConstants.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
             .bodyValue(transactionInput)
             .retrieve()
             .bodyToMono(TransactionDTO.class);
     }
+
+    private record TransactionPage(List<TransactionDTO> items, String nextPageToken) {
+    }
 }
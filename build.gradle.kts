@@ -18,8 +18,9 @@ subprojects {
     apply(plugin = "io.spring.dependency-management")
     
     java {
-        sourceCompatibility = JavaVersion.VERSION_17
-        targetCompatibility = JavaVersion.VERSION_17
+        toolchain {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        }
     }
     
     dependencies {
@@ -3,6 +3,7 @@ package com.nttdata.client;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Aplicación principal del microservicio Client Service
@@ -13,6 +14,7 @@ import org.springframework.kafka.annotation.EnableKafka;
     "com.nttdata.shared"
 })
 @EnableKafka
+@EnableScheduling
 public class ClientServiceApplication {
     
     public static void main(String[] args) {
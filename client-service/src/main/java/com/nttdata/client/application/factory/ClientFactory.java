@@ -4,11 +4,10 @@ import com.nttdata.client.application.dto.CreateClientDTO;
 import com.nttdata.client.application.strategy.PasswordEncryptionStrategy;
 import com.nttdata.common.constants.ErrorConstants;
 import com.nttdata.common.exception.ResourceNotFoundException;
+import com.nttdata.shared.domain.catalog.CatalogRegistry;
 import com.nttdata.shared.domain.model.Client;
 import com.nttdata.shared.domain.model.Status;
 import com.nttdata.shared.domain.model.Gender;
-import com.nttdata.shared.domain.repository.StatusRepository;
-import com.nttdata.shared.domain.repository.GenderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -20,8 +19,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ClientFactory {
     
-    private final GenderRepository genderRepository;
-    private final StatusRepository statusRepository;
+    private final CatalogRegistry catalogRegistry;
     private final PasswordEncryptionStrategy passwordEncryptionStrategy;
     
     /**
@@ -31,13 +29,13 @@ public class ClientFactory {
      */
     public Client createFromDTO(CreateClientDTO dto) {
         // Buscar género
-        Gender gender = genderRepository.findByCodeAndActiveTrue(dto.getGender())
+        Gender gender = catalogRegistry.findActiveGender(dto.getGender())
             .orElseThrow(() -> new ResourceNotFoundException(
                 ErrorConstants.GENERO_NO_ENCONTRADO + ": " + dto.getGender()
             ));
         
         // Buscar estado
-        Status status = statusRepository.findByCodeAndActiveTrue(dto.getStatus())
+        Status status = catalogRegistry.findActiveStatus(dto.getStatus())
             .orElseThrow(() -> new ResourceNotFoundException(
                 ErrorConstants.ESTADO_NO_ENCONTRADO + ": " + dto.getStatus()
             ));
@@ -2,6 +2,7 @@ package com.nttdata.client.application.mapper;
 
 import com.nttdata.client.application.dto.ClientResponseDTO;
 import com.nttdata.shared.domain.model.Client;
+import com.nttdata.shared.domain.projection.ClientView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -29,4 +30,24 @@ public class ClientMapper {
             .updatedAt(client.getUpdatedAt())
             .build();
     }
+    
+    /**
+     * Convierte la proyección de solo lectura usada por las consultas
+     * @param client proyección
+     * @return DTO de respuesta
+     */
+    public ClientResponseDTO toResponseDTO(ClientView client) {
+        return ClientResponseDTO.builder()
+            .clientId(client.clientId())
+            .name(client.name())
+            .gender(client.gender())
+            .age(client.age())
+            .identification(client.identification())
+            .address(client.address())
+            .phone(client.phone())
+            .status(client.status())
+            .createdAt(client.createdAt())
+            .updatedAt(client.updatedAt())
+            .build();
+    }
 }
@@ -10,19 +10,20 @@ import com.nttdata.client.infrastructure.kafka.ClientEventProducer;
 import com.nttdata.common.constants.ErrorConstants;
 import com.nttdata.common.exception.BusinessValidationException;
 import com.nttdata.common.exception.ResourceNotFoundException;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.shared.datasource.ReadYourWrites;
+import com.nttdata.shared.domain.catalog.CatalogRegistry;
 import com.nttdata.shared.domain.model.Client;
 import com.nttdata.shared.domain.model.Gender;
 import com.nttdata.shared.domain.model.Status;
+import com.nttdata.shared.domain.projection.ClientView;
 import com.nttdata.shared.domain.repository.ClientRepository;
-import com.nttdata.shared.domain.repository.GenderRepository;
-import com.nttdata.shared.domain.repository.StatusRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 
 /**
@@ -36,12 +37,13 @@ import reactor.core.scheduler.Schedulers;
 public class ClientService {
     
     private final ClientRepository clientRepository;
-    private final GenderRepository genderRepository;
-    private final StatusRepository statusRepository;
+    private final CatalogRegistry catalogRegistry;
     private final ClientFactory clientFactory;
     private final ClientMapper clientMapper;
     private final PasswordEncryptionStrategy passwordEncryptionStrategy;
     private final ClientEventProducer eventProducer;
+    private final JdbcBulkhead jdbcBulkhead;
+    private final ReadYourWrites readYourWrites;
     
     /**
      * Obtiene todos los clients
@@ -49,10 +51,9 @@ public class ClientService {
     @Transactional(readOnly = true)
     public Flux<ClientResponseDTO> getAllClients() {
         log.debug("Obteniendo todos los clients");
-        return Mono.fromCallable(() -> clientRepository.findAll().stream()
+        return jdbcBulkhead.read(() -> clientRepository.findAllViews().stream()
                 .map(clientMapper::toResponseDTO)
                 .toList())
-            .subscribeOn(Schedulers.boundedElastic())
             .flatMapMany(Flux::fromIterable);
     }
     
@@ -62,12 +63,11 @@ public class ClientService {
     @Transactional(readOnly = true)
     public Mono<ClientResponseDTO> getClientById(String clientId) {
         log.debug("Obteniendo cliente con ID: {}", clientId);
-        return Mono.fromCallable(() -> {
-                Client client = clientRepository.findByClientId(clientId)
+        return jdbcBulkhead.read(readYourWrites.guard(clientId, () -> {
+                ClientView client = clientRepository.findViewByClientId(clientId)
                     .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CLIENTE_NO_ENCONTRADO));
                 return clientMapper.toResponseDTO(client);
-            })
-            .subscribeOn(Schedulers.boundedElastic());
+            }));
     }
     
     /**
@@ -77,7 +77,7 @@ public class ClientService {
     public Mono<ClientResponseDTO> createClient(CreateClientDTO dto) {
         log.debug("Creando nuevo cliente con identificación: {}", dto.getIdentification());
         
-        return Mono.fromCallable(() -> {
+        return jdbcBulkhead.write(() -> {
             // Validar que no exista un cliente con la misma identificación
             if (clientRepository.existsByIdentification(dto.getIdentification())) {
                 throw new BusinessValidationException(ErrorConstants.CLIENTE_YA_EXISTE);
@@ -88,13 +88,14 @@ public class ClientService {
             
             // Guardar cliente
             Client savedClient = clientRepository.save(client);
+            readYourWrites.recordWrite(savedClient.getClientId(), savedClient.getIdentification());
             log.info("Client creado exitosamente con ID: {}", savedClient.getClientId());
             
             // Publicar evento en Kafka (asíncrono)
             eventProducer.publishClientCreated(savedClient);
             
             return clientMapper.toResponseDTO(savedClient);
-        }).subscribeOn(Schedulers.boundedElastic());
+        });
     }
     
     /**
@@ -104,7 +105,7 @@ public class ClientService {
     public Mono<ClientResponseDTO> updateClient(String clientId, UpdateClientDTO dto) {
         log.debug("Actualizando cliente con ID: {}", clientId);
         
-        return Mono.fromCallable(() -> {
+        return jdbcBulkhead.write(() -> {
             // Buscar cliente existente
             Client client = clientRepository.findByClientId(clientId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CLIENTE_NO_ENCONTRADO));
@@ -112,7 +113,7 @@ public class ClientService {
             // Preparar datos para actualización
             Gender gender = null;
             if (dto.getGender() != null) {
-                gender = genderRepository.findByCodeAndActiveTrue(dto.getGender())
+                gender = catalogRegistry.findActiveGender(dto.getGender())
                     .orElseThrow(() -> new ResourceNotFoundException(
                         ErrorConstants.GENERO_NO_ENCONTRADO + ": " + dto.getGender()
                     ));
@@ -120,7 +121,7 @@ public class ClientService {
             
             Status status = null;
             if (dto.getStatus() != null) {
-                status = statusRepository.findByCodeAndActiveTrue(dto.getStatus())
+                status = catalogRegistry.findActiveStatus(dto.getStatus())
                     .orElseThrow(() -> new ResourceNotFoundException(
                         ErrorConstants.ESTADO_NO_ENCONTRADO + ": " + dto.getStatus()
                     ));
@@ -145,13 +146,14 @@ public class ClientService {
             
             // Guardar cambios
             Client updatedClient = clientRepository.save(updatedClientState);
+            readYourWrites.recordWrite(clientId, updatedClient.getIdentification());
             log.info("Client actualizado exitosamente con ID: {}", clientId);
             
             // Publicar evento en Kafka
             eventProducer.publishClientUpdated(updatedClient);
             
             return clientMapper.toResponseDTO(updatedClient);
-        }).subscribeOn(Schedulers.boundedElastic());
+        });
     }
     
     /**
@@ -161,24 +163,25 @@ public class ClientService {
     public Mono<Void> deleteClient(String clientId) {
         log.debug("Eliminando cliente con ID: {}", clientId);
         
-        return Mono.fromRunnable(() -> {
+        return jdbcBulkhead.write(() -> {
             Client client = clientRepository.findByClientId(clientId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CLIENTE_NO_ENCONTRADO));
             
             // Soft delete: cambiar estado a INACTIVO
-            Status statusInactivo = statusRepository.findByCode("INACTIVO")
+            Status statusInactivo = catalogRegistry.findStatus("INACTIVO")
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.ESTADO_NO_ENCONTRADO));
             
             Client updatedClient = client.toBuilder()
                 .status(statusInactivo)
                 .build();
             clientRepository.save(updatedClient);
+            readYourWrites.recordWrite(clientId, client.getIdentification());
             
             log.info("Client eliminado (inactivado) exitosamente con ID: {}", clientId);
             
             // Publicar evento en Kafka
             eventProducer.publishClientDeleted(client);
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        });
     }
     
     /**
@@ -187,11 +190,10 @@ public class ClientService {
     @Transactional(readOnly = true)
     public Mono<ClientResponseDTO> getClientByIdentificacion(String identificacion) {
         log.debug("Obteniendo cliente con identificación: {}", identificacion);
-        return Mono.fromCallable(() -> {
-                Client client = clientRepository.findByIdentification(identificacion)
+        return jdbcBulkhead.read(readYourWrites.guard(identificacion, () -> {
+                ClientView client = clientRepository.findViewByIdentification(identificacion)
                     .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.CLIENTE_NO_ENCONTRADO));
                 return clientMapper.toResponseDTO(client);
-            })
-            .subscribeOn(Schedulers.boundedElastic());
+            }));
     }
 }
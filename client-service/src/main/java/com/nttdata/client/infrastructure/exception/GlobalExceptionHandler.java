@@ -19,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Manejador global de excepciones adaptado para Spring WebFlux
@@ -129,6 +130,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
     
+    /**
+     * Maneja rechazos por capacidad agotada (colas llenas): el cliente puede reintentar más tarde
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRejectedExecutionException(
+            RejectedExecutionException ex,
+            ServerHttpRequest request) {
+        
+        log.warn("Solicitud rechazada por capacidad: {}", ex.getMessage());
+        
+        ErrorResponseDTO error = ErrorResponseDTO.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+            .message(ex.getMessage())
+            .path(request.getPath().value())
+            .correlationId(getCorrelationId(request))
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+    
     /**
      * Maneja excepciones generales
      */
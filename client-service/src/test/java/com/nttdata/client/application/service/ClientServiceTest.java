@@ -2,17 +2,21 @@ package com.nttdata.client.application.service;
 
 import com.nttdata.client.application.dto.ClientResponseDTO;
 import com.nttdata.client.application.mapper.ClientMapper;
-import com.nttdata.shared.domain.model.Client;
+import com.nttdata.common.jdbc.JdbcBulkhead;
+import com.nttdata.shared.domain.projection.ClientView;
 import com.nttdata.shared.domain.repository.ClientRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Arrays;
+import java.util.concurrent.Callable;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,25 +28,29 @@ class ClientServiceTest {
     @Mock
     private ClientMapper clientMapper;
 
+    @Mock
+    private JdbcBulkhead jdbcBulkhead;
+
     @InjectMocks
     private ClientService clientService;
 
     @Test
     void getAllClients_ShouldReturnFluxOfClients() {
         // Arrange
-        Client client1 = new Client();
-        client1.setClientId("1");
-        Client client2 = new Client();
-        client2.setClientId("2");
+        ClientView client1 = cliente("1");
+        ClientView client2 = cliente("2");
 
         ClientResponseDTO dto1 = new ClientResponseDTO();
         dto1.setClientId("1");
         ClientResponseDTO dto2 = new ClientResponseDTO();
         dto2.setClientId("2");
 
-        when(clientRepository.findAll()).thenReturn(Arrays.asList(client1, client2));
+        when(clientRepository.findAllViews()).thenReturn(Arrays.asList(client1, client2));
         when(clientMapper.toResponseDTO(client1)).thenReturn(dto1);
         when(clientMapper.toResponseDTO(client2)).thenReturn(dto2);
+        // El bulkhead ejecuta la llamada en el hilo del suscriptor
+        when(jdbcBulkhead.read(any()))
+            .thenAnswer(invocation -> Mono.fromCallable(invocation.<Callable<?>>getArgument(0)));
 
         // Act & Assert
         StepVerifier.create(clientService.getAllClients())
@@ -50,4 +58,8 @@ class ClientServiceTest {
             .expectNext(dto2)
             .verifyComplete();
     }
+
+    private static ClientView cliente(String clientId) {
+        return new ClientView(clientId, null, null, null, null, null, null, null, null, null);
+    }
 }
@@ -1,12 +1,27 @@
 plugins {
     id("org.springframework.boot")
     id("io.spring.dependency-management")
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-webflux")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("com.fasterxml.jackson.core:jackson-databind")
+    
+    // Solo para MoneyAttributeConverter; lo aporta spring-boot-starter-data-jpa en los módulos que lo usan
+    compileOnly("jakarta.persistence:jakarta.persistence-api")
+    
+    // Métricas de JdbcBulkhead; lo aporta spring-boot-starter-actuator en los servicios
+    compileOnly("io.micrometer:micrometer-core")
+    testImplementation("io.micrometer:micrometer-core")
+
+}
+
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
 }
 
 // No crear JAR ejecutable para este módulo
@@ -0,0 +1,109 @@
+package com.nttdata.common.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el cálculo de saldo de un posteo (depósito o retiro con control de sobregiro)
+ * y la agregación de un reporte usando BigDecimal frente a Money.
+ * Ejecutar con: ./gradlew :common-lib:jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private static final int MOVIMIENTOS = 1_000;
+
+    private BigDecimal[] decimales;
+    private Money[] montos;
+
+    @Setup
+    public void setup() {
+        decimales = new BigDecimal[MOVIMIENTOS];
+        montos = new Money[MOVIMIENTOS];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < MOVIMIENTOS; i++) {
+            long centavos = random.nextLong(1, 500_000);
+            if (i % 3 == 0) {
+                centavos = -centavos;
+            }
+            decimales[i] = BigDecimal.valueOf(centavos, 2);
+            montos[i] = Money.ofUnits(centavos);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal posteoBigDecimal() {
+        BigDecimal saldo = new BigDecimal("1000.00");
+        for (BigDecimal valor : decimales) {
+            if (valor.signum() < 0) {
+                BigDecimal retiro = valor.negate();
+                if (saldo.compareTo(retiro) < 0) {
+                    continue;
+                }
+                saldo = saldo.subtract(retiro);
+            } else {
+                saldo = saldo.add(valor);
+            }
+        }
+        return saldo;
+    }
+
+    @Benchmark
+    public Money posteoMoney() {
+        Money saldo = Money.ofUnits(100_000);
+        for (Money valor : montos) {
+            if (valor.isNegative()) {
+                Money retiro = valor.negate();
+                if (saldo.isLessThan(retiro)) {
+                    continue;
+                }
+                saldo = saldo.subtract(retiro);
+            } else {
+                saldo = saldo.add(valor);
+            }
+        }
+        return saldo;
+    }
+
+    @Benchmark
+    public void reporteBigDecimal(Blackhole blackhole) {
+        BigDecimal creditos = BigDecimal.ZERO;
+        BigDecimal debitos = BigDecimal.ZERO;
+        for (BigDecimal valor : decimales) {
+            if (valor.signum() < 0) {
+                debitos = debitos.add(valor);
+            } else {
+                creditos = creditos.add(valor);
+            }
+        }
+        blackhole.consume(creditos);
+        blackhole.consume(debitos);
+    }
+
+    @Benchmark
+    public void reporteMoney(Blackhole blackhole) {
+        Money creditos = Money.ZERO;
+        Money debitos = Money.ZERO;
+        for (Money valor : montos) {
+            if (valor.isNegative()) {
+                debitos = debitos.add(valor);
+            } else {
+                creditos = creditos.add(valor);
+            }
+        }
+        blackhole.consume(creditos);
+        blackhole.consume(debitos);
+    }
+}
@@ -30,7 +30,11 @@ public final class ApiConstants {
     // Query parameters
     public static final String FECHA_PARAM = "fecha";
     public static final String CLIENTE_PARAM = "cliente";
+    public static final String PAGE_TOKEN_PARAM = "pageToken";
+    public static final String PAGE_SIZE_PARAM = "size";
     
     // Headers
     public static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
 }
@@ -26,15 +26,37 @@ public final class ErrorConstants {
     public static final String CUENTA_INACTIVA = "La cuenta está inactiva";
     public static final String SALDO_NO_DISPONIBLE = "Saldo no disponible";
     public static final String SALDO_INSUFICIENTE = "Saldo insuficiente para realizar la operación";
+    public static final String CUPO_DIARIO_EXCEDIDO = "Cupo diario Excedido";
     
     // Errores de Transaction
     public static final String MOVIMIENTO_NO_ENCONTRADO = "Transaction no encontrado";
     public static final String VALOR_MOVIMIENTO_INVALIDO = "El valor del movimiento debe ser mayor a cero";
+    public static final String VALOR_FUERA_DE_RANGO = "El valor o el saldo resultante excede el máximo permitido";
+    public static final String TIPO_MOVIMIENTO_INVALIDO = "Tipo de movimiento inválido";
+    public static final String LOTE_VACIO = "El lote de movimientos está vacío";
+    public static final String LOTE_EXCEDE_MAXIMO = "El lote excede el máximo de %d movimientos";
+    public static final String CUENTA_DESTINO_REQUERIDA = "La cuenta destino es obligatoria para una transferencia";
+    public static final String TRANSFERENCIA_MISMA_CUENTA = "La cuenta destino debe ser distinta de la cuenta origen";
+    public static final String TRANSFERENCIA_NO_SOPORTADA = "Las transferencias no están disponibles en lotes ni en modo ledger";
+    public static final String IDEMPOTENCY_KEY_INVALIDA = "La cabecera Idempotency-Key debe tener entre 1 y 100 caracteres";
+    public static final String IDEMPOTENCY_KEY_REUTILIZADA = "La Idempotency-Key ya fue usada con un movimiento distinto";
+    public static final String IDEMPOTENCY_KEY_EN_PROCESO = "La operación con esta Idempotency-Key aún está en proceso";
+    public static final String IDEMPOTENCY_KEY_NO_SOPORTADA = "La cabecera Idempotency-Key no está disponible en modo ledger";
+    
+    // Errores de Reportes
+    public static final String REPORTE_JOB_NO_ENCONTRADO = "Job de reporte no encontrado";
+    public static final String REPORTE_JOB_NO_FINALIZADO = "El reporte aún no está disponible";
+    public static final String COLA_REPORTES_LLENA = "Hay demasiados reportes en cola, intente más tarde";
+    
+    // Errores de capacidad
+    public static final String BASE_DATOS_SATURADA = "Hay demasiadas operaciones de base de datos (%s) en espera, intente más tarde";
     
     // Errores de validación
     public static final String CAMPO_REQUERIDO = "El campo %s es requerido";
     public static final String FORMATO_INVALIDO = "El formato del campo %s es inválido";
     public static final String RANGO_FECHAS_INVALIDO = "El rango de fechas es inválido";
+    public static final String TOKEN_PAGINA_INVALIDO = "El token de paginación es inválido";
+    public static final String TAMANIO_PAGINA_INVALIDO = "El tamaño de página debe estar entre 1 y %d";
     
     // Errores de catálogos
     public static final String GENERO_NO_ENCONTRADO = "Género no encontrado";
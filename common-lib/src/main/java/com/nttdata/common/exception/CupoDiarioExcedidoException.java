@@ -0,0 +1,17 @@
+package com.nttdata.common.exception;
+
+/**
+ * Excepción personalizada para retiros que superan el cupo diario de la cuenta
+ * Extiende BusinessValidationException para que los flujos que aíslan rechazos de negocio
+ * (lotes, group commit, ledger) la traten igual que el resto.
+ */
+public class CupoDiarioExcedidoException extends BusinessValidationException {
+    
+    public CupoDiarioExcedidoException(String message) {
+        super(message);
+    }
+    
+    public CupoDiarioExcedidoException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,589 @@
+package com.nttdata.common.jdbc;
+
+import com.nttdata.common.constants.ErrorConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecución de las llamadas JDBC bloqueantes de los servicios, en reemplazo de Schedulers.boundedElastic()
+ * Patrón: Bulkhead
+ * Lecturas y escrituras tienen compartimentos separados, cada uno con sus propios hilos (dimensionados
+ * según el pool de conexiones) y una cola acotada: una ráfaga de lecturas no deja sin conexiones a los
+ * posteos, y la demanda que excede el pool se rechaza enseguida con RejectedExecutionException (503)
+ * en lugar de esperar connection-timeout dentro de Hikari.
+ * Una operación se rechaza si la cola está llena o si no empezó antes de max-wait; en ambos casos no
+ * llegó a tocar la base. Cancelar la suscripción la quita de la cola; si ya empezó, termina.
+ * Con virtual-threads cada operación corre en su propio hilo virtual y la concurrencia la acotan permisos
+ * en lugar del tamaño del pool de hilos; la admisión (cola, max-wait, cancelación) es la misma.
+ * Cada operación corre con su ReadRouting: las lecturas pueden ir a una réplica y las escrituras (y las
+ * lecturas que forman parte de ellas) siempre van a la primaria.
+ * Cada operación es además una operación lógica para SqlRecorder: sus sentencias cuentan para quien se
+ * suscribió, y el resultado se emite con ese registro activo para que las operaciones encadenadas también.
+ * Las lecturas en streaming retienen su conexión mientras el suscriptor consume, así que tienen su propio
+ * compartimento, descontado de la parte de lecturas del pool: sin él, varias exportaciones simultáneas
+ * podrían tomar todas las conexiones.
+ * Métricas por compartimento (tag bulkhead=read|write|stream): jdbc.bulkhead.queue.depth,
+ * jdbc.bulkhead.active, jdbc.bulkhead.queue.wait (read y write) y
+ * jdbc.bulkhead.rejected{reason=queue-full|wait-timeout};
+ * por operación que ejecutó SQL, jdbc.bulkhead.statements, jdbc.bulkhead.rows y jdbc.bulkhead.sql.time.
+ */
+@Component
+@Slf4j
+public class JdbcBulkhead implements DisposableBean {
+
+    private final Compartment read;
+    private final Compartment write;
+    private final StreamCompartment stream;
+    private final ExecutorService streamExecutor;
+    private final Scheduler streamScheduler;
+
+    public JdbcBulkhead(JdbcBulkheadProperties properties, MeterRegistry meterRegistry) {
+        boolean virtual = properties.isVirtualThreads();
+        this.read = compartment("read", ReadRouting.Route.REPLICA, properties.readConcurrency(), properties.getRead(),
+            virtual, meterRegistry);
+        this.write = compartment("write", ReadRouting.Route.PRIMARY, properties.writeConcurrency(),
+            properties.getWrite(), virtual, meterRegistry);
+        this.stream = new StreamCompartment(properties.streamConcurrency(), properties.getStream(), meterRegistry);
+        if (virtual) {
+            this.streamExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("jdbc-stream-", 0).factory());
+            // Executor y no ExecutorService: al cancelar no se interrumpe el hilo, que puede estar en el socket
+            this.streamScheduler = Schedulers.fromExecutor(streamExecutor, true);
+        } else {
+            this.streamExecutor = null;
+            this.streamScheduler = Schedulers.boundedElastic();
+        }
+        log.info("JDBC bulkhead: {} lecturas, {} escrituras y {} lecturas en streaming simultáneas "
+                + "(pool de {} conexiones, hilos {})",
+            properties.readConcurrency(), properties.writeConcurrency(), properties.streamConcurrency(),
+            properties.getPoolSize(),
+            virtual ? "virtuales" : "de plataforma");
+    }
+
+    /**
+     * Ejecuta una consulta en el compartimento de lecturas
+     * @param work llamada bloqueante; si devuelve null el Mono se completa vacío
+     */
+    public <T> Mono<T> read(Callable<T> work) {
+        return read.submit(work);
+    }
+
+    /**
+     * Ejecuta una escritura (o una lectura que forma parte de ella) en el compartimento de escrituras
+     * @param work llamada bloqueante; si devuelve null el Mono se completa vacío
+     */
+    public <T> Mono<T> write(Callable<T> work) {
+        return write.submit(work);
+    }
+
+    /**
+     * Ejecuta una escritura sin resultado en el compartimento de escrituras
+     */
+    public Mono<Void> write(Runnable work) {
+        return write.submit(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Lectura en streaming (cursor JDBC) en el compartimento de streams
+     * Se suscribe en streamScheduler() y retiene un permiso desde la suscripción hasta completar, fallar
+     * o cancelar; sin permiso antes de max-wait (o con la cola llena) falla con RejectedExecutionException.
+     */
+    public <T> Flux<T> stream(Publisher<T> cursor) {
+        return Flux.defer(() -> {
+                stream.acquire();
+                return Flux.from(cursor).doFinally(signal -> stream.release());
+            })
+            .subscribeOn(streamScheduler);
+    }
+
+    /**
+     * Scheduler de las lecturas en streaming: Schedulers.boundedElastic() o, con virtual-threads, un hilo
+     * virtual por tarea. Las lecturas que toman una conexión deben pasar por stream() para quedar acotadas.
+     */
+    public Scheduler streamScheduler() {
+        return streamScheduler;
+    }
+
+    @Override
+    public void destroy() {
+        read.shutdown();
+        write.shutdown();
+        if (streamExecutor != null) {
+            streamScheduler.dispose();
+            streamExecutor.shutdown();
+        }
+    }
+
+    private static Compartment compartment(String name, ReadRouting.Route route, int concurrency,
+                                           JdbcBulkheadProperties.Compartment config, boolean virtual,
+                                           MeterRegistry meterRegistry) {
+        Compartment compartment = virtual
+            ? new VirtualCompartment(name, route, concurrency, config, meterRegistry)
+            : new PlatformCompartment(name, route, concurrency, config, meterRegistry);
+        compartment.registerGauges(meterRegistry);
+        return compartment;
+    }
+
+    /**
+     * Cola, admisión y métricas de un compartimento; las subclases deciden en qué hilos corre cada operación
+     */
+    private abstract static class Compartment {
+
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int ABANDONED = 2;
+
+        protected final String name;
+        private final ReadRouting.Route route;
+        private final Duration maxWait;
+        private final Timer queueWait;
+        private final Counter queueFull;
+        private final Counter waitTimeout;
+        private final DistributionSummary statements;
+        private final DistributionSummary rows;
+        private final Timer sqlTime;
+
+        Compartment(String name, ReadRouting.Route route, JdbcBulkheadProperties.Compartment config,
+                    MeterRegistry meterRegistry) {
+            this.name = name;
+            this.route = route;
+            this.maxWait = config.getMaxWait();
+            this.queueWait = Timer.builder("jdbc.bulkhead.queue.wait")
+                .description("Tiempo en cola antes de ejecutar la operación JDBC")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+            this.queueFull = rejected(meterRegistry, name, "queue-full");
+            this.waitTimeout = rejected(meterRegistry, name, "wait-timeout");
+            this.statements = DistributionSummary.builder("jdbc.bulkhead.statements")
+                .description("Sentencias SQL por operación")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+            this.rows = DistributionSummary.builder("jdbc.bulkhead.rows")
+                .description("Filas leídas por operación")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+            this.sqlTime = Timer.builder("jdbc.bulkhead.sql.time")
+                .description("Tiempo de ejecución de SQL por operación")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        }
+
+        /**
+         * Deja la operación en ejecución o en espera
+         * @throws RejectedExecutionException si no hay lugar en la cola
+         */
+        abstract void dispatch(Task<?> task);
+
+        /**
+         * Quita de la espera una operación ya abandonada
+         */
+        abstract void withdraw(Task<?> task);
+
+        abstract int queueDepth();
+
+        abstract int active();
+
+        abstract void shutdown();
+
+        void registerGauges(MeterRegistry meterRegistry) {
+            Gauge.builder("jdbc.bulkhead.queue.depth", this, Compartment::queueDepth)
+                .description("Operaciones JDBC esperando un hilo")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+            Gauge.builder("jdbc.bulkhead.active", this, Compartment::active)
+                .description("Operaciones JDBC en ejecución")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        }
+
+        <T> Mono<T> submit(Callable<T> work) {
+            return Mono.create(sink -> {
+                Task<T> task = new Task<>(work, sink, System.nanoTime(), SqlRecorder.current());
+                try {
+                    dispatch(task);
+                } catch (RejectedExecutionException ex) {
+                    queueFull.increment();
+                    sink.error(saturated());
+                    return;
+                }
+                sink.onCancel(() -> {
+                    if (task.abandon()) {
+                        withdraw(task);
+                    }
+                });
+                if (!maxWait.isZero() && !maxWait.isNegative()) {
+                    Disposable deadline = Schedulers.parallel().schedule(() -> {
+                        if (task.abandon()) {
+                            withdraw(task);
+                            waitTimeout.increment();
+                            queueWait.record(maxWait);
+                            sink.error(saturated());
+                        }
+                    }, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+                    sink.onDispose(deadline);
+                }
+            });
+        }
+
+        /**
+         * Sin instrumentación SQL (o sin sentencias, p. ej. un acierto de caché) no se registra nada
+         */
+        private void recordSql(SqlRecorder operation) {
+            if (operation.statements() == 0) {
+                return;
+            }
+            statements.record(operation.statements());
+            rows.record(operation.rows());
+            sqlTime.record(operation.nanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private RejectedExecutionException saturated() {
+            return new RejectedExecutionException(String.format(ErrorConstants.BASE_DATOS_SATURADA, name));
+        }
+
+        private static Counter rejected(MeterRegistry meterRegistry, String name, String reason) {
+            return Counter.builder("jdbc.bulkhead.rejected")
+                .description("Operaciones JDBC rechazadas sin llegar a la base")
+                .tag("bulkhead", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+        }
+
+        /**
+         * Operación admitida; solo la ejecuta quien la saque de la cola antes de que venza o se cancele
+         */
+        final class Task<T> implements Runnable {
+
+            private final Callable<T> work;
+            private final MonoSink<T> sink;
+            private final long enqueuedAt;
+            private final SqlRecorder caller;
+            private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+            Task(Callable<T> work, MonoSink<T> sink, long enqueuedAt, SqlRecorder caller) {
+                this.work = work;
+                this.sink = sink;
+                this.enqueuedAt = enqueuedAt;
+                this.caller = caller;
+            }
+
+            @Override
+            public void run() {
+                if (!state.compareAndSet(QUEUED, RUNNING)) {
+                    return;
+                }
+                queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                SqlRecorder operation = SqlRecorder.childOf(caller, null);
+                try (SqlRecorder.Scope callerScope = SqlRecorder.open(caller)) {
+                    T result;
+                    try (SqlRecorder.Scope operationScope = SqlRecorder.open(operation)) {
+                        result = ReadRouting.call(route, work);
+                    } catch (Exception ex) {
+                        recordSql(operation);
+                        sink.error(ex);
+                        return;
+                    }
+                    recordSql(operation);
+                    sink.success(result);
+                }
+            }
+
+            boolean abandon() {
+                return state.compareAndSet(QUEUED, ABANDONED);
+            }
+
+            boolean abandoned() {
+                return state.get() == ABANDONED;
+            }
+
+            void reject() {
+                if (abandon()) {
+                    sink.error(saturated());
+                }
+            }
+        }
+    }
+
+    /**
+     * Compartimento con hilos de plataforma: un pool fijo de max-concurrent hilos y la cola del executor
+     */
+    private static final class PlatformCompartment extends Compartment {
+
+        private final ThreadPoolExecutor executor;
+
+        PlatformCompartment(String name, ReadRouting.Route route, int concurrency,
+                            JdbcBulkheadProperties.Compartment config, MeterRegistry meterRegistry) {
+            super(name, route, config, meterRegistry);
+            BlockingQueue<Runnable> queue = config.getMaxQueued() > 0
+                ? new ArrayBlockingQueue<>(config.getMaxQueued())
+                : new SynchronousQueue<>();
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jdbc-" + name + "-");
+            threadFactory.setDaemon(true);
+            this.executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS, queue,
+                threadFactory, new ThreadPoolExecutor.AbortPolicy());
+            // Los hilos se crean con la demanda y se liberan si el compartimento queda ocioso
+            executor.allowCoreThreadTimeOut(true);
+        }
+
+        @Override
+        void dispatch(Task<?> task) {
+            executor.execute(task);
+        }
+
+        @Override
+        void withdraw(Task<?> task) {
+            executor.remove(task);
+        }
+
+        @Override
+        int queueDepth() {
+            return executor.getQueue().size();
+        }
+
+        @Override
+        int active() {
+            return executor.getActiveCount();
+        }
+
+        @Override
+        void shutdown() {
+            // Las operaciones en curso terminan; las que seguían en cola fallan en lugar de quedar sin respuesta
+            executor.shutdown();
+            List<Runnable> pending = new ArrayList<>();
+            executor.getQueue().drainTo(pending);
+            pending.forEach(task -> ((Task<?>) task).reject());
+        }
+    }
+
+    /**
+     * Compartimento con hilos virtuales: cada operación tiene su propio hilo y max-concurrent permisos
+     * acotan cuántas usan una conexión a la vez. La cola son los hilos que esperan un permiso; esperar
+     * no ocupa un hilo de plataforma.
+     * Solo se interrumpe a un hilo mientras espera el permiso: interrumpir un hilo virtual bloqueado en
+     * el socket cierra la conexión.
+     */
+    private static final class VirtualCompartment extends Compartment {
+
+        private final int concurrency;
+        private final int maxQueued;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Map<Task<?>, Thread> waiters = new ConcurrentHashMap<>();
+        private final ExecutorService executor;
+        private volatile boolean closed;
+
+        VirtualCompartment(String name, ReadRouting.Route route, int concurrency,
+                           JdbcBulkheadProperties.Compartment config, MeterRegistry meterRegistry) {
+            super(name, route, config, meterRegistry);
+            this.concurrency = concurrency;
+            this.maxQueued = config.getMaxQueued();
+            this.permits = new Semaphore(concurrency, true);
+            this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("jdbc-" + name + "-", 0).factory());
+        }
+
+        @Override
+        void dispatch(Task<?> task) {
+            if (acquireNow()) {
+                try {
+                    executor.execute(() -> runHoldingPermit(task));
+                } catch (RejectedExecutionException ex) {
+                    permits.release();
+                    throw ex;
+                }
+                return;
+            }
+            if (waiting.incrementAndGet() > maxQueued) {
+                waiting.decrementAndGet();
+                throw new RejectedExecutionException();
+            }
+            try {
+                executor.execute(() -> awaitPermit(task));
+            } catch (RejectedExecutionException ex) {
+                waiting.decrementAndGet();
+                throw ex;
+            }
+        }
+
+        @Override
+        void withdraw(Task<?> task) {
+            Thread waiter = waiters.get(task);
+            if (waiter != null) {
+                waiter.interrupt();
+            }
+        }
+
+        @Override
+        int queueDepth() {
+            return waiting.get();
+        }
+
+        @Override
+        int active() {
+            return concurrency - permits.availablePermits();
+        }
+
+        @Override
+        void shutdown() {
+            // Igual que con hilos de plataforma: lo que está en curso termina y lo que espera falla
+            closed = true;
+            executor.shutdown();
+            waiters.forEach((task, waiter) -> {
+                task.reject();
+                waiter.interrupt();
+            });
+        }
+
+        private boolean acquireNow() {
+            try {
+                // A diferencia de tryAcquire(), respeta el orden de los que ya esperan
+                return permits.tryAcquire(0, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void awaitPermit(Task<?> task) {
+            waiters.put(task, Thread.currentThread());
+            try {
+                // Abandonada antes de registrarse: withdraw no encontró a quién interrumpir
+                if (task.abandoned()) {
+                    return;
+                }
+                if (closed) {
+                    task.reject();
+                    return;
+                }
+                permits.acquire();
+            } catch (InterruptedException ex) {
+                return;
+            } finally {
+                waiters.remove(task);
+                waiting.decrementAndGet();
+            }
+            runHoldingPermit(task);
+        }
+
+        private void runHoldingPermit(Task<?> task) {
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Compartimento de lecturas en streaming: max-concurrent permisos, uno por cursor abierto
+     * El permiso se espera en el hilo de streamScheduler() que va a abrir el cursor, hasta max-wait y con
+     * a lo sumo max-queued esperando; esos hilos no son los de los compartimentos de lecturas y escrituras.
+     */
+    private static final class StreamCompartment {
+
+        private static final String NAME = "stream";
+
+        private final int concurrency;
+        private final int maxQueued;
+        private final Duration maxWait;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Counter queueFull;
+        private final Counter waitTimeout;
+
+        StreamCompartment(int concurrency, JdbcBulkheadProperties.Compartment config, MeterRegistry meterRegistry) {
+            this.concurrency = concurrency;
+            this.maxQueued = config.getMaxQueued();
+            this.maxWait = config.getMaxWait();
+            this.permits = new Semaphore(concurrency, true);
+            this.queueFull = Compartment.rejected(meterRegistry, NAME, "queue-full");
+            this.waitTimeout = Compartment.rejected(meterRegistry, NAME, "wait-timeout");
+            Gauge.builder("jdbc.bulkhead.queue.depth", waiting, AtomicInteger::get)
+                .description("Operaciones JDBC esperando un hilo")
+                .tag("bulkhead", NAME)
+                .register(meterRegistry);
+            Gauge.builder("jdbc.bulkhead.active", this, StreamCompartment::active)
+                .description("Operaciones JDBC en ejecución")
+                .tag("bulkhead", NAME)
+                .register(meterRegistry);
+        }
+
+        /**
+         * Toma un permiso bloqueando el hilo actual
+         * @throws RejectedExecutionException si la cola está llena o no hubo permiso antes de max-wait
+         */
+        void acquire() {
+            try {
+                // A diferencia de tryAcquire(), respeta el orden de los que ya esperan
+                if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+                if (waiting.incrementAndGet() > maxQueued) {
+                    waiting.decrementAndGet();
+                    queueFull.increment();
+                    throw saturated();
+                }
+                try {
+                    if (maxWait.isZero() || maxWait.isNegative()) {
+                        permits.acquire();
+                    } else if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                        waitTimeout.increment();
+                        throw saturated();
+                    }
+                } finally {
+                    waiting.decrementAndGet();
+                }
+            } catch (InterruptedException ex) {
+                // Suscripción cancelada mientras esperaba
+                Thread.currentThread().interrupt();
+                throw saturated();
+            }
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        private int active() {
+            return concurrency - permits.availablePermits();
+        }
+
+        private static RejectedExecutionException saturated() {
+            return new RejectedExecutionException(String.format(ErrorConstants.BASE_DATOS_SATURADA, NAME));
+        }
+    }
+}
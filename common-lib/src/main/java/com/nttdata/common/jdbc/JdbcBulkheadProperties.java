@@ -0,0 +1,90 @@
+package com.nttdata.common.jdbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración de JdbcBulkhead (jdbc.bulkhead.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jdbc.bulkhead")
+public class JdbcBulkheadProperties {
+
+    /**
+     * Conexiones del pool JDBC (spring.datasource.hikari.maximum-pool-size); los compartimentos
+     * sin maxConcurrent explícito se reparten este total
+     */
+    private int poolSize = 10;
+
+    /**
+     * Ejecuta cada operación en un hilo virtual en lugar del pool de hilos de plataforma (Java 21)
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * Con virtual-threads, tiempo a partir del cual un hilo virtual fijado a su carrier (synchronized,
+     * código nativo) se registra en el log y en jdbc.bulkhead.virtual.pinned
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * Compartimento de lecturas
+     */
+    private Compartment read = new Compartment();
+
+    /**
+     * Compartimento de escrituras
+     */
+    private Compartment write = new Compartment();
+
+    /**
+     * Compartimento de lecturas en streaming (cursores que retienen la conexión mientras se consumen)
+     */
+    private Compartment stream = new Compartment();
+
+    /**
+     * Operaciones de escritura simultáneas: maxConcurrent o 2/5 del pool
+     */
+    public int writeConcurrency() {
+        return write.getMaxConcurrent() > 0 ? write.getMaxConcurrent() : Math.max(1, poolSize * 2 / 5);
+    }
+
+    /**
+     * Lecturas en streaming simultáneas: maxConcurrent o 1/5 del pool, descontado de la parte de lecturas
+     */
+    public int streamConcurrency() {
+        return stream.getMaxConcurrent() > 0 ? stream.getMaxConcurrent() : Math.max(1, poolSize / 5);
+    }
+
+    /**
+     * Operaciones de lectura simultáneas: maxConcurrent o el resto del pool
+     */
+    public int readConcurrency() {
+        return read.getMaxConcurrent() > 0 ? read.getMaxConcurrent()
+            : Math.max(1, poolSize - writeConcurrency() - streamConcurrency());
+    }
+
+    @Data
+    public static class Compartment {
+
+        /**
+         * Operaciones simultáneas (hilos del compartimento); 0 = derivado de poolSize
+         */
+        private int maxConcurrent = 0;
+
+        /**
+         * Operaciones en espera de un hilo; con la cola llena se rechaza de inmediato.
+         * 0 = sin cola: solo se admite si hay un hilo libre
+         */
+        private int maxQueued = 200;
+
+        /**
+         * Tiempo máximo en cola; vencido, la operación se rechaza sin llegar a la base. 0 = sin límite
+         */
+        private Duration maxWait = Duration.ofSeconds(2);
+    }
+}
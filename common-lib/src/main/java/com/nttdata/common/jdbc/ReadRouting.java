@@ -0,0 +1,48 @@
+package com.nttdata.common.jdbc;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Destino de las conexiones JDBC que pida el hilo actual mientras dura una operación
+ * JdbcBulkhead marca REPLICA en el compartimento de lecturas y PRIMARY en el de escrituras; el DataSource
+ * de réplicas de shared-repositories lo consulta al entregar cada conexión. Sin marca se usa la primaria.
+ * Solo decide la conexión que se toma dentro del bloque: una transacción abierta antes conserva la suya.
+ */
+public final class ReadRouting {
+
+    public enum Route {
+        /** Puede leerse de una réplica (con posible retraso de replicación) */
+        REPLICA,
+        /** Debe usar la base primaria */
+        PRIMARY
+    }
+
+    private static final ThreadLocal<Route> ROUTE = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Ejecuta la operación con el destino indicado; al terminar se restaura el anterior
+     */
+    public static <T> T call(Route route, Callable<T> work) throws Exception {
+        Route previous = ROUTE.get();
+        ROUTE.set(route);
+        try {
+            return work.call();
+        } finally {
+            if (previous == null) {
+                ROUTE.remove();
+            } else {
+                ROUTE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * true si la operación en curso admite leer de una réplica
+     */
+    public static boolean replicaAllowed() {
+        return ROUTE.get() == Route.REPLICA;
+    }
+}
@@ -0,0 +1,158 @@
+package com.nttdata.common.jdbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sentencias SQL, filas leídas y tiempo de ejecución de la operación en curso en el hilo actual
+ * Lo alimenta el DataSource instrumentado de shared-repositories. Los registros se anidan: lo que registra
+ * una llamada a repositorio cuenta también para la operación del bulkhead que la contiene y para quien
+ * suscribió a esa operación (JdbcBulkhead propaga el registro del hilo que suscribe al que ejecuta).
+ * Una sentencia se atribuye a la etiqueta del registro donde se ejecutó (el método de repositorio);
+ * sin etiqueta queda como "none": cargas lazy, flush al confirmar, JdbcTemplate.
+ */
+public final class SqlRecorder {
+
+    /** Etiqueta de las sentencias ejecutadas fuera de un método de repositorio */
+    public static final String UNATTRIBUTED = "none";
+
+    private static final ThreadLocal<SqlRecorder> CURRENT = new ThreadLocal<>();
+    private static final int SQL_LIMIT = 50;
+
+    private final SqlRecorder parent;
+    private final String label;
+    private final boolean detailed;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final Map<String, LongAdder> byLabel;
+    private final Queue<String> sql;
+    private final AtomicInteger sqlCount;
+
+    private SqlRecorder(SqlRecorder parent, String label, boolean detailed) {
+        this.parent = parent;
+        this.label = label;
+        this.detailed = detailed;
+        this.byLabel = detailed ? new ConcurrentHashMap<>() : null;
+        this.sql = detailed ? new ConcurrentLinkedQueue<>() : null;
+        this.sqlCount = detailed ? new AtomicInteger() : null;
+    }
+
+    /**
+     * Registro anidado en otro; parent puede ser null
+     * @param label método de repositorio, o null para una operación sin atribución propia
+     */
+    public static SqlRecorder childOf(SqlRecorder parent, String label) {
+        return new SqlRecorder(parent, label, false);
+    }
+
+    /**
+     * Registro raíz que además guarda las sentencias por etiqueta y las primeras sentencias ejecutadas,
+     * para explicar un conteo en una prueba
+     */
+    public static SqlRecorder detailed() {
+        return new SqlRecorder(null, null, true);
+    }
+
+    /**
+     * Registro activo en el hilo actual, o null
+     */
+    public static SqlRecorder current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Deja el registro activo en el hilo actual hasta cerrar el Scope, que restaura el anterior
+     * @param recorder puede ser null: las sentencias del bloque no se registran
+     */
+    public static Scope open(SqlRecorder recorder) {
+        SqlRecorder previous = CURRENT.get();
+        CURRENT.set(recorder);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Registra una sentencia ejecutada (un lote cuenta como una) en este registro y los que lo contienen
+     */
+    public void recordStatement(String statement, long elapsedNanos) {
+        String attribution = attribution();
+        for (SqlRecorder recorder = this; recorder != null; recorder = recorder.parent) {
+            recorder.statements.increment();
+            recorder.nanos.add(elapsedNanos);
+            if (recorder.detailed) {
+                recorder.byLabel.computeIfAbsent(attribution, key -> new LongAdder()).increment();
+                if (recorder.sqlCount.getAndIncrement() < SQL_LIMIT) {
+                    recorder.sql.add(attribution + ": " + statement);
+                }
+            }
+        }
+    }
+
+    /**
+     * Registra filas leídas de un ResultSet
+     */
+    public void recordRows(long count) {
+        for (SqlRecorder recorder = this; recorder != null; recorder = recorder.parent) {
+            recorder.rows.add(count);
+        }
+    }
+
+    /**
+     * Etiqueta a la que se atribuyen las sentencias ejecutadas con este registro activo
+     */
+    public String attribution() {
+        return label != null ? label : UNATTRIBUTED;
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    public long rows() {
+        return rows.sum();
+    }
+
+    public long nanos() {
+        return nanos.sum();
+    }
+
+    /**
+     * Sentencias por etiqueta; vacío si el registro no es detallado
+     */
+    public Map<String, Long> statementsByLabel() {
+        Map<String, Long> result = new TreeMap<>();
+        if (detailed) {
+            byLabel.forEach((key, count) -> result.put(key, count.sum()));
+        }
+        return result;
+    }
+
+    /**
+     * Primeras sentencias ejecutadas, con su etiqueta; vacío si el registro no es detallado
+     */
+    public List<String> sql() {
+        return detailed ? List.copyOf(sql) : List.of();
+    }
+
+    /**
+     * Cierre de open(); no lanza excepciones
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
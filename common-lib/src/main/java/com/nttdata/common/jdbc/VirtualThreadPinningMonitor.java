@@ -0,0 +1,90 @@
+package com.nttdata.common.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * Detección de hilos virtuales fijados a su hilo carrier, activa solo con jdbc.bulkhead.virtual-threads
+ * En Java 21 un hilo virtual que se bloquea (I/O, lock, sleep) dentro de un bloque synchronized no libera
+ * su carrier: si pasa en el camino JDBC (driver, pool, cachés con lock por entrada) los pocos carriers se
+ * agotan y el modo virtual rinde menos que el pool de plataforma.
+ * Escucha el evento JFR jdk.VirtualThreadPinned en el propio proceso, sin grabar a disco, y por cada
+ * ocurrencia que supera pinned-threshold registra la duración en jdbc.bulkhead.virtual.pinned
+ * (tag frame = primer método fuera del JDK) y un warning con la pila.
+ */
+@Component
+@ConditionalOnProperty(prefix = "jdbc.bulkhead", name = "virtual-threads", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(JdbcBulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(properties.getPinnedThreshold()).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        log.info("Monitoreo de hilos virtuales fijados activo (umbral {})", properties.getPinnedThreshold());
+    }
+
+    @Override
+    public void destroy() {
+        recording.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String frame = culprit(stackTrace);
+        Timer.builder("jdbc.bulkhead.virtual.pinned")
+            .description("Tiempo que un hilo virtual quedó fijado a su carrier")
+            .tag("frame", frame)
+            .register(meterRegistry)
+            .record(event.getDuration());
+        if (log.isWarnEnabled()) {
+            String frames = stackTrace == null ? "(sin pila)" : stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n\t"));
+            log.warn("Hilo virtual fijado a su carrier durante {} ms en {}:\n\t{}",
+                event.getDuration().toMillis(), frame, frames);
+        }
+    }
+
+    /**
+     * Primer método de la pila que no pertenece al JDK: el synchronized que hay que revisar suele estar ahí
+     */
+    private static String culprit(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "desconocido";
+        }
+        return stackTrace.getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .filter(frame -> !isJdk(frame.getMethod().getType().getName()))
+            .findFirst()
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+            .orElse("jdk");
+    }
+
+    private static boolean isJdk(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,141 @@
+package com.nttdata.common.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetario inmutable en punto fijo: un long con la cantidad de centésimos
+ * Escala 2, igual que las columnas DECIMAL(15,2); las operaciones verifican desbordamiento
+ * y el rango de la columna, y no crean BigDecimal salvo en los bordes (JDBC, JSON).
+ * Patrón: Value Object
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public final class Money implements Comparable<Money>, Serializable {
+
+    public static final int SCALE = 2;
+
+    /** DECIMAL(15,2): como máximo 15 dígitos en total */
+    private static final long MAX_UNITS = 999_999_999_999_999L;
+
+    public static final Money ZERO = new Money(0);
+
+    private final long units;
+
+    private Money(long units) {
+        this.units = units;
+    }
+
+    /**
+     * @param units cantidad de centésimos
+     * @throws ArithmeticException si excede el rango de DECIMAL(15,2)
+     */
+    public static Money ofUnits(long units) {
+        if (units > MAX_UNITS || units < -MAX_UNITS) {
+            throw new ArithmeticException("Valor fuera del rango DECIMAL(15,2): " + units);
+        }
+        return units == 0 ? ZERO : new Money(units);
+    }
+
+    /**
+     * Convierte redondeando a 2 decimales (HALF_UP, como PostgreSQL al guardar en DECIMAL(15,2))
+     */
+    public static Money of(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        return ofUnits(value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public static Money of(String value) {
+        return of(new BigDecimal(value));
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public Money add(Money other) {
+        return ofUnits(Math.addExact(units, other.units));
+    }
+
+    public Money subtract(Money other) {
+        return ofUnits(Math.subtractExact(units, other.units));
+    }
+
+    public Money negate() {
+        return ofUnits(-units);
+    }
+
+    public int signum() {
+        return Long.signum(units);
+    }
+
+    public boolean isPositive() {
+        return units > 0;
+    }
+
+    public boolean isNegative() {
+        return units < 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return units < other.units;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(units, other.units);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && units == other.units);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(units);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * Se serializa como número JSON con 2 decimales, igual que el BigDecimal original
+     */
+    public static class Serializer extends JsonSerializer<Money> {
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(value.toBigDecimal());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                return Money.of(p.getText().trim());
+            }
+            return Money.of(p.getDecimalValue());
+        }
+    }
+}
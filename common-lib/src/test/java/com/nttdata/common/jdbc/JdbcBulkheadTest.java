@@ -0,0 +1,253 @@
+package com.nttdata.common.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private JdbcBulkhead bulkhead;
+
+    @AfterEach
+    void cerrar() {
+        release.countDown();
+        if (bulkhead != null) {
+            bulkhead.destroy();
+        }
+    }
+
+    @Test
+    void concurrency_ShouldSplitThePoolBetweenReadsStreamsAndWrites() {
+        JdbcBulkheadProperties properties = new JdbcBulkheadProperties();
+        properties.setPoolSize(10);
+
+        assertEquals(4, properties.writeConcurrency());
+        assertEquals(2, properties.streamConcurrency());
+        assertEquals(4, properties.readConcurrency());
+    }
+
+    @Test
+    void read_ShouldReturnTheResultOrEmptyForNull() {
+        bulkhead = new JdbcBulkhead(new JdbcBulkheadProperties(), meterRegistry);
+
+        assertEquals("ok", bulkhead.read(() -> "ok").block());
+        assertNull(bulkhead.read(() -> null).block());
+        assertThrows(IllegalStateException.class, () -> bulkhead.read(() -> {
+            throw new IllegalStateException("falla");
+        }).block());
+    }
+
+    @Test
+    void write_WhenQueueIsFull_ShouldRejectImmediately() {
+        // Arrange: un hilo ocupado y una operación en cola
+        bulkhead = new JdbcBulkhead(properties(1, Duration.ZERO), meterRegistry);
+        bulkhead.write(this::esperar).subscribe();
+        bulkhead.write(this::esperar).subscribe();
+
+        // Act & Assert
+        long start = System.nanoTime();
+        assertThrows(RejectedExecutionException.class, () -> bulkhead.write(() -> "tarde").block());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, rejected("queue-full"));
+        assertEquals(1, queueDepth());
+    }
+
+    @Test
+    void write_WhenNotStartedWithinMaxWait_ShouldRejectWithoutRunning() {
+        // Arrange
+        bulkhead = new JdbcBulkhead(properties(10, Duration.ofMillis(100)), meterRegistry);
+        bulkhead.write(this::esperar).subscribe();
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> bulkhead.write(() -> ran.getAndSet(true)).block());
+        release.countDown();
+        assertEquals("listo", bulkhead.write(() -> "listo").block());
+        assertFalse(ran.get());
+        assertEquals(1, rejected("wait-timeout"));
+    }
+
+    @Test
+    void write_WhenCancelledWhileQueued_ShouldLeaveTheQueue() {
+        // Arrange
+        bulkhead = new JdbcBulkhead(properties(10, Duration.ZERO), meterRegistry);
+        bulkhead.write(this::esperar).subscribe();
+        AtomicBoolean ran = new AtomicBoolean();
+        Disposable queued = bulkhead.write(() -> ran.getAndSet(true)).subscribe();
+        assertEquals(1, queueDepth());
+
+        // Act
+        queued.dispose();
+        release.countDown();
+
+        // Assert
+        assertEquals(0, queueDepth());
+        assertEquals("listo", bulkhead.write(() -> "listo").block());
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void read_OnVirtualThreads_ShouldRunEachOperationOnAVirtualThread() {
+        JdbcBulkheadProperties properties = new JdbcBulkheadProperties();
+        properties.setVirtualThreads(true);
+        bulkhead = new JdbcBulkhead(properties, meterRegistry);
+
+        assertTrue(bulkhead.read(() -> Thread.currentThread().isVirtual()).block());
+        assertTrue(Mono.fromCallable(() -> Thread.currentThread().isVirtual())
+            .subscribeOn(bulkhead.streamScheduler())
+            .block());
+    }
+
+    @Test
+    void write_OnVirtualThreads_WhenQueueIsFull_ShouldRejectImmediately() {
+        // Arrange: un permiso tomado y una operación esperándolo
+        bulkhead = new JdbcBulkhead(virtual(properties(1, Duration.ZERO)), meterRegistry);
+        bulkhead.write(this::esperar).subscribe();
+        bulkhead.write(this::esperar).subscribe();
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> bulkhead.write(() -> "tarde").block());
+        assertEquals(1, rejected("queue-full"));
+        assertEquals(1, queueDepth());
+        assertEquals(1, active());
+    }
+
+    @Test
+    void write_OnVirtualThreads_WhenCancelledWhileWaiting_ShouldNotRun() throws InterruptedException {
+        // Arrange
+        bulkhead = new JdbcBulkhead(virtual(properties(10, Duration.ZERO)), meterRegistry);
+        bulkhead.write(this::esperar).subscribe();
+        AtomicBoolean ran = new AtomicBoolean();
+        Disposable queued = bulkhead.write(() -> ran.getAndSet(true)).subscribe();
+
+        // Act
+        queued.dispose();
+        awaitQueueDepth(0);
+        release.countDown();
+
+        // Assert
+        assertEquals("listo", bulkhead.write(() -> "listo").block());
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void stream_WhenAllPermitsAreTaken_ShouldRejectAndReleaseOnCancel() throws InterruptedException {
+        // Arrange: un único cursor abierto y sin cola
+        JdbcBulkheadProperties properties = new JdbcBulkheadProperties();
+        properties.getStream().setMaxConcurrent(1);
+        properties.getStream().setMaxQueued(0);
+        bulkhead = new JdbcBulkhead(properties, meterRegistry);
+        Disposable abierto = bulkhead.stream(Flux.<String>never()).subscribe();
+        awaitStreamsActive(1);
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> bulkhead.stream(Flux.just("tarde")).blockLast());
+        assertEquals(1, meterRegistry.get("jdbc.bulkhead.rejected").tag("bulkhead", "stream")
+            .tag("reason", "queue-full").counter().count());
+
+        abierto.dispose();
+        awaitStreamsActive(0);
+        assertEquals("fila", bulkhead.stream(Flux.just("fila")).blockLast());
+        awaitStreamsActive(0);
+    }
+
+    @Test
+    void chainedOperations_ShouldRecordTheirStatementsForTheSubscriber() {
+        // Arrange
+        bulkhead = new JdbcBulkhead(new JdbcBulkheadProperties(), meterRegistry);
+        SqlRecorder subscriber = SqlRecorder.detailed();
+
+        // Act: la segunda operación se suscribe desde el hilo de la primera
+        try (SqlRecorder.Scope scope = SqlRecorder.open(subscriber)) {
+            bulkhead.read(() -> ejecutar("SELECT 1", 2))
+                .flatMap(primera -> bulkhead.write(() -> ejecutar("UPDATE cuenta", 0)))
+                .block();
+        }
+
+        // Assert
+        assertEquals(2, subscriber.statements());
+        assertEquals(2, subscriber.rows());
+        assertEquals(2L, subscriber.statementsByLabel().get(SqlRecorder.UNATTRIBUTED));
+        assertEquals(1, meterRegistry.get("jdbc.bulkhead.statements").tag("bulkhead", "read").summary().count());
+        assertEquals(1, meterRegistry.get("jdbc.bulkhead.statements").tag("bulkhead", "write").summary().count());
+        assertNull(SqlRecorder.current());
+    }
+
+    /**
+     * Lo que registra el DataSource instrumentado al ejecutar una sentencia
+     */
+    private static String ejecutar(String sql, long rows) {
+        SqlRecorder recorder = SqlRecorder.current();
+        recorder.recordStatement(sql, 1_000);
+        recorder.recordRows(rows);
+        return sql;
+    }
+
+    private static JdbcBulkheadProperties virtual(JdbcBulkheadProperties properties) {
+        properties.setVirtualThreads(true);
+        return properties;
+    }
+
+    private static JdbcBulkheadProperties properties(int maxQueued, Duration maxWait) {
+        JdbcBulkheadProperties properties = new JdbcBulkheadProperties();
+        properties.getWrite().setMaxConcurrent(1);
+        properties.getWrite().setMaxQueued(maxQueued);
+        properties.getWrite().setMaxWait(maxWait);
+        return properties;
+    }
+
+    private String esperar() throws InterruptedException {
+        release.await(10, TimeUnit.SECONDS);
+        return "ocupado";
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("jdbc.bulkhead.rejected").tag("bulkhead", "write").tag("reason", reason)
+            .counter().count();
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("jdbc.bulkhead.queue.depth").tag("bulkhead", "write").gauge().value();
+    }
+
+    private double active() {
+        return meterRegistry.get("jdbc.bulkhead.active").tag("bulkhead", "write").gauge().value();
+    }
+
+    private double streamsActive() {
+        return meterRegistry.get("jdbc.bulkhead.active").tag("bulkhead", "stream").gauge().value();
+    }
+
+    private void awaitStreamsActive(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (streamsActive() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, streamsActive());
+    }
+
+    private void awaitQueueDepth(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queueDepth() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, queueDepth());
+    }
+}
@@ -0,0 +1,61 @@
+package com.nttdata.common.jdbc;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Object lock = new Object();
+    private VirtualThreadPinningMonitor monitor;
+
+    @AfterEach
+    void cerrar() {
+        if (monitor != null) {
+            monitor.destroy();
+        }
+    }
+
+    @Test
+    void blockingInsideSynchronized_ShouldBeReportedWithTheCulpritFrame() throws InterruptedException {
+        // Arrange
+        JdbcBulkheadProperties properties = new JdbcBulkheadProperties();
+        properties.setPinnedThreshold(Duration.ofMillis(10));
+        monitor = new VirtualThreadPinningMonitor(properties, meterRegistry);
+
+        // Act: un hilo virtual se bloquea dentro de un synchronized
+        Thread.ofVirtual().start(this::dormirConLock).join();
+
+        // Assert: los eventos JFR llegan con la siguiente descarga del stream
+        Timer pinned = awaitPinned();
+        assertEquals(1, pinned.count());
+    }
+
+    private void dormirConLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Timer awaitPinned() throws InterruptedException {
+        String frame = getClass().getName() + ".dormirConLock";
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        Timer pinned = meterRegistry.find("jdbc.bulkhead.virtual.pinned").tag("frame", frame).timer();
+        while (pinned == null && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            pinned = meterRegistry.find("jdbc.bulkhead.virtual.pinned").tag("frame", frame).timer();
+        }
+        return meterRegistry.get("jdbc.bulkhead.virtual.pinned").tag("frame", frame).timer();
+    }
+}
@@ -0,0 +1,52 @@
+package com.nttdata.common.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+
+    @Test
+    void of_ShouldRoundToTwoDecimalsLikeTheColumn() {
+        assertEquals(1001L, Money.of("10.005").getUnits());
+        assertEquals(-1001L, Money.of("-10.005").getUnits());
+        assertEquals(new BigDecimal("10.00"), Money.of(BigDecimal.TEN).toBigDecimal());
+    }
+
+    @Test
+    void arithmetic_ShouldMatchBigDecimal() {
+        Money saldo = Money.of("100.10");
+        Money valor = Money.of("40.25");
+
+        assertEquals(Money.of("140.35"), saldo.add(valor));
+        assertEquals(Money.of("59.85"), saldo.subtract(valor));
+        assertEquals(Money.of("-40.25"), valor.negate());
+        assertTrue(valor.isLessThan(saldo));
+        assertTrue(saldo.subtract(saldo.add(valor)).isNegative());
+    }
+
+    @Test
+    void arithmetic_ShouldRejectValuesOutsideDecimal15_2() {
+        Money max = Money.of("9999999999999.99");
+
+        assertThrows(ArithmeticException.class, () -> max.add(Money.of("0.01")));
+        assertThrows(ArithmeticException.class, () -> Money.ofUnits(Long.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> Money.of("99999999999999999999"));
+    }
+
+    @Test
+    void json_ShouldRoundTripAsNumber() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+
+        String json = mapper.writeValueAsString(Money.of("1234.50"));
+
+        assertEquals("1234.50", json);
+        assertEquals(Money.of("1234.50"), mapper.readValue(json, Money.class));
+        assertEquals(Money.of("7.10"), mapper.readValue("\"7.1\"", Money.class));
+    }
+}
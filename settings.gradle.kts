@@ -1,3 +1,8 @@
+plugins {
+    // Descarga el JDK 21 de la toolchain si no está instalado
+    id("org.gradle.toolchains.foojay-resolver-convention") version "1.0.0"
+}
+
 rootProject.name = "nttdata-technical-test"
 
 include("common-lib")
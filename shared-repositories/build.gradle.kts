@@ -1,12 +1,21 @@
 plugins {
     id("org.springframework.boot")
     id("io.spring.dependency-management")
+    `java-test-fixtures`
 }
 
 dependencies {
+    implementation(project(":common-lib"))
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.postgresql:postgresql:42.7.1")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+
+    // Métricas de las réplicas de lectura y de la instrumentación SQL; lo aporta spring-boot-starter-actuator en los servicios
+    compileOnly("io.micrometer:micrometer-core")
+
+    // @MaxSqlStatements para las pruebas de los servicios (testImplementation(testFixtures(...)))
+    testFixturesImplementation(project(":common-lib"))
+    testFixturesImplementation("org.junit.jupiter:junit-jupiter-api:5.10.1")
 }
 
 // No crear JAR ejecutable para este módulo
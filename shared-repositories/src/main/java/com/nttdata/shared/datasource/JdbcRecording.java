@@ -0,0 +1,147 @@
+package com.nttdata.shared.datasource;
+
+import com.nttdata.common.jdbc.SqlRecorder;
+import io.micrometer.core.instrument.Counter;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Proxies JDBC que registran en el SqlRecorder activo cada sentencia ejecutada (con su tiempo de ejecución)
+ * y las filas leídas de sus ResultSet
+ * Un lote (executeBatch) cuenta como una sentencia. Sin registro activo los ResultSet no se envuelven;
+ * las sentencias fuera de un método de repositorio se cuentan además en jdbc.sql.unattributed.
+ * unwrap() devuelve los objetos del driver: lo que se haga con ellos (COPY, por ejemplo) no se registra.
+ */
+final class JdbcRecording {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private JdbcRecording() {
+    }
+
+    /**
+     * @param unattributed contador de sentencias fuera de un método de repositorio, resuelto al usarse
+     */
+    static Connection connection(Connection target, Supplier<Counter> unattributed) {
+        return proxy(Connection.class, new ConnectionHandler(target, unattributed));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(JdbcRecording.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Igualdad por identidad del proxy: Hibernate guarda sentencias y ResultSet en mapas
+     */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private record ConnectionHandler(Connection target, Supplier<Counter> unattributed) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            Object result = JdbcRecording.invoke(target, method, args);
+            if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql, unattributed));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final Supplier<Counter> unattributed;
+        private SqlRecorder lastRecorder;
+
+        StatementHandler(Statement target, String preparedSql, Supplier<Counter> unattributed) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.unattributed = unattributed;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            Object result = JdbcRecording.invoke(target, method, args);
+            if ("getResultSet".equals(name) && result instanceof ResultSet resultSet) {
+                return rows(resultSet, lastRecorder);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            SqlRecorder recorder = SqlRecorder.current();
+            lastRecorder = recorder;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = JdbcRecording.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (recorder != null) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                    recorder.recordStatement(sql, elapsed);
+                }
+                if (recorder == null || SqlRecorder.UNATTRIBUTED.equals(recorder.attribution())) {
+                    unattributed.get().increment();
+                }
+            }
+            return result instanceof ResultSet resultSet ? rows(resultSet, recorder) : result;
+        }
+
+        private static ResultSet rows(ResultSet resultSet, SqlRecorder recorder) {
+            return recorder == null ? resultSet : proxy(ResultSet.class, new ResultSetHandler(resultSet, recorder));
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target, SqlRecorder recorder) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            Object result = JdbcRecording.invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                recorder.recordRows(1);
+            }
+            return result;
+        }
+    }
+}
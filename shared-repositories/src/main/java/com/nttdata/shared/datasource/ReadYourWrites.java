@@ -0,0 +1,92 @@
+package com.nttdata.shared.datasource;
+
+import com.nttdata.common.jdbc.ReadRouting;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ventana de lectura de las propias escrituras sobre las réplicas (datasource.replicas.read-your-writes-window)
+ * Cada escritura registra las claves que modificó (cliente, cuenta, identificación); durante la ventana,
+ * las lecturas de esas claves van a la primaria aunque corran en el compartimento de lecturas, para no
+ * devolver un dato anterior a la escritura por el retraso de replicación. La ventana se cuenta desde que
+ * se ejecuta la escritura y otra vez desde que se confirma la transacción.
+ * Sin réplicas o con ventana 0 no registra nada y las lecturas siguen su ruta.
+ */
+@Component
+public class ReadYourWrites {
+
+    /**
+     * Cantidad de claves a partir de la cual se descartan las vencidas en cada registro
+     */
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final ReplicaRoutingProperties properties;
+    private final Map<String, Long> writtenUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(ReplicaRoutingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Registra una escritura sobre las claves indicadas; las nulas se ignoran
+     */
+    public void recordWrite(String... keys) {
+        if (!active()) {
+            return;
+        }
+        mark(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mark(keys);
+                }
+            });
+        }
+    }
+
+    /**
+     * Lectura que va a la primaria si la clave se escribió dentro de la ventana
+     * Se evalúa al ejecutarse, no al armar el Mono.
+     */
+    public <T> Callable<T> guard(String key, Callable<T> read) {
+        return () -> recentlyWritten(key) ? ReadRouting.call(ReadRouting.Route.PRIMARY, read) : read.call();
+    }
+
+    boolean recentlyWritten(String key) {
+        if (!active() || key == null) {
+            return false;
+        }
+        Long until = writtenUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        writtenUntil.remove(key, until);
+        return false;
+    }
+
+    private boolean active() {
+        return properties.isEnabled() && properties.getReadYourWritesWindow().isPositive();
+    }
+
+    private void mark(String... keys) {
+        long now = System.nanoTime();
+        if (writtenUntil.size() > PURGE_THRESHOLD) {
+            writtenUntil.values().removeIf(until -> until - now <= 0);
+        }
+        long until = now + properties.getReadYourWritesWindow().toNanos();
+        for (String key : keys) {
+            if (key != null) {
+                writtenUntil.merge(key, until, Math::max);
+            }
+        }
+    }
+}
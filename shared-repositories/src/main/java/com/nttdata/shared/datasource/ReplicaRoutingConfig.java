@@ -0,0 +1,68 @@
+package com.nttdata.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource con réplicas de lectura (datasource.replicas.enabled)
+ * Reemplaza al DataSource autoconfigurado: la primaria se arma con spring.datasource.* igual que antes y
+ * cada réplica tiene su propio pool de solo lectura, que no impide arrancar si la réplica no responde.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(HikariDataSource primaryDataSource,
+                                               DataSourceProperties dataSourceProperties,
+                                               ReplicaRoutingProperties properties,
+                                               MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaRoutingProperties.Node> nodes = properties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, replica(name, nodes.get(i), dataSourceProperties, properties, meterRegistry));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties, meterRegistry);
+    }
+
+    private static HikariDataSource replica(String name, ReplicaRoutingProperties.Node node,
+                                            DataSourceProperties dataSourceProperties,
+                                            ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(node.getUrl());
+        pool.setUsername(node.getUsername() != null ? node.getUsername() : dataSourceProperties.determineUsername());
+        pool.setPassword(node.getPassword() != null ? node.getPassword() : dataSourceProperties.determinePassword());
+        if (dataSourceProperties.getDriverClassName() != null) {
+            pool.setDriverClassName(dataSourceProperties.getDriverClassName());
+        }
+        pool.setMaximumPoolSize(properties.getMaximumPoolSize());
+        pool.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        pool.setReadOnly(true);
+        // Sin la réplica el servicio arranca igual: el chequeo de salud la deja fuera de la rotación
+        pool.setInitializationFailTimeout(-1);
+        // Identifica las conexiones en pg_stat_activity
+        pool.addDataSourceProperty("ApplicationName", name);
+        pool.setMetricRegistry(meterRegistry);
+        return pool;
+    }
+}
@@ -0,0 +1,199 @@
+package com.nttdata.shared.datasource;
+
+import com.nttdata.common.jdbc.ReadRouting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que entrega conexiones de réplica a las operaciones marcadas con ReadRouting REPLICA
+ * (el compartimento de lecturas de JdbcBulkhead) y de la primaria a todo lo demás
+ * Las lecturas se reparten en round robin entre las réplicas sanas. Un chequeo periódico (conexión válida
+ * y, con max-lag, retraso de replicación de PostgreSQL) las saca y las devuelve a la rotación; la réplica
+ * que no entrega una conexión sale de inmediato. Sin réplicas sanas, las lecturas van a la primaria.
+ * Métricas: jdbc.replica.healthy{replica} y jdbc.replica.connections{target=replica|primary|fallback}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    /**
+     * Segundos de retraso de la réplica; 0 en una primaria o si ya aplicó todo lo recibido
+     */
+    private static final String LAG_SQL = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+        END
+        """;
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+    private final Counter toReplica;
+    private final Counter toPrimary;
+    private final Counter fallback;
+
+    /**
+     * @param replicas réplicas por nombre, en orden de rotación; se cierran junto con este DataSource
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLag = properties.getMaxLag();
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("jdbc.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                .description("1 si la réplica recibe lecturas")
+                .tag("replica", name)
+                .register(meterRegistry);
+        });
+        this.toReplica = connections(meterRegistry, "replica");
+        this.toPrimary = connections(meterRegistry, "primary");
+        this.fallback = connections(meterRegistry, "fallback");
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-health-");
+        threadFactory.setDaemon(true);
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        // Las réplicas empiezan fuera de la rotación hasta pasar el primer chequeo
+        long interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, interval, TimeUnit.MILLISECONDS);
+        log.info("Lecturas con réplicas: {} (chequeo cada {})", replicas.keySet(), properties.getHealthCheckInterval());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!ReadRouting.replicaAllowed()) {
+            toPrimary.increment();
+            return primary.getConnection();
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = nextHealthy();
+            if (replica == null) {
+                break;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                toReplica.increment();
+                return connection;
+            } catch (SQLException ex) {
+                replica.update(false, ex.getMessage());
+            }
+        }
+        fallback.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Revisa cada réplica y actualiza la rotación; lo invoca el chequeo periódico
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.update(false, "conexión inválida");
+                } else if (maxLag.isZero()) {
+                    replica.update(true, null);
+                } else {
+                    double lagSeconds = lagSeconds(connection);
+                    boolean healthy = lagSeconds * 1000 <= maxLag.toMillis();
+                    replica.update(healthy, healthy ? null : String.format("retraso de %.1f s", lagSeconds));
+                }
+            } catch (SQLException ex) {
+                replica.update(false, ex.getMessage());
+            } catch (RuntimeException ex) {
+                // Un error inesperado no debe cortar el chequeo programado
+                log.error("Error revisando la réplica {}", replica.name, ex);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica nextHealthy() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static double lagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+            resultSet.next();
+            return resultSet.getDouble(1);
+        }
+    }
+
+    private static Counter connections(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("jdbc.replica.connections")
+            .description("Conexiones entregadas por destino; fallback = lectura enviada a la primaria")
+            .tag("target", target)
+            .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void update(boolean nowHealthy, String reason) {
+            if (healthy == nowHealthy) {
+                return;
+            }
+            healthy = nowHealthy;
+            if (nowHealthy) {
+                log.info("Réplica {} disponible para lecturas", name);
+            } else {
+                log.warn("Réplica {} fuera de la rotación: {}", name, reason);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.nttdata.shared.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de las réplicas de lectura (datasource.replicas.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReplicaRoutingProperties {
+
+    /**
+     * Activa el DataSource con réplicas; desactivado, todo va a spring.datasource
+     */
+    private boolean enabled = false;
+
+    /**
+     * Réplicas, en el orden en que se reparten las lecturas
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Conexiones de cada réplica
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Espera máxima por una conexión de réplica antes de ir a la primaria
+     */
+    private Duration connectionTimeout = Duration.ofMillis(500);
+
+    /**
+     * Frecuencia del chequeo de salud de cada réplica
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Retraso de replicación máximo para seguir recibiendo lecturas. 0 = no se controla
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * Tras una escritura, las lecturas de ese cliente o cuenta van a la primaria durante este tiempo. 0 = desactivado
+     */
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    @Data
+    public static class Node {
+
+        private String url;
+
+        /**
+         * Sin valor, el de spring.datasource
+         */
+        private String username;
+
+        /**
+         * Sin valor, el de spring.datasource
+         */
+        private String password;
+    }
+}
@@ -0,0 +1,74 @@
+package com.nttdata.shared.datasource;
+
+import com.nttdata.common.jdbc.SqlRecorder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Interceptor de un repositorio de Spring Data: cada llamada abre un SqlRecorder con la etiqueta
+ * Repositorio.método y al terminar publica sus sentencias, filas y tiempo de SQL
+ * Métricas (tag method): jdbc.repository.statements, jdbc.repository.rows y jdbc.repository.sql.time.
+ * Va primero en la cadena del proxy, para incluir el flush de las transacciones que abre el repositorio.
+ */
+class RepositorySqlRecorder implements MethodInterceptor {
+
+    private final String repository;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    RepositorySqlRecorder(Class<?> repositoryInterface, Supplier<MeterRegistry> meterRegistry) {
+        this.repository = repositoryInterface.getSimpleName();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Meters methodMeters = meters.computeIfAbsent(method, this::meters);
+        SqlRecorder call = SqlRecorder.childOf(SqlRecorder.current(), methodMeters.label());
+        try (SqlRecorder.Scope scope = SqlRecorder.open(call)) {
+            return invocation.proceed();
+        } finally {
+            methodMeters.record(call);
+        }
+    }
+
+    private Meters meters(Method method) {
+        String label = repository + "." + method.getName();
+        MeterRegistry registry = meterRegistry.get();
+        return new Meters(label,
+            DistributionSummary.builder("jdbc.repository.statements")
+                .description("Sentencias SQL por llamada al método de repositorio")
+                .tag("method", label)
+                .register(registry),
+            DistributionSummary.builder("jdbc.repository.rows")
+                .description("Filas leídas por llamada al método de repositorio")
+                .tag("method", label)
+                .register(registry),
+            Timer.builder("jdbc.repository.sql.time")
+                .description("Tiempo de ejecución de SQL por llamada al método de repositorio")
+                .tag("method", label)
+                .register(registry));
+    }
+
+    private record Meters(String label, DistributionSummary statements, DistributionSummary rows, Timer sqlTime) {
+
+        void record(SqlRecorder call) {
+            statements.record(call.statements());
+            rows.record(call.rows());
+            sqlTime.record(call.nanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.nttdata.shared.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Instrumentación de SQL (jdbc.instrumentation.enabled): sentencias, filas leídas y tiempo por método de
+ * repositorio y por operación del bulkhead, registrados con SqlRecorder
+ * Envuelve el DataSource que usan JPA y JdbcTemplate (el bean dataSource, con o sin réplicas) en un proxy
+ * de la misma clase, y agrega RepositorySqlRecorder a cada repositorio de Spring Data.
+ * Los post-processors son estáticos y resuelven el MeterRegistry recién al usarlo, para no adelantar
+ * la creación de otros beans.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jdbc.instrumentation", name = "enabled", havingValue = "true")
+public class SqlInstrumentationConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlRecordingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        SingletonSupplier<Counter> unattributed = SingletonSupplier.of(() -> Counter.builder("jdbc.sql.unattributed")
+            .description("Sentencias SQL fuera de un método de repositorio (cargas lazy, flush, JdbcTemplate)")
+            .register(meterRegistry.getObject()));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource)) {
+                    return bean;
+                }
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                // Proxy de la clase y no solo de DataSource: se sigue inyectando como HikariDataSource o
+                // ReplicaRoutingDataSource
+                proxyFactory.setProxyTargetClass(true);
+                proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                    Object result = invocation.proceed();
+                    return "getConnection".equals(invocation.getMethod().getName())
+                        && result instanceof Connection connection
+                        ? JdbcRecording.connection(connection, unattributed)
+                        : result;
+                });
+                return proxyFactory.getProxy(bean.getClass().getClassLoader());
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlRecordingRepositoryPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, information) -> proxyFactory.addAdvice(0, new RepositorySqlRecorder(
+                            information.getRepositoryInterface(), meterRegistry::getObject))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.nttdata.shared.domain.catalog;
+
+import com.nttdata.shared.domain.model.AccountType;
+import com.nttdata.shared.domain.model.Gender;
+import com.nttdata.shared.domain.model.Status;
+import com.nttdata.shared.domain.repository.AccountTypeRepository;
+import com.nttdata.shared.domain.repository.GenderRepository;
+import com.nttdata.shared.domain.repository.StatusRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registro en memoria de los catálogos de tipo de cuenta, estado y género
+ * Patrón: Registry
+ * Cada recarga arma una instantánea inmutable indexada por código y la publica de una sola vez,
+ * de modo que las búsquedas no consultan la base ni se bloquean entre sí.
+ * Se recarga al iniciar, cada catalog.refresh-interval y al invocar {@link #refresh()}.
+ * Las entidades devueltas están fuera del contexto de persistencia y se comparten entre hilos:
+ * sirven como referencia en asociaciones y no deben modificarse.
+ */
+@Component
+@Slf4j
+public class CatalogRegistry {
+
+    private final AccountTypeRepository accountTypeRepository;
+    private final StatusRepository statusRepository;
+    private final GenderRepository genderRepository;
+
+    private volatile Snapshot snapshot;
+
+    public CatalogRegistry(AccountTypeRepository accountTypeRepository,
+                           StatusRepository statusRepository,
+                           GenderRepository genderRepository) {
+        this.accountTypeRepository = accountTypeRepository;
+        this.statusRepository = statusRepository;
+        this.genderRepository = genderRepository;
+    }
+
+    /**
+     * Tipo de cuenta activo por código
+     */
+    public Optional<AccountType> findActiveAccountType(String code) {
+        return Optional.ofNullable(snapshot().accountTypes().get(code)).filter(AccountType::getActive);
+    }
+
+    /**
+     * Estado por código, activo o no
+     */
+    public Optional<Status> findStatus(String code) {
+        return Optional.ofNullable(snapshot().statuses().get(code));
+    }
+
+    /**
+     * Estado activo por código
+     */
+    public Optional<Status> findActiveStatus(String code) {
+        return findStatus(code).filter(Status::getActive);
+    }
+
+    /**
+     * Género activo por código
+     */
+    public Optional<Gender> findActiveGender(String code) {
+        return Optional.ofNullable(snapshot().genders().get(code)).filter(Gender::getActive);
+    }
+
+    /**
+     * Vuelve a leer los tres catálogos y reemplaza la instantánea vigente
+     * Si la lectura falla se conserva la instantánea anterior.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${catalog.refresh-interval:PT10M}",
+               initialDelayString = "${catalog.refresh-interval:PT10M}")
+    public void refresh() {
+        try {
+            snapshot = load();
+        } catch (RuntimeException ex) {
+            if (snapshot == null) {
+                throw ex;
+            }
+            log.warn("No se pudieron recargar los catálogos, se mantiene la versión anterior: {}", ex.getMessage());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Búsqueda anterior a ApplicationReadyEvent (inicialización de otros beans, pruebas)
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        Snapshot loaded = new Snapshot(
+            byCode(accountTypeRepository.findAll(), AccountType::getCode),
+            byCode(statusRepository.findAll(), Status::getCode),
+            byCode(genderRepository.findAll(), Gender::getCode)
+        );
+        log.debug("Catálogos cargados: {} tipos de cuenta, {} estados, {} géneros",
+            loaded.accountTypes().size(), loaded.statuses().size(), loaded.genders().size());
+        return loaded;
+    }
+
+    private static <T> Map<String, T> byCode(List<T> rows, Function<T, String> code) {
+        return rows.stream().collect(Collectors.toUnmodifiableMap(code, Function.identity()));
+    }
+
+    private record Snapshot(Map<String, AccountType> accountTypes,
+                            Map<String, Status> statuses,
+                            Map<String, Gender> genders) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.nttdata.shared.domain.model;
 
+import com.nttdata.common.money.Money;
+import com.nttdata.common.money.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -8,7 +10,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -38,11 +39,13 @@ public class Account {
     @NotNull(message = "El tipo de cuenta es obligatorio")
     private AccountType accountType;
     
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(name = "initial_balance", nullable = false, precision = 15, scale = 2)
-    private BigDecimal initialBalance;
+    private Money initialBalance;
     
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(name = "current_balance", nullable = false, precision = 15, scale = 2)
-    private BigDecimal currentBalance;
+    private Money currentBalance;
     
     @ManyToOne
     @JoinColumn(name = "status_id", nullable = false)
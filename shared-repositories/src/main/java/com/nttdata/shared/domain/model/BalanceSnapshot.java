@@ -0,0 +1,49 @@
+package com.nttdata.shared.domain.model;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.common.money.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Entidad BalanceSnapshot
+ * Saldo de cierre de una cuenta en un día con movimientos, para consultar el saldo
+ * a una fecha sin recorrer el historial desde la apertura de la cuenta.
+ */
+@Entity
+@Table(name = "account_balance_snapshot")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceSnapshot {
+    
+    @EmbeddedId
+    private BalanceSnapshotId id;
+    
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "saldo_cierre", nullable = false, precision = 15, scale = 2)
+    private Money closingBalance;
+    
+    /**
+     * Clave compuesta: cuenta y día calendario
+     */
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BalanceSnapshotId implements Serializable {
+        
+        @Column(name = "account_id", nullable = false)
+        private Long accountId;
+        
+        @Column(name = "fecha", nullable = false)
+        private LocalDate date;
+    }
+}
@@ -0,0 +1,49 @@
+package com.nttdata.shared.domain.model;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.common.money.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Entidad DailyWithdrawal
+ * Contador incremental del monto retirado por cuenta y día, usado para validar el cupo diario
+ * sin recorrer los movimientos del día en cada retiro.
+ */
+@Entity
+@Table(name = "daily_withdrawal")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyWithdrawal {
+    
+    @EmbeddedId
+    private DailyWithdrawalId id;
+    
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "total_retirado", nullable = false, precision = 15, scale = 2)
+    private Money total;
+    
+    /**
+     * Clave compuesta: cuenta y día calendario
+     */
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyWithdrawalId implements Serializable {
+        
+        @Column(name = "account_id", nullable = false)
+        private Long accountId;
+        
+        @Column(name = "fecha", nullable = false)
+        private LocalDate date;
+    }
+}
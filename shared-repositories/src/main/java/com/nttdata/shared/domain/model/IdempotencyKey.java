@@ -0,0 +1,36 @@
+package com.nttdata.shared.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad IdempotencyKey
+ * Registra la respuesta de una operación identificada por la cabecera Idempotency-Key,
+ * de modo que un reintento devuelva el resultado original en lugar de repetir el posteo.
+ */
+@Entity
+@Table(name = "idempotency_key")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyKey {
+    
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+    
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash; // SHA-256 del cuerpo, para detectar reutilización de la clave
+    
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
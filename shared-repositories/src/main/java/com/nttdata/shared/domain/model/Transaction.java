@@ -1,5 +1,7 @@
 package com.nttdata.shared.domain.model;
 
+import com.nttdata.common.money.Money;
+import com.nttdata.common.money.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -7,7 +9,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -22,8 +23,14 @@ import java.time.LocalDateTime;
 @Builder(toBuilder = true)
 public class Transaction {
     
+    /**
+     * Secuencia con asignación en bloques (pooled): a diferencia de IDENTITY,
+     * permite a Hibernate agrupar los INSERT en lotes JDBC.
+     * allocationSize debe coincidir con el INCREMENT BY de transaction_id_seq.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "fecha", nullable = false)
@@ -35,12 +42,14 @@ public class Transaction {
     private TransactionType transactionType;
     
     @NotNull(message = "El valor es obligatorio")
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(name = "valor", nullable = false, precision = 15, scale = 2)
-    private BigDecimal amount;
+    private Money amount;
     
     @NotNull(message = "El saldo es obligatorio")
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(name = "saldo", nullable = false, precision = 15, scale = 2)
-    private BigDecimal balance;
+    private Money balance;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false)
@@ -60,7 +69,8 @@ public class Transaction {
      */
     public enum TransactionType {
         DEPOSITO("Depósito"),
-        RETIRO("Retiro");
+        RETIRO("Retiro"),
+        TRANSFERENCIA("Transferencia");
         
         private final String description;
         
@@ -0,0 +1,60 @@
+package com.nttdata.shared.domain.model;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.common.money.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Entidad TransactionDailyRollup
+ * Totales diarios de movimientos por cuenta, para totalizar rangos largos sumando
+ * una fila por día en lugar de cada movimiento. Los débitos conservan el signo negativo.
+ */
+@Entity
+@Table(name = "transaction_daily_rollup")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionDailyRollup {
+    
+    @EmbeddedId
+    private TransactionDailyRollupId id;
+    
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "total_creditos", nullable = false, precision = 15, scale = 2)
+    private Money totalCredits;
+    
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "total_debitos", nullable = false, precision = 15, scale = 2)
+    private Money totalDebits;
+    
+    @Column(name = "cantidad", nullable = false)
+    private Integer count;
+    
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "saldo_cierre", nullable = false, precision = 15, scale = 2)
+    private Money closingBalance;
+    
+    /**
+     * Clave compuesta: cuenta y día calendario
+     */
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TransactionDailyRollupId implements Serializable {
+        
+        @Column(name = "account_id", nullable = false)
+        private Long accountId;
+        
+        @Column(name = "fecha", nullable = false)
+        private LocalDate date;
+    }
+}
@@ -0,0 +1,22 @@
+package com.nttdata.shared.domain.projection;
+
+import com.nttdata.common.money.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de solo lectura de una cuenta, con tipo y estado resueltos en la misma consulta
+ * No es una entidad: no pasa por el contexto de persistencia ni por el dirty checking.
+ */
+public record AccountView(
+    Long id,
+    String accountNumber,
+    String accountType,
+    Money initialBalance,
+    Money currentBalance,
+    String status,
+    String clientId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
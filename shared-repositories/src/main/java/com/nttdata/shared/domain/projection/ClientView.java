@@ -0,0 +1,21 @@
+package com.nttdata.shared.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de solo lectura de un cliente, con género y estado resueltos en la misma consulta
+ * No incluye la contraseña. No es una entidad: no pasa por el contexto de persistencia.
+ */
+public record ClientView(
+    String clientId,
+    String name,
+    String gender,
+    Integer age,
+    String identification,
+    String address,
+    String phone,
+    String status,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
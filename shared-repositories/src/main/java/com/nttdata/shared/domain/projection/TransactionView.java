@@ -0,0 +1,20 @@
+package com.nttdata.shared.domain.projection;
+
+import com.nttdata.common.money.Money;
+import com.nttdata.shared.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de solo lectura de un movimiento con el número de su cuenta
+ * No es una entidad: no pasa por el contexto de persistencia ni por el dirty checking.
+ */
+public record TransactionView(
+    Long id,
+    LocalDateTime date,
+    Transaction.TransactionType transactionType,
+    Money amount,
+    Money balance,
+    String accountNumber
+) {
+}
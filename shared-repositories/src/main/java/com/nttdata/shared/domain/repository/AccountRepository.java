@@ -1,10 +1,23 @@
 package com.nttdata.shared.domain.repository;
 
 import com.nttdata.shared.domain.model.Account;
+import com.nttdata.shared.domain.model.AccountType;
+import com.nttdata.shared.domain.model.Status;
+import com.nttdata.shared.domain.projection.AccountView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,12 +28,83 @@ import java.util.Optional;
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
     
+    /** Sentencia de applyBalanceDelta, compartida con el adaptador R2DBC de account-service */
+    String APPLY_BALANCE_DELTA_SQL =
+        "UPDATE account SET current_balance = current_balance + :delta, updated_at = CURRENT_TIMESTAMP " +
+        "WHERE id = :accountId AND current_balance + :delta >= 0 " +
+        "RETURNING current_balance";
+    
+    /** Selección de AccountView con tipo y estado resueltos por JOIN; se completa con WHERE / ORDER BY */
+    String VIEW_SELECT =
+        "SELECT new com.nttdata.shared.domain.projection.AccountView(" +
+        "a.id, a.accountNumber, t.description, a.initialBalance, a.currentBalance, s.description, " +
+        "a.clientId, a.createdAt, a.updatedAt) " +
+        "FROM Account a JOIN a.accountType t JOIN a.status s";
+    
+    /**
+     * Cuenta con tipo y estado en la misma consulta (las asociaciones EAGER agregarían una consulta cada una)
+     */
+    @EntityGraph(attributePaths = {"accountType", "status"})
     Optional<Account> findByAccountNumber(String accountNumber);
     
     List<Account> findByClientId(String clientId);
     
+    /**
+     * Cuentas del cliente con tipo y estado en la misma consulta (sin SELECT adicionales por fila)
+     */
+    @Query("SELECT a FROM Account a JOIN FETCH a.accountType JOIN FETCH a.status WHERE a.clientId = :clientId ORDER BY a.id")
+    List<Account> findByClientIdWithDetails(@Param("clientId") String clientId);
+    
+    /**
+     * Página de cuentas con id mayor al indicado, en orden de id (keyset sobre la clave primaria)
+     */
+    @Query(VIEW_SELECT + " WHERE a.id > :afterId ORDER BY a.id")
+    List<AccountView> findViewPageAfter(@Param("afterId") long afterId, Limit limit);
+    
+    /**
+     * Cuentas del cliente como proyección de solo lectura
+     */
+    @Query(VIEW_SELECT + " WHERE a.clientId = :clientId ORDER BY a.id")
+    List<AccountView> findViewsByClientId(@Param("clientId") String clientId);
+    
     boolean existsByAccountNumber(String accountNumber);
     
+    /**
+     * Clientes dueños de las cuentas indicadas
+     */
+    @Query("SELECT DISTINCT a.clientId FROM Account a WHERE a.id IN :ids")
+    List<String> findClientIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
     @Query("SELECT c FROM Account c WHERE c.clientId = :clientId AND c.status.code = 'ACTIVO'")
     List<Account> findActiveAccountsByClientId(String clientId);
+    
+    /**
+     * Obtiene y bloquea (SELECT ... FOR UPDATE) las cuentas indicadas.
+     * Los bloqueos se toman en orden canónico por id para evitar deadlocks entre escritores concurrentes.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber IN :accountNumbers ORDER BY a.id")
+    List<Account> findByAccountNumberInForUpdate(@Param("accountNumbers") Collection<String> accountNumbers);
+    
+    /**
+     * Aplica una variación de saldo en una única sentencia atómica.
+     * El control de sobregiro se evalúa en la misma sentencia: si el saldo resultante
+     * fuese negativo no se actualiza ninguna fila y se retorna vacío.
+     * @param accountId ID de la cuenta
+     * @param delta variación con signo (negativa para retiros)
+     * @return nuevo saldo de la cuenta, o vacío si no hay saldo suficiente
+     */
+    @Transactional
+    @Query(value = APPLY_BALANCE_DELTA_SQL, nativeQuery = true)
+    Optional<BigDecimal> applyBalanceDelta(@Param("accountId") Long accountId, @Param("delta") BigDecimal delta);
+    
+    /**
+     * Cambia el tipo y el estado de la cuenta sin leerla ni reescribir el saldo
+     * @return filas actualizadas (0 si la cuenta no existe)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Account a SET a.accountType = :accountType, a.status = :status, a.updatedAt = :updatedAt WHERE a.id = :accountId")
+    int updateDetails(@Param("accountId") Long accountId, @Param("accountType") AccountType accountType,
+                      @Param("status") Status status, @Param("updatedAt") LocalDateTime updatedAt);
 }
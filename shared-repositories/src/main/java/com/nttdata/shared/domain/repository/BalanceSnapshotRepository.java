@@ -0,0 +1,88 @@
+package com.nttdata.shared.domain.repository;
+
+import com.nttdata.shared.domain.model.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio para la entidad BalanceSnapshot
+ * Patrón: Repository
+ */
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, BalanceSnapshot.BalanceSnapshotId> {
+    
+    /** Sentencia de upsert, compartida con el adaptador R2DBC de account-service */
+    String UPSERT_SQL = """
+        INSERT INTO account_balance_snapshot (account_id, fecha, saldo_cierre)
+        VALUES (:accountId, :fecha, :saldo)
+        ON CONFLICT (account_id, fecha) DO UPDATE SET saldo_cierre = EXCLUDED.saldo_cierre
+        """;
+    
+    /** Consulta de findBalancesAtByClientId, compartida con el adaptador R2DBC de account-service */
+    String BALANCES_AT_BY_CLIENT_SQL = """
+        SELECT a.id AS "accountId",
+               COALESCE(s.saldo_cierre, a.initial_balance) + COALESCE((
+                   SELECT SUM(t.valor) FROM transaction t
+                   WHERE t.account_id = a.id
+                     AND (s.fecha IS NULL OR t.fecha >= s.fecha + 1)
+                     AND t.fecha <= :hasta
+               ), 0) AS "balance"
+        FROM account a
+        LEFT JOIN LATERAL (
+            SELECT bs.fecha, bs.saldo_cierre FROM account_balance_snapshot bs
+            WHERE bs.account_id = a.id AND bs.fecha < :fecha
+            ORDER BY bs.fecha DESC
+            LIMIT 1
+        ) s ON TRUE
+        WHERE a.client_id = :clientId
+        """;
+    
+    /**
+     * Registra el saldo resultante de un posteo como cierre (provisional) del día.
+     * Debe ejecutarse mientras la transacción mantiene bloqueada la fila de la cuenta,
+     * para que el último posteo confirmado sea también la última escritura del cierre.
+     */
+    @Modifying
+    @Query(value = UPSERT_SQL, nativeQuery = true)
+    int upsert(@Param("accountId") Long accountId,
+               @Param("fecha") LocalDate fecha,
+               @Param("saldo") BigDecimal saldo);
+    
+    /**
+     * Cierre más reciente anterior al día indicado (búsqueda por índice de la clave primaria)
+     */
+    @Query(value = """
+        SELECT * FROM account_balance_snapshot
+        WHERE account_id = :accountId AND fecha < :fecha
+        ORDER BY fecha DESC
+        LIMIT 1
+        """, nativeQuery = true)
+    Optional<BalanceSnapshot> findLatestBefore(@Param("accountId") Long accountId, @Param("fecha") LocalDate fecha);
+    
+    /**
+     * Saldo de todas las cuentas del cliente a un instante en una sola consulta:
+     * cierre anterior más cercano de cada cuenta (o saldo inicial) más los movimientos posteriores a él
+     */
+    @Query(value = BALANCES_AT_BY_CLIENT_SQL, nativeQuery = true)
+    List<AccountBalanceView> findBalancesAtByClientId(@Param("clientId") String clientId,
+                                                      @Param("fecha") LocalDate fecha,
+                                                      @Param("hasta") LocalDateTime hasta);
+    
+    /**
+     * Proyección: saldo de una cuenta a un instante
+     */
+    interface AccountBalanceView {
+        Long getAccountId();
+        
+        BigDecimal getBalance();
+    }
+}
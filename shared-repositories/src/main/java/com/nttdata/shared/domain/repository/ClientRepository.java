@@ -1,10 +1,13 @@
 package com.nttdata.shared.domain.repository;
 
 import com.nttdata.shared.domain.model.Client;
+import com.nttdata.shared.domain.projection.ClientView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,6 +17,13 @@ import java.util.Optional;
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
     
+    /** Selección de ClientView con género y estado resueltos por JOIN; se completa con WHERE / ORDER BY */
+    String VIEW_SELECT =
+        "SELECT new com.nttdata.shared.domain.projection.ClientView(" +
+        "c.clientId, c.name, g.description, c.age, c.identification, c.address, c.phone, s.description, " +
+        "c.createdAt, c.updatedAt) " +
+        "FROM Client c JOIN c.gender g JOIN c.status s";
+    
     Optional<Client> findByClientId(String clientId);
     
     Optional<Client> findByIdentification(String identificacion);
@@ -24,4 +34,16 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     
     @Query("SELECT c FROM Client c WHERE c.clientId = :clientId AND c.status.code = 'ACTIVO'")
     Optional<Client> findActiveByClientId(String clientId);
+    
+    /**
+     * Clientes como proyección de solo lectura
+     */
+    @Query(VIEW_SELECT + " ORDER BY c.id")
+    List<ClientView> findAllViews();
+    
+    @Query(VIEW_SELECT + " WHERE c.clientId = :clientId")
+    Optional<ClientView> findViewByClientId(@Param("clientId") String clientId);
+    
+    @Query(VIEW_SELECT + " WHERE c.identification = :identificacion")
+    Optional<ClientView> findViewByIdentification(@Param("identificacion") String identificacion);
 }
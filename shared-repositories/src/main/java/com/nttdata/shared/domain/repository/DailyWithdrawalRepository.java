@@ -0,0 +1,64 @@
+package com.nttdata.shared.domain.repository;
+
+import com.nttdata.shared.domain.model.DailyWithdrawal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Repositorio para la entidad DailyWithdrawal
+ * Patrón: Repository
+ */
+@Repository
+public interface DailyWithdrawalRepository extends JpaRepository<DailyWithdrawal, DailyWithdrawal.DailyWithdrawalId> {
+    
+    /** Sentencia de addIfWithinLimit, compartida con el adaptador R2DBC de account-service */
+    String ADD_IF_WITHIN_LIMIT_SQL = """
+        INSERT INTO daily_withdrawal (account_id, fecha, total_retirado)
+        SELECT :accountId, :fecha, :amount WHERE :amount <= :limit
+        ON CONFLICT (account_id, fecha) DO UPDATE
+            SET total_retirado = daily_withdrawal.total_retirado + EXCLUDED.total_retirado
+            WHERE daily_withdrawal.total_retirado + EXCLUDED.total_retirado <= :limit
+        RETURNING total_retirado
+        """;
+    
+    /**
+     * Suma el monto al total del día solo si el resultado no supera el límite.
+     * La fila queda bloqueada hasta el fin de la transacción, por lo que los retiros
+     * concurrentes de la misma cuenta se validan en serie.
+     * @return el nuevo total del día, o vacío si se superaría el límite
+     */
+    @Transactional
+    @Query(value = ADD_IF_WITHIN_LIMIT_SQL, nativeQuery = true)
+    Optional<BigDecimal> addIfWithinLimit(@Param("accountId") Long accountId,
+                                          @Param("fecha") LocalDate fecha,
+                                          @Param("amount") BigDecimal amount,
+                                          @Param("limit") BigDecimal limit);
+    
+    /**
+     * Descuenta un monto reservado cuyo retiro no llegó a registrarse
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE daily_withdrawal SET total_retirado = total_retirado - :amount
+        WHERE account_id = :accountId AND fecha = :fecha
+        """, nativeQuery = true)
+    int subtract(@Param("accountId") Long accountId,
+                 @Param("fecha") LocalDate fecha,
+                 @Param("amount") BigDecimal amount);
+    
+    @Query(value = "SELECT total_retirado FROM daily_withdrawal WHERE account_id = :accountId AND fecha = :fecha",
+           nativeQuery = true)
+    Optional<BigDecimal> findTotal(@Param("accountId") Long accountId, @Param("fecha") LocalDate fecha);
+    
+    @Modifying
+    @Query("DELETE FROM DailyWithdrawal d WHERE d.id.date < :before")
+    int deleteByDateBefore(@Param("before") LocalDate before);
+}
@@ -0,0 +1,42 @@
+package com.nttdata.shared.domain.repository;
+
+import com.nttdata.shared.domain.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositorio para la entidad IdempotencyKey
+ * Patrón: Repository
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+    
+    /** Sentencia de claim, compartida con el adaptador R2DBC de account-service */
+    String CLAIM_SQL = """
+        INSERT INTO idempotency_key (idempotency_key, request_hash, created_at)
+        VALUES (:key, :requestHash, CURRENT_TIMESTAMP)
+        ON CONFLICT (idempotency_key) DO NOTHING
+        """;
+    
+    /**
+     * Reserva la clave. Si otra transacción ya la insertó, PostgreSQL espera a que esa
+     * transacción termine: devuelve 0 si confirmó y 1 si hizo rollback.
+     * @return 1 si la clave quedó reservada por la transacción actual
+     */
+    @Modifying
+    @Query(value = CLAIM_SQL, nativeQuery = true)
+    int claim(@Param("key") String key, @Param("requestHash") String requestHash);
+    
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.responseBody = :responseBody WHERE k.key = :key")
+    int storeResponse(@Param("key") String key, @Param("responseBody") String responseBody);
+    
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,156 @@
+package com.nttdata.shared.domain.repository;
+
+import com.nttdata.shared.domain.model.TransactionDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositorio para la entidad TransactionDailyRollup
+ * Patrón: Repository
+ */
+@Repository
+public interface TransactionDailyRollupRepository
+        extends JpaRepository<TransactionDailyRollup, TransactionDailyRollup.TransactionDailyRollupId> {
+    
+    /** Sentencia de accumulate, compartida con el adaptador R2DBC de account-service */
+    String ACCUMULATE_SQL = """
+        INSERT INTO transaction_daily_rollup (account_id, fecha, total_creditos, total_debitos, cantidad, saldo_cierre)
+        VALUES (:accountId, :fecha, :creditos, :debitos, :cantidad, :saldo)
+        ON CONFLICT (account_id, fecha) DO UPDATE SET
+            total_creditos = transaction_daily_rollup.total_creditos + EXCLUDED.total_creditos,
+            total_debitos = transaction_daily_rollup.total_debitos + EXCLUDED.total_debitos,
+            cantidad = transaction_daily_rollup.cantidad + EXCLUDED.cantidad,
+            saldo_cierre = EXCLUDED.saldo_cierre
+        """;
+    
+    /** Consulta de sumTotalsByClientId, compartida con el adaptador R2DBC de account-service */
+    String SUM_TOTALS_BY_CLIENT_SQL = """
+        SELECT a.id AS "accountId",
+               COALESCE(r.creditos, 0) + COALESCE(e.creditos, 0) AS "credits",
+               COALESCE(r.debitos, 0) + COALESCE(e.debitos, 0) AS "debits"
+        FROM account a
+        LEFT JOIN LATERAL (
+            SELECT SUM(dr.total_creditos) AS creditos, SUM(dr.total_debitos) AS debitos
+            FROM transaction_daily_rollup dr
+            WHERE dr.account_id = a.id AND dr.fecha BETWEEN :primerDia AND :ultimoDia
+        ) r ON TRUE
+        LEFT JOIN LATERAL (
+            SELECT SUM(t.valor) FILTER (WHERE t.valor >= 0) AS creditos,
+                   SUM(t.valor) FILTER (WHERE t.valor < 0) AS debitos
+            FROM transaction t
+            WHERE t.account_id = a.id
+              AND ((t.fecha >= :desde AND t.fecha < :inicioCompletos)
+                OR (t.fecha >= :finCompletos AND t.fecha < :hasta))
+        ) e ON TRUE
+        WHERE a.client_id = :clientId
+        """;
+    
+    /**
+     * Acumula los movimientos recién posteados en el total del día.
+     * Debe ejecutarse mientras la transacción mantiene bloqueada la fila de la cuenta,
+     * para que el saldo del último posteo confirmado sea también el cierre registrado.
+     */
+    @Modifying
+    @Query(value = ACCUMULATE_SQL, nativeQuery = true)
+    int accumulate(@Param("accountId") Long accountId,
+                   @Param("fecha") LocalDate fecha,
+                   @Param("creditos") BigDecimal creditos,
+                   @Param("debitos") BigDecimal debitos,
+                   @Param("cantidad") int cantidad,
+                   @Param("saldo") BigDecimal saldo);
+    
+    /**
+     * Descuenta un movimiento eliminado del total de su día.
+     * El saldo de cierre no cambia: eliminar un movimiento no revierte el saldo de la cuenta.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE transaction_daily_rollup SET
+            total_creditos = total_creditos - CASE WHEN :valor >= 0 THEN :valor ELSE 0 END,
+            total_debitos = total_debitos - CASE WHEN :valor < 0 THEN :valor ELSE 0 END,
+            cantidad = cantidad - 1
+        WHERE account_id = :accountId AND fecha = :fecha
+        """, nativeQuery = true)
+    int subtract(@Param("accountId") Long accountId,
+                 @Param("fecha") LocalDate fecha,
+                 @Param("valor") BigDecimal valor);
+    
+    /**
+     * Créditos y débitos de todas las cuentas del cliente en [desde, hasta) en una sola consulta.
+     * Los días completos [primerDia, ultimoDia] se toman del rollup; solo los movimientos de los
+     * tramos parciales [desde, inicioCompletos) y [finCompletos, hasta) se leen de transaction.
+     */
+    @Query(value = SUM_TOTALS_BY_CLIENT_SQL, nativeQuery = true)
+    List<AccountTotalsView> sumTotalsByClientId(@Param("clientId") String clientId,
+                                                @Param("desde") LocalDateTime desde,
+                                                @Param("hasta") LocalDateTime hasta,
+                                                @Param("primerDia") LocalDate primerDia,
+                                                @Param("ultimoDia") LocalDate ultimoDia,
+                                                @Param("inicioCompletos") LocalDateTime inicioCompletos,
+                                                @Param("finCompletos") LocalDateTime finCompletos);
+    
+    /**
+     * Rango de IDs de cuenta, para repartir la reconstrucción en tramos
+     */
+    @Query(value = "SELECT MIN(id) AS \"minId\", MAX(id) AS \"maxId\" FROM account", nativeQuery = true)
+    AccountIdRangeView findAccountIdRange();
+    
+    /**
+     * Bloquea las cuentas del tramo para que no se posteen movimientos mientras se reconstruye
+     */
+    @Query(value = "SELECT id FROM account WHERE id BETWEEN :desdeId AND :hastaId ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockAccountsBetween(@Param("desdeId") Long desdeId, @Param("hastaId") Long hastaId);
+    
+    @Modifying
+    @Query(value = "DELETE FROM transaction_daily_rollup WHERE account_id BETWEEN :desdeId AND :hastaId",
+           nativeQuery = true)
+    int deleteByAccountIdBetween(@Param("desdeId") Long desdeId, @Param("hastaId") Long hastaId);
+    
+    /**
+     * Recalcula desde el historial los totales diarios de las cuentas del tramo
+     * El cierre de cada día es el saldo del último movimiento (por fecha e id).
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO transaction_daily_rollup (account_id, fecha, total_creditos, total_debitos, cantidad, saldo_cierre)
+        SELECT t.account_id,
+               CAST(t.fecha AS DATE),
+               COALESCE(SUM(t.valor) FILTER (WHERE t.valor >= 0), 0),
+               COALESCE(SUM(t.valor) FILTER (WHERE t.valor < 0), 0),
+               COUNT(*),
+               (ARRAY_AGG(t.saldo ORDER BY t.fecha DESC, t.id DESC))[1]
+        FROM transaction t
+        WHERE t.account_id BETWEEN :desdeId AND :hastaId
+        GROUP BY t.account_id, CAST(t.fecha AS DATE)
+        """, nativeQuery = true)
+    int rebuildByAccountIdBetween(@Param("desdeId") Long desdeId, @Param("hastaId") Long hastaId);
+    
+    /**
+     * Proyección: totales de una cuenta en un rango
+     */
+    interface AccountTotalsView {
+        Long getAccountId();
+        
+        BigDecimal getCredits();
+        
+        BigDecimal getDebits();
+    }
+    
+    /**
+     * Proyección: menor y mayor ID de cuenta
+     */
+    interface AccountIdRangeView {
+        Long getMinId();
+        
+        Long getMaxId();
+    }
+}
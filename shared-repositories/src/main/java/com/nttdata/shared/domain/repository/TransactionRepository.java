@@ -1,13 +1,17 @@
 package com.nttdata.shared.domain.repository;
 
 import com.nttdata.shared.domain.model.Transaction;
+import com.nttdata.shared.domain.projection.TransactionView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio para la entidad Transaction
@@ -16,20 +20,49 @@ import java.util.List;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
     
-    @Query("SELECT t FROM Transaction t JOIN FETCH t.account")
-    List<Transaction> findAllWithAccount();
+    /** Selección de TransactionView con el número de cuenta resuelto por JOIN; se completa con WHERE / ORDER BY */
+    String VIEW_SELECT =
+        "SELECT new com.nttdata.shared.domain.projection.TransactionView(" +
+        "t.id, t.date, t.transactionType, t.amount, t.balance, a.accountNumber) " +
+        "FROM Transaction t JOIN t.account a";
     
     @Query("SELECT t FROM Transaction t JOIN FETCH t.account WHERE t.account.id = :cuentaId")
     List<Transaction> findByAccountId(@Param("cuentaId") Long cuentaId);
     
-    @Query("SELECT t FROM Transaction t JOIN FETCH t.account WHERE t.account.id = :cuentaId ORDER BY t.date DESC")
-    List<Transaction> findByAccountIdOrderByDateDesc(@Param("cuentaId") Long cuentaId);
+    @Query(VIEW_SELECT + " WHERE t.id = :id")
+    Optional<TransactionView> findViewById(@Param("id") Long id);
     
-    @Query("SELECT m FROM Transaction m WHERE m.account.id = :cuentaId AND m.date BETWEEN :startDate AND :endDate ORDER BY m.date DESC")
-    List<Transaction> findByAccountIdAndFechaBetween(
+    /**
+     * Movimiento con su cuenta en la misma consulta, para usar el cliente o el número de cuenta sin carga lazy
+     */
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a JOIN FETCH a.accountType JOIN FETCH a.status " +
+           "WHERE t.id = :id")
+    Optional<Transaction> findWithAccountById(@Param("id") Long id);
+    
+    /**
+     * Página de movimientos con id mayor al indicado, en orden de id (keyset sobre la clave primaria)
+     */
+    @Query(VIEW_SELECT + " WHERE t.id > :afterId ORDER BY t.id")
+    List<TransactionView> findViewPageAfter(@Param("afterId") long afterId, Limit limit);
+    
+    /**
+     * Primera página del historial de la cuenta, del más reciente al más antiguo (índice account_id, fecha)
+     */
+    @Query(VIEW_SELECT + " WHERE a.id = :cuentaId ORDER BY t.date DESC, t.id DESC")
+    List<TransactionView> findHistoryViewPage(@Param("cuentaId") Long cuentaId, Limit limit);
+    
+    /**
+     * Página siguiente del historial: movimientos anteriores a (fecha, id) en el mismo orden.
+     * La cota fecha <= :fecha se repite fuera del OR para que delimite el rango del índice.
+     */
+    @Query(VIEW_SELECT + " WHERE a.id = :cuentaId " +
+           "AND t.date <= :fecha AND (t.date < :fecha OR t.id < :id) " +
+           "ORDER BY t.date DESC, t.id DESC")
+    List<TransactionView> findHistoryViewPageBefore(
         @Param("cuentaId") Long cuentaId,
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+        @Param("fecha") LocalDateTime fecha,
+        @Param("id") long id,
+        Limit limit
     );
     
     @Query("SELECT m FROM Transaction m WHERE m.account.clientId = :clientId AND m.date BETWEEN :startDate AND :endDate ORDER BY m.date DESC")
@@ -38,4 +71,22 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
+    
+    /**
+     * Suma de los movimientos de la cuenta en el intervalo [desde, hasta] (índice account_id, fecha)
+     */
+    @Query(value = "SELECT COALESCE(SUM(valor), 0) FROM transaction " +
+                   "WHERE account_id = :cuentaId AND fecha >= :desde AND fecha <= :hasta", nativeQuery = true)
+    BigDecimal sumAmountBetween(
+        @Param("cuentaId") Long cuentaId,
+        @Param("desde") LocalDateTime desde,
+        @Param("hasta") LocalDateTime hasta
+    );
+    
+    /**
+     * Suma de los movimientos de la cuenta hasta la fecha indicada (inclusive)
+     */
+    @Query(value = "SELECT COALESCE(SUM(valor), 0) FROM transaction WHERE account_id = :cuentaId AND fecha <= :hasta",
+           nativeQuery = true)
+    BigDecimal sumAmountUntil(@Param("cuentaId") Long cuentaId, @Param("hasta") LocalDateTime hasta);
 }
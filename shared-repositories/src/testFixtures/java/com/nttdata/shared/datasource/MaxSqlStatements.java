@@ -0,0 +1,25 @@
+package com.nttdata.shared.datasource;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Máximo de sentencias SQL que puede ejecutar el método de prueba
+ * Cuenta lo que ejecuta el cuerpo del test (no los @BeforeEach) en su hilo y en las operaciones de
+ * JdbcBulkhead a las que se suscribe, con jdbc.instrumentation.enabled=true. Al exceder el máximo la
+ * prueba falla con el detalle por método de repositorio y las sentencias ejecutadas.
+ * En la clase fija el máximo de todos sus tests; en el método lo reemplaza.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(SqlStatementsExtension.class)
+public @interface MaxSqlStatements {
+
+    int value();
+}
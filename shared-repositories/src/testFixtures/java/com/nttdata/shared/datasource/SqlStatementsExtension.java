@@ -0,0 +1,55 @@
+package com.nttdata.shared.datasource;
+
+import com.nttdata.common.jdbc.SqlRecorder;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.Optional;
+
+/**
+ * Extensión de @MaxSqlStatements: abre un SqlRecorder detallado en el hilo del test durante el cuerpo
+ * del método y al terminar compara las sentencias registradas con el máximo
+ */
+public class SqlStatementsExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(SqlStatementsExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SqlRecorder recorder = SqlRecorder.detailed();
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put(SqlRecorder.class, recorder);
+        store.put(SqlRecorder.Scope.class, SqlRecorder.open(recorder));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.remove(SqlRecorder.Scope.class, SqlRecorder.Scope.class).close();
+        SqlRecorder recorder = store.remove(SqlRecorder.class, SqlRecorder.class);
+        // Si el test ya falló, ese es el error que importa
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        int max = maxStatements(context);
+        if (recorder.statements() > max) {
+            throw new AssertionError(String.format(
+                "Se esperaban como máximo %d sentencias SQL y se ejecutaron %d%nPor método: %s%n%s",
+                max, recorder.statements(), recorder.statementsByLabel(), String.join("\n", recorder.sql())));
+        }
+    }
+
+    private static int maxStatements(ExtensionContext context) {
+        return annotation(context.getRequiredTestMethod())
+            .or(() -> annotation(context.getRequiredTestClass()))
+            .map(MaxSqlStatements::value)
+            .orElseThrow(() -> new IllegalStateException("Falta @MaxSqlStatements en " + context.getDisplayName()));
+    }
+
+    private static Optional<MaxSqlStatements> annotation(AnnotatedElement element) {
+        return Optional.ofNullable(element.getAnnotation(MaxSqlStatements.class));
+    }
+}